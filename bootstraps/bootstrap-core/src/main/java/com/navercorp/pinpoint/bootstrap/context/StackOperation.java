@@ -32,6 +32,16 @@ public interface StackOperation {
 
     void traceBlockEnd(int stackId);
 
+    /**
+     * Closes the current block without storing it, for the blocks folded into an aggregated frame.
+     * A block having child blocks is not discarded, as the stored child events refer to it.
+     *
+     * @return true if the block was discarded, false if it is still open and must be closed by traceBlockEnd()
+     */
+    boolean traceBlockDiscard();
+
+    boolean traceBlockDiscard(int stackId);
+
     boolean isRootStack();
     
     int getCallStackFrameId();
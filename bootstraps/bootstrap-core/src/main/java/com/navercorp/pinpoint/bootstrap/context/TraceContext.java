@@ -92,6 +92,8 @@ public interface TraceContext {
 
     TraceId createTraceId(String transactionId, long parentSpanId, long spanId, short flags);
 
+    TraceId createTraceId(String agentId, long agentStartTime, long transactionSequence, long parentSpanId, long spanId, short flags);
+
     Trace disableSampling();
 
     ProfilerConfig getProfilerConfig();
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.aggregation;
+
+import com.navercorp.pinpoint.bootstrap.context.AttributeRecorder;
+import com.navercorp.pinpoint.bootstrap.context.FrameCloseHandler;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Commands folded into one frame, recorded as one annotation per run when the frame is closed.
+ * <p>
+ * A run starts with a recorded command and ends with the next recorded command to another end point.
+ * Only accessed by the thread of the frame.
+ */
+public class CommandAggregation implements FrameCloseHandler {
+
+    private final AnnotationKey annotationKey;
+
+    // end point of the last recorded command
+    private String endPoint;
+    private Run run;
+    private List<Run> runs;
+
+    CommandAggregation(AnnotationKey annotationKey) {
+        this.annotationKey = Objects.requireNonNull(annotationKey, "annotationKey");
+    }
+
+    boolean isFoldable(String endPoint) {
+        return this.endPoint != null && this.endPoint.equals(endPoint);
+    }
+
+    boolean fold(String endPoint, String command, long elapsedNanos) {
+        if (!isFoldable(endPoint)) {
+            return false;
+        }
+        if (run == null) {
+            run = new Run(endPoint);
+            if (runs == null) {
+                runs = new ArrayList<>(2);
+            }
+            runs.add(run);
+        }
+        run.add(command, elapsedNanos);
+        return true;
+    }
+
+    void emit(String endPoint) {
+        if (this.endPoint == null || !this.endPoint.equals(endPoint)) {
+            this.endPoint = endPoint;
+            this.run = null;
+        }
+    }
+
+    @Override
+    public void onFrameClose(AttributeRecorder recorder) {
+        final List<Run> runs = this.runs;
+        if (runs == null) {
+            return;
+        }
+        for (Run run : runs) {
+            recorder.recordAttribute(annotationKey, run.toString());
+        }
+        this.runs = null;
+        this.run = null;
+        this.endPoint = null;
+    }
+
+    private static class Run {
+        private final String endPoint;
+        private final Map<String, Integer> commands = new LinkedHashMap<>();
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Run(String endPoint) {
+            this.endPoint = endPoint;
+        }
+
+        private void add(String command, long elapsedNanos) {
+            final Integer commandCount = commands.get(command);
+            commands.put(command, commandCount == null ? 1 : commandCount + 1);
+            count++;
+            totalNanos += elapsedNanos;
+            if (elapsedNanos > maxNanos) {
+                maxNanos = elapsedNanos;
+            }
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(64);
+            sb.append("endPoint=").append(endPoint);
+            sb.append(", count=").append(count);
+            sb.append(", elapsed(us)=").append(TimeUnit.NANOSECONDS.toMicros(totalNanos));
+            sb.append(", max(us)=").append(TimeUnit.NANOSECONDS.toMicros(maxNanos));
+            sb.append(", commands=").append(commands);
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.aggregation;
+
+import com.navercorp.pinpoint.bootstrap.context.FrameAttachment;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds the consecutive commands to the same end point into the frame calling them.
+ * <p>
+ * The first command of a run keeps its own span event, the following commands faster than the slow threshold
+ * are discarded and counted in a {@link CommandAggregation} attached to the calling frame.
+ * Failed and slow commands, and the commands having child span events, always keep their own span event.
+ * <pre>
+ * before : aggregation = aggregator.getAggregation(trace); trace.traceBlockBegin(); aggregator.begin(trace, aggregation);
+ * after  : if (!aggregator.end(trace, endPoint, command, throwable)) { record...; trace.traceBlockEnd(); }
+ * </pre>
+ */
+public class CommandAggregator {
+
+    private final AnnotationKey annotationKey;
+    private final long slowThresholdNanos;
+
+    public CommandAggregator(AnnotationKey annotationKey, int slowThresholdMillis) {
+        this.annotationKey = Objects.requireNonNull(annotationKey, "annotationKey");
+        if (slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("negative slowThresholdMillis:" + slowThresholdMillis);
+        }
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    /**
+     * Must be called before the block of the command is opened.
+     *
+     * @return the aggregation of the calling frame, null if the frame object is already used
+     */
+    public CommandAggregation getAggregation(Trace trace) {
+        final FrameAttachment frame = trace.isRootStack() ? trace.getSpanRecorder() : trace.currentSpanEventRecorder();
+        final Object frameObject = frame.getFrameObject();
+        if (frameObject instanceof CommandAggregation) {
+            return (CommandAggregation) frameObject;
+        }
+        if (frameObject != null) {
+            return null;
+        }
+        final CommandAggregation aggregation = new CommandAggregation(annotationKey);
+        frame.attachFrameObject(aggregation);
+        return aggregation;
+    }
+
+    public void begin(Trace trace, CommandAggregation aggregation) {
+        if (aggregation == null) {
+            return;
+        }
+        final SpanEventRecorder recorder = trace.currentSpanEventRecorder();
+        if (recorder.getFrameObject() == null) {
+            recorder.attachFrameObject(new CommandFrame(aggregation, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Must be called before the block of the command is closed.
+     *
+     * @return true if the command was folded and its block discarded, false if the block is still to be recorded and closed
+     */
+    public boolean end(Trace trace, String endPoint, String command, Throwable throwable) {
+        final SpanEventRecorder recorder = trace.currentSpanEventRecorder();
+        final Object frameObject = recorder.getFrameObject();
+        if (!(frameObject instanceof CommandFrame)) {
+            return false;
+        }
+        recorder.detachFrameObject();
+
+        final CommandFrame frame = (CommandFrame) frameObject;
+        final long elapsedNanos = System.nanoTime() - frame.startNanos;
+        final CommandAggregation aggregation = frame.aggregation;
+        if (throwable == null && elapsedNanos < slowThresholdNanos && aggregation.isFoldable(endPoint)
+                && trace.traceBlockDiscard()) {
+            aggregation.fold(endPoint, command, elapsedNanos);
+            return true;
+        }
+        aggregation.emit(endPoint);
+        return false;
+    }
+
+    private static class CommandFrame {
+        private final CommandAggregation aggregation;
+        private final long startNanos;
+
+        private CommandFrame(CommandAggregation aggregation, long startNanos) {
+            this.aggregation = aggregation;
+            this.startNanos = startNanos;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CommandAggregator{" +
+                "annotationKey=" + annotationKey +
+                ", slowThresholdNanos=" + slowThresholdNanos +
+                '}';
+    }
+}
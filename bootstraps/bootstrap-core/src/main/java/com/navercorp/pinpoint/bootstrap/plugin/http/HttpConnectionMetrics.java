@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.http;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongAdderCounter;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection acquire and connect counts of an http client, published as
+ * {@code custom/<client>/connectionAcquireCount} and {@code custom/<client>/connectionConnectCount}.
+ * The first {@value #MAX_HOST_SIZE} hosts of a client are also counted separately, as
+ * {@code custom/<client>-host-<host>/connectionAcquireCount} and {@code custom/<client>-host-<host>/connectionConnectCount}.
+ * <p>
+ * The connection reuse ratio is {@code 1 - connectCount / acquireCount}.
+ * There is one instance per client name, so every interceptor of a client updates the same counters.
+ * The counters are registered by the first interceptor only, the registry rejects a name registered twice.
+ */
+public final class HttpConnectionMetrics {
+
+    static final int MAX_HOST_SIZE = 10;
+
+    private static final String HOST_SEPARATOR = "-host-";
+    // same as the length limit of a custom metric name segment
+    private static final int MAX_GROUP_NAME_LENGTH = 64;
+
+    private static final ConcurrentMap<String, HttpConnectionMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private final String clientName;
+    private final ConnectionCounters counters;
+
+    private final AtomicBoolean registered = new AtomicBoolean(false);
+    private volatile CustomMetricRegistry customMetricRegistry;
+
+    private final ConcurrentMap<String, ConnectionCounters> hostCounters = new ConcurrentHashMap<>();
+    private volatile boolean hostCountersFull = false;
+
+    private HttpConnectionMetrics(String clientName) {
+        this.clientName = clientName;
+        this.counters = new ConnectionCounters(clientName);
+    }
+
+    public static HttpConnectionMetrics get(String clientName) {
+        Objects.requireNonNull(clientName, "clientName");
+        final HttpConnectionMetrics metrics = METRICS.get(clientName);
+        if (metrics != null) {
+            return metrics;
+        }
+        final HttpConnectionMetrics newMetrics = new HttpConnectionMetrics(clientName);
+        final HttpConnectionMetrics oldMetrics = METRICS.putIfAbsent(clientName, newMetrics);
+        if (oldMetrics != null) {
+            return oldMetrics;
+        }
+        return newMetrics;
+    }
+
+    public static String acquireCountName(String clientName) {
+        return "custom/" + clientName + "/connectionAcquireCount";
+    }
+
+    public static String connectCountName(String clientName) {
+        return "custom/" + clientName + "/connectionConnectCount";
+    }
+
+    /**
+     * @return {@code <client>-host-<host>}, with the characters not allowed in a metric name replaced by {@code _}
+     */
+    static String hostGroupName(String clientName, String host) {
+        final StringBuilder groupName = new StringBuilder(clientName.length() + HOST_SEPARATOR.length() + host.length());
+        groupName.append(clientName);
+        groupName.append(HOST_SEPARATOR);
+        for (int i = 0; i < host.length() && groupName.length() < MAX_GROUP_NAME_LENGTH; i++) {
+            final char c = host.charAt(i);
+            if (isAllowed(c)) {
+                groupName.append(c);
+            } else {
+                groupName.append('_');
+            }
+        }
+        return groupName.toString();
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '-';
+    }
+
+    public void register(CustomMetricRegistry customMetricRegistry) {
+        Objects.requireNonNull(customMetricRegistry, "customMetricRegistry");
+        if (registered.compareAndSet(false, true)) {
+            this.customMetricRegistry = customMetricRegistry;
+            counters.register(customMetricRegistry);
+        }
+    }
+
+    /**
+     * a pooled or a new connection was handed to a request
+     *
+     * @param host target host, {@code null} or empty if unknown
+     */
+    public void recordAcquire(String host) {
+        counters.acquireCounter.increment();
+        final ConnectionCounters hostCounter = getHostCounters(host);
+        if (hostCounter != null) {
+            hostCounter.acquireCounter.increment();
+        }
+    }
+
+    /**
+     * a new connection was connected
+     *
+     * @param host target host, {@code null} or empty if unknown
+     */
+    public void recordConnect(String host) {
+        counters.connectCounter.increment();
+        final ConnectionCounters hostCounter = getHostCounters(host);
+        if (hostCounter != null) {
+            hostCounter.connectCounter.increment();
+        }
+    }
+
+    private ConnectionCounters getHostCounters(String host) {
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+        final ConnectionCounters hostCounter = hostCounters.get(host);
+        if (hostCounter != null) {
+            return hostCounter;
+        }
+        if (hostCountersFull) {
+            return null;
+        }
+        return newHostCounters(host);
+    }
+
+    private ConnectionCounters newHostCounters(String host) {
+        final ConnectionCounters newCounters;
+        synchronized (hostCounters) {
+            final ConnectionCounters hostCounter = hostCounters.get(host);
+            if (hostCounter != null) {
+                return hostCounter;
+            }
+            if (hostCounters.size() >= MAX_HOST_SIZE) {
+                hostCountersFull = true;
+                return null;
+            }
+            newCounters = new ConnectionCounters(hostGroupName(clientName, host));
+            hostCounters.put(host, newCounters);
+        }
+        final CustomMetricRegistry customMetricRegistry = this.customMetricRegistry;
+        if (customMetricRegistry != null) {
+            newCounters.register(customMetricRegistry);
+        }
+        return newCounters;
+    }
+
+    private static class ConnectionCounters {
+        private final LongAdderCounter acquireCounter;
+        private final LongAdderCounter connectCounter;
+
+        private ConnectionCounters(String groupName) {
+            this.acquireCounter = new LongAdderCounter(acquireCountName(groupName));
+            this.connectCounter = new LongAdderCounter(connectCountName(groupName));
+        }
+
+        private void register(CustomMetricRegistry customMetricRegistry) {
+            customMetricRegistry.register(acquireCounter);
+            customMetricRegistry.register(connectCounter);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.http.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.http.HttpConnectionMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+
+/**
+ * Counts the connections handed to requests, pooled or new.
+ * Subclasses that can read the target host from the arguments override {@link #getHost(Object, Object[])}.
+ *
+ * @see HttpConnectionMetrics
+ */
+public class ConnectionAcquireInterceptor implements AroundInterceptor {
+
+    private final HttpConnectionMetrics metrics;
+
+    public ConnectionAcquireInterceptor(CustomMetricRegistry customMetricRegistry, String clientName) {
+        this.metrics = HttpConnectionMetrics.get(clientName);
+        this.metrics.register(customMetricRegistry);
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable == null) {
+            metrics.recordAcquire(getHost(target, args));
+        }
+    }
+
+    /**
+     * @return target host of the connection, {@code null} to count the client total only
+     */
+    protected String getHost(Object target, Object[] args) {
+        return null;
+    }
+}
@@ -8,4 +8,9 @@ public interface BindVariableService {
 
     String bindVariableToString(Map<Integer, String> bindValueMap, int limit);
     String bindNameVariableToString(Map<String, String> bindValueMap, int limit);
+
+    /**
+     * Formats the bind variables in the parameter order, the parameters past the limit are not formatted.
+     */
+    String bindVariableToString(DeferredBindValue bindValue, int limit);
 }
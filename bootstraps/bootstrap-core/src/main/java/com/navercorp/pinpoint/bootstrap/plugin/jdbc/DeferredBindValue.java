@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc;
+
+import java.util.Arrays;
+
+/**
+ * Bind variables of a PreparedStatement, addressed by the parameter index.
+ * <p>
+ * Keeps the method name and the arguments of each {@code setXxx} call as they are,
+ * the values are formatted only when the SQL is recorded, see {@link BindVariableService#bindVariableToString(DeferredBindValue, int)}.
+ * The arrays are reused after {@link #clear()}, not thread-safe like the statement itself.
+ */
+public class DeferredBindValue {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    // the maximum number of parameters of most databases
+    static final int MAX_PARAMETER_INDEX = 65535;
+
+    private String[] methodNames = new String[DEFAULT_CAPACITY];
+    private Object[][] args = new Object[DEFAULT_CAPACITY][];
+    private int maxIndex;
+
+    /**
+     * @param parameterIndex the first parameter is 1
+     * @param methodName     name of the {@code setXxx} method
+     * @param args           arguments of the {@code setXxx} method, the parameter index included
+     */
+    public void set(int parameterIndex, String methodName, Object[] args) {
+        if (parameterIndex < 1 || parameterIndex > MAX_PARAMETER_INDEX) {
+            return;
+        }
+        final int index = parameterIndex - 1;
+        if (index >= this.methodNames.length) {
+            grow(parameterIndex);
+        }
+        this.methodNames[index] = methodName;
+        this.args[index] = args;
+        if (parameterIndex > this.maxIndex) {
+            this.maxIndex = parameterIndex;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        final int newCapacity = Math.min(Math.max(this.methodNames.length * 2, minCapacity), MAX_PARAMETER_INDEX);
+        this.methodNames = Arrays.copyOf(this.methodNames, newCapacity);
+        this.args = Arrays.copyOf(this.args, newCapacity);
+    }
+
+    /**
+     * @return the highest parameter index set, 0 if empty
+     */
+    public int getMaxIndex() {
+        return maxIndex;
+    }
+
+    /**
+     * @return null if the parameter is not set
+     */
+    public String getMethodName(int parameterIndex) {
+        return methodNames[parameterIndex - 1];
+    }
+
+    public Object[] getArgs(int parameterIndex) {
+        return args[parameterIndex - 1];
+    }
+
+    public boolean isEmpty() {
+        return maxIndex == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.methodNames, 0, this.maxIndex, null);
+        Arrays.fill(this.args, 0, this.maxIndex, null);
+        this.maxIndex = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredBindValue{" +
+                "maxIndex=" + maxIndex +
+                '}';
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc;
+
+/**
+ * Replaces {@link BindValueAccessor} for the JDBC PreparedStatement, the bind variables are formatted only when the SQL is recorded.
+ */
+public interface DeferredBindValueAccessor {
+    void _$PINPOINT$_setDeferredBindValue(DeferredBindValue bindValue);
+    DeferredBindValue _$PINPOINT$_getDeferredBindValue();
+}
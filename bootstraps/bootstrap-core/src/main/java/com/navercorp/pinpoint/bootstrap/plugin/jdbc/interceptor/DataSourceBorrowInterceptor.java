@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
+
+import java.util.Objects;
+
+/**
+ * Records the time spent in the borrow method of a connection pool, whether or not a trace is active,
+ * in the {@link ConnectionWaitRecorder} of the pool set through {@link ConnectionWaitRecorderAccessor}.
+ * <p>
+ * A failed borrow counts as a timeout only if the pool's own timeout exception is in the cause chain,
+ * other failures such as a refused connection or a closed pool are only timed.
+ */
+public class DataSourceBorrowInterceptor implements AroundInterceptor {
+
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private final InterceptorScope scope;
+    private final String[] timeoutExceptionNames;
+
+    /**
+     * @param timeoutExceptionNames class names of the exceptions the pool throws or wraps when no connection was available in time
+     */
+    public DataSourceBorrowInterceptor(InterceptorScope scope, String[] timeoutExceptionNames) {
+        this.scope = Objects.requireNonNull(scope, "scope");
+        this.timeoutExceptionNames = Objects.requireNonNull(timeoutExceptionNames, "timeoutExceptionNames");
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        final InterceptorScopeInvocation invocation = scope.getCurrentInvocation();
+        invocation.setAttachment(System.nanoTime());
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        final Object startTime = scope.getCurrentInvocation().removeAttachment();
+        if (!(startTime instanceof Long)) {
+            return;
+        }
+        if (!(target instanceof ConnectionWaitRecorderAccessor)) {
+            return;
+        }
+        final ConnectionWaitRecorder connectionWaitRecorder = ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_getConnectionWaitRecorder();
+        if (connectionWaitRecorder == null) {
+            return;
+        }
+        final long waitTime = System.nanoTime() - (Long) startTime;
+        if (throwable != null && isTimeout(throwable)) {
+            connectionWaitRecorder.recordTimeout(waitTime);
+        } else {
+            connectionWaitRecorder.record(waitTime);
+        }
+    }
+
+    private boolean isTimeout(Throwable throwable) {
+        Throwable cause = throwable;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            final String name = cause.getClass().getName();
+            for (String timeoutExceptionName : timeoutExceptionNames) {
+                if (timeoutExceptionName.equals(name)) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                return false;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+}
@@ -23,9 +23,12 @@ import java.util.Objects;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.annotation.RecordOnly;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValue;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 
 /**
@@ -35,6 +38,7 @@ import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 // #1375 Workaround java level Deadlock
 // https://oss.navercorp.com/pinpoint/pinpoint-naver/issues/1375
 //@TargetFilter(type = "com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMethodFilter", singleton = true)
+@RecordOnly
 public class PreparedStatementBindVariableInterceptor implements StaticAroundInterceptor {
 
     private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
@@ -62,16 +66,27 @@ public class PreparedStatementBindVariableInterceptor implements StaticAroundInt
             return;
         }
 
-        if (!(target instanceof BindValueAccessor)) {
-            return;
-        }
-
         final Integer index = NumberUtils.toInteger(args[0]);
         if (index == null) {
             // something is wrong
             return;
         }
 
+        if (target instanceof DeferredBindValueAccessor) {
+            DeferredBindValue bindValue = ((DeferredBindValueAccessor) target)._$PINPOINT$_getDeferredBindValue();
+            if (bindValue == null) {
+                bindValue = new DeferredBindValue();
+                ((DeferredBindValueAccessor) target)._$PINPOINT$_setDeferredBindValue(bindValue);
+            }
+            // formatted when the sql is recorded
+            bindValue.set(index, methodName, args);
+            return;
+        }
+
+        if (!(target instanceof BindValueAccessor)) {
+            return;
+        }
+
         Map<Integer, String> bindList = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
         if (bindList == null) {
             bindList = new HashMap<>();
@@ -24,6 +24,8 @@ import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValue;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.UnKnownDatabaseInfo;
 
@@ -71,12 +73,8 @@ public class PreparedStatementExecuteQueryInterceptor extends SpanEventSimpleAro
         if (target instanceof ParsingResultAccessor) {
             parsingResult = ((ParsingResultAccessor)target)._$PINPOINT$_getParsingResult();
         }
-        Map<Integer, String> bindValue = null;
-        if (target instanceof BindValueAccessor) {
-            bindValue = ((BindValueAccessor)target)._$PINPOINT$_getBindValue();
-        }
-        if (bindValue != null) {
-            String bindString = toBindVariable(bindValue);
+        final String bindString = getBindVariable(target);
+        if (bindString != null) {
             recorder.recordSqlParsingResult(parsingResult, bindString);
         } else {
             recorder.recordSqlParsingResult(parsingResult);
@@ -91,7 +89,31 @@ public class PreparedStatementExecuteQueryInterceptor extends SpanEventSimpleAro
         clean(target);
     }
 
+    private String getBindVariable(Object target) {
+        if (target instanceof DeferredBindValueAccessor) {
+            final DeferredBindValue bindValue = ((DeferredBindValueAccessor) target)._$PINPOINT$_getDeferredBindValue();
+            if (bindValue != null) {
+                return traceContext.getJdbcContext().getBindVariableService().bindVariableToString(bindValue, maxSqlBindValueLength);
+            }
+            return null;
+        }
+        if (target instanceof BindValueAccessor) {
+            final Map<Integer, String> bindValue = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
+            if (bindValue != null) {
+                return toBindVariable(bindValue);
+            }
+        }
+        return null;
+    }
+
     private void clean(Object target) {
+        if (target instanceof DeferredBindValueAccessor) {
+            final DeferredBindValue bindValue = ((DeferredBindValueAccessor) target)._$PINPOINT$_getDeferredBindValue();
+            if (bindValue != null) {
+                bindValue.clear();
+            }
+            return;
+        }
         if (target instanceof BindValueAccessor) {
             ((BindValueAccessor) target)._$PINPOINT$_setBindValue(new HashMap<>());
         }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Wait time histogram and timeout count of the connection borrows of a pool.
+ * <p>
+ * Recording only touches striped counters, so the borrow path never takes a lock,
+ * {@link #snapshot()} reads and resets the counters at each collection.
+ */
+public class ConnectionWaitRecorder {
+
+    /**
+     * upper bounds of the histogram buckets in milliseconds, the last bucket has no upper bound
+     */
+    private static final long[] BUCKET_UPPER_BOUNDS = {1, 10, 100, 1000};
+
+    private static final LongBinaryOperator MAX = new LongBinaryOperator() {
+        @Override
+        public long applyAsLong(long left, long right) {
+            return Math.max(left, right);
+        }
+    };
+
+    private final LongAdder[] buckets;
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final LongAccumulator maxWaitTime = new LongAccumulator(MAX, 0);
+
+    public ConnectionWaitRecorder() {
+        this.buckets = new LongAdder[BUCKET_UPPER_BOUNDS.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long waitTimeNanos) {
+        final long waitTimeMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(waitTimeNanos, 0));
+        buckets[bucketIndex(waitTimeMicros / 1000)].increment();
+        totalWaitTime.add(waitTimeMicros);
+        maxWaitTime.accumulate(waitTimeMicros);
+    }
+
+    /**
+     * the failed borrow is also counted in the histogram
+     */
+    public void recordTimeout(long waitTimeNanos) {
+        record(waitTimeNanos);
+        timeoutCount.increment();
+    }
+
+    private static int bucketIndex(long waitTimeMillis) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS.length; i++) {
+            if (waitTimeMillis < BUCKET_UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS.length;
+    }
+
+    /**
+     * @return the borrows recorded since the last snapshot
+     */
+    public ConnectionWaitSnapshot snapshot() {
+        final long[] histogram = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            histogram[i] = buckets[i].sumThenReset();
+        }
+        return new ConnectionWaitSnapshot(histogram, timeoutCount.sumThenReset(), totalWaitTime.sumThenReset(), maxWaitTime.getThenReset());
+    }
+
+    public static long[] getBucketUpperBounds() {
+        return BUCKET_UPPER_BOUNDS.clone();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Connection borrows of a pool during one collection interval.
+ *
+ * @see ConnectionWaitRecorder
+ */
+public class ConnectionWaitSnapshot {
+
+    private final long[] histogram;
+    private final long timeoutCount;
+    private final long totalWaitTime;
+    private final long maxWaitTime;
+
+    public ConnectionWaitSnapshot(long[] histogram, long timeoutCount, long totalWaitTime, long maxWaitTime) {
+        this.histogram = Objects.requireNonNull(histogram, "histogram");
+        this.timeoutCount = timeoutCount;
+        this.totalWaitTime = totalWaitTime;
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    /**
+     * @return borrow count of each bucket of {@link ConnectionWaitRecorder#getBucketUpperBounds()}
+     */
+    public long[] getHistogram() {
+        return histogram;
+    }
+
+    public long getBorrowCount() {
+        long count = 0;
+        for (long bucket : histogram) {
+            count += bucket;
+        }
+        return count;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * @return sum of the wait times in microseconds
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    /**
+     * @return max wait time in microseconds
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionWaitSnapshot{" +
+                "histogram=" + Arrays.toString(histogram) +
+                ", timeoutCount=" + timeoutCount +
+                ", totalWaitTime=" + totalWaitTime +
+                ", maxWaitTime=" + maxWaitTime +
+                '}';
+    }
+}
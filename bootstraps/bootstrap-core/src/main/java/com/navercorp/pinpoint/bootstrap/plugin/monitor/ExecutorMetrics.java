@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongAdderCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queue size and rejected tasks of the {@link ThreadPoolExecutor}s sharing an executor name, published as
+ * {@code custom/executor-<name>/queueSize} and {@code custom/executor-<name>/rejectCount}.
+ * <p>
+ * An executor has no name of its own, it is named after its worker threads without their sequence number,
+ * e.g. {@code pool-3-thread} for {@code pool-3-thread-1}.
+ * The executors are held weakly, and at most {@value #MAX_EXECUTOR_NAMES} names are tracked
+ * since pools created on the fly get a new name each.
+ */
+public final class ExecutorMetrics {
+
+    static final int MAX_EXECUTOR_NAMES = 32;
+    private static final String GROUP_PREFIX = "executor-";
+    // a metric name segment is at most 64 characters
+    private static final int MAX_EXECUTOR_NAME_LENGTH = 64 - GROUP_PREFIX.length();
+
+    private static final ConcurrentMap<String, ExecutorMetrics> METRICS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean RETRANSFORMED = new AtomicBoolean(false);
+
+    private final List<WeakReference<ThreadPoolExecutor>> executors = new CopyOnWriteArrayList<>();
+    private final QueueSizeGauge queueSizeGauge;
+    private final LongAdderCounter rejectCounter;
+    private boolean registered = false;
+
+    private ExecutorMetrics(String executorName) {
+        this.queueSizeGauge = new QueueSizeGauge(queueSizeName(executorName), executors);
+        this.rejectCounter = new LongAdderCounter(rejectCountName(executorName));
+    }
+
+    /**
+     * @return null if the maximum number of executor names is already tracked
+     */
+    public static ExecutorMetrics get(String executorName) {
+        Objects.requireNonNull(executorName, "executorName");
+        final ExecutorMetrics metrics = METRICS.get(executorName);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (METRICS.size() >= MAX_EXECUTOR_NAMES) {
+            return null;
+        }
+        final ExecutorMetrics newMetrics = new ExecutorMetrics(executorName);
+        final ExecutorMetrics oldMetrics = METRICS.putIfAbsent(executorName, newMetrics);
+        if (oldMetrics != null) {
+            return oldMetrics;
+        }
+        return newMetrics;
+    }
+
+    /**
+     * @return true for the first call only, so that {@link ThreadPoolExecutor} is retransformed once
+     * whatever the number of class loaders the thread plugin is used from
+     */
+    public static boolean markRetransformed() {
+        return !RETRANSFORMED.get() && RETRANSFORMED.compareAndSet(false, true);
+    }
+
+    public static String executorName(String threadName) {
+        Objects.requireNonNull(threadName, "threadName");
+        int end = threadName.length();
+        while (end > 0 && isTrimmed(threadName.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0) {
+            return "unnamed";
+        }
+        end = Math.min(end, MAX_EXECUTOR_NAME_LENGTH);
+        final StringBuilder name = new StringBuilder(end);
+        for (int i = 0; i < end; i++) {
+            final char c = threadName.charAt(i);
+            name.append(isNameChar(c) ? c : '_');
+        }
+        return name.toString();
+    }
+
+    private static boolean isTrimmed(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '#' || c == ' ';
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '.';
+    }
+
+    public static String queueSizeName(String executorName) {
+        return "custom/" + GROUP_PREFIX + executorName + "/queueSize";
+    }
+
+    public static String rejectCountName(String executorName) {
+        return "custom/" + GROUP_PREFIX + executorName + "/rejectCount";
+    }
+
+    /**
+     * Adds the executor once, and registers the metrics of its name with the first executor.
+     */
+    public synchronized void add(ThreadPoolExecutor executor, CustomMetricRegistry customMetricRegistry) {
+        Objects.requireNonNull(executor, "executor");
+        for (WeakReference<ThreadPoolExecutor> reference : executors) {
+            if (reference.get() == executor) {
+                return;
+            }
+        }
+        executors.add(new WeakReference<>(executor));
+        if (!registered) {
+            customMetricRegistry.register(queueSizeGauge);
+            customMetricRegistry.register(rejectCounter);
+            registered = true;
+        }
+    }
+
+    public void recordReject() {
+        rejectCounter.increment();
+    }
+
+    public long getQueueSize() {
+        return queueSizeGauge.getValue();
+    }
+
+    private static class QueueSizeGauge implements LongGauge {
+
+        private final String name;
+        private final List<WeakReference<ThreadPoolExecutor>> executors;
+
+        private QueueSizeGauge(String name, List<WeakReference<ThreadPoolExecutor>> executors) {
+            this.name = name;
+            this.executors = executors;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getValue() {
+            long size = 0;
+            for (WeakReference<ThreadPoolExecutor> reference : executors) {
+                final ThreadPoolExecutor executor = reference.get();
+                if (executor == null) {
+                    executors.remove(reference);
+                    continue;
+                }
+                size += executor.getQueue().size();
+            }
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "QueueSizeGauge{" +
+                    "name='" + name + '\'' +
+                    ", executors=" + executors.size() +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorMetrics{" +
+                "queueSizeGauge=" + queueSizeGauge +
+                ", rejectCounter=" + rejectCounter +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongAdderCounter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Time the tasks matched by the thread plugin wait between their creation and their start, published as custom metrics.
+ * <p>
+ * The executor a task is submitted to is not visible from the task, so the counters are shared by every matched task.
+ * The counters are static and registered once, because the registry keeps the first metric of a name and rejects
+ * the others, and live in the bootstrap class loader because the task interceptors are defined in every application class loader.
+ */
+public final class TaskQueueMetrics {
+
+    public static final String TASK_START_COUNT = "custom/thread/taskStartCount";
+    public static final String TASK_WAIT_TIME = "custom/thread/taskWaitTime";
+    public static final String TASK_WAIT_UNDER_1MS_COUNT = "custom/thread/taskWaitUnder1msCount";
+    public static final String TASK_WAIT_UNDER_10MS_COUNT = "custom/thread/taskWaitUnder10msCount";
+    public static final String TASK_WAIT_UNDER_100MS_COUNT = "custom/thread/taskWaitUnder100msCount";
+    public static final String TASK_WAIT_UNDER_1S_COUNT = "custom/thread/taskWaitUnder1sCount";
+    public static final String TASK_WAIT_OVER_1S_COUNT = "custom/thread/taskWaitOver1sCount";
+
+    private static final long[] WAIT_BOUNDS = {
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.SECONDS.toNanos(1)
+    };
+
+    private static final LongAdderCounter START_COUNTER = new LongAdderCounter(TASK_START_COUNT);
+    private static final LongAdderCounter WAIT_TIME_COUNTER = new LongAdderCounter(TASK_WAIT_TIME);
+    private static final LongAdderCounter[] WAIT_COUNTERS = {
+            new LongAdderCounter(TASK_WAIT_UNDER_1MS_COUNT),
+            new LongAdderCounter(TASK_WAIT_UNDER_10MS_COUNT),
+            new LongAdderCounter(TASK_WAIT_UNDER_100MS_COUNT),
+            new LongAdderCounter(TASK_WAIT_UNDER_1S_COUNT),
+            new LongAdderCounter(TASK_WAIT_OVER_1S_COUNT)
+    };
+
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean(false);
+
+    private TaskQueueMetrics() {
+    }
+
+    /**
+     * Registers the counters with the first registry only, later calls do nothing.
+     */
+    public static void register(CustomMetricRegistry customMetricRegistry) {
+        if (!REGISTERED.compareAndSet(false, true)) {
+            return;
+        }
+        customMetricRegistry.register(START_COUNTER);
+        customMetricRegistry.register(WAIT_TIME_COUNTER);
+        for (LongAdderCounter waitCounter : WAIT_COUNTERS) {
+            customMetricRegistry.register(waitCounter);
+        }
+    }
+
+    /**
+     * @param waitNanos time from the creation to the start of the task
+     */
+    public static void recordStart(long waitNanos) {
+        waitNanos = Math.max(waitNanos, 0);
+        START_COUNTER.increment();
+        WAIT_TIME_COUNTER.add(TimeUnit.NANOSECONDS.toMicros(waitNanos));
+        WAIT_COUNTERS[bucket(waitNanos)].increment();
+    }
+
+    static int bucket(long waitNanos) {
+        for (int i = 0; i < WAIT_BOUNDS.length; i++) {
+            if (waitNanos < WAIT_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return WAIT_BOUNDS.length;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.monitor.metric;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LongCounter} updated from many threads without contention.
+ */
+public class LongAdderCounter implements LongCounter {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    public LongAdderCounter(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long value) {
+        count.add(value);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getValue() {
+        return count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "LongAdderCounter{" +
+                "name='" + name + '\'' +
+                ", count=" + count +
+                '}';
+    }
+}
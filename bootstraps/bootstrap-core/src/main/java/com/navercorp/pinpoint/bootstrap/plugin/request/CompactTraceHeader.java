@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.request;
+
+import java.util.Objects;
+
+/**
+ * {@link TraceHeader} read from the {@link com.navercorp.pinpoint.bootstrap.context.Header#HTTP_TRACE_CONTEXT} header.
+ * <p>
+ * Keeps the transaction id in its parsed form, the transaction id string is only built when asked for.
+ *
+ * @see CompactTraceHeaderCodec
+ */
+public class CompactTraceHeader implements TraceHeader {
+    private final String agentId;
+    private final long agentStartTime;
+    private final long transactionSequence;
+    private final long parentSpanId;
+    private final long spanId;
+    private final short flags;
+
+    public CompactTraceHeader(String agentId, long agentStartTime, long transactionSequence, long parentSpanId, long spanId, short flags) {
+        this.agentId = Objects.requireNonNull(agentId, "agentId");
+        this.agentStartTime = agentStartTime;
+        this.transactionSequence = transactionSequence;
+        this.parentSpanId = parentSpanId;
+        this.spanId = spanId;
+        this.flags = flags;
+    }
+
+    @Override
+    public TraceHeaderState getState() {
+        return TraceHeaderState.CONTINUE;
+    }
+
+    @Override
+    public String getTransactionId() {
+        return agentId + '^' + agentStartTime + '^' + transactionSequence;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public long getAgentStartTime() {
+        return agentStartTime;
+    }
+
+    public long getTransactionSequence() {
+        return transactionSequence;
+    }
+
+    @Override
+    public long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    @Override
+    public long getSpanId() {
+        return spanId;
+    }
+
+    @Override
+    public short getFlags() {
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactTraceHeader{" +
+                "agentId='" + agentId + '\'' +
+                ", agentStartTime=" + agentStartTime +
+                ", transactionSequence=" + transactionSequence +
+                ", parentSpanId=" + parentSpanId +
+                ", spanId=" + spanId +
+                ", flags=" + flags +
+                '}';
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.request;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.PinpointConstants;
+
+import java.util.Objects;
+
+/**
+ * Writes and reads the trace context as the single {@link com.navercorp.pinpoint.bootstrap.context.Header#HTTP_TRACE_CONTEXT} value.
+ * <p>
+ * Fixed layout of base64url digits, most significant digit first, followed by the agent id:
+ * <pre>
+ * version(1) flags(3) agentStartTime(11) transactionSequence(11) spanId(11) parentSpanId(11) agentId(1..24)
+ * </pre>
+ * The value is read digit by digit without splitting it, the agent id of the last read is reused
+ * while the callers stay the same, so a read only allocates the returned {@link CompactTraceHeader}.
+ */
+public class CompactTraceHeaderCodec {
+
+    public static final int VERSION = 0;
+
+    private static final int FLAGS_LENGTH = 3;
+    private static final int LONG_LENGTH = 11;
+    static final int FIXED_LENGTH = 1 + FLAGS_LENGTH + LONG_LENGTH * 4;
+
+    private static final char[] DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = -1;
+        }
+        for (int i = 0; i < DIGITS.length; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+        }
+    }
+
+    // racy single entry cache, String is immutable
+    private String lastAgentId;
+
+    public String format(TraceId traceId) {
+        Objects.requireNonNull(traceId, "traceId");
+        final String agentId = traceId.getAgentId();
+        final int agentIdLength = agentId.length();
+
+        final char[] chars = new char[FIXED_LENGTH + agentIdLength];
+        chars[0] = DIGITS[VERSION];
+        int offset = writeDigits(chars, 1, traceId.getFlags() & 0xFFFF, FLAGS_LENGTH);
+        offset = writeDigits(chars, offset, traceId.getAgentStartTime(), LONG_LENGTH);
+        offset = writeDigits(chars, offset, traceId.getTransactionSequence(), LONG_LENGTH);
+        offset = writeDigits(chars, offset, traceId.getSpanId(), LONG_LENGTH);
+        offset = writeDigits(chars, offset, traceId.getParentSpanId(), LONG_LENGTH);
+        agentId.getChars(0, agentIdLength, chars, offset);
+        return new String(chars);
+    }
+
+    private static int writeDigits(char[] chars, int offset, long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            chars[offset + i] = DIGITS[(int) (value & 0x3F)];
+            value >>>= 6;
+        }
+        return offset + length;
+    }
+
+    /**
+     * @return null if the value is not a valid trace context
+     */
+    public CompactTraceHeader parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        final int length = value.length();
+        if (length <= FIXED_LENGTH || length > FIXED_LENGTH + PinpointConstants.AGENT_ID_MAX_LEN) {
+            return null;
+        }
+        if (digit(value.charAt(0)) != VERSION) {
+            return null;
+        }
+        for (int i = 1; i < FIXED_LENGTH; i++) {
+            if (digit(value.charAt(i)) == -1) {
+                return null;
+            }
+        }
+        for (int i = FIXED_LENGTH; i < length; i++) {
+            if (!isIdChar(value.charAt(i))) {
+                return null;
+            }
+        }
+
+        int offset = 1;
+        final short flags = (short) readDigits(value, offset, FLAGS_LENGTH);
+        offset += FLAGS_LENGTH;
+        final long agentStartTime = readDigits(value, offset, LONG_LENGTH);
+        offset += LONG_LENGTH;
+        final long transactionSequence = readDigits(value, offset, LONG_LENGTH);
+        offset += LONG_LENGTH;
+        final long spanId = readDigits(value, offset, LONG_LENGTH);
+        offset += LONG_LENGTH;
+        final long parentSpanId = readDigits(value, offset, LONG_LENGTH);
+
+        final String agentId = readAgentId(value);
+        return new CompactTraceHeader(agentId, agentStartTime, transactionSequence, parentSpanId, spanId, flags);
+    }
+
+    private static long readDigits(String value, int offset, int length) {
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result = (result << 6) | digit(value.charAt(offset + i));
+        }
+        return result;
+    }
+
+    private String readAgentId(String value) {
+        final int agentIdLength = value.length() - FIXED_LENGTH;
+        final String lastAgentId = this.lastAgentId;
+        if (lastAgentId != null && lastAgentId.length() == agentIdLength
+                && value.regionMatches(FIXED_LENGTH, lastAgentId, 0, agentIdLength)) {
+            return lastAgentId;
+        }
+        final String agentId = value.substring(FIXED_LENGTH);
+        this.lastAgentId = agentId;
+        return agentId;
+    }
+
+    private static int digit(char c) {
+        if (c >= VALUES.length) {
+            return -1;
+        }
+        return VALUES[c];
+    }
+
+    // IdValidateUtils.ID_PATTERN_VALUE
+    private static boolean isIdChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '-';
+    }
+}
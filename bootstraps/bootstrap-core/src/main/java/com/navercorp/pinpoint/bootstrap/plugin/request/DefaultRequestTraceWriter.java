@@ -31,6 +31,13 @@ import java.util.Objects;
  */
 public class DefaultRequestTraceWriter<T> implements RequestTraceWriter<T> {
 
+    /**
+     * Writes the trace context as the single {@link Header#HTTP_TRACE_CONTEXT} header instead of the legacy headers.
+     * {@link Header#HTTP_SPAN_ID} is still written, it tells the receiver whether the compact header was written by the last hop.
+     * Every receiving agent has to be able to read the compact header, so it is off by default.
+     */
+    public static final String COMPACT_HEADER_ENABLE = "profiler.trace.header.compact.enable";
+
     private static final String NOT_SET = null;
 
     private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
@@ -39,17 +46,24 @@ public class DefaultRequestTraceWriter<T> implements RequestTraceWriter<T> {
     private final String applicationName;
     private final short serverTypeCode;
     private final String applicationNamespace;
+    private final CompactTraceHeaderCodec compactTraceHeaderCodec;
 
     public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, TraceContext traceContext) {
-        this(clientHeaderAdaptor, traceContext.getApplicationName(), traceContext.getServerTypeCode(), traceContext.getProfilerConfig().getApplicationNamespace());
+        this(clientHeaderAdaptor, traceContext.getApplicationName(), traceContext.getServerTypeCode(), traceContext.getProfilerConfig().getApplicationNamespace(),
+                traceContext.getProfilerConfig().readBoolean(COMPACT_HEADER_ENABLE, false));
     }
 
     public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, String applicationName, short serverTypeCode, String applicationNamespace) {
+        this(clientHeaderAdaptor, applicationName, serverTypeCode, applicationNamespace, false);
+    }
+
+    public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, String applicationName, short serverTypeCode, String applicationNamespace, boolean compactHeader) {
         this.clientHeaderAdaptor = Objects.requireNonNull(clientHeaderAdaptor, "clientHeaderAdaptor");
 
         this.applicationName = Objects.requireNonNull(applicationName, "applicationName");
         this.serverTypeCode = serverTypeCode;
         this.applicationNamespace = StringUtils.defaultIfEmpty(applicationNamespace, NOT_SET);
+        this.compactTraceHeaderCodec = compactHeader ? new CompactTraceHeaderCodec() : null;
     }
 
     @Override
@@ -68,10 +82,16 @@ public class DefaultRequestTraceWriter<T> implements RequestTraceWriter<T> {
         if (isDebug) {
             logger.debug("Set request header. traceId={}, applicationName={}, serverTypeCode={}, applicationNamespace={}", traceId, applicationName, serverTypeCode, applicationNamespace);
         }
-        clientHeaderAdaptor.setHeader(header, Header.HTTP_TRACE_ID.toString(), traceId.getTransactionId());
-        clientHeaderAdaptor.setHeader(header, Header.HTTP_SPAN_ID.toString(), String.valueOf(traceId.getSpanId()));
-        clientHeaderAdaptor.setHeader(header, Header.HTTP_PARENT_SPAN_ID.toString(), String.valueOf(traceId.getParentSpanId()));
-        clientHeaderAdaptor.setHeader(header, Header.HTTP_FLAGS.toString(), String.valueOf(traceId.getFlags()));
+        if (compactTraceHeaderCodec != null) {
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_TRACE_CONTEXT.toString(), compactTraceHeaderCodec.format(traceId));
+            // overwrites the span id of a forwarded legacy header set, the receiver then ignores the stale legacy headers
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_SPAN_ID.toString(), String.valueOf(traceId.getSpanId()));
+        } else {
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_TRACE_ID.toString(), traceId.getTransactionId());
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_SPAN_ID.toString(), String.valueOf(traceId.getSpanId()));
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_PARENT_SPAN_ID.toString(), String.valueOf(traceId.getParentSpanId()));
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_FLAGS.toString(), String.valueOf(traceId.getFlags()));
+        }
         clientHeaderAdaptor.setHeader(header, Header.HTTP_PARENT_APPLICATION_NAME.toString(), applicationName);
         clientHeaderAdaptor.setHeader(header, Header.HTTP_PARENT_APPLICATION_TYPE.toString(), Short.toString(serverTypeCode));
 
@@ -33,7 +33,7 @@ public class DefaultTraceHeaderReader<T> implements TraceHeaderReader<T> {
     private final boolean isDebug = logger.isDebugEnabled();
 
     private final RequestAdaptor<T> requestAdaptor;
-
+    private final CompactTraceHeaderCodec compactTraceHeaderCodec = new CompactTraceHeaderCodec();
 
     public DefaultTraceHeaderReader(RequestAdaptor<T> requestAdaptor) {
         this.requestAdaptor = Objects.requireNonNull(requestAdaptor, "requestAdaptor");
@@ -50,6 +50,22 @@ public class DefaultTraceHeaderReader<T> implements TraceHeaderReader<T> {
             return DisableTraceHeader.INSTANCE;
         }
 
+        final String traceContext = requestAdaptor.getHeader(request, Header.HTTP_TRACE_CONTEXT.toString());
+        if (traceContext != null) {
+            final CompactTraceHeader compactTraceHeader = compactTraceHeaderCodec.parse(traceContext);
+            if (compactTraceHeader == null) {
+                if (isDebug) {
+                    logger.debug("Invalid {} header, fallback to the legacy headers. value={}", Header.HTTP_TRACE_CONTEXT, traceContext);
+                }
+            } else if (isLastHop(request, compactTraceHeader)) {
+                return compactTraceHeader;
+            } else {
+                if (isDebug) {
+                    logger.debug("Stale {} header, fallback to the legacy headers. value={}", Header.HTTP_TRACE_CONTEXT, traceContext);
+                }
+            }
+        }
+
         final String transactionId = requestAdaptor.getHeader(request, Header.HTTP_TRACE_ID.toString());
         // TODO miss validation check
         if (transactionId == null) {
@@ -75,6 +91,18 @@ public class DefaultTraceHeaderReader<T> implements TraceHeaderReader<T> {
         return new ContinueTraceHeader(transactionId, parentSpanId, spanId, flags);
     }
 
+    /**
+     * A hop forwarding the inbound headers may overwrite only the legacy headers, or only the compact header.
+     * Both writers set {@link Header#HTTP_SPAN_ID}, so the compact header is current only if it carries the same span id.
+     */
+    private boolean isLastHop(T request, CompactTraceHeader compactTraceHeader) {
+        final String spanIdStr = requestAdaptor.getHeader(request, Header.HTTP_SPAN_ID.toString());
+        if (spanIdStr == null) {
+            return true;
+        }
+        return NumberUtils.parseLong(spanIdStr, SpanId.NULL) == compactTraceHeader.getSpanId();
+    }
+
     private boolean samplingEnable(final T request) {
         final String samplingFlag = requestAdaptor.getHeader(request, Header.HTTP_SAMPLED.toString());
         if (isDebug) {
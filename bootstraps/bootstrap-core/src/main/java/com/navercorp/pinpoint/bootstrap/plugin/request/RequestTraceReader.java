@@ -114,6 +114,11 @@ public class RequestTraceReader<T> {
     }
 
     private TraceId newTraceId(TraceHeader traceHeader) {
+        if (traceHeader instanceof CompactTraceHeader) {
+            final CompactTraceHeader compactTraceHeader = (CompactTraceHeader) traceHeader;
+            return this.traceContext.createTraceId(compactTraceHeader.getAgentId(), compactTraceHeader.getAgentStartTime(), compactTraceHeader.getTransactionSequence(),
+                    compactTraceHeader.getParentSpanId(), compactTraceHeader.getSpanId(), compactTraceHeader.getFlags());
+        }
         final String transactionId = traceHeader.getTransactionId();
         final long parentSpanId = traceHeader.getParentSpanId();
         final long spanId = traceHeader.getSpanId();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.aggregation;
+
+import com.navercorp.pinpoint.bootstrap.context.AttributeRecorder;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CommandAggregationTest {
+
+    @Test
+    public void fold() {
+        CommandAggregation aggregation = new CommandAggregation(AnnotationKey.REDIS_AGGREGATE);
+        // first command of the run
+        Assertions.assertFalse(aggregation.fold("redis1", "get", micros(10)));
+        aggregation.emit("redis1");
+
+        Assertions.assertTrue(aggregation.fold("redis1", "get", micros(10)));
+        Assertions.assertTrue(aggregation.fold("redis1", "set", micros(30)));
+        // slow command to the same end point does not break the run
+        aggregation.emit("redis1");
+        Assertions.assertTrue(aggregation.fold("redis1", "get", micros(20)));
+
+        AttributeRecorder recorder = mock(AttributeRecorder.class);
+        aggregation.onFrameClose(recorder);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(recorder).recordAttribute(eq(AnnotationKey.REDIS_AGGREGATE), captor.capture());
+        Assertions.assertEquals("endPoint=redis1, count=3, elapsed(us)=60, max(us)=30, commands={get=2, set=1}", captor.getValue());
+    }
+
+    @Test
+    public void fold_endPoint() {
+        CommandAggregation aggregation = new CommandAggregation(AnnotationKey.REDIS_AGGREGATE);
+        aggregation.emit("redis1");
+        Assertions.assertTrue(aggregation.fold("redis1", "get", micros(10)));
+
+        Assertions.assertFalse(aggregation.fold("redis2", "get", micros(10)));
+        aggregation.emit("redis2");
+        Assertions.assertTrue(aggregation.fold("redis2", "get", micros(10)));
+
+        AttributeRecorder recorder = mock(AttributeRecorder.class);
+        aggregation.onFrameClose(recorder);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(recorder, times(2)).recordAttribute(eq(AnnotationKey.REDIS_AGGREGATE), captor.capture());
+        List<String> values = captor.getAllValues();
+        Assertions.assertTrue(values.get(0).startsWith("endPoint=redis1, count=1"));
+        Assertions.assertTrue(values.get(1).startsWith("endPoint=redis2, count=1"));
+    }
+
+    @Test
+    public void onFrameClose_empty() {
+        CommandAggregation aggregation = new CommandAggregation(AnnotationKey.REDIS_AGGREGATE);
+        aggregation.emit("redis1");
+
+        AttributeRecorder recorder = mock(AttributeRecorder.class);
+        aggregation.onFrameClose(recorder);
+
+        verify(recorder, times(0)).recordAttribute(any(AnnotationKey.class), anyString());
+    }
+
+    private long micros(long micros) {
+        return TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.http;
+
+import com.navercorp.pinpoint.bootstrap.plugin.http.interceptor.ConnectionAcquireInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.http.interceptor.ConnectionConnectInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class HttpConnectionMetricsTest {
+
+    @Test
+    public void get() {
+        Assertions.assertSame(HttpConnectionMetrics.get("test-get"), HttpConnectionMetrics.get("test-get"));
+        Assertions.assertNotSame(HttpConnectionMetrics.get("test-get"), HttpConnectionMetrics.get("test-get2"));
+    }
+
+    @Test
+    public void interceptors_shareCounters() {
+        final String clientName = "test-share";
+        CustomMetricRegistry customMetricRegistry = mock(CustomMetricRegistry.class);
+
+        ConnectionAcquireInterceptor acquireInterceptor1 = new ConnectionAcquireInterceptor(customMetricRegistry, clientName);
+        ConnectionAcquireInterceptor acquireInterceptor2 = new ConnectionAcquireInterceptor(customMetricRegistry, clientName);
+        ConnectionConnectInterceptor connectInterceptor = new ConnectionConnectInterceptor(customMetricRegistry, clientName);
+
+        // registered by the first interceptor only
+        ArgumentCaptor<LongCounter> captor = ArgumentCaptor.forClass(LongCounter.class);
+        verify(customMetricRegistry, times(2)).register(captor.capture());
+        List<LongCounter> counters = captor.getAllValues();
+        LongCounter acquireCounter = counters.get(0);
+        LongCounter connectCounter = counters.get(1);
+        Assertions.assertEquals(HttpConnectionMetrics.acquireCountName(clientName), acquireCounter.getName());
+        Assertions.assertEquals(HttpConnectionMetrics.connectCountName(clientName), connectCounter.getName());
+
+        acquireInterceptor1.after(null, null, new Object(), null);
+        acquireInterceptor2.after(null, null, new Object(), null);
+        acquireInterceptor2.after(null, null, null, new IOException("timeout"));
+        connectInterceptor.after(null, null, null, null);
+        connectInterceptor.after(null, null, null, new IOException("refused"));
+
+        Assertions.assertEquals(2, acquireCounter.getValue());
+        Assertions.assertEquals(1, connectCounter.getValue());
+    }
+
+    @Test
+    public void hostCounters() {
+        final String clientName = "test-host";
+        CustomMetricRegistry customMetricRegistry = mock(CustomMetricRegistry.class);
+        HttpConnectionMetrics metrics = HttpConnectionMetrics.get(clientName);
+        metrics.register(customMetricRegistry);
+
+        metrics.recordAcquire("a.example.com:8080");
+        metrics.recordAcquire("a.example.com:8080");
+        metrics.recordConnect("a.example.com:8080");
+        metrics.recordAcquire(null);
+
+        ArgumentCaptor<LongCounter> captor = ArgumentCaptor.forClass(LongCounter.class);
+        verify(customMetricRegistry, times(4)).register(captor.capture());
+        List<LongCounter> counters = captor.getAllValues();
+        Assertions.assertEquals(3, counters.get(0).getValue());
+        Assertions.assertEquals(1, counters.get(1).getValue());
+        Assertions.assertEquals("custom/test-host-host-a.example.com_8080/connectionAcquireCount", counters.get(2).getName());
+        Assertions.assertEquals(2, counters.get(2).getValue());
+        Assertions.assertEquals("custom/test-host-host-a.example.com_8080/connectionConnectCount", counters.get(3).getName());
+        Assertions.assertEquals(1, counters.get(3).getValue());
+    }
+
+    @Test
+    public void hostCounters_limit() {
+        CustomMetricRegistry customMetricRegistry = mock(CustomMetricRegistry.class);
+        HttpConnectionMetrics metrics = HttpConnectionMetrics.get("test-host-limit");
+        metrics.register(customMetricRegistry);
+
+        for (int i = 0; i < HttpConnectionMetrics.MAX_HOST_SIZE + 5; i++) {
+            metrics.recordAcquire("host" + i);
+            metrics.recordAcquire("host" + i);
+        }
+
+        verify(customMetricRegistry, times(2 + HttpConnectionMetrics.MAX_HOST_SIZE * 2)).register(any(LongCounter.class));
+    }
+
+    @Test
+    public void hostGroupName() {
+        Assertions.assertEquals("okhttp-host-127.0.0.1_80", HttpConnectionMetrics.hostGroupName("okhttp", "127.0.0.1:80"));
+        Assertions.assertEquals("okhttp-host-___1__8080", HttpConnectionMetrics.hostGroupName("okhttp", "[::1]:8080"));
+
+        StringBuilder longHost = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            longHost.append("abcdefghij");
+        }
+        Assertions.assertEquals(64, HttpConnectionMetrics.hostGroupName("okhttp", longHost.toString()).length());
+    }
+}
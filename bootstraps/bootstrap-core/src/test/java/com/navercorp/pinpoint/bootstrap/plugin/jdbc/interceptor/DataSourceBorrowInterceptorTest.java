@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.AttachmentFactory;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.NoSuchElementException;
+
+public class DataSourceBorrowInterceptorTest {
+
+    private final InterceptorScope scope = new TestInterceptorScope();
+    private final TestPool pool = new TestPool();
+
+    @Test
+    public void borrow() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.util.NoSuchElementException");
+
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, new Object(), null);
+
+        ConnectionWaitSnapshot snapshot = pool.snapshot();
+        Assertions.assertEquals(1, snapshot.getBorrowCount());
+        Assertions.assertEquals(0, snapshot.getTimeoutCount());
+        Assertions.assertNull(scope.getCurrentInvocation().getAttachment());
+    }
+
+    @Test
+    public void timeout_wrapped() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.util.NoSuchElementException");
+        SQLException exception = new SQLException("Cannot get a connection, pool error Timeout waiting for idle object",
+                new NoSuchElementException("Timeout waiting for idle object"));
+
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, null, exception);
+
+        ConnectionWaitSnapshot snapshot = pool.snapshot();
+        Assertions.assertEquals(1, snapshot.getBorrowCount());
+        Assertions.assertEquals(1, snapshot.getTimeoutCount());
+    }
+
+    @Test
+    public void timeout_thrown() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.sql.SQLTransientConnectionException", "java.sql.SQLTimeoutException");
+
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, null, new SQLTransientConnectionException("Connection is not available, request timed out"));
+
+        Assertions.assertEquals(1, pool.snapshot().getTimeoutCount());
+    }
+
+    @Test
+    public void otherFailure_notTimeout() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.sql.SQLTransientConnectionException", "java.sql.SQLTimeoutException");
+
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, null, new SQLException("Connection refused", new IllegalStateException()));
+
+        ConnectionWaitSnapshot snapshot = pool.snapshot();
+        Assertions.assertEquals(1, snapshot.getBorrowCount());
+        Assertions.assertEquals(0, snapshot.getTimeoutCount());
+    }
+
+    @Test
+    public void after_withoutBefore() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.util.NoSuchElementException");
+
+        interceptor.after(pool, null, null, new NoSuchElementException());
+
+        ConnectionWaitSnapshot snapshot = pool.snapshot();
+        Assertions.assertEquals(0, snapshot.getBorrowCount());
+        Assertions.assertEquals(0, snapshot.getTimeoutCount());
+    }
+
+    @Test
+    public void borrow_perPool() {
+        DataSourceBorrowInterceptor interceptor = newInterceptor("java.util.NoSuchElementException");
+        TestPool otherPool = new TestPool();
+        TestPool closedPool = new TestPool();
+        closedPool._$PINPOINT$_setConnectionWaitRecorder(null);
+
+        interceptor.before(pool, null);
+        interceptor.after(pool, null, new Object(), null);
+        interceptor.before(otherPool, null);
+        interceptor.after(otherPool, null, null, new NoSuchElementException());
+        interceptor.before(closedPool, null);
+        interceptor.after(closedPool, null, new Object(), null);
+
+        ConnectionWaitSnapshot snapshot = pool.snapshot();
+        Assertions.assertEquals(1, snapshot.getBorrowCount());
+        Assertions.assertEquals(0, snapshot.getTimeoutCount());
+        ConnectionWaitSnapshot otherSnapshot = otherPool.snapshot();
+        Assertions.assertEquals(1, otherSnapshot.getBorrowCount());
+        Assertions.assertEquals(1, otherSnapshot.getTimeoutCount());
+        Assertions.assertNull(scope.getCurrentInvocation().getAttachment());
+    }
+
+    private DataSourceBorrowInterceptor newInterceptor(String... timeoutExceptionNames) {
+        return new DataSourceBorrowInterceptor(scope, timeoutExceptionNames);
+    }
+
+    private static class TestPool implements ConnectionWaitRecorderAccessor {
+
+        private ConnectionWaitRecorder connectionWaitRecorder = new ConnectionWaitRecorder();
+
+        ConnectionWaitSnapshot snapshot() {
+            return connectionWaitRecorder.snapshot();
+        }
+
+        @Override
+        public void _$PINPOINT$_setConnectionWaitRecorder(ConnectionWaitRecorder connectionWaitRecorder) {
+            this.connectionWaitRecorder = connectionWaitRecorder;
+        }
+
+        @Override
+        public ConnectionWaitRecorder _$PINPOINT$_getConnectionWaitRecorder() {
+            return connectionWaitRecorder;
+        }
+    }
+
+    private static class TestInterceptorScope implements InterceptorScope, InterceptorScopeInvocation {
+
+        private Object attachment;
+
+        @Override
+        public String getName() {
+            return "TEST_BORROW_SCOPE";
+        }
+
+        @Override
+        public InterceptorScopeInvocation getCurrentInvocation() {
+            return this;
+        }
+
+        @Override
+        public boolean tryEnter(ExecutionPolicy policy) {
+            return true;
+        }
+
+        @Override
+        public boolean canLeave(ExecutionPolicy policy) {
+            return true;
+        }
+
+        @Override
+        public void leave(ExecutionPolicy policy) {
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public Object setAttachment(Object attachment) {
+            Object old = this.attachment;
+            this.attachment = attachment;
+            return old;
+        }
+
+        @Override
+        public Object getAttachment() {
+            return attachment;
+        }
+
+        @Override
+        public Object getOrCreateAttachment(AttachmentFactory factory) {
+            if (attachment == null) {
+                attachment = factory.createAttachment();
+            }
+            return attachment;
+        }
+
+        @Override
+        public Object removeAttachment() {
+            return setAttachment(null);
+        }
+    }
+}
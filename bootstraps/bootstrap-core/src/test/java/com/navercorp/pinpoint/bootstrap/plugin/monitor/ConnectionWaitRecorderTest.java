@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionWaitRecorderTest {
+
+    @Test
+    public void snapshot() {
+        ConnectionWaitRecorder recorder = new ConnectionWaitRecorder();
+        recorder.record(TimeUnit.MICROSECONDS.toNanos(500));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(5));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(50));
+        recorder.recordTimeout(TimeUnit.MILLISECONDS.toNanos(3000));
+
+        ConnectionWaitSnapshot snapshot = recorder.snapshot();
+        Assertions.assertArrayEquals(new long[]{1, 1, 1, 0, 1}, snapshot.getHistogram());
+        Assertions.assertEquals(4, snapshot.getBorrowCount());
+        Assertions.assertEquals(1, snapshot.getTimeoutCount());
+        Assertions.assertEquals(500 + 5000 + 50000 + 3000000, snapshot.getTotalWaitTime());
+        Assertions.assertEquals(3000000, snapshot.getMaxWaitTime());
+    }
+
+    @Test
+    public void snapshot_reset() {
+        ConnectionWaitRecorder recorder = new ConnectionWaitRecorder();
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(20));
+        recorder.snapshot();
+
+        ConnectionWaitSnapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(0, snapshot.getBorrowCount());
+        Assertions.assertEquals(0, snapshot.getTimeoutCount());
+        Assertions.assertEquals(0, snapshot.getTotalWaitTime());
+        Assertions.assertEquals(0, snapshot.getMaxWaitTime());
+    }
+
+    @Test
+    public void record_negative() {
+        ConnectionWaitRecorder recorder = new ConnectionWaitRecorder();
+        recorder.record(-1);
+
+        ConnectionWaitSnapshot snapshot = recorder.snapshot();
+        Assertions.assertEquals(1, snapshot.getHistogram()[0]);
+        Assertions.assertEquals(0, snapshot.getTotalWaitTime());
+    }
+}
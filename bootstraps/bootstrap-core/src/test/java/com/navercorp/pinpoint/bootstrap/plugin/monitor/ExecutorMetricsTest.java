@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutorMetricsTest {
+
+    @Test
+    public void executorName() {
+        Assertions.assertEquals("pool-3-thread", ExecutorMetrics.executorName("pool-3-thread-1"));
+        Assertions.assertEquals("http-nio-8080-exec", ExecutorMetrics.executorName("http-nio-8080-exec-12"));
+        Assertions.assertEquals("ForkJoinPool.commonPool-worker", ExecutorMetrics.executorName("ForkJoinPool.commonPool-worker-3"));
+        Assertions.assertEquals("my_worker", ExecutorMetrics.executorName("my worker #2"));
+        Assertions.assertEquals("unnamed", ExecutorMetrics.executorName("123"));
+        Assertions.assertEquals("unnamed", ExecutorMetrics.executorName(""));
+    }
+
+    @Test
+    public void metricName() {
+        Assertions.assertEquals("custom/executor-pool-3-thread/queueSize", ExecutorMetrics.queueSizeName("pool-3-thread"));
+        Assertions.assertEquals("custom/executor-pool-3-thread/rejectCount", ExecutorMetrics.rejectCountName("pool-3-thread"));
+    }
+
+    @Test
+    public void get() {
+        ExecutorMetrics metrics = ExecutorMetrics.get("ExecutorMetricsTest-get");
+        Assertions.assertSame(metrics, ExecutorMetrics.get("ExecutorMetricsTest-get"));
+    }
+
+    @Test
+    public void add() throws InterruptedException {
+        CustomMetricRegistry registry = Mockito.mock(CustomMetricRegistry.class);
+        ExecutorMetrics metrics = ExecutorMetrics.get("ExecutorMetricsTest-add");
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ThreadPoolExecutor idleExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+            Assertions.assertTrue(running.await(10, TimeUnit.SECONDS));
+            executor.execute(() -> {});
+            executor.execute(() -> {});
+
+            metrics.add(executor, registry);
+            metrics.add(executor, registry);
+            // registered once per name
+            metrics.add(idleExecutor, registry);
+
+            ArgumentCaptor<LongGauge> gaugeCaptor = ArgumentCaptor.forClass(LongGauge.class);
+            Mockito.verify(registry, Mockito.times(1)).register(gaugeCaptor.capture());
+            ArgumentCaptor<LongCounter> counterCaptor = ArgumentCaptor.forClass(LongCounter.class);
+            Mockito.verify(registry, Mockito.times(1)).register(counterCaptor.capture());
+
+            LongGauge queueSize = gaugeCaptor.getValue();
+            Assertions.assertEquals(ExecutorMetrics.queueSizeName("ExecutorMetricsTest-add"), queueSize.getName());
+            Assertions.assertEquals(2, queueSize.getValue());
+            Assertions.assertEquals(2, metrics.getQueueSize());
+
+            LongCounter rejectCount = counterCaptor.getValue();
+            Assertions.assertEquals(ExecutorMetrics.rejectCountName("ExecutorMetricsTest-add"), rejectCount.getName());
+            metrics.recordReject();
+            Assertions.assertEquals(1, rejectCount.getValue());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            idleExecutor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.monitor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+public class TaskQueueMetricsTest {
+
+    @Test
+    public void bucket() {
+        Assertions.assertEquals(0, TaskQueueMetrics.bucket(0));
+        Assertions.assertEquals(0, TaskQueueMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(1) - 1));
+        Assertions.assertEquals(1, TaskQueueMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(1)));
+        Assertions.assertEquals(1, TaskQueueMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(10) - 1));
+        Assertions.assertEquals(2, TaskQueueMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(10)));
+        Assertions.assertEquals(3, TaskQueueMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(100)));
+        Assertions.assertEquals(3, TaskQueueMetrics.bucket(TimeUnit.SECONDS.toNanos(1) - 1));
+        Assertions.assertEquals(4, TaskQueueMetrics.bucket(TimeUnit.SECONDS.toNanos(1)));
+        Assertions.assertEquals(4, TaskQueueMetrics.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void register() {
+        CustomMetricRegistry registry = Mockito.mock(CustomMetricRegistry.class);
+        TaskQueueMetrics.register(registry);
+        TaskQueueMetrics.register(registry);
+        TaskQueueMetrics.register(Mockito.mock(CustomMetricRegistry.class));
+
+        Mockito.verify(registry, Mockito.times(7)).register(Mockito.any(LongCounter.class));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.bootstrap.plugin.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Header;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CompactTraceHeaderCodecTest {
+
+    private final CompactTraceHeaderCodec codec = new CompactTraceHeaderCodec();
+
+    @Test
+    public void formatAndParse() {
+        assertFormatAndParse(newTraceId("agentId", 1517877953952L, 1035131, -1, 1234567890123L, (short) 1));
+        assertFormatAndParse(newTraceId("a", 0, 0, Long.MIN_VALUE, Long.MAX_VALUE, (short) -1));
+        assertFormatAndParse(newTraceId("abcdefghij-klmno_pqr.stu", Long.MAX_VALUE, Long.MIN_VALUE, 0, -1, Short.MAX_VALUE));
+    }
+
+    private void assertFormatAndParse(TraceId traceId) {
+        final String value = codec.format(traceId);
+        Assertions.assertEquals(CompactTraceHeaderCodec.FIXED_LENGTH + traceId.getAgentId().length(), value.length());
+
+        final CompactTraceHeader header = codec.parse(value);
+        Assertions.assertNotNull(header, value);
+        Assertions.assertEquals(TraceHeaderState.CONTINUE, header.getState());
+        Assertions.assertEquals(traceId.getAgentId(), header.getAgentId());
+        Assertions.assertEquals(traceId.getAgentStartTime(), header.getAgentStartTime());
+        Assertions.assertEquals(traceId.getTransactionSequence(), header.getTransactionSequence());
+        Assertions.assertEquals(traceId.getSpanId(), header.getSpanId());
+        Assertions.assertEquals(traceId.getParentSpanId(), header.getParentSpanId());
+        Assertions.assertEquals(traceId.getFlags(), header.getFlags());
+        Assertions.assertEquals(traceId.getTransactionId(), header.getTransactionId());
+    }
+
+    @Test
+    public void parse_reuseAgentId() {
+        final String value = codec.format(newTraceId("agentId", 1, 2, 3, 4, (short) 0));
+        final String agentId = codec.parse(value).getAgentId();
+        Assertions.assertSame(agentId, codec.parse(new String(value.toCharArray())).getAgentId());
+
+        final String other = codec.format(newTraceId("agentIe", 1, 2, 3, 4, (short) 0));
+        Assertions.assertEquals("agentIe", codec.parse(other).getAgentId());
+    }
+
+    @Test
+    public void parse_invalid() {
+        final String value = codec.format(newTraceId("agentId", 1, 2, 3, 4, (short) 0));
+        Assertions.assertNull(codec.parse(null));
+        Assertions.assertNull(codec.parse(""));
+        // without agentId
+        Assertions.assertNull(codec.parse(value.substring(0, CompactTraceHeaderCodec.FIXED_LENGTH)));
+        // unknown version
+        Assertions.assertNull(codec.parse("B" + value.substring(1)));
+        // invalid digit
+        Assertions.assertNull(codec.parse(value.substring(0, 10) + "^" + value.substring(11)));
+        // invalid agentId
+        Assertions.assertNull(codec.parse(value + "^"));
+        Assertions.assertNull(codec.parse(value + "1234567890123456789"));
+    }
+
+    @Test
+    public void read_fallback() {
+        final DefaultTraceHeaderReader<Map<String, String>> reader = new DefaultTraceHeaderReader<>(new MapRequestAdaptor());
+
+        final Map<String, String> compact = new HashMap<>();
+        compact.put(Header.HTTP_TRACE_CONTEXT.toString(), codec.format(newTraceId("agentId", 1, 2, 3, 4, (short) 0)));
+        final TraceHeader compactHeader = reader.read(compact);
+        Assertions.assertTrue(compactHeader instanceof CompactTraceHeader);
+        Assertions.assertEquals("agentId^1^2", compactHeader.getTransactionId());
+
+        final Map<String, String> legacy = new HashMap<>();
+        legacy.put(Header.HTTP_TRACE_CONTEXT.toString(), "invalid");
+        legacy.put(Header.HTTP_TRACE_ID.toString(), "agentId^1^2");
+        legacy.put(Header.HTTP_SPAN_ID.toString(), "4");
+        legacy.put(Header.HTTP_PARENT_SPAN_ID.toString(), "3");
+        final TraceHeader legacyHeader = reader.read(legacy);
+        Assertions.assertEquals(TraceHeaderState.CONTINUE, legacyHeader.getState());
+        Assertions.assertEquals("agentId^1^2", legacyHeader.getTransactionId());
+        Assertions.assertEquals(4, legacyHeader.getSpanId());
+
+        final Map<String, String> disable = new HashMap<>(compact);
+        disable.put(Header.HTTP_SAMPLED.toString(), "s0");
+        Assertions.assertEquals(TraceHeaderState.DISABLE, reader.read(disable).getState());
+    }
+
+    @Test
+    public void write_compact() {
+        final TraceId traceId = newTraceId("agentId", 1517877953952L, 1035131, -1, 1234567890123L, (short) 1);
+        final DefaultRequestTraceWriter<Map<String, String>> legacyWriter = newWriter(false);
+        final DefaultRequestTraceWriter<Map<String, String>> compactWriter = newWriter(true);
+
+        final Map<String, String> legacy = new HashMap<>();
+        legacyWriter.write(legacy, traceId, null);
+        Assertions.assertFalse(legacy.containsKey(Header.HTTP_TRACE_CONTEXT.toString()));
+
+        final Map<String, String> compact = new HashMap<>();
+        compactWriter.write(compact, traceId, null);
+        Assertions.assertEquals(codec.format(traceId), compact.get(Header.HTTP_TRACE_CONTEXT.toString()));
+        Assertions.assertEquals(legacy.get(Header.HTTP_SPAN_ID.toString()), compact.get(Header.HTTP_SPAN_ID.toString()));
+        Assertions.assertFalse(compact.containsKey(Header.HTTP_TRACE_ID.toString()));
+        Assertions.assertFalse(compact.containsKey(Header.HTTP_PARENT_SPAN_ID.toString()));
+        Assertions.assertFalse(compact.containsKey(Header.HTTP_FLAGS.toString()));
+        Assertions.assertTrue(compact.size() < legacy.size());
+
+        final DefaultTraceHeaderReader<Map<String, String>> reader = new DefaultTraceHeaderReader<>(new MapRequestAdaptor());
+        final TraceHeader header = reader.read(compact);
+        Assertions.assertTrue(header instanceof CompactTraceHeader);
+        Assertions.assertEquals(reader.read(legacy).getTransactionId(), header.getTransactionId());
+    }
+
+    @Test
+    public void read_forwardedHeaders() {
+        final TraceId upstream = newTraceId("upstream", 1, 2, 3, 4, (short) 0);
+        final TraceId downstream = newTraceId("downstream", 5, 6, 7, 8, (short) 0);
+        final DefaultTraceHeaderReader<Map<String, String>> reader = new DefaultTraceHeaderReader<>(new MapRequestAdaptor());
+
+        // a legacy hop forwards the inbound compact header and overwrites only the legacy headers
+        final Map<String, String> staleCompact = new HashMap<>();
+        newWriter(true).write(staleCompact, upstream, null);
+        newWriter(false).write(staleCompact, downstream, null);
+        final TraceHeader legacyHeader = reader.read(staleCompact);
+        Assertions.assertFalse(legacyHeader instanceof CompactTraceHeader);
+        Assertions.assertEquals("downstream^5^6", legacyHeader.getTransactionId());
+        Assertions.assertEquals(8, legacyHeader.getSpanId());
+
+        // a compact hop forwards the inbound legacy headers and overwrites only the compact header
+        final Map<String, String> staleLegacy = new HashMap<>();
+        newWriter(false).write(staleLegacy, upstream, null);
+        newWriter(true).write(staleLegacy, downstream, null);
+        final TraceHeader compactHeader = reader.read(staleLegacy);
+        Assertions.assertTrue(compactHeader instanceof CompactTraceHeader);
+        Assertions.assertEquals("downstream^5^6", compactHeader.getTransactionId());
+        Assertions.assertEquals(8, compactHeader.getSpanId());
+    }
+
+    private DefaultRequestTraceWriter<Map<String, String>> newWriter(boolean compactHeader) {
+        return new DefaultRequestTraceWriter<>(new MapClientHeaderAdaptor(), "app", (short) 1010, null, compactHeader);
+    }
+
+    private TraceId newTraceId(String agentId, long agentStartTime, long transactionSequence, long parentSpanId, long spanId, short flags) {
+        final TraceId traceId = mock(TraceId.class);
+        when(traceId.getAgentId()).thenReturn(agentId);
+        when(traceId.getAgentStartTime()).thenReturn(agentStartTime);
+        when(traceId.getTransactionSequence()).thenReturn(transactionSequence);
+        when(traceId.getParentSpanId()).thenReturn(parentSpanId);
+        when(traceId.getSpanId()).thenReturn(spanId);
+        when(traceId.getFlags()).thenReturn(flags);
+        when(traceId.getTransactionId()).thenReturn(agentId + "^" + agentStartTime + "^" + transactionSequence);
+        return traceId;
+    }
+
+    private static class MapClientHeaderAdaptor implements ClientHeaderAdaptor<Map<String, String>> {
+        @Override
+        public void setHeader(Map<String, String> header, String name, String value) {
+            header.put(name, value);
+        }
+    }
+
+    private static class MapRequestAdaptor implements RequestAdaptor<Map<String, String>> {
+        @Override
+        public String getHeader(Map<String, String> request, String name) {
+            return request.get(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames(Map<String, String> request) {
+            return request.keySet();
+        }
+
+        @Override
+        public String getRpcName(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getEndPoint(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getRemoteAddress(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getAcceptorHost(Map<String, String> request) {
+            return null;
+        }
+    }
+}
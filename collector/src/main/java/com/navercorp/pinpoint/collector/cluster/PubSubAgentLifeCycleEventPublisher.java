@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.cluster;
+
+import com.navercorp.pinpoint.collector.service.AgentLifeCycleEventPublisher;
+import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
+import com.navercorp.pinpoint.pubsub.PubChannel;
+import com.navercorp.pinpoint.realtime.dto.AgentLifeCycleEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+public class PubSubAgentLifeCycleEventPublisher implements AgentLifeCycleEventPublisher {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final PubChannel<AgentLifeCycleEvent> channel;
+
+    public PubSubAgentLifeCycleEventPublisher(PubChannel<AgentLifeCycleEvent> channel) {
+        this.channel = Objects.requireNonNull(channel, "channel");
+    }
+
+    @Override
+    public void publish(String applicationName, AgentLifeCycleBo agentLifeCycleBo) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(agentLifeCycleBo, "agentLifeCycleBo");
+
+        final AgentLifeCycleEvent event = new AgentLifeCycleEvent(
+                applicationName,
+                agentLifeCycleBo.getAgentId(),
+                agentLifeCycleBo.getStartTimestamp(),
+                agentLifeCycleBo.getEventTimestamp(),
+                agentLifeCycleBo.getAgentLifeCycleState().name()
+        );
+        try {
+            this.channel.publish(event);
+        } catch (Exception e) {
+            logger.warn("Failed to publish agent life cycle event. event={}", event, e);
+        }
+    }
+
+}
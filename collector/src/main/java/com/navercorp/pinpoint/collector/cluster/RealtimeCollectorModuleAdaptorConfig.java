@@ -16,6 +16,10 @@
 package com.navercorp.pinpoint.collector.cluster;
 
 import com.navercorp.pinpoint.collector.cluster.route.StreamRouteHandler;
+import com.navercorp.pinpoint.collector.service.AgentLifeCycleEventPublisher;
+import com.navercorp.pinpoint.pubsub.PubSubChannelFactory;
+import com.navercorp.pinpoint.realtime.RealtimePubSubServiceDescriptors;
+import com.navercorp.pinpoint.realtime.dto.AgentLifeCycleEvent;
 import com.navercorp.pinpoint.realtime.collector.RealtimeCollectorModule;
 import com.navercorp.pinpoint.realtime.collector.service.AgentConnectionRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -38,4 +42,11 @@ public class RealtimeCollectorModuleAdaptorConfig {
         return new AgentConnectionRepositoryImpl(streamRouteHandler);
     }
 
+    @Bean
+    AgentLifeCycleEventPublisher agentLifeCycleEventPublisher(PubSubChannelFactory channelFactory) {
+        return new PubSubAgentLifeCycleEventPublisher(
+                channelFactory.getPubChannel(RealtimePubSubServiceDescriptors.AGENT_LIFECYCLE_CHANNEL, AgentLifeCycleEvent.class)
+        );
+    }
+
 }
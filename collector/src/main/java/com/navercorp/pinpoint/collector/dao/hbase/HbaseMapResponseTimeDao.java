@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.collector.dao.hbase.statistics.ColumnName;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.MapLinkConfiguration;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.ResponseColumnName;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.RowKey;
+import com.navercorp.pinpoint.common.server.histogram.ResponseTimeSketch;
 import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
 import com.navercorp.pinpoint.common.server.util.ApplicationMapStatisticsUtils;
 import com.navercorp.pinpoint.common.server.util.TimeSlot;
@@ -52,15 +53,18 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
 
     private final TimeSlot timeSlot;
     private final BulkWriter bulkWriter;
+    private final BulkWriter sketchBulkWriter;
     private final MapLinkConfiguration mapLinkConfiguration;
 
     public HbaseMapResponseTimeDao(MapLinkConfiguration mapLinkConfiguration,
                                    AcceptedTimeService acceptedTimeService, TimeSlot timeSlot,
-                                   @Qualifier("selfBulkWriter") BulkWriter bulkWriter) {
+                                   @Qualifier("selfBulkWriter") BulkWriter bulkWriter,
+                                   @Qualifier("selfSketchBulkWriter") BulkWriter sketchBulkWriter) {
         this.mapLinkConfiguration = Objects.requireNonNull(mapLinkConfiguration, "mapLinkConfiguration");
         this.acceptedTimeService = Objects.requireNonNull(acceptedTimeService, "acceptedTimeService");
         this.timeSlot = Objects.requireNonNull(timeSlot, "timeSlot");
         this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWrtier");
+        this.sketchBulkWriter = Objects.requireNonNull(sketchBulkWriter, "sketchBulkWriter");
     }
 
 
@@ -92,6 +96,13 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
         if (mapLinkConfiguration.isEnableMax()) {
             this.bulkWriter.updateMax(selfRowKey, maxColumnName, elapsed);
         }
+
+        if (mapLinkConfiguration.isEnableSketch()) {
+            // sketch bucket counters are merged by increment like the histogram slots
+            final short bucketIndex = (short) ResponseTimeSketch.bucketIndex(elapsed);
+            final ColumnName sketchColumnName = new ResponseColumnName(agentId, bucketIndex);
+            this.sketchBulkWriter.increment(selfRowKey, sketchColumnName);
+        }
     }
 
     @Override
@@ -117,6 +128,9 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
     @Override
     public void flushLink() {
         this.bulkWriter.flushLink();
+        if (mapLinkConfiguration.isEnableSketch()) {
+            this.sketchBulkWriter.flushLink();
+        }
     }
 
     @Override
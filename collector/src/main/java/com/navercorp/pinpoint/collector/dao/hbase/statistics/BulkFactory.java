@@ -141,6 +141,31 @@ public class BulkFactory {
         return newBulkWriter(loggerName, hbaseTemplate, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
     }
 
+    @Bean
+    public BulkIncrementer selfSketchBulkIncrementer() {
+        String reporterName = "selfSketchBulkIncrementerReporter";
+        HbaseColumnFamily hbaseColumnFamily = HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_SKETCH;
+        int limitSize = bulkConfiguration.getSelfLimitSize();
+
+        return newBulkIncrementer(reporterName, hbaseColumnFamily, limitSize);
+    }
+
+    @Bean
+    public BulkUpdater selfSketchBulkUpdater() {
+        String reporterName = "selfSketchBulkUpdaterReporter";
+        return getBulkUpdater(reporterName);
+    }
+
+    @Bean
+    public BulkWriter selfSketchBulkWriter(HbaseOperations2 hbaseTemplate,
+                                           TableNameProvider tableNameProvider,
+                                           @Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix,
+                                           @Qualifier("selfSketchBulkIncrementer") BulkIncrementer bulkIncrementer,
+                                           @Qualifier("selfSketchBulkUpdater") BulkUpdater bulkUpdater) {
+        String loggerName = newBulkWriterName(HbaseMapResponseTimeDao.class.getName() + "-sketch");
+        return newBulkWriter(loggerName, hbaseTemplate, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_SKETCH, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+    }
+
     private String newBulkWriterName(String className) {
         return className + "-writer";
     }
@@ -7,11 +7,14 @@ import org.springframework.stereotype.Component;
 public class MapLinkConfiguration {
     private final boolean enableAvg;
     private final boolean enableMax;
+    private final boolean enableSketch;
 
     public MapLinkConfiguration(@Value("${collector.map-link.avg.enable:true}") boolean enableAvg,
-                                @Value("${collector.map-link.max.enable:true}") boolean enableMax) {
+                                @Value("${collector.map-link.max.enable:true}") boolean enableMax,
+                                @Value("${collector.map-link.sketch.enable:false}") boolean enableSketch) {
         this.enableAvg = enableAvg;
         this.enableMax = enableMax;
+        this.enableSketch = enableSketch;
     }
 
     public boolean isEnableAvg() {
@@ -21,4 +24,8 @@ public class MapLinkConfiguration {
     public boolean isEnableMax() {
         return enableMax;
     }
+
+    public boolean isEnableSketch() {
+        return enableSketch;
+    }
 }
@@ -17,11 +17,14 @@
 package com.navercorp.pinpoint.collector.mapper.grpc.stat;
 
 import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.grpc.CompressedAgentStatPayload;
 import com.navercorp.pinpoint.grpc.Header;
 import com.navercorp.pinpoint.grpc.trace.PAgentStat;
 import com.navercorp.pinpoint.grpc.trace.PAgentStatBatch;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -32,9 +35,11 @@ public class GrpcAgentStatBatchMapper {
 
 
     private final GrpcAgentStatMapper mapper;
+    private final GrpcCompressedAgentStatBatchMapper compressedMapper;
 
-    public GrpcAgentStatBatchMapper(GrpcAgentStatMapper mapper) {
+    public GrpcAgentStatBatchMapper(GrpcAgentStatMapper mapper, GrpcCompressedAgentStatBatchMapper compressedMapper) {
         this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.compressedMapper = Objects.requireNonNull(compressedMapper, "compressedMapper");
     }
 
     public AgentStatBo map(final PAgentStatBatch agentStatBatch, final Header header) {
@@ -45,8 +50,16 @@ public class GrpcAgentStatBatchMapper {
         final long startTimestamp = header.getAgentStartTime();
 
         final AgentStatBo.Builder builder = new AgentStatBo.Builder(agentId, startTimestamp);
-        for (PAgentStat agentStat : agentStatBatch.getAgentStatList()) {
-            this.mapper.map(agentStat, builder);
+        final List<PAgentStat> agentStats = agentStatBatch.getAgentStatList();
+        final List<AgentStatBo.Builder.StatBuilder> statBuilders = new ArrayList<>(agentStats.size());
+        for (PAgentStat agentStat : agentStats) {
+            statBuilders.add(this.mapper.map(agentStat, builder));
+        }
+
+        // cpu load and jvm gc sent by agents with profiler.jvm.stat.compression.enable=true
+        final byte[] payload = CompressedAgentStatPayload.get(agentStatBatch);
+        if (payload != null) {
+            this.compressedMapper.map(payload, statBuilders);
         }
         return builder.build();
     }
@@ -56,12 +56,13 @@ public class GrpcAgentStatMapper {
         return builder.build();
     }
 
-    void map(PAgentStat agentStat, AgentStatBo.Builder builder) {
+    AgentStatBo.Builder.StatBuilder map(PAgentStat agentStat, AgentStatBo.Builder builder) {
         final long timestamp = agentStat.getTimestamp();
         AgentStatBo.Builder.StatBuilder statBuilder = builder.newStatBuilder(timestamp);
         for (GrpcStatMapper mapper : mappers) {
             mapper.map(statBuilder, agentStat);
         }
+        return statBuilder;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.grpc.stat;
+
+import com.navercorp.pinpoint.common.buffer.timeseries.BitReader;
+import com.navercorp.pinpoint.common.buffer.timeseries.DeltaOfDeltaDecoder;
+import com.navercorp.pinpoint.common.buffer.timeseries.XorDoubleDecoder;
+import com.navercorp.pinpoint.common.server.bo.JvmGcType;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.CpuLoadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decodes the column encoded cpu load and jvm gc series written by the agent CompressedAgentStatBatchEncoder.
+ * <pre>
+ * 8 bits   : version
+ * 32 bits  : sample count(n)
+ * n values : timestamp (delta-of-delta)
+ * n bits   : cpu load present
+ *            jvm cpu load, system cpu load of the present samples (xor)
+ * n bits   : jvm gc present (gc samples with detailed metrics are sent as PJvmGc instead)
+ * 8 bits   : gc type code, if any jvm gc is present
+ *            heap used, heap max, non heap used, non heap max, gc old count, gc old time of the present samples (delta-of-delta)
+ * </pre>
+ */
+@Component
+public class GrpcCompressedAgentStatBatchMapper {
+
+    static final int VERSION = 1;
+    // the agent sends profiler.jvm.stat.batch.send.count(6) samples per batch
+    static final int MAX_SAMPLE_SIZE = 1024;
+
+    /**
+     * Adds the decoded samples to the stats mapped from the PAgentStat list of the same batch, in the same order.
+     */
+    public void map(final byte[] payload, final List<AgentStatBo.Builder.StatBuilder> statBuilders) {
+        Objects.requireNonNull(payload, "payload");
+        Objects.requireNonNull(statBuilders, "statBuilders");
+
+        final Samples samples = decode(payload);
+        if (samples.size() != statBuilders.size()) {
+            throw new IllegalArgumentException("sample count mismatch. payload:" + samples.size() + " agentStat:" + statBuilders.size());
+        }
+        for (int i = 0; i < samples.size(); i++) {
+            samples.addTo(i, statBuilders.get(i));
+        }
+    }
+
+    private Samples decode(final byte[] payload) {
+        final BitReader reader = new BitReader(payload);
+        final int version = (int) reader.readBits(8);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported version:" + version);
+        }
+        final int size = (int) reader.readBits(32);
+        // every sample takes at least one bit, check before allocating the columns
+        if (size < 0 || size > MAX_SAMPLE_SIZE || size > (long) payload.length * Byte.SIZE) {
+            throw new IllegalArgumentException("invalid sample count:" + size + " payload:" + payload.length);
+        }
+
+        final long[] timestamps = new long[size];
+        final DeltaOfDeltaDecoder timestampDecoder = new DeltaOfDeltaDecoder(reader);
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = timestampDecoder.next();
+        }
+
+        final CpuLoadBo[] cpuLoads = readCpuLoad(reader, size);
+        final JvmGcBo[] jvmGcs = readJvmGc(reader, size);
+        return new Samples(timestamps, cpuLoads, jvmGcs);
+    }
+
+    private CpuLoadBo[] readCpuLoad(BitReader reader, int size) {
+        final CpuLoadBo[] cpuLoads = new CpuLoadBo[size];
+        for (int i = 0; i < size; i++) {
+            if (reader.readBit()) {
+                cpuLoads[i] = new CpuLoadBo();
+            }
+        }
+        final XorDoubleDecoder jvmCpuLoad = new XorDoubleDecoder(reader);
+        for (CpuLoadBo cpuLoad : cpuLoads) {
+            if (cpuLoad != null) {
+                cpuLoad.setJvmCpuLoad(jvmCpuLoad.next());
+            }
+        }
+        final XorDoubleDecoder systemCpuLoad = new XorDoubleDecoder(reader);
+        for (CpuLoadBo cpuLoad : cpuLoads) {
+            if (cpuLoad != null) {
+                cpuLoad.setSystemCpuLoad(systemCpuLoad.next());
+            }
+        }
+        return cpuLoads;
+    }
+
+    private JvmGcBo[] readJvmGc(BitReader reader, int size) {
+        final JvmGcBo[] jvmGcs = new JvmGcBo[size];
+        boolean present = false;
+        for (int i = 0; i < size; i++) {
+            if (reader.readBit()) {
+                jvmGcs[i] = new JvmGcBo();
+                present = true;
+            }
+        }
+        if (!present) {
+            return jvmGcs;
+        }
+        final JvmGcType gcType = JvmGcType.getTypeByCode((int) reader.readBits(8));
+
+        final DeltaOfDeltaDecoder heapUsed = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setGcType(gcType);
+                jvmGc.setHeapUsed(heapUsed.next());
+            }
+        }
+        final DeltaOfDeltaDecoder heapMax = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setHeapMax(heapMax.next());
+            }
+        }
+        final DeltaOfDeltaDecoder nonHeapUsed = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setNonHeapUsed(nonHeapUsed.next());
+            }
+        }
+        final DeltaOfDeltaDecoder nonHeapMax = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setNonHeapMax(nonHeapMax.next());
+            }
+        }
+        final DeltaOfDeltaDecoder gcOldCount = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setGcOldCount(gcOldCount.next());
+            }
+        }
+        final DeltaOfDeltaDecoder gcOldTime = new DeltaOfDeltaDecoder(reader);
+        for (JvmGcBo jvmGc : jvmGcs) {
+            if (jvmGc != null) {
+                jvmGc.setGcOldTime(gcOldTime.next());
+            }
+        }
+        return jvmGcs;
+    }
+
+    private static class Samples {
+        private final long[] timestamps;
+        private final CpuLoadBo[] cpuLoads;
+        private final JvmGcBo[] jvmGcs;
+
+        private Samples(long[] timestamps, CpuLoadBo[] cpuLoads, JvmGcBo[] jvmGcs) {
+            this.timestamps = timestamps;
+            this.cpuLoads = cpuLoads;
+            this.jvmGcs = jvmGcs;
+        }
+
+        private int size() {
+            return timestamps.length;
+        }
+
+        private void addTo(int index, AgentStatBo.Builder.StatBuilder statBuilder) {
+            if (jvmGcs[index] != null) {
+                statBuilder.addJvmGc(jvmGcs[index]);
+            }
+            if (cpuLoads[index] != null) {
+                statBuilder.addCpuLoad(cpuLoads[index]);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.service;
+
+import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
+
+/**
+ * Notifies other components (e.g. web agent info caches) that an agent life cycle state has been recorded.
+ */
+public interface AgentLifeCycleEventPublisher {
+
+    void publish(String applicationName, AgentLifeCycleBo agentLifeCycleBo);
+
+}
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.collector.service.async;
 
 import com.navercorp.pinpoint.collector.config.CollectorProperties;
+import com.navercorp.pinpoint.collector.service.AgentLifeCycleEventPublisher;
 import com.navercorp.pinpoint.collector.service.AgentLifeCycleService;
 import com.navercorp.pinpoint.collector.service.StatisticsService;
 import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
@@ -30,6 +31,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author HyunGil Jeong
@@ -44,15 +46,19 @@ public class AgentLifeCycleAsyncTaskService {
     private final StatisticsService statisticsService;
     private final ServiceTypeRegistryService registry;
     private final CollectorProperties collectorProperties;
+    // @Nullable
+    private final AgentLifeCycleEventPublisher agentLifeCycleEventPublisher;
 
     public AgentLifeCycleAsyncTaskService(AgentLifeCycleService agentLifeCycleService,
                                           StatisticsService statisticsService,
                                           ServiceTypeRegistryService registry,
-                                          CollectorProperties collectorProperties) {
+                                          CollectorProperties collectorProperties,
+                                          Optional<AgentLifeCycleEventPublisher> agentLifeCycleEventPublisher) {
         this.agentLifeCycleService = agentLifeCycleService;
         this.statisticsService = statisticsService;
         this.registry = registry;
         this.collectorProperties = collectorProperties;
+        this.agentLifeCycleEventPublisher = Objects.requireNonNull(agentLifeCycleEventPublisher, "agentLifeCycleEventPublisher").orElse(null);
     }
 
     @Async("agentEventWorker")
@@ -74,6 +80,9 @@ public class AgentLifeCycleAsyncTaskService {
         final long startTimestamp = agentProperty.getStartTime();
         final AgentLifeCycleBo agentLifeCycleBo = new AgentLifeCycleBo(agentId, startTimestamp, eventTimestamp, eventIdentifier, agentLifeCycleState);
         agentLifeCycleService.insert(agentLifeCycleBo);
+        if (agentLifeCycleEventPublisher != null) {
+            agentLifeCycleEventPublisher.publish(applicationName, agentLifeCycleBo);
+        }
 
         final ServiceType serviceType = registry.findServiceType(agentProperty.getServiceType());
         if (isUpdateAgentState(serviceType)) {
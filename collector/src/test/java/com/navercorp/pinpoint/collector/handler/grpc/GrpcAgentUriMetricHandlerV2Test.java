@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.collector.handler.grpc.metric.AgentUriMetricHandle
 import com.navercorp.pinpoint.collector.mapper.grpc.stat.GrpcAgentStatBatchMapper;
 import com.navercorp.pinpoint.collector.mapper.grpc.stat.GrpcAgentStatMapper;
 import com.navercorp.pinpoint.collector.mapper.grpc.stat.GrpcAgentUriStatMapper;
+import com.navercorp.pinpoint.collector.mapper.grpc.stat.GrpcCompressedAgentStatBatchMapper;
 import com.navercorp.pinpoint.collector.service.AgentStatService;
 import com.navercorp.pinpoint.collector.service.AgentUriStatService;
 import com.navercorp.pinpoint.common.trace.ServiceType;
@@ -136,7 +137,7 @@ public class GrpcAgentUriMetricHandlerV2Test {
 
     private GrpcAgentStatHandlerV2 createMockHandler(AgentUriStatService agentUriStatService, boolean enableUriStat) {
         GrpcAgentStatMapper mockAgentStatMapper = mock(GrpcAgentStatMapper.class);
-        GrpcAgentStatBatchMapper agentStatBatchMapper = new GrpcAgentStatBatchMapper(mockAgentStatMapper);
+        GrpcAgentStatBatchMapper agentStatBatchMapper = new GrpcAgentStatBatchMapper(mockAgentStatMapper, new GrpcCompressedAgentStatBatchMapper());
 
         AgentStatService[] agentStatServices = new AgentStatService[0];
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.grpc.stat;
+
+import com.navercorp.pinpoint.common.buffer.timeseries.BitWriter;
+import com.navercorp.pinpoint.common.buffer.timeseries.DeltaOfDeltaEncoder;
+import com.navercorp.pinpoint.common.buffer.timeseries.XorDoubleEncoder;
+import com.navercorp.pinpoint.common.server.bo.JvmGcType;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.CpuLoadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.grpc.CompressedAgentStatPayload;
+import com.navercorp.pinpoint.grpc.Header;
+import com.navercorp.pinpoint.grpc.trace.PAgentStat;
+import com.navercorp.pinpoint.grpc.trace.PAgentStatBatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class GrpcAgentStatBatchMapperTest {
+
+    private static final long START_TIME = 1_700_000_000_000L;
+    private static final long[] TIMESTAMPS = {START_TIME, START_TIME + 5000, START_TIME + 10001};
+    private static final double[] JVM_CPU_LOADS = {0.1, 0.25, 0.25};
+    private static final long[] HEAP_USED = {512L << 20, (512L << 20) + 4096, 300L << 20};
+
+    private final Header header = new Header("name", "agentId", "agentName", "applicationName",
+            ServiceType.UNKNOWN.getCode(), START_TIME - 1000, Header.SOCKET_ID_NOT_EXIST, new ArrayList<>());
+
+    private final GrpcAgentStatBatchMapper mapper = new GrpcAgentStatBatchMapper(
+            new GrpcAgentStatMapper(new GrpcStatMapper[0]), new GrpcCompressedAgentStatBatchMapper());
+
+    @Test
+    public void map_compressedPayload() throws Exception {
+        final PAgentStatBatch.Builder builder = PAgentStatBatch.newBuilder();
+        for (long timestamp : TIMESTAMPS) {
+            builder.addAgentStat(PAgentStat.newBuilder().setTimestamp(timestamp).setCollectInterval(5000));
+        }
+        // no cpu load for the second sample, no gc for the last one
+        CompressedAgentStatPayload.set(builder, encode(new boolean[]{true, false, true}, new boolean[]{true, true, false}));
+
+        // unknown fields survive the wire
+        final PAgentStatBatch agentStatBatch = PAgentStatBatch.parseFrom(builder.build().toByteArray());
+        final AgentStatBo agentStatBo = mapper.map(agentStatBatch, header);
+
+        final List<CpuLoadBo> cpuLoads = agentStatBo.getCpuLoadBos();
+        Assertions.assertEquals(2, cpuLoads.size());
+        Assertions.assertEquals(TIMESTAMPS[0], cpuLoads.get(0).getTimestamp());
+        Assertions.assertEquals(JVM_CPU_LOADS[0], cpuLoads.get(0).getJvmCpuLoad());
+        Assertions.assertEquals(TIMESTAMPS[2], cpuLoads.get(1).getTimestamp());
+        Assertions.assertEquals(JVM_CPU_LOADS[2], cpuLoads.get(1).getJvmCpuLoad());
+        Assertions.assertEquals(0.5, cpuLoads.get(1).getSystemCpuLoad());
+        Assertions.assertEquals("agentId", cpuLoads.get(1).getAgentId());
+
+        final List<JvmGcBo> jvmGcs = agentStatBo.getJvmGcBos();
+        Assertions.assertEquals(2, jvmGcs.size());
+        Assertions.assertEquals(TIMESTAMPS[1], jvmGcs.get(1).getTimestamp());
+        Assertions.assertEquals(JvmGcType.G1, jvmGcs.get(1).getGcType());
+        Assertions.assertEquals(HEAP_USED[1], jvmGcs.get(1).getHeapUsed());
+        Assertions.assertEquals(2048L << 20, jvmGcs.get(1).getHeapMax());
+        Assertions.assertEquals(-1, jvmGcs.get(1).getNonHeapMax());
+        Assertions.assertEquals(11, jvmGcs.get(1).getGcOldCount());
+    }
+
+    @Test
+    public void map_withoutPayload() {
+        final PAgentStatBatch agentStatBatch = PAgentStatBatch.newBuilder()
+                .addAgentStat(PAgentStat.newBuilder().setTimestamp(START_TIME))
+                .build();
+        Assertions.assertNull(CompressedAgentStatPayload.get(agentStatBatch));
+
+        final AgentStatBo agentStatBo = mapper.map(agentStatBatch, header);
+        Assertions.assertTrue(agentStatBo.getCpuLoadBos().isEmpty());
+        Assertions.assertTrue(agentStatBo.getJvmGcBos().isEmpty());
+    }
+
+    @Test
+    public void map_sampleCountMismatch() {
+        final PAgentStatBatch.Builder builder = PAgentStatBatch.newBuilder()
+                .addAgentStat(PAgentStat.newBuilder().setTimestamp(START_TIME));
+        CompressedAgentStatPayload.set(builder, encode(new boolean[]{true, true, true}, new boolean[]{true, true, true}));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> mapper.map(builder.build(), header));
+    }
+
+    @Test
+    public void map_invalidSampleCount() {
+        final GrpcCompressedAgentStatBatchMapper compressedMapper = new GrpcCompressedAgentStatBatchMapper();
+        final List<AgentStatBo.Builder.StatBuilder> statBuilders = new ArrayList<>();
+
+        // negative
+        Assertions.assertThrows(IllegalArgumentException.class, () -> compressedMapper.map(header(0xFFFFFFFFL), statBuilders));
+        // more samples than bits in the payload
+        Assertions.assertThrows(IllegalArgumentException.class, () -> compressedMapper.map(header(100), statBuilders));
+        // over the maximum
+        final byte[] large = Arrays.copyOf(header(GrpcCompressedAgentStatBatchMapper.MAX_SAMPLE_SIZE + 1), 4096);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> compressedMapper.map(large, statBuilders));
+    }
+
+    private byte[] header(long sampleSize) {
+        final BitWriter writer = new BitWriter(8);
+        writer.writeBits(GrpcCompressedAgentStatBatchMapper.VERSION, 8);
+        writer.writeBits(sampleSize, 32);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Same layout as the agent CompressedAgentStatBatchEncoder.
+     */
+    private byte[] encode(boolean[] cpuLoadPresent, boolean[] gcPresent) {
+        final BitWriter writer = new BitWriter(64);
+        writer.writeBits(GrpcCompressedAgentStatBatchMapper.VERSION, 8);
+        writer.writeBits(TIMESTAMPS.length, 32);
+        final DeltaOfDeltaEncoder timestamps = new DeltaOfDeltaEncoder(writer);
+        for (long timestamp : TIMESTAMPS) {
+            timestamps.add(timestamp);
+        }
+
+        for (boolean present : cpuLoadPresent) {
+            writer.writeBit(present);
+        }
+        final XorDoubleEncoder jvmCpuLoad = new XorDoubleEncoder(writer);
+        for (int i = 0; i < TIMESTAMPS.length; i++) {
+            if (cpuLoadPresent[i]) {
+                jvmCpuLoad.add(JVM_CPU_LOADS[i]);
+            }
+        }
+        final XorDoubleEncoder systemCpuLoad = new XorDoubleEncoder(writer);
+        for (int i = 0; i < TIMESTAMPS.length; i++) {
+            if (cpuLoadPresent[i]) {
+                systemCpuLoad.add(0.5);
+            }
+        }
+
+        for (boolean present : gcPresent) {
+            writer.writeBit(present);
+        }
+        writer.writeBits(JvmGcType.G1.getTypeCode(), 8);
+        writeLongs(writer, gcPresent, HEAP_USED);
+        writeLongs(writer, gcPresent, new long[]{2048L << 20, 2048L << 20, 2048L << 20});
+        writeLongs(writer, gcPresent, new long[]{128L << 20, 128L << 20, 128L << 20});
+        writeLongs(writer, gcPresent, new long[]{-1, -1, -1});
+        writeLongs(writer, gcPresent, new long[]{10, 11, 11});
+        writeLongs(writer, gcPresent, new long[]{1200, 1250, 1250});
+        return writer.toByteArray();
+    }
+
+    private void writeLongs(BitWriter writer, boolean[] present, long[] values) {
+        final DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder(writer);
+        for (int i = 0; i < values.length; i++) {
+            if (present[i]) {
+                encoder.add(values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Objects;
+
+/**
+ * Reads the bits written by {@link BitWriter}.
+ */
+public class BitReader {
+
+    private final byte[] buffer;
+    private long bitPosition;
+
+    public BitReader(byte[] buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+    }
+
+    public boolean readBit() {
+        final int index = (int) (bitPosition >>> 3);
+        if (index >= buffer.length) {
+            throw new IndexOutOfBoundsException("bitPosition:" + bitPosition + " length:" + buffer.length);
+        }
+        final boolean bit = (buffer[index] & (0x80 >>> (bitPosition & 7))) != 0;
+        bitPosition++;
+        return bit;
+    }
+
+    /**
+     * @param bits 0 ~ 64
+     */
+    public long readBits(int bits) {
+        if (bits < 0 || bits > Long.SIZE) {
+            throw new IllegalArgumentException("bits out of range:" + bits);
+        }
+        long value = 0;
+        for (int i = 0; i < bits; i++) {
+            value <<= 1;
+            if (readBit()) {
+                value |= 1;
+            }
+        }
+        return value;
+    }
+
+    public long getBitPosition() {
+        return bitPosition;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Writes values bit by bit, most significant bit first.
+ */
+public class BitWriter {
+
+    private byte[] buffer;
+    private long bitPosition;
+
+    public BitWriter() {
+        this(32);
+    }
+
+    public BitWriter(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive:" + initialCapacity);
+        }
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeBit(boolean bit) {
+        final int index = (int) (bitPosition >>> 3);
+        ensureCapacity(index + 1);
+        if (bit) {
+            buffer[index] |= (byte) (0x80 >>> (bitPosition & 7));
+        }
+        bitPosition++;
+    }
+
+    /**
+     * @param value the lowest {@code bits} bits are written
+     * @param bits 0 ~ 64
+     */
+    public void writeBits(long value, int bits) {
+        if (bits < 0 || bits > Long.SIZE) {
+            throw new IllegalArgumentException("bits out of range:" + bits);
+        }
+        ensureCapacity((int) ((bitPosition + bits + 7) >>> 3));
+        for (int i = bits - 1; i >= 0; i--) {
+            if (((value >>> i) & 1) != 0) {
+                final int index = (int) (bitPosition >>> 3);
+                buffer[index] |= (byte) (0x80 >>> (bitPosition & 7));
+            }
+            bitPosition++;
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(size, buffer.length << 1));
+        }
+    }
+
+    public long getBitLength() {
+        return bitPosition;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, (int) ((bitPosition + 7) >>> 3));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Objects;
+
+/**
+ * Reads the series written by {@link DeltaOfDeltaEncoder}.
+ */
+public class DeltaOfDeltaDecoder {
+
+    private final BitReader reader;
+
+    private boolean first = true;
+    private long previousValue;
+    private long previousDelta;
+
+    public DeltaOfDeltaDecoder(BitReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    public long next() {
+        if (first) {
+            previousValue = reader.readBits(Long.SIZE);
+            first = false;
+            return previousValue;
+        }
+        final long delta = previousDelta + readDeltaOfDelta();
+        previousValue += delta;
+        previousDelta = delta;
+        return previousValue;
+    }
+
+    private long readDeltaOfDelta() {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return signed(reader.readBits(7), 7);
+        }
+        if (!reader.readBit()) {
+            return signed(reader.readBits(9), 9);
+        }
+        if (!reader.readBit()) {
+            return signed(reader.readBits(12), 12);
+        }
+        final int bits = (int) reader.readBits(6) + 1;
+        final long zigzag = reader.readBits(bits);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    // -63 ~ 64 style ranges: values above the positive limit of the two's complement are negative
+    private long signed(long value, int bits) {
+        final long limit = 1L << (bits - 1);
+        if (value > limit) {
+            return value - (1L << bits);
+        }
+        return value;
+    }
+}
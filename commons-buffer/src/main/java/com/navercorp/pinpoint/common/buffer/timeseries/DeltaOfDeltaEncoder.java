@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Objects;
+
+/**
+ * Delta-of-delta encoding of a long series as described in the Gorilla paper (Facebook, VLDB 2015).
+ * <p>
+ * The first value is written as is. Each following value is written as the difference between its delta
+ * and the previous delta, so regular timestamps and slowly changing counters take a single bit.
+ * <pre>
+ * 0                         : delta of delta is 0
+ * 10   + 7 bits             : -63 ~ 64
+ * 110  + 9 bits             : -255 ~ 256
+ * 1110 + 12 bits            : -2047 ~ 2048
+ * 1111 + 6 bits(n - 1) + n bits : zigzag encoded value of n bits
+ * </pre>
+ */
+public class DeltaOfDeltaEncoder {
+
+    private final BitWriter writer;
+
+    private boolean first = true;
+    private long previousValue;
+    private long previousDelta;
+
+    public DeltaOfDeltaEncoder(BitWriter writer) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    public void add(long value) {
+        if (first) {
+            writer.writeBits(value, Long.SIZE);
+            previousValue = value;
+            first = false;
+            return;
+        }
+        final long delta = value - previousValue;
+        final long deltaOfDelta = delta - previousDelta;
+        write(deltaOfDelta);
+        previousValue = value;
+        previousDelta = delta;
+    }
+
+    private void write(long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writer.writeBit(false);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            writer.writeBits(0b10, 2);
+            writer.writeBits(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            writer.writeBits(0b110, 3);
+            writer.writeBits(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            writer.writeBits(0b1110, 4);
+            writer.writeBits(deltaOfDelta, 12);
+        } else {
+            final long zigzag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+            final int bits = Long.SIZE - Long.numberOfLeadingZeros(zigzag);
+            writer.writeBits(0b1111, 4);
+            writer.writeBits(bits - 1, 6);
+            writer.writeBits(zigzag, bits);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Objects;
+
+/**
+ * Reads the series written by {@link XorDoubleEncoder}.
+ */
+public class XorDoubleDecoder {
+
+    private final BitReader reader;
+
+    private boolean first = true;
+    private long previousBits;
+    private int previousLeadingZeros;
+    private int previousTrailingZeros;
+
+    public XorDoubleDecoder(BitReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    public double next() {
+        if (first) {
+            previousBits = reader.readBits(Long.SIZE);
+            first = false;
+            return Double.longBitsToDouble(previousBits);
+        }
+        if (!reader.readBit()) {
+            return Double.longBitsToDouble(previousBits);
+        }
+        if (reader.readBit()) {
+            previousLeadingZeros = (int) reader.readBits(5);
+            int meaningfulBits = (int) reader.readBits(6);
+            if (meaningfulBits == 0) {
+                meaningfulBits = Long.SIZE;
+            }
+            previousTrailingZeros = Long.SIZE - previousLeadingZeros - meaningfulBits;
+        }
+        final int meaningfulBits = Long.SIZE - previousLeadingZeros - previousTrailingZeros;
+        final long xor = reader.readBits(meaningfulBits) << previousTrailingZeros;
+        previousBits ^= xor;
+        return Double.longBitsToDouble(previousBits);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import java.util.Objects;
+
+/**
+ * XOR compression of a double series as described in the Gorilla paper (Facebook, VLDB 2015).
+ * <p>
+ * Each value is XORed with the previous one, and only the meaningful bits of the result are written.
+ * <pre>
+ * 0                                   : same value
+ * 10 + meaningful bits                : fits in the leading/trailing zero window of the previous value
+ * 11 + 5 bits(leading zeros) + 6 bits(meaningful length) + meaningful bits
+ * </pre>
+ */
+public class XorDoubleEncoder {
+
+    private final BitWriter writer;
+
+    private boolean first = true;
+    private long previousBits;
+    private int previousLeadingZeros = Integer.MAX_VALUE;
+    private int previousTrailingZeros;
+
+    public XorDoubleEncoder(BitWriter writer) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    public void add(double value) {
+        final long bits = Double.doubleToRawLongBits(value);
+        if (first) {
+            writer.writeBits(bits, Long.SIZE);
+            previousBits = bits;
+            first = false;
+            return;
+        }
+        final long xor = bits ^ previousBits;
+        previousBits = bits;
+        if (xor == 0) {
+            writer.writeBit(false);
+            return;
+        }
+        writer.writeBit(true);
+
+        // the leading zero count is written in 5 bits
+        final int leadingZeros = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        final int trailingZeros = Long.numberOfTrailingZeros(xor);
+        if (leadingZeros >= previousLeadingZeros && trailingZeros >= previousTrailingZeros) {
+            writer.writeBit(false);
+            final int meaningfulBits = Long.SIZE - previousLeadingZeros - previousTrailingZeros;
+            writer.writeBits(xor >>> previousTrailingZeros, meaningfulBits);
+            return;
+        }
+        writer.writeBit(true);
+        final int meaningfulBits = Long.SIZE - leadingZeros - trailingZeros;
+        writer.writeBits(leadingZeros, 5);
+        // 64 meaningful bits are written as 0
+        writer.writeBits(meaningfulBits & 0x3F, 6);
+        writer.writeBits(xor >>> trailingZeros, meaningfulBits);
+        previousLeadingZeros = leadingZeros;
+        previousTrailingZeros = trailingZeros;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class DeltaOfDeltaEncoderTest {
+
+    @Test
+    public void regularTimestamp() {
+        final long[] timestamps = new long[6];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1700000000000L + i * 5000L;
+        }
+        final BitWriter writer = encode(timestamps);
+
+        // 64 bits + first delta + 1 bit per timestamp
+        Assertions.assertTrue(writer.getBitLength() < 64 + 32 + timestamps.length);
+        assertDecode(timestamps, writer);
+    }
+
+    @Test
+    public void bucketBoundary() {
+        final long[] deltaOfDeltas = {0, 1, -1, 64, -63, 65, -64, 256, -255, 257, -256, 2048, -2047, 2049, -2048};
+        final long[] values = new long[deltaOfDeltas.length + 1];
+        long delta = 0;
+        for (int i = 0; i < deltaOfDeltas.length; i++) {
+            delta += deltaOfDeltas[i];
+            values[i + 1] = values[i] + delta;
+        }
+        assertDecode(values, encode(values));
+    }
+
+    @Test
+    public void extremeValue() {
+        final long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, Long.MAX_VALUE};
+        assertDecode(values, encode(values));
+    }
+
+    @Test
+    public void randomValue() {
+        final Random random = new Random();
+        final long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        assertDecode(values, encode(values));
+    }
+
+    private BitWriter encode(long[] values) {
+        final BitWriter writer = new BitWriter();
+        final DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder(writer);
+        for (long value : values) {
+            encoder.add(value);
+        }
+        return writer;
+    }
+
+    private void assertDecode(long[] expected, BitWriter writer) {
+        final BitReader reader = new BitReader(writer.toByteArray());
+        final DeltaOfDeltaDecoder decoder = new DeltaOfDeltaDecoder(reader);
+        for (long value : expected) {
+            Assertions.assertEquals(value, decoder.next());
+        }
+        Assertions.assertEquals(writer.getBitLength(), reader.getBitPosition());
+    }
+}
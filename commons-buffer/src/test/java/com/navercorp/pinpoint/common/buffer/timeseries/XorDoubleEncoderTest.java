@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.buffer.timeseries;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class XorDoubleEncoderTest {
+
+    @Test
+    public void sameValue() {
+        final double[] values = {0.25, 0.25, 0.25, 0.25, 0.25, 0.25};
+        final BitWriter writer = encode(values);
+
+        Assertions.assertEquals(64 + values.length - 1, writer.getBitLength());
+        assertDecode(values, writer);
+    }
+
+    @Test
+    public void specialValue() {
+        final double[] values = {-1, Double.NaN, 0.0, -0.0, Double.MAX_VALUE, Double.MIN_VALUE,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -1};
+        assertDecode(values, encode(values));
+    }
+
+    @Test
+    public void randomValue() {
+        final Random random = new Random();
+        final double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            if (i % 2 == 0) {
+                values[i] = random.nextDouble();
+            } else {
+                values[i] = Double.longBitsToDouble(random.nextLong());
+            }
+        }
+        assertDecode(values, encode(values));
+    }
+
+    private BitWriter encode(double[] values) {
+        final BitWriter writer = new BitWriter();
+        final XorDoubleEncoder encoder = new XorDoubleEncoder(writer);
+        for (double value : values) {
+            encoder.add(value);
+        }
+        return writer;
+    }
+
+    private void assertDecode(double[] expected, BitWriter writer) {
+        final BitReader reader = new BitReader(writer.toByteArray());
+        final XorDoubleDecoder decoder = new XorDoubleDecoder(reader);
+        for (double value : expected) {
+            Assertions.assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(decoder.next()));
+        }
+        Assertions.assertEquals(writer.getBitLength(), reader.getBitPosition());
+    }
+}
@@ -129,6 +129,7 @@ public class HbaseColumnFamily {
     }
 
     public static final SelfStatMap MAP_STATISTICS_SELF_VER2_COUNTER = new SelfStatMap(HbaseTable.MAP_STATISTICS_SELF_VER2, Bytes.toBytes("C"));
+    public static final SelfStatMap MAP_STATISTICS_SELF_VER2_SKETCH = new SelfStatMap(HbaseTable.MAP_STATISTICS_SELF_VER2, Bytes.toBytes("Q"));
     public static class SelfStatMap extends HbaseColumnFamily {
         private SelfStatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
             super(hBaseTable, columnFamilyName);
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.common.hbase;
 
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Table;
 
 import java.io.IOException;
@@ -68,4 +69,13 @@ public class HbaseTableFactory implements TableFactory {
             throw new HbaseSystemException(ex);
         }
     }
+
+    @Override
+    public RegionLocator getRegionLocator(TableName tableName) {
+        try {
+            return connection.getRegionLocator(tableName);
+        } catch (IOException e) {
+            throw new HbaseSystemException(e);
+        }
+    }
 }
@@ -66,6 +66,8 @@ public class HbaseTemplate2 extends HbaseAccessor implements HbaseOperations2, I
 
     private static final int DEFAULT_MAX_THREADS_FOR_PARALLEL_SCANNER = 128;
     private static final int DEFAULT_MAX_THREADS_PER_PARALLEL_SCAN = 1;
+    // no limit
+    private static final int DEFAULT_MAX_THREADS_PER_REGION_SERVER = 0;
 
     private static final long DEFAULT_DESTORY_TIMEOUT = 2000;
 
@@ -77,6 +79,7 @@ public class HbaseTemplate2 extends HbaseAccessor implements HbaseOperations2, I
     private boolean enableParallelScan = false;
     private int maxThreads = DEFAULT_MAX_THREADS_FOR_PARALLEL_SCANNER;
     private int maxThreadsPerParallelScan = DEFAULT_MAX_THREADS_PER_PARALLEL_SCAN;
+    private int maxThreadsPerRegionServer = DEFAULT_MAX_THREADS_PER_REGION_SERVER;
 
     private HBaseAsyncOperation asyncOperation = DisabledHBaseAsyncOperation.INSTANCE;
 
@@ -99,6 +102,14 @@ public class HbaseTemplate2 extends HbaseAccessor implements HbaseOperations2, I
         this.maxThreadsPerParallelScan = maxThreadsPerParallelScan;
     }
 
+    /**
+     * Caps the number of concurrent scan tasks of a single parallel scan per region server.
+     * 0 or less means no limit.
+     */
+    public void setMaxThreadsPerRegionServer(int maxThreadsPerRegionServer) {
+        this.maxThreadsPerRegionServer = maxThreadsPerRegionServer;
+    }
+
     public void setAsyncOperation(HBaseAsyncOperation asyncOperation) {
         this.asyncOperation = Objects.requireNonNull(asyncOperation, "asyncOperation");
     }
@@ -646,7 +657,7 @@ public class HbaseTemplate2 extends HbaseAccessor implements HbaseOperations2, I
                 watch = new StopWatch();
                 watch.start();
             }
-            try (ParallelResultScanner scanner = new ParallelResultScanner(tableName, this, this.executor, scan, rowKeyDistributor, numParallelThreads)) {
+            try (ParallelResultScanner scanner = new ParallelResultScanner(tableName, this, this.executor, scan, rowKeyDistributor, numParallelThreads, this.maxThreadsPerRegionServer)) {
                 if (debugEnabled) {
                     logger.debug("ParallelDistributedScanner createTime: {}ms", watch.stop());
                     watch.start();
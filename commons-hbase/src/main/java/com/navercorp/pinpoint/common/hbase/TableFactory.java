@@ -19,6 +19,7 @@
 package com.navercorp.pinpoint.common.hbase;
 
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Table;
 
 import java.util.concurrent.ExecutorService;
@@ -50,4 +51,13 @@ public interface TableFactory {
    * @param table Table instance.
    */
   void releaseTable(final Table table);
+
+  /**
+   * Returns the RegionLocator of the HBase table.
+   * The caller is responsible for closing it.
+   *
+   * @param tableName name of the HBase table.
+   * @return RegionLocator instance.
+   */
+  RegionLocator getRegionLocator(TableName tableName);
 }
@@ -17,33 +17,53 @@
 package com.navercorp.pinpoint.common.hbase.parallel;
 
 import com.navercorp.pinpoint.common.hbase.HbaseAccessor;
+import com.navercorp.pinpoint.common.hbase.TableFactory;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
 
+import org.apache.hadoop.hbase.HRegionLocation;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
  * @author HyunGil Jeong
  */
 public class ParallelResultScanner implements ResultScanner {
 
+    private static final Logger logger = LogManager.getLogger(ParallelResultScanner.class);
+
+    private final TableName tableName;
     private final AbstractRowKeyDistributor keyDistributor;
     private final List<ScanTask> scanTasks;
-    private final Result[] nextResults;
+    private final PriorityQueue<TaskResult> resultHeap;
+    private boolean heapInitialized = false;
     private Result next = null;
 
     public ParallelResultScanner(TableName tableName, HbaseAccessor hbaseAccessor, ExecutorService executor, Scan originalScan, AbstractRowKeyDistributor keyDistributor, int numParallelThreads) throws IOException {
+        this(tableName, hbaseAccessor, executor, originalScan, keyDistributor, numParallelThreads, 0);
+    }
+
+    /**
+     * @param maxScanTasksPerRegionServer caps the number of scan tasks at the number of region servers times this value, 0 or less for no limit
+     */
+    public ParallelResultScanner(TableName tableName, HbaseAccessor hbaseAccessor, ExecutorService executor, Scan originalScan, AbstractRowKeyDistributor keyDistributor, int numParallelThreads, int maxScanTasksPerRegionServer) throws IOException {
+        this.tableName = Objects.requireNonNull(tableName, "tableName");
         Objects.requireNonNull(hbaseAccessor, "hbaseAccessor");
         Objects.requireNonNull(executor, "executor");
         Objects.requireNonNull(originalScan, "originalScan");
@@ -53,8 +73,10 @@ public class ParallelResultScanner implements ResultScanner {
         final ScanTaskConfig scanTaskConfig = new ScanTaskConfig(tableName, hbaseAccessor, keyDistributor, originalScan.getCaching());
         final Scan[] splitScans = splitScans(originalScan);
 
-        this.scanTasks = createScanTasks(scanTaskConfig, splitScans, numParallelThreads);
-        this.nextResults = new Result[scanTasks.size()];
+        this.scanTasks = createScanTasks(scanTaskConfig, splitScans, numParallelThreads, maxScanTasksPerRegionServer);
+        // merge in the order of the original scan. reversed scans return the original keys in descending order
+        final Comparator<TaskResult> comparator = originalScan.isReversed() ? TaskResult.ORIGINAL_KEY_COMPARATOR.reversed() : TaskResult.ORIGINAL_KEY_COMPARATOR;
+        this.resultHeap = new PriorityQueue<>(Math.max(1, scanTasks.size()), comparator);
         for (ScanTask scanTask : scanTasks) {
             executor.execute(scanTask);
         }
@@ -69,28 +91,58 @@ public class ParallelResultScanner implements ResultScanner {
         return scans;
     }
 
-    private List<ScanTask> createScanTasks(ScanTaskConfig scanTaskConfig, Scan[] splitScans, int numParallelThreads) {
-        if (splitScans.length <= numParallelThreads) {
-            List<ScanTask> scanTasks = new ArrayList<>(splitScans.length);
-            for (Scan scan : splitScans) {
-                scanTasks.add(new ScanTask(scanTaskConfig, scan));
-            }
-            return scanTasks;
-        } else {
-            int maxIndividualScans = (splitScans.length + (numParallelThreads - 1)) / numParallelThreads;
-            List<List<Scan>> scanDistributions = new ArrayList<>(numParallelThreads);
-            for (int i = 0; i < numParallelThreads; i++) {
-                scanDistributions.add(new ArrayList<>(maxIndividualScans));
-            }
-            for (int i = 0; i < splitScans.length; i++) {
-                scanDistributions.get(i % numParallelThreads).add(splitScans[i]);
-            }
-            List<ScanTask> scanTasks = new ArrayList<>(numParallelThreads);
-            for (List<Scan> scanDistribution : scanDistributions) {
-                Scan[] scansForSingleTask = scanDistribution.toArray(new Scan[0]);
-                scanTasks.add(new ScanTask(scanTaskConfig, scansForSingleTask));
+    private List<ScanTask> createScanTasks(ScanTaskConfig scanTaskConfig, Scan[] splitScans, int numParallelThreads, int maxScanTasksPerRegionServer) {
+        final List<List<Scan>> scanDistributions = distributeScans(scanTaskConfig, splitScans, numParallelThreads, maxScanTasksPerRegionServer);
+        final List<ScanTask> scanTasks = new ArrayList<>(scanDistributions.size());
+        for (List<Scan> scanDistribution : scanDistributions) {
+            Scan[] scansForSingleTask = scanDistribution.toArray(new Scan[0]);
+            scanTasks.add(new ScanTask(scanTaskConfig, scansForSingleTask));
+        }
+        return scanTasks;
+    }
+
+    private List<List<Scan>> distributeScans(ScanTaskConfig scanTaskConfig, Scan[] splitScans, int numParallelThreads, int maxScanTasksPerRegionServer) {
+        final TableFactory tableFactory = scanTaskConfig.getTableFactory();
+        RegionLocator regionLocator = null;
+        try {
+            regionLocator = tableFactory.getRegionLocator(scanTaskConfig.getTableName());
+        } catch (Exception e) {
+            logger.info("Failed to get RegionLocator. scans are distributed regardless of region location. table:{} cause:{}", tableName, e.getMessage());
+        }
+        try {
+            final ScanDistributor scanDistributor = new ScanDistributor(newLocationResolver(regionLocator), maxScanTasksPerRegionServer);
+            return scanDistributor.distribute(splitScans, numParallelThreads);
+        } finally {
+            closeRegionLocator(regionLocator);
+        }
+    }
+
+    private Function<Scan, String> newLocationResolver(RegionLocator regionLocator) {
+        if (regionLocator == null) {
+            return scan -> null;
+        }
+        return scan -> {
+            try {
+                HRegionLocation location = regionLocator.getRegionLocation(scan.getStartRow());
+                if (location == null) {
+                    return null;
+                }
+                return location.getServerName().toString();
+            } catch (IOException e) {
+                logger.debug("Failed to locate region. table:{} cause:{}", tableName, e.getMessage());
+                return null;
             }
-            return scanTasks;
+        };
+    }
+
+    private void closeRegionLocator(RegionLocator regionLocator) {
+        if (regionLocator == null) {
+            return;
+        }
+        try {
+            regionLocator.close();
+        } catch (IOException e) {
+            logger.debug("RegionLocator.close() error. cause:{}", e.getMessage());
         }
     }
 
@@ -113,33 +165,42 @@ public class ParallelResultScanner implements ResultScanner {
     }
 
     private Result nextInternal() throws IOException {
-        Result result = null;
-        int indexOfResultToUse = -1;
-        for (int i = 0; i < this.scanTasks.size(); i++) {
-            ScanTask scanTask = this.scanTasks.get(i);
-            // fail fast in case of errors
-            checkTask(scanTask);
-            if (nextResults[i] == null) {
-                try {
-                    nextResults[i] = scanTask.getResult();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+        if (!heapInitialized) {
+            for (ScanTask scanTask : this.scanTasks) {
+                if (!offerNextResult(scanTask)) {
                     return null;
                 }
-                if (nextResults[i] == null) {
-                    continue;
-                }
-            }
-            if (result == null || Bytes.compareTo(keyDistributor.getOriginalKey(nextResults[i].getRow()),
-                    keyDistributor.getOriginalKey(result.getRow())) < 0) {
-                result = nextResults[i];
-                indexOfResultToUse = i;
             }
+            heapInitialized = true;
+        }
+        final TaskResult taskResult = resultHeap.poll();
+        if (taskResult == null) {
+            return null;
+        }
+        // pull the next result only from the task that has just been consumed
+        if (!offerNextResult(taskResult.getScanTask())) {
+            return null;
         }
-        if (indexOfResultToUse >= 0) {
-            nextResults[indexOfResultToUse] = null;
+        return taskResult.getResult();
+    }
+
+    /**
+     * @return false if interrupted
+     */
+    private boolean offerNextResult(ScanTask scanTask) {
+        final Result result;
+        try {
+            result = scanTask.getResult();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        // fail fast in case of errors
+        checkTask(scanTask);
+        if (result != null) {
+            resultHeap.offer(new TaskResult(scanTask, result, keyDistributor.getOriginalKey(result.getRow())));
         }
-        return result;
+        return true;
     }
 
     private void checkTask(ScanTask scanTask) {
@@ -170,6 +231,16 @@ public class ParallelResultScanner implements ResultScanner {
         for (ScanTask scanTask : this.scanTasks) {
             scanTask.close();
         }
+        if (logger.isDebugEnabled()) {
+            long totalRowCount = 0;
+            for (int i = 0; i < this.scanTasks.size(); i++) {
+                ScanTask scanTask = this.scanTasks.get(i);
+                totalRowCount += scanTask.getRowCount();
+                logger.debug("ScanTask metrics table:{} task:{} scans:{} rows:{} elapsed:{}ms rows/sec:{}",
+                        tableName, i, scanTask.getScanCount(), scanTask.getRowCount(), scanTask.getElapsedTime(), String.format("%.1f", scanTask.getRowsPerSecond()));
+            }
+            logger.debug("ParallelResultScanner table:{} tasks:{} total rows read:{}", tableName, this.scanTasks.size(), totalRowCount);
+        }
     }
 
     public boolean renewLease() {
@@ -225,4 +296,26 @@ public class ParallelResultScanner implements ResultScanner {
             }
         };
     }
+
+    private static class TaskResult {
+        private static final Comparator<TaskResult> ORIGINAL_KEY_COMPARATOR = (o1, o2) -> Bytes.compareTo(o1.originalKey, o2.originalKey);
+
+        private final ScanTask scanTask;
+        private final Result result;
+        private final byte[] originalKey;
+
+        private TaskResult(ScanTask scanTask, Result result, byte[] originalKey) {
+            this.scanTask = scanTask;
+            this.result = result;
+            this.originalKey = originalKey;
+        }
+
+        public ScanTask getScanTask() {
+            return scanTask;
+        }
+
+        public Result getResult() {
+            return result;
+        }
+    }
 }
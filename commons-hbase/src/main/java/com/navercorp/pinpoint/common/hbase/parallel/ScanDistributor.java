@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import org.apache.hadoop.hbase.client.Scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Distributes salted sub-scans to scan tasks.
+ * Sub-scans are grouped by the region server hosting their start row and dealt out so that
+ * concurrently running tasks hit different region servers, instead of by bucket index only.
+ * <p>
+ * {@code maxTasksPerLocation} only caps the total number of tasks at {@code locations * maxTasksPerLocation}.
+ * It is not a per region server concurrency limit and nothing adapts to latency:
+ * the results of every task are merged in key order, so all tasks have to run at the same time,
+ * and a task held back by a per region server permit would stall the merge.
+ */
+public class ScanDistributor {
+
+    static final String UNKNOWN_LOCATION = "unknown";
+
+    private final Function<Scan, String> locationResolver;
+    private final int maxTasksPerLocation;
+
+    /**
+     * @param locationResolver    resolves the region server of a scan, returns null if unknown
+     * @param maxTasksPerLocation caps the number of tasks at the number of locations times this value, 0 or less for no limit
+     */
+    public ScanDistributor(Function<Scan, String> locationResolver, int maxTasksPerLocation) {
+        this.locationResolver = Objects.requireNonNull(locationResolver, "locationResolver");
+        this.maxTasksPerLocation = maxTasksPerLocation;
+    }
+
+    public List<List<Scan>> distribute(Scan[] splitScans, int numParallelThreads) {
+        Objects.requireNonNull(splitScans, "splitScans");
+        if (numParallelThreads <= 0) {
+            throw new IllegalArgumentException("numParallelThreads must be greater than 0");
+        }
+        if (splitScans.length == 0) {
+            return Collections.emptyList();
+        }
+
+        final Map<String, List<Scan>> locationScans = groupByLocation(splitScans);
+        final int numTasks = getNumTasks(splitScans.length, locationScans.size(), numParallelThreads);
+
+        final List<List<Scan>> distributions = new ArrayList<>(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            distributions.add(new ArrayList<>());
+        }
+        // interleave locations so that neighbouring tasks start on different region servers
+        final List<Scan> interleaved = interleave(locationScans);
+        for (int i = 0; i < interleaved.size(); i++) {
+            distributions.get(i % numTasks).add(interleaved.get(i));
+        }
+        return distributions;
+    }
+
+    int getNumTasks(int numScans, int numLocations, int numParallelThreads) {
+        int numTasks = Math.min(numScans, numParallelThreads);
+        if (maxTasksPerLocation > 0) {
+            final long locationLimit = (long) numLocations * maxTasksPerLocation;
+            numTasks = (int) Math.min(numTasks, locationLimit);
+        }
+        return Math.max(numTasks, 1);
+    }
+
+    private Map<String, List<Scan>> groupByLocation(Scan[] splitScans) {
+        final Map<String, List<Scan>> locationScans = new LinkedHashMap<>();
+        for (Scan scan : splitScans) {
+            String location = locationResolver.apply(scan);
+            if (location == null) {
+                location = UNKNOWN_LOCATION;
+            }
+            locationScans.computeIfAbsent(location, k -> new ArrayList<>()).add(scan);
+        }
+        return locationScans;
+    }
+
+    private List<Scan> interleave(Map<String, List<Scan>> locationScans) {
+        final List<Scan> result = new ArrayList<>();
+        int index = 0;
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (List<Scan> scans : locationScans.values()) {
+                if (index < scans.size()) {
+                    result.add(scans.get(index));
+                    added = true;
+                }
+            }
+            index++;
+        }
+        return result;
+    }
+}
@@ -44,6 +44,10 @@ public class ScanTask implements Runnable {
     private final Scan[] scans;
     private final BlockingQueue<Result> resultQueue;
 
+    private volatile long startTime;
+    private volatile long endTime;
+    private volatile long rowCount;
+
     private volatile Throwable throwable;
     private volatile boolean isQueueClosed = false;
     private volatile boolean isDone = false;
@@ -63,6 +67,7 @@ public class ScanTask implements Runnable {
 
     @Override
     public void run() {
+        this.startTime = System.currentTimeMillis();
         Table table = null;
         try {
             // TODO Avoid ThreadPool Deadlock : tableFactory.getTable(this.tableName, ParallelScannerThreadPool);
@@ -70,6 +75,7 @@ public class ScanTask implements Runnable {
             ResultScanner scanner = createResultScanner(table);
             try {
                 for (Result result : scanner) {
+                    this.rowCount++;
                     this.resultQueue.put(result);
                     if (this.isDone) {
                         break;
@@ -85,6 +91,7 @@ public class ScanTask implements Runnable {
             this.resultQueue.clear();
             this.resultQueue.offer(END_RESULT);
         } finally {
+            this.endTime = System.currentTimeMillis();
             tableFactory.releaseTable(table);
         }
     }
@@ -121,6 +128,34 @@ public class ScanTask implements Runnable {
         this.resultQueue.add(END_RESULT);
     }
 
+    public int getScanCount() {
+        return this.scans.length;
+    }
+
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    public long getElapsedTime() {
+        final long startTime = this.startTime;
+        if (startTime == 0) {
+            return 0;
+        }
+        final long endTime = this.endTime;
+        if (endTime == 0) {
+            return System.currentTimeMillis() - startTime;
+        }
+        return endTime - startTime;
+    }
+
+    public double getRowsPerSecond() {
+        final long elapsedTime = getElapsedTime();
+        if (elapsedTime <= 0) {
+            return 0;
+        }
+        return this.rowCount * 1000.0 / elapsedTime;
+    }
+
     public Throwable getThrowable() {
         return this.throwable;
     }
@@ -117,6 +117,13 @@ public class HbaseTableTest {
         Assertions.assertEquals("ApplicationMapStatisticsSelf_Ver2", mapStatisticsSelfVer2Counter.getTable().getName());
     }
 
+    @Test
+    public void mapStatisticsSelfVer2SketchTest() {
+        HbaseColumnFamily mapStatisticsSelfVer2Sketch = HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_SKETCH;
+        Assertions.assertArrayEquals(Bytes.toBytes("Q"), mapStatisticsSelfVer2Sketch.getName());
+        Assertions.assertEquals("ApplicationMapStatisticsSelf_Ver2", mapStatisticsSelfVer2Sketch.getTable().getName());
+    }
+
     @Test
     public void sqlMetadataVer2SqlTest() {
         HbaseColumnFamily.SqlMetadataV2 sqlMetadataVer2Sql = HbaseColumnFamily.SQL_METADATA_VER2_SQL;
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class ScanDistributorTest {
+
+    private Scan[] newScans(int size) {
+        Scan[] scans = new Scan[size];
+        for (int i = 0; i < size; i++) {
+            scans[i] = new Scan().withStartRow(Bytes.toBytes(i));
+        }
+        return scans;
+    }
+
+    // scans 0, 2, 4.. on server-0, scans 1, 3, 5.. on server-1
+    private final Function<Scan, String> twoServers = scan -> "server-" + (Bytes.toInt(scan.getStartRow()) % 2);
+
+    @Test
+    public void unknownLocation_roundRobin() {
+        ScanDistributor distributor = new ScanDistributor(scan -> null, 0);
+        Scan[] scans = newScans(8);
+
+        List<List<Scan>> distributions = distributor.distribute(scans, 3);
+
+        Assertions.assertEquals(3, distributions.size());
+        Assertions.assertEquals(List.of(scans[0], scans[3], scans[6]), distributions.get(0));
+        Assertions.assertEquals(List.of(scans[1], scans[4], scans[7]), distributions.get(1));
+        Assertions.assertEquals(List.of(scans[2], scans[5]), distributions.get(2));
+    }
+
+    @Test
+    public void lessScansThanThreads() {
+        ScanDistributor distributor = new ScanDistributor(scan -> null, 0);
+
+        List<List<Scan>> distributions = distributor.distribute(newScans(2), 16);
+
+        Assertions.assertEquals(2, distributions.size());
+    }
+
+    @Test
+    public void limitTasksPerRegionServer() {
+        ScanDistributor distributor = new ScanDistributor(twoServers, 1);
+        Scan[] scans = newScans(8);
+
+        List<List<Scan>> distributions = distributor.distribute(scans, 16);
+
+        Assertions.assertEquals(2, distributions.size());
+        for (List<Scan> distribution : distributions) {
+            Assertions.assertEquals(4, distribution.size());
+        }
+    }
+
+    @Test
+    public void interleaveRegionServers() {
+        Function<Scan, String> skewed = scan -> Bytes.toInt(scan.getStartRow()) < 4 ? "server-0" : "server-1";
+        ScanDistributor distributor = new ScanDistributor(skewed, 0);
+        Scan[] scans = newScans(8);
+
+        List<List<Scan>> distributions = distributor.distribute(scans, 2);
+
+        // each task starts on a different region server
+        Assertions.assertEquals(scans[0], distributions.get(0).get(0));
+        Assertions.assertEquals(scans[4], distributions.get(1).get(0));
+    }
+
+    @Test
+    public void emptyScans() {
+        ScanDistributor distributor = new ScanDistributor(scan -> null, 0);
+
+        Assertions.assertTrue(distributor.distribute(new Scan[0], 4).isEmpty());
+    }
+}
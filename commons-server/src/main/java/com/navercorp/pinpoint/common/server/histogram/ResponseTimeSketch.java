@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.histogram;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Mergeable response time quantile sketch with logarithmic buckets (DDSketch style).
+ * <p>
+ * A value is mapped to a bucket whose index is stored as the column slot in hbase and whose count is
+ * incremented like the other response time counters, so sketches of several collectors or agents
+ * are merged by simply adding the bucket counts.
+ * Quantiles have a relative error of at most {@link #RELATIVE_ACCURACY}.
+ * <pre>
+ * index 0 : elapsed &lt;= 0ms
+ * index n : gamma^(n-2) &lt; elapsed &lt;= gamma^(n-1)
+ * </pre>
+ */
+public class ResponseTimeSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    public static final int MAX_BUCKET_INDEX = bucketIndex(Integer.MAX_VALUE);
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] counts = EMPTY;
+    private long totalCount;
+
+    public static int bucketIndex(int elapsed) {
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil(Math.log(elapsed) / LOG_GAMMA) + 1;
+    }
+
+    /**
+     * @return representative value of the bucket, within {@link #RELATIVE_ACCURACY} of every value in it
+     */
+    public static double bucketValue(int bucketIndex) {
+        if (bucketIndex <= 0) {
+            return 0;
+        }
+        return 2 * Math.pow(GAMMA, bucketIndex - 1) / (GAMMA + 1);
+    }
+
+    public void add(int elapsed) {
+        addBucket(bucketIndex(elapsed), 1);
+    }
+
+    public void addBucket(int bucketIndex, long count) {
+        if (bucketIndex < 0 || bucketIndex > MAX_BUCKET_INDEX) {
+            throw new IllegalArgumentException("bucketIndex out of range:" + bucketIndex);
+        }
+        if (count <= 0) {
+            return;
+        }
+        ensureCapacity(bucketIndex + 1);
+        this.counts[bucketIndex] += count;
+        this.totalCount += count;
+    }
+
+    public void merge(ResponseTimeSketch sketch) {
+        Objects.requireNonNull(sketch, "sketch");
+
+        final long[] other = sketch.counts;
+        ensureCapacity(other.length);
+        for (int i = 0; i < other.length; i++) {
+            this.counts[i] += other[i];
+        }
+        this.totalCount += sketch.totalCount;
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.counts.length < length) {
+            this.counts = Arrays.copyOf(this.counts, length);
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * @param quantile 0.0 ~ 1.0
+     * @return approximate response time of the quantile in milliseconds, 0 if empty
+     */
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile out of range:" + quantile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final double rank = quantile * (totalCount - 1);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative > rank) {
+                return Math.round(bucketValue(i));
+            }
+        }
+        return Math.round(bucketValue(counts.length - 1));
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseTimeSketch{" +
+                "totalCount=" + totalCount +
+                ", buckets=" + counts.length +
+                '}';
+    }
+}
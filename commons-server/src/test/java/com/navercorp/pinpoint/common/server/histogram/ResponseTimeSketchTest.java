@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.histogram;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ResponseTimeSketchTest {
+
+    @Test
+    public void bucketIndex() {
+        Assertions.assertEquals(0, ResponseTimeSketch.bucketIndex(0));
+        Assertions.assertEquals(0, ResponseTimeSketch.bucketIndex(-1));
+        Assertions.assertEquals(1, ResponseTimeSketch.bucketIndex(1));
+        Assertions.assertTrue(ResponseTimeSketch.MAX_BUCKET_INDEX < Short.MAX_VALUE);
+    }
+
+    @Test
+    public void bucketValue_relativeAccuracy() {
+        for (int elapsed = 1; elapsed < 100_000; elapsed += 7) {
+            double value = ResponseTimeSketch.bucketValue(ResponseTimeSketch.bucketIndex(elapsed));
+            double error = Math.abs(value - elapsed) / elapsed;
+            Assertions.assertTrue(error <= ResponseTimeSketch.RELATIVE_ACCURACY + 1e-9, "elapsed:" + elapsed + " value:" + value);
+        }
+    }
+
+    @Test
+    public void quantile() {
+        ResponseTimeSketch sketch = new ResponseTimeSketch();
+        for (int elapsed = 1; elapsed <= 1000; elapsed++) {
+            sketch.add(elapsed);
+        }
+        Assertions.assertEquals(1000, sketch.getTotalCount());
+        assertQuantile(500, sketch.getQuantile(0.50));
+        assertQuantile(950, sketch.getQuantile(0.95));
+        assertQuantile(990, sketch.getQuantile(0.99));
+    }
+
+    @Test
+    public void quantile_empty() {
+        ResponseTimeSketch sketch = new ResponseTimeSketch();
+        Assertions.assertTrue(sketch.isEmpty());
+        Assertions.assertEquals(0, sketch.getQuantile(0.99));
+    }
+
+    @Test
+    public void merge() {
+        ResponseTimeSketch fast = new ResponseTimeSketch();
+        ResponseTimeSketch slow = new ResponseTimeSketch();
+        for (int i = 0; i < 90; i++) {
+            fast.add(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.add(5000);
+        }
+
+        ResponseTimeSketch merged = new ResponseTimeSketch();
+        merged.merge(fast);
+        merged.merge(slow);
+
+        Assertions.assertEquals(100, merged.getTotalCount());
+        assertQuantile(10, merged.getQuantile(0.50));
+        assertQuantile(5000, merged.getQuantile(0.95));
+    }
+
+    @Test
+    public void addBucket_outOfRange() {
+        ResponseTimeSketch sketch = new ResponseTimeSketch();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sketch.addBucket(-1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sketch.addBucket(ResponseTimeSketch.MAX_BUCKET_INDEX + 1, 1));
+    }
+
+    private void assertQuantile(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        Assertions.assertTrue(error <= ResponseTimeSketch.RELATIVE_ACCURACY + 0.01, "expected:" + expected + " actual:" + actual);
+    }
+}
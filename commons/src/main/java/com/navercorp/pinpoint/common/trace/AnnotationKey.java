@@ -72,6 +72,7 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.VIEW_IN_
  * <tr><td>49</td><td>http.io</td></tr>
  * <tr><td>50</td><td>arcus.command</td></tr>
  * <tr><td>55</td><td>http.resp.header</td></tr>
+ * <tr><td>56</td><td>http.connect</td></tr>
  *
  * <tr><td>60</td><td><i>RESERVED</i></td></tr>
  * <tr><td>61</td><td><i>RESERVED</i></td></tr>
@@ -130,9 +131,17 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.VIEW_IN_
  * <tr><td>210</td><td>cxf.payload</td></tr>
  * <tr><td>300</td><td>PROXY_HTTP_HEADER</td></tr>
  * <tr><td>310</td><td>REDIS.IO</td></tr>
+ * <tr><td>311</td><td>redis.aggregate</td></tr>
  * <tr><td>320</td><td>hbase.client.params</td></tr>
  * <tr><td>321</td><td>hbase.table.name</td></tr>
  * <tr><td>330</td><td>memory.usage</td></tr>
+ * <tr><td>331</td><td>cpu.time(us)</td></tr>
+ * <tr><td>332</td><td>allocated.bytes</td></tr>
+ * <tr><td>340</td><td>stack.profile</td></tr>
+ * <tr><td>341</td><td>jvm.gc.pause(us)</td></tr>
+ * <tr><td>342</td><td>jvm.monitor.enter(us)</td></tr>
+ * <tr><td>343</td><td>jvm.thread.park(us)</td></tr>
+ * <tr><td>344</td><td>executor.wait(us)</td></tr>
  * <tr><td>923</td><td>marker.message</td></tr>
  * <tr><td>9000</td><td>gson.json.length</td></tr>
  * <tr><td>9001</td><td>jackson.json.length</td></tr>
@@ -211,6 +220,7 @@ public interface AnnotationKey {
     AnnotationKey HTTP_INTERNAL_DISPLAY = AnnotationKeyFactory.of(48, "http.internal.display");
     AnnotationKey HTTP_IO = AnnotationKeyFactory.of(49, "http.io", VIEW_IN_RECORD_SET);
     AnnotationKey HTTP_RESPONSE_HEADER = AnnotationKeyFactory.of(55, "http.resp.header", VIEW_IN_RECORD_SET);
+    AnnotationKey HTTP_CONNECT = AnnotationKeyFactory.of(56, "http.connect", VIEW_IN_RECORD_SET);
     // post method parameter of httpclient
 
     AnnotationKey MESSAGE_QUEUE_URI = AnnotationKeyFactory.of(100, "message.queue.url");
@@ -249,5 +259,13 @@ public interface AnnotationKey {
 
     AnnotationKey PROXY_HTTP_HEADER = AnnotationKeyFactory.of(300, "PROXY_HTTP_HEADER", VIEW_IN_RECORD_SET);
     AnnotationKey REDIS_IO = AnnotationKeyFactory.of(310, "redis.io");
+    AnnotationKey REDIS_AGGREGATE = AnnotationKeyFactory.of(311, "redis.aggregate", VIEW_IN_RECORD_SET);
     AnnotationKey MEMORY_USAGE = AnnotationKeyFactory.of(330, "memory.usage", VIEW_IN_RECORD_SET);
+    AnnotationKey CPU_TIME = AnnotationKeyFactory.of(331, "cpu.time(us)", VIEW_IN_RECORD_SET);
+    AnnotationKey ALLOCATED_BYTES = AnnotationKeyFactory.of(332, "allocated.bytes", VIEW_IN_RECORD_SET);
+    AnnotationKey STACK_PROFILE = AnnotationKeyFactory.of(340, "stack.profile", VIEW_IN_RECORD_SET);
+    AnnotationKey JVM_GC_PAUSE = AnnotationKeyFactory.of(341, "jvm.gc.pause(us)", VIEW_IN_RECORD_SET);
+    AnnotationKey JVM_MONITOR_ENTER = AnnotationKeyFactory.of(342, "jvm.monitor.enter(us)", VIEW_IN_RECORD_SET);
+    AnnotationKey JVM_THREAD_PARK = AnnotationKeyFactory.of(343, "jvm.thread.park(us)", VIEW_IN_RECORD_SET);
+    AnnotationKey EXECUTOR_WAIT = AnnotationKeyFactory.of(344, "executor.wait(us)", VIEW_IN_RECORD_SET);
 }
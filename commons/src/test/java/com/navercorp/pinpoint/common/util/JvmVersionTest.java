@@ -129,8 +129,8 @@ public class JvmVersionTest {
         assertSame(UNSUPPORTED, java_unsupported);
 
         // new version
-        final JvmVersion java20 = JvmVersion.getFromVersion(21.f);
-        assertSame(JAVA_RECENT, java20);
+        final JvmVersion java22 = JvmVersion.getFromVersion(22.f);
+        assertSame(JAVA_RECENT, java22);
     }
 
     @Test
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.grpc;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import com.navercorp.pinpoint.grpc.trace.PAgentStatBatch;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Carries the column compressed agent stat payload in {@link PAgentStatBatch} field {@value #FIELD_NUMBER}.
+ * <p>
+ * The field has to be declared in PAgentStatBatch of the grpc-idl submodule as {@code bytes compressedAgentStat = 1000;}.
+ * This tree does not include the submodule, so the field is read and written through the unknown field set,
+ * which gives the same bytes on the wire as the declared field.
+ */
+public final class CompressedAgentStatPayload {
+
+    public static final int FIELD_NUMBER = 1000;
+
+    private CompressedAgentStatPayload() {
+    }
+
+    public static void set(PAgentStatBatch.Builder builder, byte[] payload) {
+        Objects.requireNonNull(builder, "builder");
+        Objects.requireNonNull(payload, "payload");
+
+        final UnknownFieldSet.Field field = UnknownFieldSet.Field.newBuilder()
+                .addLengthDelimited(ByteString.copyFrom(payload))
+                .build();
+        final UnknownFieldSet fieldSet = UnknownFieldSet.newBuilder()
+                .addField(FIELD_NUMBER, field)
+                .build();
+        builder.mergeUnknownFields(fieldSet);
+    }
+
+    /**
+     * @return null if the batch has no compressed payload
+     */
+    public static byte[] get(PAgentStatBatch agentStatBatch) {
+        Objects.requireNonNull(agentStatBatch, "agentStatBatch");
+
+        final UnknownFieldSet.Field field = agentStatBatch.getUnknownFields().getField(FIELD_NUMBER);
+        final List<ByteString> values = field.getLengthDelimitedList();
+        if (values.isEmpty()) {
+            return null;
+        }
+        return values.get(values.size() - 1).toByteArray();
+    }
+}
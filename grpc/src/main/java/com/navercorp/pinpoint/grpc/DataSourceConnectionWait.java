@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.grpc;
+
+import com.google.protobuf.UnknownFieldSet;
+import com.navercorp.pinpoint.grpc.trace.PDataSource;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Carries the connection borrows of a pool in {@link PDataSource} fields {@value #HISTOGRAM_FIELD_NUMBER} to {@value #MAX_WAIT_TIME_FIELD_NUMBER}.
+ * <p>
+ * The fields have to be declared in PDataSource of the grpc-idl submodule as
+ * {@code repeated int64 connectionWaitHistogram = 1000; int64 connectionTimeoutCount = 1001;
+ * int64 connectionTotalWaitTime = 1002; int64 connectionMaxWaitTime = 1003;}.
+ * Like {@link CompressedAgentStatPayload}, they are written through the unknown field set until then.
+ */
+public final class DataSourceConnectionWait {
+
+    public static final int HISTOGRAM_FIELD_NUMBER = 1000;
+    public static final int TIMEOUT_COUNT_FIELD_NUMBER = 1001;
+    public static final int TOTAL_WAIT_TIME_FIELD_NUMBER = 1002;
+    public static final int MAX_WAIT_TIME_FIELD_NUMBER = 1003;
+
+    private DataSourceConnectionWait() {
+    }
+
+    /**
+     * @param histogram     borrow count of each wait time bucket
+     * @param totalWaitTime sum of the wait times in microseconds
+     * @param maxWaitTime   max wait time in microseconds
+     */
+    public static void set(PDataSource.Builder builder, long[] histogram, long timeoutCount, long totalWaitTime, long maxWaitTime) {
+        Objects.requireNonNull(builder, "builder");
+        Objects.requireNonNull(histogram, "histogram");
+
+        final UnknownFieldSet.Field.Builder histogramField = UnknownFieldSet.Field.newBuilder();
+        for (long count : histogram) {
+            histogramField.addVarint(count);
+        }
+        final UnknownFieldSet fieldSet = UnknownFieldSet.newBuilder()
+                .addField(HISTOGRAM_FIELD_NUMBER, histogramField.build())
+                .addField(TIMEOUT_COUNT_FIELD_NUMBER, varint(timeoutCount))
+                .addField(TOTAL_WAIT_TIME_FIELD_NUMBER, varint(totalWaitTime))
+                .addField(MAX_WAIT_TIME_FIELD_NUMBER, varint(maxWaitTime))
+                .build();
+        builder.mergeUnknownFields(fieldSet);
+    }
+
+    private static UnknownFieldSet.Field varint(long value) {
+        return UnknownFieldSet.Field.newBuilder()
+                .addVarint(value)
+                .build();
+    }
+
+    /**
+     * @return null if the data source has no connection wait
+     */
+    public static long[] getHistogram(PDataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource");
+
+        final List<Long> values = dataSource.getUnknownFields().getField(HISTOGRAM_FIELD_NUMBER).getVarintList();
+        if (values.isEmpty()) {
+            return null;
+        }
+        final long[] histogram = new long[values.size()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = values.get(i);
+        }
+        return histogram;
+    }
+
+    public static long getTimeoutCount(PDataSource dataSource) {
+        return getVarint(dataSource, TIMEOUT_COUNT_FIELD_NUMBER);
+    }
+
+    public static long getTotalWaitTime(PDataSource dataSource) {
+        return getVarint(dataSource, TOTAL_WAIT_TIME_FIELD_NUMBER);
+    }
+
+    public static long getMaxWaitTime(PDataSource dataSource) {
+        return getVarint(dataSource, MAX_WAIT_TIME_FIELD_NUMBER);
+    }
+
+    private static long getVarint(PDataSource dataSource, int fieldNumber) {
+        Objects.requireNonNull(dataSource, "dataSource");
+
+        final List<Long> values = dataSource.getUnknownFields().getField(fieldNumber).getVarintList();
+        if (values.isEmpty()) {
+            return 0;
+        }
+        return values.get(values.size() - 1);
+    }
+}
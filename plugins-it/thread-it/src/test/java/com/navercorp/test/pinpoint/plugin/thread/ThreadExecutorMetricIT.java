@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.test.pinpoint.plugin.thread;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
+import com.navercorp.pinpoint.pluginit.utils.AgentPath;
+import com.navercorp.pinpoint.pluginit.utils.PluginITConstants;
+import com.navercorp.pinpoint.test.plugin.Dependency;
+import com.navercorp.pinpoint.test.plugin.ImportPlugin;
+import com.navercorp.pinpoint.test.plugin.PinpointAgent;
+import com.navercorp.pinpoint.test.plugin.PinpointConfig;
+import com.navercorp.test.pinpoint.plugin.thread.pkg.two.MockRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@PinpointAgent(AgentPath.PATH)
+@Dependency({PluginITConstants.VERSION})
+@ImportPlugin({"com.navercorp.pinpoint:pinpoint-thread-plugin"})
+@PinpointConfig("pinpoint-thread-executor-metric-test.config")
+public class ThreadExecutorMetricIT {
+
+    @Test
+    public void queueSize() throws Exception {
+        // the first matched task retransforms ThreadPoolExecutor
+        new MockRunnable();
+
+        final AtomicInteger threadSequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "executor-it-" + threadSequence.incrementAndGet()));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.submit(new MockRunnable()).get();
+            // taken by getTask(), which adds the executor
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+            Assertions.assertTrue(running.await(10, TimeUnit.SECONDS));
+            executor.execute(new MockRunnable());
+            executor.execute(new MockRunnable());
+
+            ExecutorMetrics executorMetrics = ExecutorMetrics.get("executor-it");
+            Assertions.assertNotNull(executorMetrics);
+            Assertions.assertEquals(2, executorMetrics.getQueueSize());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -25,7 +25,6 @@ import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
 import com.navercorp.pinpoint.bootstrap.context.Header;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
-import com.navercorp.pinpoint.bootstrap.context.SpanId;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
@@ -35,7 +34,12 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.RequestRecorderFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.proxy.ProxyRequestRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.request.CompactTraceHeader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.DefaultTraceHeaderReader;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestAdaptor;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeaderReader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeaderState;
 import com.navercorp.pinpoint.bootstrap.sampler.SamplingFlagUtils;
 import com.navercorp.pinpoint.bootstrap.util.NetworkUtils;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
@@ -59,6 +63,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
     private final ProxyRequestRecorder<HttpRequest> proxyRequestRecorder;
 
     private final RequestAdaptor<HttpRequest> requestAdaptor;
+    private final TraceHeaderReader<HttpRequest> traceHeaderReader;
     private final Filter<String> excludeHttpMethodFilter;
     private final Filter<String> excludeUrlFilter;
 
@@ -71,6 +76,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
         this.excludeUrlFilter = config.getExcludeUrlFilter();
         this.excludeHttpMethodFilter = config.getExcludeHttpMethodFilter();
         this.requestAdaptor = new HttpRequestAdaptor(config);
+        this.traceHeaderReader = new DefaultTraceHeaderReader<>(requestAdaptor);
         this.proxyRequestRecorder = requestRecorderFactory.getProxyRequestRecorder(requestAdaptor);
         traceContext.cacheApi(AKKA_HTTP_SERVER_METHOD_DESCRIPTOR);
     }
@@ -193,19 +199,22 @@ public class DirectivesInterceptor implements AroundInterceptor {
     }
 
     private TraceId populateTraceIdFromRequest(final HttpRequest request) {
-        final String transactionId = requestAdaptor.getHeader(request, Header.HTTP_TRACE_ID.toString());
-        if (transactionId != null) {
-            final long parentSpanID = NumberUtils.parseLong(requestAdaptor.getHeader(request, Header.HTTP_PARENT_SPAN_ID.toString()), SpanId.NULL);
-            final long spanID = NumberUtils.parseLong(requestAdaptor.getHeader(request, Header.HTTP_SPAN_ID.toString()), SpanId.NULL);
-            final short flags = NumberUtils.parseShort(requestAdaptor.getHeader(request, Header.HTTP_FLAGS.toString()), (short) 0);
-            final TraceId id = traceContext.createTraceId(transactionId, parentSpanID, spanID, flags);
-            if (isDebug) {
-                logger.debug("TraceID exist. continue trace. {}", id);
-            }
-            return id;
-        } else {
+        final TraceHeader traceHeader = traceHeaderReader.read(request);
+        if (traceHeader.getState() != TraceHeaderState.CONTINUE) {
             return null;
         }
+        final TraceId id;
+        if (traceHeader instanceof CompactTraceHeader) {
+            final CompactTraceHeader compactTraceHeader = (CompactTraceHeader) traceHeader;
+            id = traceContext.createTraceId(compactTraceHeader.getAgentId(), compactTraceHeader.getAgentStartTime(), compactTraceHeader.getTransactionSequence(),
+                    compactTraceHeader.getParentSpanId(), compactTraceHeader.getSpanId(), compactTraceHeader.getFlags());
+        } else {
+            id = traceContext.createTraceId(traceHeader.getTransactionId(), traceHeader.getParentSpanId(), traceHeader.getSpanId(), traceHeader.getFlags());
+        }
+        if (isDebug) {
+            logger.debug("TraceID exist. continue trace. {}", id);
+        }
+        return id;
     }
 
     private void recordRootSpan(final SpanRecorder recorder, final HttpRequest request) {
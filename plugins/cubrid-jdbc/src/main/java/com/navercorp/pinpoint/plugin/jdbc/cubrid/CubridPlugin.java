@@ -24,7 +24,7 @@ import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplate;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplateAware;
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.CallableStatementRegisterOutParameterInterceptor;
@@ -177,7 +177,7 @@ public class CubridPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             int maxBindValueSize = config.getMaxSqlBindValueSize();
 
@@ -213,7 +213,7 @@ public class CubridPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             final Class<? extends Interceptor> callableStatementInterceptor = CallableStatementRegisterOutParameterInterceptor.class;
             InstrumentUtils.findMethod(target, "registerOutParameter", "int", "int")
@@ -27,6 +27,7 @@ public final class CommonsDbcpConstants {
     }
 
     public static final String SCOPE = "DBCP_SCOPE";
+    public static final String BORROW_SCOPE = "DBCP_BORROW_SCOPE";
 
     public static final ServiceType SERVICE_TYPE = ServiceTypeFactory.of(6050, "DBCP");
 
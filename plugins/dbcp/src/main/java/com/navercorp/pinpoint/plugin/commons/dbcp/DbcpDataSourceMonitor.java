@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.plugin.commons.dbcp;
 
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitMonitor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitor;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import org.apache.commons.dbcp.BasicDataSource;
@@ -23,11 +26,13 @@ import org.apache.commons.dbcp.BasicDataSource;
 /**
  * @author Taejin Koo
  */
-public class DbcpDataSourceMonitor implements DataSourceMonitor {
+public class DbcpDataSourceMonitor implements DataSourceMonitor, ConnectionWaitMonitor {
 
     private final BasicDataSource dataSource;
     private volatile boolean closed = false;
 
+    private final ConnectionWaitRecorder connectionWaitRecorder = new ConnectionWaitRecorder();
+
     public DbcpDataSourceMonitor(BasicDataSource dataSource) {
         this.dataSource = dataSource;
     }
@@ -52,6 +57,15 @@ public class DbcpDataSourceMonitor implements DataSourceMonitor {
         return dataSource.getMaxActive();
     }
 
+    public ConnectionWaitRecorder getConnectionWaitRecorder() {
+        return connectionWaitRecorder;
+    }
+
+    @Override
+    public ConnectionWaitSnapshot getConnectionWaitSnapshot() {
+        return connectionWaitRecorder.snapshot();
+    }
+
     @Override
     public boolean isDisabled() {
         return closed;
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.plugin.commons.dbcp.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.plugin.commons.dbcp.DataSourceMonitorAccessor;
 import com.navercorp.pinpoint.plugin.commons.dbcp.DbcpDataSourceMonitor;
@@ -41,6 +42,9 @@ public class DataSourceCloseInterceptor implements AroundInterceptor {
 
             if (dataSourceMonitor != null) {
                 dataSourceMonitorAccessor._$PINPOINT$_setDataSourceMonitor(null);
+                if (target instanceof ConnectionWaitRecorderAccessor) {
+                    ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_setConnectionWaitRecorder(null);
+                }
                 dataSourceMonitor.close();
                 dataSourceMonitorRegistry.unregister(dataSourceMonitor);
             }
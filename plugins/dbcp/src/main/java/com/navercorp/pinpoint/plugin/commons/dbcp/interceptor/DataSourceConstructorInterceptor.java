@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.plugin.commons.dbcp.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.bootstrap.util.InterceptorUtils;
 import com.navercorp.pinpoint.plugin.commons.dbcp.DataSourceMonitorAccessor;
@@ -50,6 +51,9 @@ public class DataSourceConstructorInterceptor implements AroundInterceptor {
             dataSourceMonitorRegistry.register(dataSourceMonitor);
 
             ((DataSourceMonitorAccessor) basicDataSource)._$PINPOINT$_setDataSourceMonitor(dataSourceMonitor);
+            if (basicDataSource instanceof ConnectionWaitRecorderAccessor) {
+                ((ConnectionWaitRecorderAccessor) basicDataSource)._$PINPOINT$_setConnectionWaitRecorder(dataSourceMonitor.getConnectionWaitRecorder());
+            }
         }
     }
 
@@ -27,6 +27,7 @@ public final class CommonsDbcp2Constants {
     }
 
     public static final String SCOPE = "DBCP2_SCOPE";
+    public static final String BORROW_SCOPE = "DBCP2_BORROW_SCOPE";
 
     public static final ServiceType SERVICE_TYPE = ServiceTypeProvider.getByName("DBCP2");
 
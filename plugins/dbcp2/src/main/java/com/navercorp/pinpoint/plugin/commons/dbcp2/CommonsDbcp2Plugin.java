@@ -23,10 +23,13 @@ import com.navercorp.pinpoint.bootstrap.instrument.Instrumentor;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplate;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplateAware;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DataSourceBorrowInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.util.InstrumentUtils;
 import com.navercorp.pinpoint.plugin.commons.dbcp2.interceptor.DataSourceCloseConnectionInterceptor;
 import com.navercorp.pinpoint.plugin.commons.dbcp2.interceptor.DataSourceCloseInterceptor;
@@ -82,12 +85,16 @@ public class CommonsDbcp2Plugin implements ProfilerPlugin, TransformTemplateAwar
 
     public static class BasicDataSourceTransform implements TransformCallback {
 
+        // the pool timeout is wrapped in a SQLException
+        private static final String[] BORROW_TIMEOUT_EXCEPTIONS = {"java.util.NoSuchElementException"};
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
 
             if (isAvailableDataSourceMonitor(target)) {
                 target.addField(DataSourceMonitorAccessor.class);
+                target.addField(ConnectionWaitRecorderAccessor.class);
 
                 // closeMethod
                 InstrumentMethod closeMethod = InstrumentUtils.findMethod(target, "close");
@@ -96,6 +103,13 @@ public class CommonsDbcp2Plugin implements ProfilerPlugin, TransformTemplateAwar
                 // constructor
                 InstrumentMethod defaultConstructor = InstrumentUtils.findConstructor(target);
                 defaultConstructor.addScopedInterceptor(DataSourceConstructorInterceptor.class, CommonsDbcp2Constants.SCOPE);
+
+                // borrow methods
+                InstrumentMethod borrowMethod1 = InstrumentUtils.findMethod(target, "getConnection");
+                borrowMethod1.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, CommonsDbcp2Constants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
+
+                InstrumentMethod borrowMethod2 = InstrumentUtils.findMethod(target, "getConnection", "java.lang.String", "java.lang.String");
+                borrowMethod2.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, CommonsDbcp2Constants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             // getConnectionMethod
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.plugin.commons.dbcp2.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.plugin.commons.dbcp2.DataSourceMonitorAccessor;
 import com.navercorp.pinpoint.plugin.commons.dbcp2.Dbcp2DataSourceMonitor;
@@ -40,6 +41,9 @@ public class DataSourceCloseInterceptor implements AroundInterceptor {
             final Dbcp2DataSourceMonitor dataSourceMonitor = dataSourceMonitorAccessor._$PINPOINT$_getDataSourceMonitor();
             if (dataSourceMonitor != null) {
                 dataSourceMonitorAccessor._$PINPOINT$_setDataSourceMonitor(null);
+                if (target instanceof ConnectionWaitRecorderAccessor) {
+                    ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_setConnectionWaitRecorder(null);
+                }
                 dataSourceMonitor.close();
                 dataSourceMonitorRegistry.unregister(dataSourceMonitor);
             }
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.plugin.commons.dbcp2.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.bootstrap.util.InterceptorUtils;
 import com.navercorp.pinpoint.plugin.commons.dbcp2.DataSourceMonitorAccessor;
@@ -49,6 +50,9 @@ public class DataSourceConstructorInterceptor implements AroundInterceptor {
             final Dbcp2DataSourceMonitor dbcpDataSourceMonitor = new Dbcp2DataSourceMonitor(basicDataSource);
             this.dataSourceMonitorRegistry.register(dbcpDataSourceMonitor);
             ((DataSourceMonitorAccessor) basicDataSource)._$PINPOINT$_setDataSourceMonitor(dbcpDataSourceMonitor);
+            if (basicDataSource instanceof ConnectionWaitRecorderAccessor) {
+                ((ConnectionWaitRecorderAccessor) basicDataSource)._$PINPOINT$_setConnectionWaitRecorder(dbcpDataSourceMonitor.getConnectionWaitRecorder());
+            }
         }
     }
 
@@ -34,6 +34,11 @@ public final class DruidConstants {
      */
     public static final String SCOPE = "DRUID_SCOPE";
 
+    /**
+     * The constant BORROW_SCOPE.
+     */
+    public static final String BORROW_SCOPE = "DRUID_BORROW_SCOPE";
+
     /**
      * The constant SERVICE_TYPE.
      */
@@ -17,6 +17,9 @@ package com.navercorp.pinpoint.plugin.druid;
 import com.alibaba.druid.pool.DruidDataSource;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitMonitor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitor;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
@@ -27,7 +30,7 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
  * @version 1.8.1
  * @since 2017/07/21
  */
-public class DruidDataSourceMonitor implements DataSourceMonitor {
+public class DruidDataSourceMonitor implements DataSourceMonitor, ConnectionWaitMonitor {
 
     private final PLogger logger = PLoggerFactory.getLogger(getClass());
 
@@ -35,6 +38,8 @@ public class DruidDataSourceMonitor implements DataSourceMonitor {
 
     private final DruidDataSource dataSource;
 
+    private final ConnectionWaitRecorder connectionWaitRecorder = new ConnectionWaitRecorder();
+
     /**
      * Instantiates a new Druid data source monitor.
      *
@@ -79,6 +84,15 @@ public class DruidDataSourceMonitor implements DataSourceMonitor {
         return -1;
     }
 
+    public ConnectionWaitRecorder getConnectionWaitRecorder() {
+        return connectionWaitRecorder;
+    }
+
+    @Override
+    public ConnectionWaitSnapshot getConnectionWaitSnapshot() {
+        return connectionWaitRecorder.snapshot();
+    }
+
     @Override
     public boolean isDisabled() {
         return closed;
@@ -21,10 +21,13 @@ import com.navercorp.pinpoint.bootstrap.instrument.Instrumentor;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplate;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformTemplateAware;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DataSourceBorrowInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.util.InstrumentUtils;
 import com.navercorp.pinpoint.plugin.druid.interceptor.DataSourceCloseConnectionInterceptor;
 import com.navercorp.pinpoint.plugin.druid.interceptor.DataSourceCloseInterceptor;
@@ -98,6 +101,8 @@ public class DruidPlugin implements ProfilerPlugin, TransformTemplateAware {
 
     public static class DruidDataSourceTransform implements TransformCallback {
 
+        private static final String[] BORROW_TIMEOUT_EXCEPTIONS = {"com.alibaba.druid.pool.GetConnectionTimeoutException"};
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
 
@@ -105,6 +110,7 @@ public class DruidPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             if (isAvailableDataSourceMonitor(target)) {
                 target.addField(DataSourceMonitorAccessor.class);
+                target.addField(ConnectionWaitRecorderAccessor.class);
 
                 // closeMethod
                 InstrumentMethod closeMethod = InstrumentUtils.findMethod(target, "close");
@@ -113,6 +119,16 @@ public class DruidPlugin implements ProfilerPlugin, TransformTemplateAware {
                 // constructor
                 InstrumentMethod defaultConstructor = InstrumentUtils.findConstructor(target);
                 defaultConstructor.addScopedInterceptor(DataSourceConstructorInterceptor.class, DruidConstants.SCOPE);
+
+                // borrow methods
+                InstrumentMethod borrowMethod = target.getDeclaredMethod("getConnection");
+                if (borrowMethod != null) {
+                    borrowMethod.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, DruidConstants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
+                }
+                borrowMethod = target.getDeclaredMethod("getConnection", "long");
+                if (borrowMethod != null) {
+                    borrowMethod.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, DruidConstants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
+                }
             }
 
             // getConnectionMethod
@@ -15,6 +15,7 @@
 package com.navercorp.pinpoint.plugin.druid.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.plugin.druid.DataSourceMonitorAccessor;
 import com.navercorp.pinpoint.plugin.druid.DruidDataSourceMonitor;
@@ -50,6 +51,9 @@ public class DataSourceCloseInterceptor implements AroundInterceptor {
 
             if (dataSourceMonitor != null) {
                 dataSourceMonitorAccessor._$PINPOINT$_setDataSourceMonitor(null);
+                if (target instanceof ConnectionWaitRecorderAccessor) {
+                    ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_setConnectionWaitRecorder(null);
+                }
                 dataSourceMonitor.close();
                 dataSourceMonitorRegistry.unregister(dataSourceMonitor);
             }
@@ -15,6 +15,7 @@
 package com.navercorp.pinpoint.plugin.druid.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.bootstrap.util.InterceptorUtils;
 import com.navercorp.pinpoint.plugin.druid.DataSourceMonitorAccessor;
@@ -55,6 +56,9 @@ public class DataSourceConstructorInterceptor implements AroundInterceptor {
             final DruidDataSourceMonitor dbcpDataSourceMonitor = new DruidDataSourceMonitor(target);
             this.dataSourceMonitorRegistry.register(dbcpDataSourceMonitor);
             ((DataSourceMonitorAccessor) target)._$PINPOINT$_setDataSourceMonitor(dbcpDataSourceMonitor);
+            if (target instanceof ConnectionWaitRecorderAccessor) {
+                ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_setConnectionWaitRecorder(dbcpDataSourceMonitor.getConnectionWaitRecorder());
+            }
         }
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ public final class HikariCpConstants {
 
     public static final String SCOPE = "HIKARICP_SCOPE";
     public static final String SCOPE_DEPRECATED = "DEPRECATED_HIKARICP_SCOPE";
+    public static final String BORROW_SCOPE = "HIKARICP_BORROW_SCOPE";
 
     public static final ServiceType SERVICE_TYPE = ServiceTypeFactory.of(6060, "HIKARICP");
 
@@ -18,6 +18,9 @@ package com.navercorp.pinpoint.plugin.hikaricp;
 
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitMonitor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitor;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
@@ -26,7 +29,7 @@ import java.lang.reflect.Method;
 /**
  * @author Taejin Koo
  */
-public class HikariCpDataSourceMonitor implements DataSourceMonitor {
+public class HikariCpDataSourceMonitor implements DataSourceMonitor, ConnectionWaitMonitor {
 
     private final PLogger logger = PLoggerFactory.getLogger(getClass());
 
@@ -36,6 +39,7 @@ public class HikariCpDataSourceMonitor implements DataSourceMonitor {
     private final Method getActiveConnectionsMethod;
     private final Method getTotalConnectionsMethod;
 
+    private final ConnectionWaitRecorder connectionWaitRecorder = new ConnectionWaitRecorder();
 
     public HikariCpDataSourceMonitor(Object object, String jdbcUrl) {
         this.object = object;
@@ -112,6 +116,15 @@ public class HikariCpDataSourceMonitor implements DataSourceMonitor {
         return -1;
     }
 
+    public ConnectionWaitRecorder getConnectionWaitRecorder() {
+        return connectionWaitRecorder;
+    }
+
+    @Override
+    public ConnectionWaitSnapshot getConnectionWaitSnapshot() {
+        return connectionWaitRecorder.snapshot();
+    }
+
     @Override
     public boolean isDisabled() {
         return closed;
@@ -29,6 +29,8 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DataSourceBorrowInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.util.InstrumentUtils;
 import com.navercorp.pinpoint.plugin.hikaricp.interceptor.DataSourceCloseConnectionInterceptor;
 import com.navercorp.pinpoint.plugin.hikaricp.interceptor.DataSourceCloseInterceptor;
@@ -135,6 +137,9 @@ public class HikariCpPlugin implements ProfilerPlugin, TransformTemplateAware {
 
     public static class HikariPoolTransformCallback implements TransformCallback {
 
+        // thrown by HikariPool and BaseHikariPool (~ 2.3)
+        private static final String[] BORROW_TIMEOUT_EXCEPTIONS = {"java.sql.SQLTransientConnectionException", "java.sql.SQLTimeoutException"};
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
@@ -172,6 +177,7 @@ public class HikariCpPlugin implements ProfilerPlugin, TransformTemplateAware {
 
         private void addDataSourceMonitorInterceptor(InstrumentClass target, InstrumentMethod constructor) throws InstrumentException {
             target.addField(DataSourceMonitorAccessor.class);
+            target.addField(ConnectionWaitRecorderAccessor.class);
 
             // constructor
             constructor.addScopedInterceptor(DataSourceConstructorInterceptor.class, HikariCpConstants.SCOPE, ExecutionPolicy.INTERNAL);
@@ -179,6 +185,16 @@ public class HikariCpPlugin implements ProfilerPlugin, TransformTemplateAware {
             // shutdown method
             InstrumentMethod shutdownMethod = InstrumentUtils.findMethod(target, "shutdown");
             shutdownMethod.addScopedInterceptor(DataSourceCloseInterceptor.class, HikariCpConstants.SCOPE, ExecutionPolicy.ALWAYS);
+
+            // borrow methods
+            InstrumentMethod getConnectionMethod = target.getDeclaredMethod("getConnection");
+            if (getConnectionMethod != null) {
+                getConnectionMethod.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, HikariCpConstants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
+            }
+            getConnectionMethod = target.getDeclaredMethod("getConnection", "long");
+            if (getConnectionMethod != null) {
+                getConnectionMethod.addScopedInterceptor(DataSourceBorrowInterceptor.class, new Object[]{BORROW_TIMEOUT_EXCEPTIONS}, HikariCpConstants.BORROW_SCOPE, ExecutionPolicy.BOUNDARY);
+            }
         }
 
     }
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitRecorderAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.bootstrap.util.InterceptorUtils;
 import com.navercorp.pinpoint.common.util.ArrayUtils;
@@ -73,6 +74,10 @@ public class DataSourceConstructorInterceptor extends SpanEventSimpleAroundInter
                         ((DataSourceMonitorAccessor) target)._$PINPOINT$_setDataSourceMonitor(dataSourceMonitor);
                     }
 
+                    if (target instanceof ConnectionWaitRecorderAccessor) {
+                        ((ConnectionWaitRecorderAccessor) target)._$PINPOINT$_setConnectionWaitRecorder(dataSourceMonitor.getConnectionWaitRecorder());
+                    }
+
                     if (isDebug) {
                         logger.debug("create HikariCpDataSourceMonitor success. jdbcUrl:{}", jdbcUrl);
                     }
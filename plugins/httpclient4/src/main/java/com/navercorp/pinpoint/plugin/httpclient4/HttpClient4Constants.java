@@ -38,4 +38,7 @@ public final class HttpClient4Constants {
     public static final String FIELD_RESULT_FUTURE = "resultFuture";
     
     public static final String HTTP_CLIENT4_SCOPE = "HttpClient4Scope"; 
+
+    // custom/httpclient4/connectionAcquireCount, custom/httpclient4/connectionConnectCount
+    public static final String CONNECTION_METRIC_CLIENT_NAME = "httpclient4";
 }
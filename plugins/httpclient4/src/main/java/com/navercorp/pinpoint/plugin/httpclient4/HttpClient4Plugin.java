@@ -38,8 +38,12 @@ import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpAsyncClientExec
 import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpClientConnectionManagerConnectMethodInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpRequestExecutorDoSendRequestAndDoReceiveResponseMethodInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpRequestExecutorExecuteMethodInterceptor;
+import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpRouteConnectionAcquireInterceptor;
+import com.navercorp.pinpoint.plugin.httpclient4.interceptor.HttpRouteConnectionConnectInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient4.interceptor.ManagedClientConnectionOpenMethodInterceptor;
 
+import static com.navercorp.pinpoint.common.util.VarArgs.va;
+
 /**
  * @author netspider
  * @author emeroad
@@ -237,6 +241,18 @@ public class HttpClient4Plugin implements ProfilerPlugin, TransformTemplateAware
                 connect.addInterceptor(HttpClientConnectionManagerConnectMethodInterceptor.class);
             }
 
+            final HttpClient4PluginConfig config = new HttpClient4PluginConfig(instrumentor.getProfilerConfig());
+            if (config.isConnectionMetric()) {
+                // the connection handed to the request, pooled or new
+                InstrumentMethod getConnection = target.getDeclaredMethod("getConnection", "org.apache.http.conn.routing.HttpRoute", "java.lang.Object");
+                if (getConnection != null) {
+                    getConnection.addInterceptor(HttpRouteConnectionAcquireInterceptor.class, va(0));
+                }
+                if (connect != null) {
+                    connect.addInterceptor(HttpRouteConnectionConnectInterceptor.class, va(1));
+                }
+            }
+
             return target.toBytecode();
         }
 
@@ -257,6 +273,18 @@ public class HttpClient4Plugin implements ProfilerPlugin, TransformTemplateAware
                 connect.addInterceptor(HttpClientConnectionManagerConnectMethodInterceptor.class);
             }
 
+            final HttpClient4PluginConfig config = new HttpClient4PluginConfig(instrumentor.getProfilerConfig());
+            if (config.isConnectionMetric()) {
+                // the connection requested for the route, pooled or new. leaseConnection does not know the route
+                InstrumentMethod requestConnection = target.getDeclaredMethod("requestConnection", "org.apache.http.conn.routing.HttpRoute", "java.lang.Object");
+                if (requestConnection != null) {
+                    requestConnection.addInterceptor(HttpRouteConnectionAcquireInterceptor.class, va(0));
+                }
+                if (connect != null) {
+                    connect.addInterceptor(HttpRouteConnectionConnectInterceptor.class, va(1));
+                }
+            }
+
             return target.toBytecode();
         }
 
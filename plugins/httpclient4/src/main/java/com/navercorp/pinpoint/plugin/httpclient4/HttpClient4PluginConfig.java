@@ -28,6 +28,7 @@ public class HttpClient4PluginConfig {
     private boolean param = true;
     private boolean statusCode = true;
     private boolean io;
+    private boolean connectionMetric;
     private HttpDumpConfig httpDumpConfig;
 
     public HttpClient4PluginConfig(ProfilerConfig src) {
@@ -46,6 +47,7 @@ public class HttpClient4PluginConfig {
 
         this.statusCode = src.readBoolean("profiler.apache.httpclient4.entity.statuscode", true);
         this.io = src.readBoolean("profiler.apache.httpclient4.io", true);
+        this.connectionMetric = src.readBoolean("profiler.apache.httpclient4.connection.metric", false);
     }
 
     public boolean isEnable() {
@@ -64,6 +66,10 @@ public class HttpClient4PluginConfig {
         return io;
     }
 
+    public boolean isConnectionMetric() {
+        return connectionMetric;
+    }
+
     public HttpDumpConfig getHttpDumpConfig() {
         return httpDumpConfig;
     }
@@ -75,6 +81,7 @@ public class HttpClient4PluginConfig {
                 ", param=" + param +
                 ", statusCode=" + statusCode +
                 ", io=" + io +
+                ", connectionMetric=" + connectionMetric +
                 ", httpDumpConfig=" + httpDumpConfig +
                 '}';
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.httpclient4.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.http.interceptor.ConnectionConnectInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
+import com.navercorp.pinpoint.plugin.httpclient4.EndPointUtils;
+import com.navercorp.pinpoint.plugin.httpclient4.HttpClient4Constants;
+import org.apache.http.conn.routing.HttpRoute;
+
+/**
+ * Counts the new connections, per target host of the {@link HttpRoute} argument.
+ */
+public class HttpRouteConnectionConnectInterceptor extends ConnectionConnectInterceptor {
+
+    private final int routeIndex;
+
+    public HttpRouteConnectionConnectInterceptor(CustomMetricRegistry customMetricRegistry, int routeIndex) {
+        super(customMetricRegistry, HttpClient4Constants.CONNECTION_METRIC_CLIENT_NAME);
+        this.routeIndex = routeIndex;
+    }
+
+    @Override
+    protected String getHost(Object target, Object[] args) {
+        final HttpRoute route = ArrayArgumentUtils.getArgument(args, routeIndex, HttpRoute.class);
+        if (route == null) {
+            return null;
+        }
+        return EndPointUtils.getHostAndPort(route);
+    }
+}
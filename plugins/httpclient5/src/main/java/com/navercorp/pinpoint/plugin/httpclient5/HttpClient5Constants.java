@@ -23,4 +23,7 @@ public class HttpClient5Constants {
 
     public static final ServiceType HTTP_CLIENT5 = ServiceTypeProvider.getByName("HTTP_CLIENT_5");
     public static final ServiceType HTTP_CLIENT5_INTERNAL = ServiceTypeProvider.getByName("HTTP_CLIENT_5_INTERNAL");
+
+    // custom/httpclient5/connectionAcquireCount, custom/httpclient5/connectionConnectCount
+    public static final String CONNECTION_METRIC_CLIENT_NAME = "httpclient5";
 }
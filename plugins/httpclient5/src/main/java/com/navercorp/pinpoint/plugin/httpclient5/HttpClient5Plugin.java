@@ -39,6 +39,8 @@ import com.navercorp.pinpoint.plugin.httpclient5.interceptor.DefaultHttpClientCo
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.FutureCancelInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.FutureCompletedInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.FutureFailedInterceptor;
+import com.navercorp.pinpoint.plugin.httpclient5.interceptor.HttpHostConnectionConnectInterceptor;
+import com.navercorp.pinpoint.plugin.httpclient5.interceptor.HttpRouteConnectionAcquireInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.ClientConnectionManagerConnectInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.InternalHttpClientDoExecuteInterceptor;
 import com.navercorp.pinpoint.plugin.httpclient5.interceptor.MinimalHttpAsyncClientExecuteInterceptor;
@@ -67,6 +69,9 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
         transformTemplate.transform("org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager", ClientConnectionManagerTransform.class);
         transformTemplate.transform("org.apache.hc.client5.http.impl.io.BasicHttpClientConnectionManager", ClientConnectionManagerTransform.class);
         transformTemplate.transform("org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator", DefaultHttpClientConnectionOperatorTransform.class);
+        if (config.isConnectionMetric()) {
+            transformTemplate.transform("org.apache.hc.client5.http.impl.classic.InternalExecRuntime", ExecRuntimeTransform.class);
+        }
 
         // Async
         // request
@@ -84,6 +89,9 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
         // connect
         transformTemplate.transform("org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager", AsyncClientConnectionManagerTransform.class);
         transformTemplate.transform("org.apache.hc.client5.http.impl.nio.DefaultAsyncClientConnectionOperator", DefaultAsyncClientConnectionOperatorTransform.class);
+        if (config.isConnectionMetric()) {
+            transformTemplate.transform("org.apache.hc.client5.http.impl.async.InternalHttpAsyncExecRuntime", AsyncExecRuntimeTransform.class);
+        }
 
         // Future
         transformTemplate.transform("org.apache.hc.core5.concurrent.ComplexFuture", FutureTransform.class);
@@ -125,6 +133,29 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
         }
     }
 
+    public static class ExecRuntimeTransform implements TransformCallback {
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
+            // lease from the connection manager, pooled or new
+            final InstrumentMethod acquireEndpointMethod = target.getDeclaredMethod("acquireEndpoint", "java.lang.String", "org.apache.hc.client5.http.HttpRoute", "java.lang.Object", "org.apache.hc.client5.http.protocol.HttpClientContext");
+            if (acquireEndpointMethod != null) {
+                acquireEndpointMethod.addInterceptor(HttpRouteConnectionAcquireInterceptor.class);
+            }
+
+            return target.toBytecode();
+        }
+    }
+
+    // the socket connect of a new connection, the connection managers do not know the host
+    private static void addConnectionConnectInterceptor(Instrumentor instrumentor, InstrumentMethod connectMethod) throws InstrumentException {
+        final HttpClient5PluginConfig config = new HttpClient5PluginConfig(instrumentor.getProfilerConfig());
+        if (config.isConnectionMetric()) {
+            connectMethod.addInterceptor(HttpHostConnectionConnectInterceptor.class);
+        }
+    }
+
     public static class DefaultHttpClientConnectionOperatorTransform implements TransformCallback {
 
         @Override
@@ -133,6 +164,7 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
             final InstrumentMethod connectMethod = target.getDeclaredMethod("connect", "org.apache.hc.client5.http.io.ManagedHttpClientConnection", "org.apache.hc.core5.http.HttpHost", "java.net.InetSocketAddress", "org.apache.hc.core5.util.TimeValue", "org.apache.hc.core5.http.io.SocketConfig", "org.apache.hc.core5.http.protocol.HttpContext");
             if (connectMethod != null) {
                 connectMethod.addInterceptor(DefaultHttpClientConnectionOperatorConnectInterceptor.class);
+                addConnectionConnectInterceptor(instrumentor, connectMethod);
             }
 
             return target.toBytecode();
@@ -229,6 +261,21 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
         }
     }
 
+    public static class AsyncExecRuntimeTransform implements TransformCallback {
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
+            // lease requested from the connection manager, the endpoint is handed to the callback later
+            final InstrumentMethod acquireEndpointMethod = target.getDeclaredMethod("acquireEndpoint", "java.lang.String", "org.apache.hc.client5.http.HttpRoute", "java.lang.Object", "org.apache.hc.client5.http.protocol.HttpClientContext", "org.apache.hc.core5.concurrent.FutureCallback");
+            if (acquireEndpointMethod != null) {
+                acquireEndpointMethod.addInterceptor(HttpRouteConnectionAcquireInterceptor.class);
+            }
+
+            return target.toBytecode();
+        }
+    }
+
     public static class DefaultAsyncClientConnectionOperatorTransform implements TransformCallback {
 
         @Override
@@ -237,6 +284,7 @@ public class HttpClient5Plugin implements ProfilerPlugin, MatchableTransformTemp
             final InstrumentMethod connectMethod = target.getDeclaredMethod("connect", "org.apache.hc.core5.reactor.ConnectionInitiator", "org.apache.hc.core5.http.HttpHost", "java.net.SocketAddress", "org.apache.hc.core5.util.Timeout", "java.lang.Object", "org.apache.hc.core5.concurrent.FutureCallback");
             if (connectMethod != null) {
                 connectMethod.addInterceptor(DefaultAsyncClientConnectionOperatorConnectInterceptor.class);
+                addConnectionConnectInterceptor(instrumentor, connectMethod);
             }
 
             return target.toBytecode();
@@ -25,6 +25,7 @@ public class HttpClient5PluginConfig {
     private boolean param = true;
     private boolean statusCode = true;
     private boolean io;
+    private boolean connectionMetric;
     private HttpDumpConfig httpDumpConfig;
 
     public HttpClient5PluginConfig(ProfilerConfig src) {
@@ -42,6 +43,7 @@ public class HttpClient5PluginConfig {
         this.httpDumpConfig = HttpDumpConfig.get(cookie, cookieDumpType, cookieSamplingRate, cookieDumpSize, entity, entityDumpType, entitySamplingRate, entityDumpSize);
 
         this.statusCode = src.readBoolean("profiler.apache.httpclient5.entity.statuscode", true);
+        this.connectionMetric = src.readBoolean("profiler.apache.httpclient5.connection.metric", false);
     }
 
     public boolean isEnable() {
@@ -60,6 +62,10 @@ public class HttpClient5PluginConfig {
         return io;
     }
 
+    public boolean isConnectionMetric() {
+        return connectionMetric;
+    }
+
     public HttpDumpConfig getHttpDumpConfig() {
         return httpDumpConfig;
     }
@@ -71,6 +77,7 @@ public class HttpClient5PluginConfig {
                 ", param=" + param +
                 ", statusCode=" + statusCode +
                 ", io=" + io +
+                ", connectionMetric=" + connectionMetric +
                 ", httpDumpConfig=" + httpDumpConfig +
                 '}';
     }
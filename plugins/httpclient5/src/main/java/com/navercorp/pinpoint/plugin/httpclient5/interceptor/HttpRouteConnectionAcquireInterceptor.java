@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.httpclient5.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.http.interceptor.ConnectionAcquireInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.common.plugin.util.HostAndPort;
+import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
+import com.navercorp.pinpoint.plugin.httpclient5.HttpClient5Constants;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+
+/**
+ * Counts the endpoints leased for requests, per first hop of the {@link HttpRoute} argument.
+ */
+public class HttpRouteConnectionAcquireInterceptor extends ConnectionAcquireInterceptor {
+
+    public HttpRouteConnectionAcquireInterceptor(CustomMetricRegistry customMetricRegistry) {
+        super(customMetricRegistry, HttpClient5Constants.CONNECTION_METRIC_CLIENT_NAME);
+    }
+
+    @Override
+    protected String getHost(Object target, Object[] args) {
+        final HttpRoute route = ArrayArgumentUtils.getArgument(args, 1, HttpRoute.class);
+        if (route == null) {
+            return null;
+        }
+        // the connection goes to the proxy, if any
+        final HttpHost proxyHost = route.getProxyHost();
+        final HttpHost host = proxyHost != null ? proxyHost : route.getTargetHost();
+        if (host == null) {
+            return null;
+        }
+        return HostAndPort.toHostAndPortString(host.getHostName(), host.getPort());
+    }
+}
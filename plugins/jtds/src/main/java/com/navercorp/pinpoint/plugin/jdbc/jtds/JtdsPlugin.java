@@ -28,7 +28,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcUrlParserV2;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
@@ -183,7 +183,7 @@ public class JtdsPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             int maxBindValueSize = config.getMaxSqlBindValueSize();
 
@@ -219,7 +219,7 @@ public class JtdsPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             final Class<? extends Interceptor> callableStatementInterceptor = CallableStatementRegisterOutParameterInterceptor.class;
             InstrumentUtils.findMethod(target, "registerOutParameter", "int", "int")
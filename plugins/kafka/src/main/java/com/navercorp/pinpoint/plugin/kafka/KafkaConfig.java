@@ -34,6 +34,11 @@ public class KafkaConfig {
     static final String CONSUMER_ENABLE = "profiler.kafka.consumer.enable";
     static final String CONSUMER_ENTRY_POINT = "profiler.kafka.consumer.entryPoint";
 
+    // whether one poll of the consumer is traced as a single span instead of one span per record
+    static final String CONSUMER_BATCH_ENABLE = "profiler.kafka.consumer.batch.enable";
+    // how many records of a batch are read for the upstream transaction
+    static final String CONSUMER_BATCH_HEADER_SAMPLE_SIZE = "profiler.kafka.consumer.batch.header.sample.size";
+
     static final String SPRING_CONSUMER_ENABLE = "profiler.springkafka.consumer.enable";
 
     private final boolean enable;
@@ -44,6 +49,8 @@ public class KafkaConfig {
     private final boolean headerEnable;
     private final boolean headerRecorded;
     private final String kafkaEntryPoint;
+    private final boolean consumerBatchEnable;
+    private final int consumerBatchHeaderSampleSize;
 
     public KafkaConfig(ProfilerConfig config) {
         this.enable = config.readBoolean(ENABLE, true);
@@ -54,6 +61,8 @@ public class KafkaConfig {
         this.headerEnable = config.readBoolean(HEADER_ENABLE, true);
         this.headerRecorded = config.readBoolean(HEADER_RECORD, true);
         this.kafkaEntryPoint = config.readString(CONSUMER_ENTRY_POINT, "");
+        this.consumerBatchEnable = config.readBoolean(CONSUMER_BATCH_ENABLE, false);
+        this.consumerBatchHeaderSampleSize = config.readInt(CONSUMER_BATCH_HEADER_SAMPLE_SIZE, 16);
     }
 
     public boolean isEnable() {
@@ -88,6 +97,14 @@ public class KafkaConfig {
         return kafkaEntryPoint;
     }
 
+    public boolean isConsumerBatchEnable() {
+        return consumerBatchEnable;
+    }
+
+    public int getConsumerBatchHeaderSampleSize() {
+        return consumerBatchHeaderSampleSize;
+    }
+
     @Override
     public String toString() {
         return "KafkaConfig{" +
@@ -99,6 +116,8 @@ public class KafkaConfig {
                 ", headerEnable=" + headerEnable +
                 ", headerRecorded=" + headerRecorded +
                 ", kafkaEntryPoint='" + kafkaEntryPoint + '\'' +
+                ", consumerBatchEnable=" + consumerBatchEnable +
+                ", consumerBatchHeaderSampleSize=" + consumerBatchHeaderSampleSize +
                 '}';
     }
 }
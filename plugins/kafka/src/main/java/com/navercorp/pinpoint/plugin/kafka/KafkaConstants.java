@@ -41,6 +41,9 @@ public class KafkaConstants {
     public static final AnnotationKey KAFKA_OFFSET_ANNOTATION_KEY = AnnotationKeyFactory.of(142, "kafka.offset", VIEW_IN_RECORD_SET);
     public static final AnnotationKey KAFKA_BATCH_ANNOTATION_KEY = AnnotationKeyFactory.of(143, "kafka.batch", VIEW_IN_RECORD_SET);
     public static final AnnotationKey KAFKA_HEADER_ANNOTATION_KEY = AnnotationKeyFactory.of(144, "kafka.header", VIEW_IN_RECORD_SET);
+    public static final AnnotationKey KAFKA_BATCH_BYTES_ANNOTATION_KEY = AnnotationKeyFactory.of(145, "kafka.batch.bytes", VIEW_IN_RECORD_SET);
+    public static final AnnotationKey KAFKA_BATCH_PARTITION_ANNOTATION_KEY = AnnotationKeyFactory.of(146, "kafka.batch.partition", VIEW_IN_RECORD_SET);
+    public static final AnnotationKey KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY = AnnotationKeyFactory.of(147, "kafka.batch.upstream", VIEW_IN_RECORD_SET);
 
     public static final String CONSUMER_MULTI_RECORD_CLASS_NAME = "org.apache.kafka.clients.consumer.ConsumerRecords";
 
@@ -32,6 +32,9 @@ public class KafkaMetadataProvider implements TraceMetadataProvider {
         context.addAnnotationKey(KafkaConstants.KAFKA_OFFSET_ANNOTATION_KEY);
         context.addAnnotationKey(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY);
         context.addAnnotationKey(KafkaConstants.KAFKA_HEADER_ANNOTATION_KEY);
+        context.addAnnotationKey(KafkaConstants.KAFKA_BATCH_BYTES_ANNOTATION_KEY);
+        context.addAnnotationKey(KafkaConstants.KAFKA_BATCH_PARTITION_ANNOTATION_KEY);
+        context.addAnnotationKey(KafkaConstants.KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY);
     }
 
 }
@@ -88,17 +88,22 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
             transformTemplate.transform("org.apache.kafka.common.requests.FetchResponse", FetchResponseTransform.class);
 
             if (config.isSpringConsumerEnable()) {
-                transformTemplate.transform("org.springframework.kafka.listener.adapter.RecordMessagingMessageListenerAdapter", AcknowledgingConsumerAwareMessageListenerTransform.class);
-                transformTemplate.transform("org.springframework.kafka.listener.adapter.BatchMessagingMessageListenerAdapter", BatchMessagingMessageListenerAdapterTransform.class);
+                if (config.isConsumerBatchEnable()) {
+                    // one span per poll, the record listeners below run inside of it
+                    transformTemplate.transform("org.springframework.kafka.listener.KafkaMessageListenerContainer$ListenerConsumer", ListenerConsumerTransform.class);
+                } else {
+                    transformTemplate.transform("org.springframework.kafka.listener.adapter.RecordMessagingMessageListenerAdapter", AcknowledgingConsumerAwareMessageListenerTransform.class);
 
-                // Spring Cloud Starter Stream Kafka 2.2.x is supported
-                transformTemplate.transform("org.springframework.kafka.listener.adapter.RetryingMessageListenerAdapter", AcknowledgingConsumerAwareMessageListenerTransform.class);
+                    // Spring Cloud Starter Stream Kafka 2.2.x is supported
+                    transformTemplate.transform("org.springframework.kafka.listener.adapter.RetryingMessageListenerAdapter", AcknowledgingConsumerAwareMessageListenerTransform.class);
 
-                // for MessagingGatewaySupport in spring-integration-kafka
-                transformTemplate.transform("org.springframework.integration.kafka.inbound.KafkaInboundGateway$IntegrationRecordMessageListener", AcknowledgingConsumerAwareMessageListenerTransform.class);
+                    // for MessagingGatewaySupport in spring-integration-kafka
+                    transformTemplate.transform("org.springframework.integration.kafka.inbound.KafkaInboundGateway$IntegrationRecordMessageListener", AcknowledgingConsumerAwareMessageListenerTransform.class);
 
-                // for MessageProducerSupport in spring-integration-kafka
-                transformTemplate.transform("org.springframework.integration.kafka.inbound.KafkaMessageDrivenChannelAdapter$IntegrationRecordMessageListener", AcknowledgingConsumerAwareMessageListenerTransform.class);
+                    // for MessageProducerSupport in spring-integration-kafka
+                    transformTemplate.transform("org.springframework.integration.kafka.inbound.KafkaMessageDrivenChannelAdapter$IntegrationRecordMessageListener", AcknowledgingConsumerAwareMessageListenerTransform.class);
+                }
+                transformTemplate.transform("org.springframework.kafka.listener.adapter.BatchMessagingMessageListenerAdapter", BatchMessagingMessageListenerAdapterTransform.class);
                 transformTemplate.transform("org.springframework.integration.kafka.inbound.KafkaMessageDrivenChannelAdapter$IntegrationBatchMessageListener", BatchMessagingMessageListenerAdapterTransform.class);
             }
 
@@ -365,6 +370,22 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
 
     }
 
+    public static class ListenerConsumerTransform implements TransformCallback {
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
+
+            final InstrumentMethod invokeListenerMethod = target.getDeclaredMethod("invokeListener", KafkaConstants.CONSUMER_MULTI_RECORD_CLASS_NAME);
+            if (invokeListenerMethod != null) {
+                invokeListenerMethod.addScopedInterceptor(ConsumerMultiRecordEntryPointInterceptor.class, va(0), KafkaConstants.SCOPE, ExecutionPolicy.BOUNDARY);
+            }
+
+            return target.toBytecode();
+        }
+
+    }
+
     private boolean enableConsumerTransform(KafkaConfig config) {
         if (config.isConsumerEnable() && StringUtils.hasText(config.getKafkaEntryPoint())) {
             return true;
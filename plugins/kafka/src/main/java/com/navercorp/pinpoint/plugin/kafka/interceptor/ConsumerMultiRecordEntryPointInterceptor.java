@@ -20,12 +20,20 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
+import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.kafka.KafkaConfig;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -36,8 +44,15 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntryPointInterceptor {
 
+    // limits the size of the annotations of a large batch
+    private static final int MAX_RECORDED_PARTITIONS = 10;
+    private static final int MAX_RECORDED_UPSTREAMS = 10;
+
     private final AtomicReference<TraceFactoryProvider.TraceFactory> tracyFactoryReference = new AtomicReference<>();
 
+    private final boolean batchEnable;
+    private final int headerSampleSize;
+
     /**
      * Instantiates a new Consumer multi record entry point interceptor.
      *
@@ -46,6 +61,9 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
      */
     public ConsumerMultiRecordEntryPointInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, int parameterIndex) {
         super(traceContext, methodDescriptor, parameterIndex);
+        KafkaConfig config = new KafkaConfig(traceContext.getProfilerConfig());
+        this.batchEnable = config.isConsumerBatchEnable();
+        this.headerSampleSize = batchEnable ? config.getConsumerBatchHeaderSampleSize() : 0;
     }
 
     @Override
@@ -61,13 +79,13 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
 
     private ConsumerRecordsDesc getConsumerRecordsDesc(Object[] args) {
         Iterable<?> iter = ArrayArgumentUtils.getArgument(args, parameterIndex, Iterable.class);
-        return ConsumerRecordsDesc.create(iter);
+        return ConsumerRecordsDesc.create(iter, headerSampleSize);
     }
 
     private Trace createTrace(ConsumerRecordsDesc consumerRecordsDesc) {
         TraceFactoryProvider.TraceFactory createTrace = tracyFactoryReference.get();
         if (createTrace == null) {
-            createTrace = TraceFactoryProvider.get();
+            createTrace = TraceFactoryProvider.get(batchEnable);
             tracyFactoryReference.compareAndSet(null, createTrace);
         }
         return createTrace.createTrace(traceContext, consumerRecordsDesc);
@@ -75,8 +93,10 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
 
     private static class TraceFactoryProvider {
 
-        private static TraceFactory get() {
-
+        private static TraceFactory get(boolean batchEnable) {
+            if (batchEnable) {
+                return new BatchTraceFactory();
+            }
             return new DefaultTraceFactory();
         }
 
@@ -117,7 +137,7 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
                 }
             }
 
-            private void recordRootSpan(SpanRecorder recorder, ConsumerRecordsDesc consumerRecordsDesc) {
+            void recordRootSpan(SpanRecorder recorder, ConsumerRecordsDesc consumerRecordsDesc) {
                 recorder.recordServiceType(KafkaConstants.KAFKA_CLIENT);
                 recorder.recordApi(ENTRY_POINT_METHOD_DESCRIPTOR);
 
@@ -145,6 +165,70 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
             }
         }
 
+        /**
+         * Continues the upstream transaction when the sampled records come from a single one,
+         * and records the traffic of the batch.
+         */
+        private static class BatchTraceFactory extends DefaultTraceFactory {
+
+            @Override
+            public Trace createTrace(TraceContext traceContext, ConsumerRecordsDesc consumerRecordsDesc) {
+                if (consumerRecordsDesc.isNotSampled()) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("remotecall sampling flag found. skip trace");
+                    }
+                    return traceContext.disableSampling();
+                }
+
+                final ConsumerRecord<?, ?> upstreamRecord = consumerRecordsDesc.getSingleUpstreamRecord();
+                if (upstreamRecord == null) {
+                    return super.createTrace(traceContext, consumerRecordsDesc);
+                }
+                final Headers headers = upstreamRecord.headers();
+                final TraceId traceId = ConsumerRecordHeaderUtils.populateTraceId(traceContext, headers);
+                if (traceId == null) {
+                    return super.createTrace(traceContext, consumerRecordsDesc);
+                }
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("TraceID exist. continue trace. traceId:{}", traceId);
+                }
+                final Trace trace = traceContext.continueTraceObject(traceId);
+                if (trace.canSampled()) {
+                    final SpanRecorder recorder = trace.getSpanRecorder();
+                    recordRootSpan(recorder, consumerRecordsDesc);
+
+                    final String parentApplicationName = ConsumerRecordHeaderUtils.getParentApplicationName(headers);
+                    final String parentApplicationType = ConsumerRecordHeaderUtils.getParentApplicationType(headers);
+                    if (StringUtils.hasText(parentApplicationName) && StringUtils.hasText(parentApplicationType)) {
+                        recorder.recordParentApplication(parentApplicationName, NumberUtils.parseShort(parentApplicationType, ServiceType.UNDEFINED.getCode()));
+                    }
+                }
+                return trace;
+            }
+
+            @Override
+            void recordRootSpan(SpanRecorder recorder, ConsumerRecordsDesc consumerRecordsDesc) {
+                super.recordRootSpan(recorder, consumerRecordsDesc);
+
+                recorder.recordAttribute(KafkaConstants.KAFKA_BATCH_BYTES_ANNOTATION_KEY, consumerRecordsDesc.getBytes());
+
+                final List<ConsumerRecordsDesc.PartitionDesc> partitions = consumerRecordsDesc.getPartitions();
+                for (int i = 0; i < partitions.size() && i < MAX_RECORDED_PARTITIONS; i++) {
+                    recorder.recordAttribute(KafkaConstants.KAFKA_BATCH_PARTITION_ANNOTATION_KEY, partitions.get(i).toString());
+                }
+
+                int recordedUpstreams = 0;
+                for (Map.Entry<String, ConsumerRecordsDesc.UpstreamDesc> entry : consumerRecordsDesc.getUpstreams().entrySet()) {
+                    if (recordedUpstreams++ >= MAX_RECORDED_UPSTREAMS) {
+                        break;
+                    }
+                    // transactionId=sampled record count
+                    recorder.recordAttribute(KafkaConstants.KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY, entry.getKey() + "=" + entry.getValue().getCount());
+                }
+            }
+        }
+
     }
 
 }
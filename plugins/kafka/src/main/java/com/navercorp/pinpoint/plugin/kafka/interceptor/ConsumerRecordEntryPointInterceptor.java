@@ -16,7 +16,6 @@
 
 package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
-import com.navercorp.pinpoint.bootstrap.context.Header;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
@@ -26,11 +25,9 @@ import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanRecursiveAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
-import com.navercorp.pinpoint.bootstrap.sampler.SamplingFlagUtils;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
-import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.plugin.kafka.KafkaClientUtils;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConfig;
@@ -226,7 +223,7 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
                     return createTrace0(traceContext, consumerRecord);
                 }
 
-                if (!isSampled(headers)) {
+                if (!ConsumerRecordHeaderUtils.isSampled(headers)) {
                     // Even if this transaction is not a sampling target, we have to create Trace object to mark 'not sampling'.
                     // For example, if this transaction invokes rpc call, we can add parameter to tell remote node 'don't sample this transaction'
                     final Trace trace = traceContext.disableSampling();
@@ -236,7 +233,7 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
                     return trace;
                 }
 
-                TraceId traceId = populateTraceIdFromHeaders(traceContext, headers);
+                TraceId traceId = ConsumerRecordHeaderUtils.populateTraceId(traceContext, headers);
                 final Trace trace;
                 if (traceId != null) {
                     trace = createContinueTrace(traceContext, consumerRecord, traceId);
@@ -249,41 +246,6 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
                 return trace;
             }
 
-            private boolean isSampled(org.apache.kafka.common.header.Headers headers) {
-                org.apache.kafka.common.header.Header sampledHeader = headers.lastHeader(Header.HTTP_SAMPLED.toString());
-                if (sampledHeader == null) {
-                    return true;
-                }
-
-                String sampledFlag = BytesUtils.toString(sampledHeader.value());
-                return SamplingFlagUtils.isSamplingFlag(sampledFlag);
-            }
-
-            private TraceId populateTraceIdFromHeaders(TraceContext traceContext, org.apache.kafka.common.header.Headers headers) {
-                String transactionId = null;
-                String spanID = null;
-                String parentSpanID = null;
-                String flags = null;
-                for (org.apache.kafka.common.header.Header header : headers.toArray()) {
-                    if (header.key().equals(Header.HTTP_TRACE_ID.toString())) {
-                        transactionId = BytesUtils.toString(header.value());
-                    } else if (header.key().equals(Header.HTTP_PARENT_SPAN_ID.toString())) {
-                        parentSpanID = BytesUtils.toString(header.value());
-                    } else if (header.key().equals(Header.HTTP_SPAN_ID.toString())) {
-                        spanID = BytesUtils.toString(header.value());
-                    } else if (header.key().equals(Header.HTTP_FLAGS.toString())) {
-                        flags = BytesUtils.toString(header.value());
-                    }
-                }
-
-                if (transactionId == null || spanID == null || parentSpanID == null || flags == null) {
-                    return null;
-                }
-
-                TraceId traceId = traceContext.createTraceId(transactionId, Long.parseLong(parentSpanID), Long.parseLong(spanID), Short.parseShort(flags));
-                return traceId;
-            }
-
             private Trace createContinueTrace(TraceContext traceContext, ConsumerRecord<?, ?> consumerRecord, TraceId traceId) {
                 if (isDebug) {
                     logger.debug("TraceID exist. continue trace. traceId:{}", traceId);
@@ -291,17 +253,9 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
 
                 Trace trace = traceContext.continueTraceObject(traceId);
 
-                String parentApplicationName = null;
-                String parentApplicationType = null;
-
                 org.apache.kafka.common.header.Headers headers = consumerRecord.headers();
-                for (org.apache.kafka.common.header.Header header : headers.toArray()) {
-                    if (header.key().equals(Header.HTTP_PARENT_APPLICATION_NAME.toString())) {
-                        parentApplicationName = BytesUtils.toString(header.value());
-                    } else if (header.key().equals(Header.HTTP_PARENT_APPLICATION_TYPE.toString())) {
-                        parentApplicationType = BytesUtils.toString(header.value());
-                    }
-                }
+                String parentApplicationName = ConsumerRecordHeaderUtils.getParentApplicationName(headers);
+                String parentApplicationType = ConsumerRecordHeaderUtils.getParentApplicationType(headers);
 
                 if (trace.canSampled()) {
                     final SpanRecorder recorder = trace.getSpanRecorder();
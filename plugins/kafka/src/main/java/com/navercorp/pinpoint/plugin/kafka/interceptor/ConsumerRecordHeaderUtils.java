@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.kafka.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.Header;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.bootstrap.sampler.SamplingFlagUtils;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Reads the pinpoint headers of a consumer record.
+ */
+final class ConsumerRecordHeaderUtils {
+
+    private ConsumerRecordHeaderUtils() {
+    }
+
+    static boolean isSampled(Headers headers) {
+        final String sampledFlag = getHeaderValue(headers, Header.HTTP_SAMPLED);
+        if (sampledFlag == null) {
+            return true;
+        }
+        return SamplingFlagUtils.isSamplingFlag(sampledFlag);
+    }
+
+    static String getTransactionId(Headers headers) {
+        return getHeaderValue(headers, Header.HTTP_TRACE_ID);
+    }
+
+    static TraceId populateTraceId(TraceContext traceContext, Headers headers) {
+        String transactionId = null;
+        String spanID = null;
+        String parentSpanID = null;
+        String flags = null;
+        for (org.apache.kafka.common.header.Header header : headers.toArray()) {
+            if (header.key().equals(Header.HTTP_TRACE_ID.toString())) {
+                transactionId = BytesUtils.toString(header.value());
+            } else if (header.key().equals(Header.HTTP_PARENT_SPAN_ID.toString())) {
+                parentSpanID = BytesUtils.toString(header.value());
+            } else if (header.key().equals(Header.HTTP_SPAN_ID.toString())) {
+                spanID = BytesUtils.toString(header.value());
+            } else if (header.key().equals(Header.HTTP_FLAGS.toString())) {
+                flags = BytesUtils.toString(header.value());
+            }
+        }
+
+        if (transactionId == null || spanID == null || parentSpanID == null || flags == null) {
+            return null;
+        }
+
+        return traceContext.createTraceId(transactionId, Long.parseLong(parentSpanID), Long.parseLong(spanID), Short.parseShort(flags));
+    }
+
+    static String getParentApplicationName(Headers headers) {
+        return getHeaderValue(headers, Header.HTTP_PARENT_APPLICATION_NAME);
+    }
+
+    static String getParentApplicationType(Headers headers) {
+        return getHeaderValue(headers, Header.HTTP_PARENT_APPLICATION_TYPE);
+    }
+
+    private static String getHeaderValue(Headers headers, Header header) {
+        final org.apache.kafka.common.header.Header lastHeader = headers.lastHeader(header.toString());
+        if (lastHeader == null) {
+            return null;
+        }
+        return BytesUtils.toString(lastHeader.value());
+    }
+}
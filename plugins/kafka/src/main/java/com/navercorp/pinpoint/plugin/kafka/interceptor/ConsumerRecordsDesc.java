@@ -18,13 +18,21 @@ package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.kafka.KafkaClientUtils;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.EndPointFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -37,11 +45,21 @@ public class ConsumerRecordsDesc {
     private final String remoteAddress;
     private final int size;
 
-    private ConsumerRecordsDesc(Set<String> topicSet, String endPointAddress, String remoteAddress, int size) {
+    private final long bytes;
+    private final List<PartitionDesc> partitions;
+    private final Map<String, UpstreamDesc> upstreams;
+    private final boolean notSampled;
+
+    private ConsumerRecordsDesc(Set<String> topicSet, String endPointAddress, String remoteAddress, int size,
+                                long bytes, List<PartitionDesc> partitions, Map<String, UpstreamDesc> upstreams, boolean notSampled) {
         this.topicSet = topicSet;
         this.endPointAddress = endPointAddress;
         this.remoteAddress = remoteAddress;
         this.size = size;
+        this.bytes = bytes;
+        this.partitions = partitions;
+        this.upstreams = upstreams;
+        this.notSampled = notSampled;
     }
 
     String getTopicString() {
@@ -73,24 +91,96 @@ public class ConsumerRecordsDesc {
         return size;
     }
 
+    /**
+     * @return serialized size of the keys and the values
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    List<PartitionDesc> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * @return the upstream transactions found in the sampled records, by transaction id
+     */
+    Map<String, UpstreamDesc> getUpstreams() {
+        return upstreams;
+    }
+
+    /**
+     * @return the record of the only upstream transaction of the sampled records, or null
+     */
+    ConsumerRecord<?, ?> getSingleUpstreamRecord() {
+        if (upstreams.size() != 1) {
+            return null;
+        }
+        return upstreams.values().iterator().next().firstRecord;
+    }
+
+    /**
+     * @return true if every sampled record was sent by a transaction that is not sampled
+     */
+    boolean isNotSampled() {
+        return notSampled;
+    }
+
 
     static ConsumerRecordsDesc create(Object object) {
+        return create(object, 0);
+    }
+
+    /**
+     * @param headerSampleSize number of records, spread over the batch, whose headers are read
+     */
+    static ConsumerRecordsDesc create(Object object, int headerSampleSize) {
         if (object instanceof Iterable) {
-            return create(((Iterable<?>) object).iterator());
+            final int headerSampleStride = getHeaderSampleStride(object, headerSampleSize);
+            return create(((Iterable<?>) object).iterator(), headerSampleSize, headerSampleStride);
         }
 
         return null;
     }
 
     static ConsumerRecordsDesc create(Iterator<?> consumerRecordIterator) {
+        return create(consumerRecordIterator, 0, 1);
+    }
+
+    private static int getHeaderSampleStride(Object records, int headerSampleSize) {
+        if (headerSampleSize <= 0) {
+            return 1;
+        }
+        int size = 0;
+        if (records instanceof Collection) {
+            size = ((Collection<?>) records).size();
+        } else if (records instanceof ConsumerRecords) {
+            size = ((ConsumerRecords<?, ?>) records).count();
+        }
+        // unknown size, the first records are sampled
+        return Math.max(1, (size + headerSampleSize - 1) / headerSampleSize);
+    }
+
+    private static ConsumerRecordsDesc create(Iterator<?> consumerRecordIterator, int headerSampleSize, int headerSampleStride) {
         Set<String> topicSet = new HashSet<>(1);
         String remoteAddress = null;
         String endPointAddress  = null;
         int count = 0;
 
+        long bytes = 0;
+        final long now = System.currentTimeMillis();
+        List<PartitionDesc> partitions = new ArrayList<>(1);
+        PartitionDesc lastPartition = null;
+
+        Map<String, UpstreamDesc> upstreams = Collections.emptyMap();
+        Boolean supportHeaders = null;
+        int sampled = 0;
+        int notSampled = 0;
+
         while (consumerRecordIterator.hasNext()) {
             Object consumerRecord = consumerRecordIterator.next();
             if (consumerRecord instanceof ConsumerRecord) {
+                final ConsumerRecord<?, ?> record = (ConsumerRecord<?, ?>) consumerRecord;
                 if (StringUtils.isEmpty(remoteAddress)) {
                     remoteAddress = getRemoteAddress(consumerRecord);
                 }
@@ -98,19 +188,70 @@ public class ConsumerRecordsDesc {
                     endPointAddress = getEndPointAddress(consumerRecord);
                 }
 
-                String topic = ((ConsumerRecord<?, ?>) consumerRecord).topic();
+                String topic = record.topic();
                 topicSet.add(topic);
+
+                bytes += Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+                if (lastPartition == null || !lastPartition.matches(topic, record.partition())) {
+                    lastPartition = findPartition(partitions, record);
+                }
+                lastPartition.add(record, now);
+
+                if (sampled < headerSampleSize && count % headerSampleStride == 0) {
+                    if (supportHeaders == null) {
+                        supportHeaders = KafkaClientUtils.supportHeaders(record);
+                    }
+                    if (supportHeaders) {
+                        sampled++;
+                        final org.apache.kafka.common.header.Headers headers = record.headers();
+                        if (headers != null) {
+                            if (!ConsumerRecordHeaderUtils.isSampled(headers)) {
+                                notSampled++;
+                            } else {
+                                upstreams = addUpstream(upstreams, ConsumerRecordHeaderUtils.getTransactionId(headers), record);
+                            }
+                        }
+                    }
+                }
                 count++;
             }
         }
 
         if (count > 0) {
-            return new ConsumerRecordsDesc(topicSet, endPointAddress, remoteAddress, count);
+            final boolean allNotSampled = sampled > 0 && notSampled == sampled;
+            return new ConsumerRecordsDesc(topicSet, endPointAddress, remoteAddress, count, bytes, partitions, upstreams, allNotSampled);
         }
 
         return null;
     }
 
+    private static PartitionDesc findPartition(List<PartitionDesc> partitions, ConsumerRecord<?, ?> record) {
+        for (PartitionDesc partition : partitions) {
+            if (partition.matches(record.topic(), record.partition())) {
+                return partition;
+            }
+        }
+        final PartitionDesc partition = new PartitionDesc(record.topic(), record.partition(), record.offset());
+        partitions.add(partition);
+        return partition;
+    }
+
+    private static Map<String, UpstreamDesc> addUpstream(Map<String, UpstreamDesc> upstreams, String transactionId, ConsumerRecord<?, ?> record) {
+        if (transactionId == null) {
+            return upstreams;
+        }
+        if (upstreams.isEmpty()) {
+            upstreams = new LinkedHashMap<>();
+        }
+        final UpstreamDesc upstream = upstreams.get(transactionId);
+        if (upstream == null) {
+            upstreams.put(transactionId, new UpstreamDesc(record));
+        } else {
+            upstream.count++;
+        }
+        return upstreams;
+    }
+
     private static String getEndPointAddress(Object endPointFieldAccessor) {
         String endPointAddress = null;
         if (endPointFieldAccessor instanceof EndPointFieldAccessor) {
@@ -128,4 +269,68 @@ public class ConsumerRecordsDesc {
         return null;
     }
 
+    static class PartitionDesc {
+        private final String topic;
+        private final int partition;
+        private final long firstOffset;
+        private long lastOffset;
+        private int count;
+        // time since the oldest record was produced, -1 if the records have no timestamp
+        private long maxLag = -1;
+
+        private PartitionDesc(String topic, int partition, long firstOffset) {
+            this.topic = topic;
+            this.partition = partition;
+            this.firstOffset = firstOffset;
+            this.lastOffset = firstOffset;
+        }
+
+        private boolean matches(String topic, int partition) {
+            return this.partition == partition && this.topic.equals(topic);
+        }
+
+        private void add(ConsumerRecord<?, ?> record, long now) {
+            count++;
+            lastOffset = record.offset();
+            final long timestamp = record.timestamp();
+            if (timestamp >= 0) {
+                maxLag = Math.max(maxLag, now - timestamp);
+            }
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        long getMaxLag() {
+            return maxLag;
+        }
+
+        @Override
+        public String toString() {
+            // topic-0 count=10 offset=100..109 lag=15ms
+            final StringBuilder sb = new StringBuilder(64);
+            sb.append(topic).append('-').append(partition);
+            sb.append(" count=").append(count);
+            sb.append(" offset=").append(firstOffset).append("..").append(lastOffset);
+            if (maxLag >= 0) {
+                sb.append(" lag=").append(maxLag).append("ms");
+            }
+            return sb.toString();
+        }
+    }
+
+    static class UpstreamDesc {
+        private final ConsumerRecord<?, ?> firstRecord;
+        private int count = 1;
+
+        private UpstreamDesc(ConsumerRecord<?, ?> firstRecord) {
+            this.firstRecord = firstRecord;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
 }
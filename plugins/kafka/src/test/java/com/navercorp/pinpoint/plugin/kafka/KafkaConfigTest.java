@@ -94,6 +94,20 @@ public class KafkaConfigTest {
         Assertions.assertEquals("entryPoint3", config.getKafkaEntryPoint());
     }
 
+    @Test
+    public void consumerBatchConfig() {
+        KafkaConfig config = createConfig("false", "true");
+        Assertions.assertFalse(config.isConsumerBatchEnable());
+        Assertions.assertEquals(16, config.getConsumerBatchHeaderSampleSize());
+
+        Properties properties = new Properties();
+        properties.put(KafkaConfig.CONSUMER_BATCH_ENABLE, "true");
+        properties.put(KafkaConfig.CONSUMER_BATCH_HEADER_SAMPLE_SIZE, "4");
+        KafkaConfig batchConfig = new KafkaConfig(ProfilerConfigLoader.load(properties));
+        Assertions.assertTrue(batchConfig.isConsumerBatchEnable());
+        Assertions.assertEquals(4, batchConfig.getConsumerBatchHeaderSampleSize());
+    }
+
     private KafkaConfig createConfig(String producerEnable, String consumerEnable) {
         return createConfig(producerEnable, consumerEnable, "true", "");
     }
@@ -1,13 +1,19 @@
 package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfigLoader;
+import com.navercorp.pinpoint.bootstrap.context.Header;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -15,8 +21,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +49,9 @@ public class ConsumerMultiRecordEntryPointInterceptorTest {
     @Mock
     private ConsumerRecords consumerRecords;
 
+    @Mock
+    private TraceId traceId;
+
     @Test
     public void createTraceTest1() {
         List<ConsumerRecord> consumerRecordList = new ArrayList<>();
@@ -81,4 +93,66 @@ public class ConsumerMultiRecordEntryPointInterceptorTest {
         verify(recorder).recordRpcName("kafka://topic=[Test, Test2]?batch=2");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void createBatchTrace_singleUpstream() {
+        List<ConsumerRecord> consumerRecordList = new ArrayList<>();
+        consumerRecordList.add(newRecord("Test", 1, 10, "tx1"));
+        consumerRecordList.add(newRecord("Test", 1, 11, "tx1"));
+
+        doReturn(batchConfig()).when(traceContext).getProfilerConfig();
+        doReturn(traceId).when(traceContext).createTraceId("tx1", 1L, 2L, (short) 0);
+        doReturn(trace).when(traceContext).continueTraceObject(traceId);
+        doReturn(true).when(trace).canSampled();
+        doReturn(recorder).when(trace).getSpanRecorder();
+        doReturn(consumerRecordList.iterator()).when(consumerRecords).iterator();
+
+        ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
+        interceptor.createTrace(new Object(), new Object[]{consumerRecords});
+
+        verify(traceContext, never()).newTraceObject();
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY, 2);
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_BYTES_ANNOTATION_KEY, 18L);
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_PARTITION_ANNOTATION_KEY, "Test-1 count=2 offset=10..11");
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY, "tx1=2");
+    }
+
+    @Test
+    public void createBatchTrace_multipleUpstream() {
+        List<ConsumerRecord> consumerRecordList = new ArrayList<>();
+        consumerRecordList.add(newRecord("Test", 1, 10, "tx1"));
+        consumerRecordList.add(newRecord("Test", 2, 20, "tx2"));
+        consumerRecordList.add(newRecord("Test", 1, 11, "tx1"));
+
+        doReturn(batchConfig()).when(traceContext).getProfilerConfig();
+        doReturn(trace).when(traceContext).newTraceObject();
+        doReturn(true).when(trace).canSampled();
+        doReturn(recorder).when(trace).getSpanRecorder();
+        doReturn(consumerRecordList.iterator()).when(consumerRecords).iterator();
+
+        ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
+        interceptor.createTrace(new Object(), new Object[]{consumerRecords});
+
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY, 3);
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_PARTITION_ANNOTATION_KEY, "Test-1 count=2 offset=10..11");
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_PARTITION_ANNOTATION_KEY, "Test-2 count=1 offset=20..20");
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY, "tx1=2");
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_UPSTREAM_ANNOTATION_KEY, "tx2=1");
+    }
+
+    private ProfilerConfig batchConfig() {
+        Properties properties = new Properties();
+        properties.put("profiler.kafka.consumer.batch.enable", "true");
+        return ProfilerConfigLoader.load(properties);
+    }
+
+    private ConsumerRecord newRecord(String topic, int partition, long offset, String transactionId) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(Header.HTTP_TRACE_ID.toString(), BytesUtils.toBytes(transactionId));
+        headers.add(Header.HTTP_SPAN_ID.toString(), BytesUtils.toBytes("2"));
+        headers.add(Header.HTTP_PARENT_SPAN_ID.toString(), BytesUtils.toBytes("1"));
+        headers.add(Header.HTTP_FLAGS.toString(), BytesUtils.toBytes("0"));
+        return new ConsumerRecord<>(topic, partition, offset, ConsumerRecord.NO_TIMESTAMP, TimestampType.NO_TIMESTAMP_TYPE,
+                4, 5, "key", "value", headers, Optional.empty());
+    }
+
+}
@@ -28,7 +28,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMethodFilter;
@@ -210,7 +210,7 @@ public class MariaDBPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             int maxBindValueSize = config.getMaxSqlBindValueSize();
 
@@ -246,7 +246,7 @@ public class MariaDBPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             if (config.isTraceSqlBindValue()) {
                 final PreparedStatementBindingMethodFilter excludes = PreparedStatementBindingMethodFilter
@@ -315,7 +315,7 @@ public class MariaDBPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             final Class<? extends Interceptor> registerOutParameterInterceptor = CallableStatementRegisterOutParameterInterceptor.class;
             InstrumentUtils.findMethod(target, "registerOutParameter", "int", "int")
@@ -344,7 +344,7 @@ public class MariaDBPlugin implements ProfilerPlugin, TransformTemplateAware {
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             int maxBindValueSize = config.getMaxSqlBindValueSize();
 
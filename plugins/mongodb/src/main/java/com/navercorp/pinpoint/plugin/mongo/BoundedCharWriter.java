@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.mongo;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * {@link Writer} keeping at most maxLength characters, the characters after the limit are dropped.
+ * <p>
+ * The buffer grows on demand up to maxLength and is kept by {@link #reset()}, so one instance can be reused by a thread.
+ */
+class BoundedCharWriter extends Writer {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maxLength;
+    private char[] buffer;
+    private int length;
+    private boolean overflow;
+
+    BoundedCharWriter(int maxLength) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("maxLength must be greater than 0: " + maxLength);
+        }
+        this.maxLength = maxLength;
+        this.buffer = new char[Math.min(maxLength, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public void write(int c) {
+        if (reserve(1) == 1) {
+            buffer[length++] = (char) c;
+        }
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int len) {
+        final int writable = reserve(len);
+        System.arraycopy(chars, offset, buffer, length, writable);
+        length += writable;
+    }
+
+    @Override
+    public void write(String str, int offset, int len) {
+        final int writable = reserve(len);
+        str.getChars(offset, offset + writable, buffer, length);
+        length += writable;
+    }
+
+    private int reserve(int len) {
+        final int writable = Math.min(len, maxLength - length);
+        if (writable < len) {
+            overflow = true;
+        }
+        final int required = length + writable;
+        if (required > buffer.length) {
+            final int capacity = Math.min(maxLength, Math.max(required, buffer.length * 2));
+            buffer = Arrays.copyOf(buffer, capacity);
+        }
+        return writable;
+    }
+
+    /**
+     * @return true if characters were dropped since the last {@link #reset()}
+     */
+    boolean isOverflow() {
+        return overflow;
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    void reset() {
+        length = 0;
+        overflow = false;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+}
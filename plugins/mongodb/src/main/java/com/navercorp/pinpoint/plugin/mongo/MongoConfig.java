@@ -21,14 +21,19 @@ import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
  */
 public class MongoConfig {
 
+    static final int DEFAULT_MAX_JSON_LENGTH = 2048;
+
     private final boolean enable;
     private final boolean collectJson;
     private final boolean traceBsonBindValue;
+    private final int maxJsonLength;
 
     public MongoConfig(ProfilerConfig config) {
         this.enable = config.readBoolean("profiler.mongo", false);
         this.collectJson = config.readBoolean("profiler.mongo.collectjson", false);
         this.traceBsonBindValue = config.readBoolean("profiler.mongo.tracebsonbindvalue", false);
+        final int maxJsonLength = config.readInt("profiler.mongo.collectjson.maxlength", DEFAULT_MAX_JSON_LENGTH);
+        this.maxJsonLength = maxJsonLength > 0 ? maxJsonLength : DEFAULT_MAX_JSON_LENGTH;
     }
 
     public boolean isEnable() {
@@ -43,12 +48,17 @@ public class MongoConfig {
         return traceBsonBindValue;
     }
 
+    public int getMaxJsonLength() {
+        return maxJsonLength;
+    }
+
     @Override
     public String toString() {
         return "MongoConfig{" +
                 "enable=" + enable +
                 ", collectJson=" + collectJson +
                 ", traceBsonBindValue=" + traceBsonBindValue +
+                ", maxJsonLength=" + maxJsonLength +
                 '}';
     }
 }
@@ -346,11 +346,11 @@ public class MongoPlugin implements ProfilerPlugin, MatchableTransformTemplateAw
 
             final MongoConfig config = new MongoConfig(instrumentor.getProfilerConfig());
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(MethodFilters.modifier(Modifier.PUBLIC), MethodFilters.name(getReadOperationMethodList())))) {
-                method.addScopedInterceptor(MongoCollectionImplReadOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
+                method.addScopedInterceptor(MongoCollectionImplReadOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue(), config.getMaxJsonLength()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(MethodFilters.modifier(Modifier.PUBLIC), MethodFilters.name(getWriteOperationMethodList())))) {
-                method.addScopedInterceptor(MongoCollectionImplWriteOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
+                method.addScopedInterceptor(MongoCollectionImplWriteOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue(), config.getMaxJsonLength()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.name("withDocumentClass", "withCodecRegistry", "withReadPreference", "withWriteConcern", "withReadConcern"))) {
@@ -441,11 +441,11 @@ public class MongoPlugin implements ProfilerPlugin, MatchableTransformTemplateAw
 
             final MongoConfig config = new MongoConfig(instrumentor.getProfilerConfig());
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(MethodFilters.modifier(Modifier.PUBLIC), MethodFilters.name(getReadOperationMethodList())))) {
-                method.addScopedInterceptor(ReactiveMongoCollectionImplReadOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
+                method.addScopedInterceptor(ReactiveMongoCollectionImplReadOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue(), config.getMaxJsonLength()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(MethodFilters.modifier(Modifier.PUBLIC), MethodFilters.name(getWriteOperationMethodList())))) {
-                method.addScopedInterceptor(ReactiveMongoCollectionImplWriteOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
+                method.addScopedInterceptor(ReactiveMongoCollectionImplWriteOperationInterceptor.class, va(config.isCollectJson(), config.istraceBsonBindValue(), config.getMaxJsonLength()), MONGO_SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.name("withDocumentClass", "withCodecRegistry", "withReadPreference", "withWriteConcern", "withReadConcern"))) {
@@ -37,6 +37,8 @@ public final class MongoUtil {
 
     private static final boolean decimal128Enabled = decimal128Enabled();
 
+    private static final ThreadLocal<BoundedCharWriter> jsonWriterHolder = new ThreadLocal<>();
+
     private MongoUtil() {
     }
 
@@ -68,6 +70,13 @@ public final class MongoUtil {
     }
 
     public static NormalizedBson parseBson(Object[] args, boolean traceBsonBindValue) {
+        return parseBson(args, traceBsonBindValue, MongoConfig.DEFAULT_MAX_JSON_LENGTH);
+    }
+
+    /**
+     * @param maxJsonLength the json of each argument and its bind values are cut at this length
+     */
+    public static NormalizedBson parseBson(Object[] args, boolean traceBsonBindValue, int maxJsonLength) {
 
         if (args == null) {
             return null;
@@ -75,10 +84,11 @@ public final class MongoUtil {
 
         final List<String> parsedJson = new ArrayList<>(2);
         final List<String> jsonParameter = new ArrayList<>(16);
+        final BoundedCharWriter jsonWriter = getJsonWriter(maxJsonLength);
 
         for (Object arg : args) {
 
-            WriteContext writeContext = new WriteContext(jsonParameter, decimal128Enabled, traceBsonBindValue);
+            WriteContext writeContext = new WriteContext(jsonParameter, decimal128Enabled, traceBsonBindValue, jsonWriter);
 
             String documentString = writeContext.parse(arg);
 
@@ -92,6 +102,15 @@ public final class MongoUtil {
         return new NormalizedBson(parsedJsonString, jsonParameterString);
     }
 
+    private static BoundedCharWriter getJsonWriter(int maxJsonLength) {
+        BoundedCharWriter jsonWriter = jsonWriterHolder.get();
+        if (jsonWriter == null || jsonWriter.getMaxLength() != maxJsonLength) {
+            jsonWriter = new BoundedCharWriter(maxJsonLength);
+            jsonWriterHolder.set(jsonWriter);
+        }
+        return jsonWriter;
+    }
+
     public static List<String> getHostList(MongoClientSettings mongoClientSettings) {
         if (mongoClientSettings.getClusterSettings() == null || mongoClientSettings.getClusterSettings().getHosts() == null) {
             return Collections.emptyList();
@@ -59,8 +59,6 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.bson.json.JsonWriter;
 
-import java.io.StringWriter;
-import java.io.Writer;
 import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -75,22 +73,34 @@ import java.util.Objects;
  */
 class WriteContext {
     private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
-    private final Writer writer = new StringWriter();
+    private final BoundedCharWriter writer;
 
-    private final BsonWriter bsonWriter = new JsonWriter(writer);
+    private final BsonWriter bsonWriter;
 
     private final List<String> jsonParameter;
+    private int jsonParameterLength;
 
     private final boolean traceBsonBindValue;
     private final boolean decimal128Enabled;
 
     static final int DEFAULT_ABBREVIATE_MAX_WIDTH = 8;
     static final String UNTRACED = "Unsupported-trace";
+    static final String TRUNCATED = "...";
 
     public WriteContext(List<String> jsonParameterAppender, boolean decimal128Enabled, boolean traceBsonBindValue) {
+        this(jsonParameterAppender, decimal128Enabled, traceBsonBindValue, new BoundedCharWriter(MongoConfig.DEFAULT_MAX_JSON_LENGTH));
+    }
+
+    /**
+     * @param writer reset and reused, the traversal stops once it is full
+     */
+    public WriteContext(List<String> jsonParameterAppender, boolean decimal128Enabled, boolean traceBsonBindValue, BoundedCharWriter writer) {
         this.jsonParameter = Objects.requireNonNull(jsonParameterAppender, "jsonParameterAppender");
         this.decimal128Enabled = decimal128Enabled;
         this.traceBsonBindValue = traceBsonBindValue;
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.writer.reset();
+        this.bsonWriter = new JsonWriter(writer);
     }
 
     public String parse(Object arg) {
@@ -113,9 +123,16 @@ class WriteContext {
             return UNTRACED;
         }
 
+        if (isTruncated()) {
+            return writer + TRUNCATED;
+        }
         return writer.toString();
     }
 
+    private boolean isTruncated() {
+        return writer.isOverflow();
+    }
+
     private void parseUpdatesObject(Object arg) {
         String argName = arg.getClass().getName();
 
@@ -146,6 +163,9 @@ class WriteContext {
 
             bsonWriter.writeStartArray("$each");
             for (Object value : ((ListValuesGetter) arg)._$PINPOINT$_getValues()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeValue(value);
             }
             bsonWriter.writeEndArray();
@@ -166,6 +186,9 @@ class WriteContext {
 
             bsonWriter.writeStartArray("$each");
             for (Object value : ((ListValuesGetter) arg)._$PINPOINT$_getValues()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeValue(value);
             }
             bsonWriter.writeEndArray();
@@ -201,6 +224,9 @@ class WriteContext {
 
             bsonWriter.writeStartArray();
             for (Object value : ((ListValuesGetter) arg)._$PINPOINT$_getValues()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeValue(value);
             }
             bsonWriter.writeEndArray();
@@ -217,6 +243,9 @@ class WriteContext {
 
             bsonWriter.writeStartArray("$updates");
             for (Bson value : ((ExtendedBsonListGetter) arg)._$PINPOINT$_getExtendedBsonList()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeBsonObject(value);
             }
             bsonWriter.writeEndArray();
@@ -236,6 +265,9 @@ class WriteContext {
 
             bsonWriter.writeStartArray("$sorts");
             for (Bson value : ((ExtendedBsonListGetter) arg)._$PINPOINT$_getExtendedBsonList()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeBsonObject(value);
             }
             bsonWriter.writeEndArray();
@@ -338,6 +370,9 @@ class WriteContext {
             bsonWriter.writeName("$and");
             bsonWriter.writeStartArray();
             for (Bson bsonFilter : ((FiltersGetter) arg)._$PINPOINT$_getFilters()) {
+                if (isTruncated()) {
+                    break;
+                }
                 logger.debug("writing filters");
                 writeBsonObject(bsonFilter);
             }
@@ -393,6 +428,9 @@ class WriteContext {
             bsonWriter.writeName(input);
             bsonWriter.writeStartArray();
             for (Bson bsonFilter : ((FiltersGetter) arg)._$PINPOINT$_getFilters()) {
+                if (isTruncated()) {
+                    break;
+                }
                 writeBsonObject(bsonFilter);
             }
             bsonWriter.writeEndArray();
@@ -421,6 +459,9 @@ class WriteContext {
 
         bsonWriter.writeStartDocument();
         for (Map.Entry<String, ?> entry : map.entrySet()) {
+            if (isTruncated()) {
+                break;
+            }
 
             String key = entry.getKey();
             if (key.equals("_id")) {
@@ -466,7 +507,7 @@ class WriteContext {
 
         } else if (bsonType.equals(BsonType.BINARY)) {
             BsonBinary bsonBinary = (BsonBinary) arg;
-            String abbreviatedBinary = binaryAbbreviationForMongo(bsonBinary);
+            String abbreviatedBinary = binaryAbbreviationForMongo(bsonBinary.getData());
             bsonWriter.writeStartDocument();
             bsonWriter.writeName("$binary");
             writeString(abbreviatedBinary);
@@ -625,9 +666,7 @@ class WriteContext {
 //        }
     }
 
-    private String binaryAbbreviationForMongo(BsonBinary bsonBinary) {
-
-        final byte[] binary = bsonBinary.getData();
+    private String binaryAbbreviationForMongo(byte[] binary) {
         final int binaryLength = binary.length;
         final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
         if (binaryLength > DEFAULT_ABBREVIATE_MAX_WIDTH) {
@@ -645,7 +684,7 @@ class WriteContext {
 
     private void arrayAbbreviationForMongo(Object arrayObject) {
         final int length = Array.getLength(arrayObject);
-        for (int i = 0; i < length && i < DEFAULT_ABBREVIATE_MAX_WIDTH - 1; i++) {
+        for (int i = 0; i < length && i < DEFAULT_ABBREVIATE_MAX_WIDTH - 1 && !isTruncated(); i++) {
             writeValue(Array.get(arrayObject, i));
         }
         if (length > DEFAULT_ABBREVIATE_MAX_WIDTH - 2) {
@@ -657,6 +696,9 @@ class WriteContext {
         int length = arg.size();
         int i = 0;
         for (T value : arg) {
+            if (isTruncated()) {
+                break;
+            }
             writeValue(value);
             i++;
             if (i > DEFAULT_ABBREVIATE_MAX_WIDTH - 2) {
@@ -670,8 +712,8 @@ class WriteContext {
 
     private void writeLength(int length) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add("...(" + length + ")");
+        if (isTraceParameter()) {
+            addParameter("...(" + length + ")");
         }
     }
 
@@ -686,6 +728,8 @@ class WriteContext {
             parseUpdatesObject(arg);
         } else if (isSort(arg)) {
             parseSortObject(arg);
+        } else if (arg instanceof byte[]) {
+            writeBinary((byte[]) arg);
         } else if (arg.getClass().isArray()) {
             writePrimitiveArrayObject(arg);
         } else if (arg instanceof Collection) {
@@ -702,50 +746,71 @@ class WriteContext {
 
     private void writeRaw(Object arg) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add(StringUtils.abbreviate(String.valueOf(arg)));
+        if (isTraceParameter()) {
+            addParameter(StringUtils.abbreviate(String.valueOf(arg)));
+        }
+    }
+
+    // only the head of the payload is encoded, same as BsonBinary
+    private void writeBinary(byte[] binary) {
+        bsonWriter.writeString("?");
+        if (isTraceParameter()) {
+            addParameter("\"" + binaryAbbreviationForMongo(binary) + "\"");
         }
     }
 
     private void writeString(String string) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add("\"" + StringUtils.abbreviate(StringUtils.replace(string, "\"", "\"\"")) + "\"");
+        if (isTraceParameter()) {
+            addParameter("\"" + StringUtils.abbreviate(StringUtils.replace(string, "\"", "\"\"")) + "\"");
         }
     }
 
     private void writeInt32(int int32) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add(Integer.toString(int32));
+        if (isTraceParameter()) {
+            addParameter(Integer.toString(int32));
         }
     }
 
     private void writeInt64(long int64) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add(Long.toString(int64));
+        if (isTraceParameter()) {
+            addParameter(Long.toString(int64));
         }
     }
 
     private void writeDouble(double doubleValue) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add(Double.toString(doubleValue));
+        if (isTraceParameter()) {
+            addParameter(Double.toString(doubleValue));
         }
     }
 
     private void writeBoolean(boolean boolValue) {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add(Boolean.toString(boolValue));
+        if (isTraceParameter()) {
+            addParameter(Boolean.toString(boolValue));
         }
     }
 
     private void writeNull() {
         bsonWriter.writeString("?");
-        if (traceBsonBindValue) {
-            jsonParameter.add("null");
+        if (isTraceParameter()) {
+            addParameter("null");
+        }
+    }
+
+    private boolean isTraceParameter() {
+        return traceBsonBindValue && jsonParameterLength < writer.getMaxLength();
+    }
+
+    private void addParameter(String parameter) {
+        jsonParameterLength += parameter.length();
+        if (jsonParameterLength < writer.getMaxLength()) {
+            jsonParameter.add(parameter);
+        } else {
+            jsonParameter.add(TRUNCATED);
         }
     }
 
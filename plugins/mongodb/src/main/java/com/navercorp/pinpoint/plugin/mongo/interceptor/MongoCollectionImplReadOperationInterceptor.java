@@ -37,11 +37,13 @@ public class MongoCollectionImplReadOperationInterceptor extends SpanEventSimple
 
     private final boolean collectJson;
     private final boolean traceBsonBindValue;
+    private final int maxJsonLength;
 
-    public MongoCollectionImplReadOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue) {
+    public MongoCollectionImplReadOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue, int maxJsonLength) {
         super(traceContext, descriptor);
         this.collectJson = collectJson;
         this.traceBsonBindValue = traceBsonBindValue;
+        this.maxJsonLength = maxJsonLength;
     }
 
     @Override
@@ -74,7 +76,7 @@ public class MongoCollectionImplReadOperationInterceptor extends SpanEventSimple
             final boolean success = InterceptorUtils.isSuccess(throwable);
             if (success) {
                 if (args != null) {
-                    NormalizedBson parsedBson = MongoUtil.parseBson(args, traceBsonBindValue);
+                    NormalizedBson parsedBson = MongoUtil.parseBson(args, traceBsonBindValue, maxJsonLength);
                     MongoUtil.recordParsedBson(recorder, parsedBson);
                 }
             }
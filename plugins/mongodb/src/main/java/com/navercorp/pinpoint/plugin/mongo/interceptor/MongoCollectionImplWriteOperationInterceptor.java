@@ -36,11 +36,13 @@ import java.util.List;
 public class MongoCollectionImplWriteOperationInterceptor extends SpanEventSimpleAroundInterceptorForPlugin {
     private final boolean collectJson;
     private final boolean traceBsonBindValue;
+    private final int maxJsonLength;
 
-    public MongoCollectionImplWriteOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue) {
+    public MongoCollectionImplWriteOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue, int maxJsonLength) {
         super(traceContext, descriptor);
         this.collectJson = collectJson;
         this.traceBsonBindValue = traceBsonBindValue;
+        this.maxJsonLength = maxJsonLength;
     }
 
     @Override
@@ -73,7 +75,7 @@ public class MongoCollectionImplWriteOperationInterceptor extends SpanEventSimpl
             final boolean success = InterceptorUtils.isSuccess(throwable);
             if (success) {
                 if (args != null) {
-                    NormalizedBson parsedBson = MongoUtil.parseBson(args, traceBsonBindValue);
+                    NormalizedBson parsedBson = MongoUtil.parseBson(args, traceBsonBindValue, maxJsonLength);
                     MongoUtil.recordParsedBson(recorder, parsedBson);
                 }
             }
@@ -20,7 +20,7 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 
 public class ReactiveMongoCollectionImplReadOperationInterceptor extends MongoCollectionImplReadOperationInterceptor {
-    public ReactiveMongoCollectionImplReadOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue) {
-        super(traceContext, descriptor, collectJson, traceBsonBindValue);
+    public ReactiveMongoCollectionImplReadOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue, int maxJsonLength) {
+        super(traceContext, descriptor, collectJson, traceBsonBindValue, maxJsonLength);
     }
 }
@@ -20,7 +20,7 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 
 public class ReactiveMongoCollectionImplWriteOperationInterceptor extends MongoCollectionImplWriteOperationInterceptor {
-    public ReactiveMongoCollectionImplWriteOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue) {
-        super(traceContext, descriptor, collectJson, traceBsonBindValue);
+    public ReactiveMongoCollectionImplWriteOperationInterceptor(TraceContext traceContext, MethodDescriptor descriptor, boolean collectJson, boolean traceBsonBindValue, int maxJsonLength) {
+        super(traceContext, descriptor, collectJson, traceBsonBindValue, maxJsonLength);
     }
 }
@@ -3,6 +3,7 @@ package com.navercorp.pinpoint.plugin.mongo;
 import com.navercorp.pinpoint.common.util.BytesUtils;
 import org.bson.BsonBinary;
 import org.bson.BsonDocument;
+import org.bson.Document;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -35,4 +39,81 @@ public class WriteContextTest {
         byte[] sourceByes = Arrays.copyOf(Base64.getEncoder().encode(bytes), WriteContext.DEFAULT_ABBREVIATE_MAX_WIDTH);
         Assertions.assertEquals(BytesUtils.toString(sourceByes), nopadInput);
     }
-}
\ No newline at end of file
+
+    @Test
+    void parse_byteArray() {
+        List<String> parameter = new ArrayList<>();
+        WriteContext context = new WriteContext(parameter, true, true);
+
+        Document document = new Document("bytes", "123456789".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals("{\"bytes\": \"?\"}", context.parse(document));
+        Assertions.assertEquals(1, parameter.size());
+        Assertions.assertTrue(parameter.get(0).endsWith("...(9)\""), parameter.get(0));
+    }
+
+    @Test
+    void parse_truncated() {
+        final int maxLength = 128;
+        List<String> parameter = new ArrayList<>();
+        WriteContext context = new WriteContext(parameter, true, true, new BoundedCharWriter(maxLength));
+
+        String json = context.parse(newDocument(1000));
+
+        Assertions.assertEquals(maxLength + WriteContext.TRUNCATED.length(), json.length());
+        Assertions.assertTrue(json.endsWith(WriteContext.TRUNCATED));
+        Assertions.assertTrue(parameter.size() < maxLength / 3, "parameter:" + parameter.size());
+    }
+
+    @Test
+    void parse_reuseWriter() {
+        BoundedCharWriter writer = new BoundedCharWriter(64);
+        new WriteContext(new ArrayList<>(), true, true, writer).parse(newDocument(1000));
+        Assertions.assertTrue(writer.isOverflow());
+
+        String json = new WriteContext(new ArrayList<>(), true, true, writer).parse(new Document("key", "value"));
+        Assertions.assertEquals("{\"key\": \"?\"}", json);
+        Assertions.assertFalse(writer.isOverflow());
+    }
+
+    @Test
+    void parse_insertMany_bounded() {
+        final AtomicInteger unboundedVisits = new AtomicInteger();
+        String unbounded = new WriteContext(new ArrayList<>(), true, true, new BoundedCharWriter(Integer.MAX_VALUE)).parse(newDocuments(100, unboundedVisits));
+        Assertions.assertFalse(unbounded.endsWith(WriteContext.TRUNCATED));
+
+        final AtomicInteger boundedVisits = new AtomicInteger();
+        List<String> parameter = new ArrayList<>();
+        String bounded = new WriteContext(parameter, true, true, new BoundedCharWriter(MongoConfig.DEFAULT_MAX_JSON_LENGTH)).parse(newDocuments(100, boundedVisits));
+
+        Assertions.assertEquals(MongoConfig.DEFAULT_MAX_JSON_LENGTH + WriteContext.TRUNCATED.length(), bounded.length());
+        Assertions.assertEquals(unbounded.substring(0, MongoConfig.DEFAULT_MAX_JSON_LENGTH), bounded.substring(0, MongoConfig.DEFAULT_MAX_JSON_LENGTH));
+        // the traversal stops in the first document, the others are not visited
+        Assertions.assertEquals(1, boundedVisits.get());
+        Assertions.assertTrue(unboundedVisits.get() > 1, "visits:" + unboundedVisits.get());
+        Assertions.assertTrue(parameter.size() < MongoConfig.DEFAULT_MAX_JSON_LENGTH / 3, "parameter:" + parameter.size());
+    }
+
+    private List<Document> newDocuments(int count, AtomicInteger visits) {
+        final List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            documents.add(new Document(newDocument(1000)) {
+                @Override
+                public Set<Map.Entry<String, Object>> entrySet() {
+                    visits.incrementAndGet();
+                    return super.entrySet();
+                }
+            });
+        }
+        return documents;
+    }
+
+    private Document newDocument(int size) {
+        Document document = new Document();
+        for (int i = 0; i < size; i++) {
+            document.append("field" + i, "value" + i);
+        }
+        document.append("nested", new Document("array", new int[]{1, 2, 3}));
+        return document;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.okhttp;
+
+import com.navercorp.pinpoint.common.util.IntBooleanIntBooleanValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Phases of a new connection, attached to the scope of the connect method.
+ * The socket phase is summed because a tunnel connects the socket more than once.
+ */
+public class ConnectPhaseContext {
+
+    private long socketStartTime;
+    private long socketTime = -1;
+    private boolean socketFail;
+
+    private long tlsStartTime;
+    private long tlsTime = -1;
+    private boolean tlsFail;
+
+    public void socketStart() {
+        this.socketStartTime = System.nanoTime();
+    }
+
+    public void socketEnd(boolean fail) {
+        final long elapsed = System.nanoTime() - socketStartTime;
+        this.socketTime = socketTime == -1 ? elapsed : socketTime + elapsed;
+        this.socketFail = fail;
+    }
+
+    public void tlsStart() {
+        this.tlsStartTime = System.nanoTime();
+    }
+
+    public void tlsEnd(boolean fail) {
+        this.tlsTime = System.nanoTime() - tlsStartTime;
+        this.tlsFail = fail;
+    }
+
+    public boolean hasSocketPhase() {
+        return socketTime != -1;
+    }
+
+    /**
+     * @return socket connect time, socket fail, tls handshake time (-1 if plain), tls fail
+     */
+    public IntBooleanIntBooleanValue toAnnotationValue() {
+        return new IntBooleanIntBooleanValue(toMillis(socketTime), socketFail, toMillis(tlsTime), tlsFail);
+    }
+
+    private static int toMillis(long nanos) {
+        if (nanos == -1) {
+            return -1;
+        }
+        return (int) TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectPhaseContext{" +
+                "socketTime=" + socketTime +
+                ", socketFail=" + socketFail +
+                ", tlsTime=" + tlsTime +
+                ", tlsFail=" + tlsFail +
+                '}';
+    }
+}
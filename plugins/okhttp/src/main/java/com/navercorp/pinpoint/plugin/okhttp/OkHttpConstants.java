@@ -35,6 +35,10 @@ public final class OkHttpConstants {
 
     public static final String SEND_REQUEST_SCOPE = "SendRequestScope";
     public static final String CALL_SCOPE = "CallScope";
+    public static final String CONNECT_SCOPE = "ConnectScope";
+
+    // custom/okhttp/connectionAcquireCount, custom/okhttp/connectionConnectCount
+    public static final String CONNECTION_METRIC_CLIENT_NAME = "okhttp";
 
     public static final String FIELD_USER_REQUEST = "userRequest";
     public static final String FIELD_USER_RESPONSE = "userResponse";
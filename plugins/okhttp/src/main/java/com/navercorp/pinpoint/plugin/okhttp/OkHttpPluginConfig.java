@@ -28,6 +28,7 @@ public class OkHttpPluginConfig {
     private final boolean param;
     private final boolean statusCode;
     private final boolean async;
+    private final boolean connectPhase;
     private HttpDumpConfig httpDumpConfig;
 
     public OkHttpPluginConfig(ProfilerConfig src) {
@@ -42,6 +43,7 @@ public class OkHttpPluginConfig {
 
         this.statusCode = src.readBoolean("profiler.okhttp.entity.statuscode", true);
         this.async = src.readBoolean("profiler.okhttp.async", true);
+        this.connectPhase = src.readBoolean("profiler.okhttp.connect.phase", false);
     }
 
     public boolean isEnable() {
@@ -56,6 +58,10 @@ public class OkHttpPluginConfig {
         return async;
     }
 
+    public boolean isConnectPhase() {
+        return connectPhase;
+    }
+
     public HttpDumpConfig getHttpDumpConfig() {
         return httpDumpConfig;
     }
@@ -71,6 +77,7 @@ public class OkHttpPluginConfig {
         sb.append(", param=").append(param);
         sb.append(", statusCode=").append(statusCode);
         sb.append(", async=").append(async);
+        sb.append(", connectPhase=").append(connectPhase);
         sb.append(", httpDumpConfig=").append(httpDumpConfig);
         sb.append('}');
         return sb.toString();
@@ -35,6 +35,10 @@ import com.navercorp.pinpoint.plugin.okhttp.OkHttpConstants;
 import com.navercorp.pinpoint.plugin.okhttp.OkHttpPluginConfig;
 import com.navercorp.pinpoint.plugin.okhttp.interceptor.AsyncCallExecuteMethodInterceptor;
 import com.navercorp.pinpoint.plugin.okhttp.interceptor.DispatcherEnqueueMethodInterceptor;
+import com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectMethodInterceptor;
+import com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectSocketMethodInterceptor;
+import com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectTlsMethodInterceptor;
+import com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.StreamAllocationFindConnectionMethodInterceptor;
 
 import java.security.ProtectionDomain;
 
@@ -68,6 +72,10 @@ public class OkHttpPlugin implements ProfilerPlugin, TransformTemplateAware {
         addBridegInterceptor();
         addRequestBuilder();
         addRealConnection();
+        if (config.isConnectPhase()) {
+            addStreamAllocation();
+            addRouteSelector();
+        }
 
         // 3.0 ~ 3.3
         addHttpEngine(config);
@@ -215,30 +223,31 @@ public class OkHttpPlugin implements ProfilerPlugin, TransformTemplateAware {
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
+            final OkHttpPluginConfig config = new OkHttpPluginConfig(instrumentor.getProfilerConfig());
 
             boolean addRouteGetter = false;
             // 3.4.x, 3.5.x
             final InstrumentMethod connectMethod1 = target.getDeclaredMethod("connect", "int", "int", "int", "java.util.List", "boolean");
             if (connectMethod1 != null) {
-                connectMethod1.addInterceptor(com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectMethodInterceptor.class);
+                connectMethod1.addScopedInterceptor(RealConnectionConnectMethodInterceptor.class, va(config.isConnectPhase()), OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.BOUNDARY);
                 addRouteGetter = true;
             }
             // 3.6.x - 3.8.x
             final InstrumentMethod connectMethod2 = target.getDeclaredMethod("connect", "int", "int", "int", "boolean");
             if (connectMethod2 != null) {
-                connectMethod2.addInterceptor(com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectMethodInterceptor.class);
+                connectMethod2.addScopedInterceptor(RealConnectionConnectMethodInterceptor.class, va(config.isConnectPhase()), OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.BOUNDARY);
                 addRouteGetter = true;
             }
             // 3.9.0
             final InstrumentMethod connectMethod3 = target.getDeclaredMethod("connect", "int", "int", "int", "boolean", "okhttp3.Call", "okhttp3.EventListener");
             if (connectMethod3 != null) {
-                connectMethod3.addInterceptor(com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectMethodInterceptor.class);
+                connectMethod3.addScopedInterceptor(RealConnectionConnectMethodInterceptor.class, va(config.isConnectPhase()), OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.BOUNDARY);
                 addRouteGetter = true;
             }
             // 3.10.0+
             final InstrumentMethod connectMethod4 = target.getDeclaredMethod("connect", "int", "int", "int", "int", "boolean", "okhttp3.Call", "okhttp3.EventListener");
             if (connectMethod4 != null) {
-                connectMethod4.addInterceptor(com.navercorp.pinpoint.plugin.okhttp.v3.interceptor.RealConnectionConnectMethodInterceptor.class);
+                connectMethod4.addScopedInterceptor(RealConnectionConnectMethodInterceptor.class, va(config.isConnectPhase()), OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.BOUNDARY);
                 addRouteGetter = true;
             }
 
@@ -246,6 +255,55 @@ public class OkHttpPlugin implements ProfilerPlugin, TransformTemplateAware {
                 target.addGetter(com.navercorp.pinpoint.plugin.okhttp.v3.RouteGetter.class, "route");
             }
 
+            if (addRouteGetter && config.isConnectPhase()) {
+                for (InstrumentMethod connectSocketMethod : target.getDeclaredMethods(MethodFilters.name("connectSocket"))) {
+                    connectSocketMethod.addScopedInterceptor(RealConnectionConnectSocketMethodInterceptor.class, OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.INTERNAL);
+                }
+                for (InstrumentMethod connectTlsMethod : target.getDeclaredMethods(MethodFilters.name("connectTls"))) {
+                    connectTlsMethod.addScopedInterceptor(RealConnectionConnectTlsMethodInterceptor.class, OkHttpConstants.CONNECT_SCOPE, ExecutionPolicy.INTERNAL);
+                }
+            }
+
+            return target.toBytecode();
+        }
+    }
+
+    private void addStreamAllocation() {
+        transformTemplate.transform("okhttp3.internal.connection.StreamAllocation", StreamAllocationTransform.class);
+    }
+
+    public static class StreamAllocationTransform implements TransformCallback {
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
+
+            target.addGetter(com.navercorp.pinpoint.plugin.okhttp.v3.AddressGetter.class, "address");
+            // pooled or new connection, before the health check
+            for (InstrumentMethod findConnectionMethod : target.getDeclaredMethods(MethodFilters.name("findConnection"))) {
+                findConnectionMethod.addInterceptor(StreamAllocationFindConnectionMethodInterceptor.class);
+            }
+
+            return target.toBytecode();
+        }
+    }
+
+    private void addRouteSelector() {
+        transformTemplate.transform("okhttp3.internal.connection.RouteSelector", RouteSelectorTransform.class);
+    }
+
+    public static class RouteSelectorTransform implements TransformCallback {
+
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
+
+            // dns lookup of the next proxy
+            final InstrumentMethod resetNextInetSocketAddressMethod = target.getDeclaredMethod("resetNextInetSocketAddress", "java.net.Proxy");
+            if (resetNextInetSocketAddressMethod != null) {
+                resetNextInetSocketAddressMethod.addInterceptor(BasicMethodInterceptor.class, va(OkHttpConstants.OK_HTTP_CLIENT_INTERNAL));
+            }
+
             return target.toBytecode();
         }
     }
@@ -20,8 +20,10 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
 import com.navercorp.pinpoint.common.plugin.util.HostAndPort;
 import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.plugin.okhttp.ConnectPhaseContext;
 import com.navercorp.pinpoint.plugin.okhttp.OkHttpConstants;
 import com.navercorp.pinpoint.plugin.okhttp.v3.RouteGetter;
 import okhttp3.Address;
@@ -31,12 +33,20 @@ import okhttp3.Route;
  * @author jaehong.kim
  */
 public class RealConnectionConnectMethodInterceptor extends SpanEventSimpleAroundInterceptorForPlugin {
-    public RealConnectionConnectMethodInterceptor(TraceContext traceContext, MethodDescriptor descriptor) {
+    private final InterceptorScope scope;
+    private final boolean connectPhase;
+
+    public RealConnectionConnectMethodInterceptor(TraceContext traceContext, MethodDescriptor descriptor, InterceptorScope scope, boolean connectPhase) {
         super(traceContext, descriptor);
+        this.scope = scope;
+        this.connectPhase = connectPhase;
     }
 
     @Override
     protected void doInBeforeTrace(SpanEventRecorder recorder, Object target, Object[] args) {
+        if (connectPhase) {
+            scope.getCurrentInvocation().setAttachment(new ConnectPhaseContext());
+        }
     }
 
     @Override
@@ -52,6 +62,16 @@ public class RealConnectionConnectMethodInterceptor extends SpanEventSimpleAroun
                 recorder.recordAttribute(AnnotationKey.HTTP_INTERNAL_DISPLAY, hostAndPort);
             }
         }
+
+        if (connectPhase) {
+            final Object attachment = scope.getCurrentInvocation().removeAttachment();
+            if (attachment instanceof ConnectPhaseContext) {
+                final ConnectPhaseContext connectPhaseContext = (ConnectPhaseContext) attachment;
+                if (connectPhaseContext.hasSocketPhase()) {
+                    recorder.recordAttribute(AnnotationKey.HTTP_CONNECT, connectPhaseContext.toAnnotationValue());
+                }
+            }
+        }
     }
 
     private String getHostAndPort(Route route) {
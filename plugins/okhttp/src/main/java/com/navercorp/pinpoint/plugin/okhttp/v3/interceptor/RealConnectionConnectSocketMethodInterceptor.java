@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.okhttp.v3.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.plugin.http.HttpConnectionMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.common.plugin.util.HostAndPort;
+import com.navercorp.pinpoint.plugin.okhttp.ConnectPhaseContext;
+import com.navercorp.pinpoint.plugin.okhttp.OkHttpConstants;
+import com.navercorp.pinpoint.plugin.okhttp.v3.RouteGetter;
+import okhttp3.Address;
+import okhttp3.Route;
+
+/**
+ * Counts the new connections, and times the socket connect when the connect method is traced.
+ */
+public class RealConnectionConnectSocketMethodInterceptor implements AroundInterceptor {
+
+    private final InterceptorScope scope;
+    private final HttpConnectionMetrics metrics = HttpConnectionMetrics.get(OkHttpConstants.CONNECTION_METRIC_CLIENT_NAME);
+
+    public RealConnectionConnectSocketMethodInterceptor(InterceptorScope scope, CustomMetricRegistry customMetricRegistry) {
+        this.scope = scope;
+        this.metrics.register(customMetricRegistry);
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        final Object attachment = scope.getCurrentInvocation().getAttachment();
+        if (attachment instanceof ConnectPhaseContext) {
+            ((ConnectPhaseContext) attachment).socketStart();
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable == null) {
+            metrics.recordConnect(getHost(target));
+        }
+        final Object attachment = scope.getCurrentInvocation().getAttachment();
+        if (attachment instanceof ConnectPhaseContext) {
+            ((ConnectPhaseContext) attachment).socketEnd(throwable != null);
+        }
+    }
+
+    private String getHost(Object target) {
+        if (target instanceof RouteGetter) {
+            final Route route = ((RouteGetter) target)._$PINPOINT$_getRoute();
+            if (route != null) {
+                final Address address = route.address();
+                return HostAndPort.toHostAndPortString(address.url().host(), address.url().port());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.okhttp.v3.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.plugin.okhttp.ConnectPhaseContext;
+
+/**
+ * Times the tls handshake when the connect method is traced.
+ */
+public class RealConnectionConnectTlsMethodInterceptor implements AroundInterceptor {
+
+    private final InterceptorScope scope;
+
+    public RealConnectionConnectTlsMethodInterceptor(InterceptorScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        final Object attachment = scope.getCurrentInvocation().getAttachment();
+        if (attachment instanceof ConnectPhaseContext) {
+            ((ConnectPhaseContext) attachment).tlsStart();
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        final Object attachment = scope.getCurrentInvocation().getAttachment();
+        if (attachment instanceof ConnectPhaseContext) {
+            ((ConnectPhaseContext) attachment).tlsEnd(throwable != null);
+        }
+    }
+}
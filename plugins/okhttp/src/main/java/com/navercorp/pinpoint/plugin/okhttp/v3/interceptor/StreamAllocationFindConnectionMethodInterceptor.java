@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.okhttp.v3.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.http.interceptor.ConnectionAcquireInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.common.plugin.util.HostAndPort;
+import com.navercorp.pinpoint.plugin.okhttp.OkHttpConstants;
+import com.navercorp.pinpoint.plugin.okhttp.v3.AddressGetter;
+import okhttp3.Address;
+
+/**
+ * Counts the connections found for a stream, pooled or new, per host of the stream address.
+ */
+public class StreamAllocationFindConnectionMethodInterceptor extends ConnectionAcquireInterceptor {
+
+    public StreamAllocationFindConnectionMethodInterceptor(CustomMetricRegistry customMetricRegistry) {
+        super(customMetricRegistry, OkHttpConstants.CONNECTION_METRIC_CLIENT_NAME);
+    }
+
+    @Override
+    protected String getHost(Object target, Object[] args) {
+        if (target instanceof AddressGetter) {
+            final Address address = ((AddressGetter) target)._$PINPOINT$_getAddress();
+            if (address != null) {
+                return HostAndPort.toHostAndPortString(address.url().host(), address.url().port());
+            }
+        }
+        return null;
+    }
+}
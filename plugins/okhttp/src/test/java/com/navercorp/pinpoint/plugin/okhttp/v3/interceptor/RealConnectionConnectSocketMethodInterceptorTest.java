@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.okhttp.v3.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+import com.navercorp.pinpoint.bootstrap.plugin.http.HttpConnectionMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.common.util.IntBooleanIntBooleanValue;
+import com.navercorp.pinpoint.plugin.okhttp.ConnectPhaseContext;
+import com.navercorp.pinpoint.plugin.okhttp.OkHttpConstants;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class RealConnectionConnectSocketMethodInterceptorTest {
+
+    // the okhttp counters are registered once per jvm, by the first interceptor of any test
+    private static final CustomMetricRegistry CUSTOM_METRIC_REGISTRY = mock(CustomMetricRegistry.class);
+
+    @Test
+    public void connectCounter_sharedByInterceptors() {
+        InterceptorScope scope = mock(InterceptorScope.class);
+        InterceptorScopeInvocation invocation = mock(InterceptorScopeInvocation.class);
+        doReturn(invocation).when(scope).getCurrentInvocation();
+
+        RealConnectionConnectSocketMethodInterceptor interceptor1 = new RealConnectionConnectSocketMethodInterceptor(scope, CUSTOM_METRIC_REGISTRY);
+        RealConnectionConnectSocketMethodInterceptor interceptor2 = new RealConnectionConnectSocketMethodInterceptor(scope, CUSTOM_METRIC_REGISTRY);
+
+        LongCounter connectCounter = registeredConnectCounter();
+
+        final long connectCount = connectCounter.getValue();
+        interceptor1.after(null, null, null, null);
+        interceptor2.after(null, null, null, null);
+        interceptor2.after(null, null, null, new IOException("refused"));
+
+        Assertions.assertEquals(connectCount + 2, connectCounter.getValue());
+    }
+
+    @Test
+    public void socketPhase() {
+        InterceptorScope scope = mock(InterceptorScope.class);
+        InterceptorScopeInvocation invocation = mock(InterceptorScopeInvocation.class);
+        doReturn(invocation).when(scope).getCurrentInvocation();
+        ConnectPhaseContext connectPhaseContext = new ConnectPhaseContext();
+        doReturn(connectPhaseContext).when(invocation).getAttachment();
+
+        RealConnectionConnectSocketMethodInterceptor interceptor = new RealConnectionConnectSocketMethodInterceptor(scope, CUSTOM_METRIC_REGISTRY);
+        Assertions.assertFalse(connectPhaseContext.hasSocketPhase());
+
+        interceptor.before(null, null);
+        interceptor.after(null, null, null, new IOException("refused"));
+
+        Assertions.assertTrue(connectPhaseContext.hasSocketPhase());
+        IntBooleanIntBooleanValue value = connectPhaseContext.toAnnotationValue();
+        Assertions.assertTrue(value.isBooleanValue1());
+        Assertions.assertEquals(-1, value.getIntValue2());
+    }
+
+    private LongCounter registeredConnectCounter() {
+        ArgumentCaptor<LongCounter> captor = ArgumentCaptor.forClass(LongCounter.class);
+        verify(CUSTOM_METRIC_REGISTRY, times(2)).register(captor.capture());
+        List<LongCounter> counters = captor.getAllValues();
+        final String name = HttpConnectionMetrics.connectCountName(OkHttpConstants.CONNECTION_METRIC_CLIENT_NAME);
+        for (LongCounter counter : counters) {
+            if (counter.getName().equals(name)) {
+                return counter;
+            }
+        }
+        throw new AssertionError(name + " not registered");
+    }
+}
@@ -27,7 +27,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMethodFilter;
@@ -211,7 +211,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
             final List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(excludes);
             if (!declaredMethods.isEmpty()) {
                 target.addField(ParsingResultAccessor.class);
-                target.addField(BindValueAccessor.class);
+                target.addField(DeferredBindValueAccessor.class);
 
                 int maxBindValueSize = config.getMaxSqlBindValueSize();
 
@@ -255,7 +255,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
             final List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(excludes);
             if (!declaredMethods.isEmpty()) {
                 target.addField(ParsingResultAccessor.class);
-                target.addField(BindValueAccessor.class);
+                target.addField(DeferredBindValueAccessor.class);
 
                 int maxBindValueSize = config.getMaxSqlBindValueSize();
 
@@ -410,7 +410,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
 
             target.addField(DatabaseInfoAccessor.class);
             target.addField(ParsingResultAccessor.class);
-            target.addField(BindValueAccessor.class);
+            target.addField(DeferredBindValueAccessor.class);
 
             PostgreSqlConfig config = new PostgreSqlConfig(instrumentor.getProfilerConfig());
             int maxBindValueSize = config.getMaxSqlBindValueSize();
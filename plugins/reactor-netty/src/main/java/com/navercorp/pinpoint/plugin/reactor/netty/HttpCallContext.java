@@ -17,6 +17,8 @@
 package com.navercorp.pinpoint.plugin.reactor.netty;
 
 public class HttpCallContext {
+    private long connectBeginTime;
+
     private long readBeginTime;
     private long readEndTime;
     private boolean readFail;
@@ -25,6 +27,10 @@ public class HttpCallContext {
     private long writeEndTime;
     private boolean writeFail;
 
+    public void setConnectBeginTime(long connectBeginTime) {
+        this.connectBeginTime = connectBeginTime;
+    }
+
     public void setReadBeginTime(long readBeginTime) {
         this.readBeginTime = readBeginTime;
     }
@@ -57,6 +63,14 @@ public class HttpCallContext {
         this.writeFail = writeFail;
     }
 
+    public long getConnectElapsedTime(long connectEndTime) {
+        if (connectBeginTime == 0) {
+            return 0;
+        }
+        long result = connectEndTime - connectBeginTime;
+        return result > 0 ? result : 0;
+    }
+
     public long getWriteElapsedTime() {
         if (writeBeginTime == 0) {
             return 0;
@@ -76,7 +90,8 @@ public class HttpCallContext {
     @Override
     public String toString() {
         return "HttpCallContext{" +
-                "readBeginTime=" + readBeginTime +
+                "connectBeginTime=" + connectBeginTime +
+                ", readBeginTime=" + readBeginTime +
                 ", readEndTime=" + readEndTime +
                 ", readFail=" + readFail +
                 ", writeBeginTime=" + writeBeginTime +
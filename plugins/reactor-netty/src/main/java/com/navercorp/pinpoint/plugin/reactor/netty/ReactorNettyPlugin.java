@@ -50,6 +50,7 @@ import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpClientOperati
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpClientOperationsOnOutboundCompleteInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpClientOperationsOnOutboundErrorInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpClientOperationsSendInterceptor;
+import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpIOHandlerObserverConnectionMetricInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpIOHandlerObserverConstructorInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpIOHandlerObserverOnStateChangeInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.netty.interceptor.HttpServerHandleInterceptor;
@@ -271,9 +272,13 @@ public class ReactorNettyPlugin implements ProfilerPlugin, MatchableTransformTem
             if (constructorMethod != null) {
                 constructorMethod.addInterceptor(HttpIOHandlerObserverConstructorInterceptor.class);
             }
+            final ReactorNettyPluginConfig config = new ReactorNettyPluginConfig(instrumentor.getProfilerConfig());
             final InstrumentMethod onStateChangeMethod = target.getDeclaredMethod("onStateChange", "reactor.netty.Connection", "reactor.netty.ConnectionObserver$State");
             if (onStateChangeMethod != null) {
-                onStateChangeMethod.addInterceptor(HttpIOHandlerObserverOnStateChangeInterceptor.class);
+                onStateChangeMethod.addInterceptor(HttpIOHandlerObserverOnStateChangeInterceptor.class, va(config.isConnectPhase()));
+                if (config.isConnectionMetric()) {
+                    onStateChangeMethod.addInterceptor(HttpIOHandlerObserverConnectionMetricInterceptor.class);
+                }
             }
 
             return target.toBytecode();
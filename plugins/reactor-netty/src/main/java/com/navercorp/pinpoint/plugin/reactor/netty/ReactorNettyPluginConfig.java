@@ -39,6 +39,8 @@ public class ReactorNettyPluginConfig {
     private final List<String> traceSubscribeErrorExcludeMessageList;
     private final boolean clientEnable;
     private boolean param = true;
+    private final boolean connectPhase;
+    private final boolean connectionMetric;
 
     public ReactorNettyPluginConfig(ProfilerConfig config) {
         Objects.requireNonNull(config, "config");
@@ -57,6 +59,8 @@ public class ReactorNettyPluginConfig {
         // Client
         this.clientEnable = config.readBoolean("profiler.reactor-netty.client.enable", true);
         this.param = config.readBoolean("profiler.reactor-netty.client.param", true);
+        this.connectPhase = config.readBoolean("profiler.reactor-netty.client.connect.phase", false);
+        this.connectionMetric = config.readBoolean("profiler.reactor-netty.client.connection.metric", false);
 
         // Reactor
         this.traceSubscribeError = config.readBoolean("profiler.reactor-netty.trace.subscribe.error", true);
@@ -111,6 +115,14 @@ public class ReactorNettyPluginConfig {
         return param;
     }
 
+    public boolean isConnectPhase() {
+        return connectPhase;
+    }
+
+    public boolean isConnectionMetric() {
+        return connectionMetric;
+    }
+
     @Override
     public String toString() {
         return "ReactorNettyPluginConfig{" +
@@ -126,6 +138,8 @@ public class ReactorNettyPluginConfig {
                 ", traceSubscribeErrorExcludeMessageList=" + traceSubscribeErrorExcludeMessageList +
                 ", clientEnable=" + clientEnable +
                 ", param=" + param +
+                ", connectPhase=" + connectPhase +
+                ", connectionMetric=" + connectionMetric +
                 '}';
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.netty.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.http.HttpConnectionMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.common.plugin.util.HostAndPort;
+import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
+import com.navercorp.pinpoint.plugin.reactor.netty.ReactorNettyConstants;
+import io.netty.channel.Channel;
+import reactor.netty.Connection;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Counts the connections handed to http requests from the connection observer states,
+ * {@code [connected]} for a new connection and {@code [acquired]} for a pooled one.
+ *
+ * @see HttpConnectionMetrics
+ */
+public class HttpIOHandlerObserverConnectionMetricInterceptor implements AroundInterceptor {
+    private static final String CONNECTED = "[connected]";
+    private static final String ACQUIRED = "[acquired]";
+
+    private final HttpConnectionMetrics metrics = HttpConnectionMetrics.get(ReactorNettyConstants.CONNECTION_METRIC_CLIENT_NAME);
+
+    public HttpIOHandlerObserverConnectionMetricInterceptor(CustomMetricRegistry customMetricRegistry) {
+        this.metrics.register(customMetricRegistry);
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        // for compatibility.
+        final Object state = ArrayArgumentUtils.getArgument(args, 1, Object.class);
+        if (state == null) {
+            return;
+        }
+        final String rawState = state.toString();
+        if (rawState.equals(CONNECTED)) {
+            final String host = getHost(args);
+            metrics.recordAcquire(host);
+            metrics.recordConnect(host);
+        } else if (rawState.equals(ACQUIRED)) {
+            metrics.recordAcquire(getHost(args));
+        }
+    }
+
+    private String getHost(Object[] args) {
+        final Connection connection = ArrayArgumentUtils.getArgument(args, 0, Connection.class);
+        if (connection == null) {
+            return null;
+        }
+        final Channel channel = connection.channel();
+        if (channel == null) {
+            return null;
+        }
+        final SocketAddress remoteAddress = channel.remoteAddress();
+        if (remoteAddress instanceof InetSocketAddress) {
+            final InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteAddress;
+            return HostAndPort.toHostAndPortString(inetSocketAddress.getHostString(), inetSocketAddress.getPort());
+        }
+        return null;
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+    }
+}
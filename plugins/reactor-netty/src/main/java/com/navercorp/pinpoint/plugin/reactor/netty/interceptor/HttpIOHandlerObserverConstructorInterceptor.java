@@ -52,7 +52,10 @@ public class HttpIOHandlerObserverConstructorInterceptor implements AroundInterc
             }
             AsyncContextAccessorUtils.setAsyncContext(asyncContext, target);
             if (target instanceof HttpCallContextAccessor) {
-                ((HttpCallContextAccessor) target)._$PINPOINT$_setHttpCallContext(new HttpCallContext());
+                final HttpCallContext httpCallContext = new HttpCallContext();
+                // the observer is created when the connection is requested
+                httpCallContext.setConnectBeginTime(System.currentTimeMillis());
+                ((HttpCallContextAccessor) target)._$PINPOINT$_setHttpCallContext(httpCallContext);
             }
         } catch (Throwable th) {
             if (logger.isWarnEnabled()) {
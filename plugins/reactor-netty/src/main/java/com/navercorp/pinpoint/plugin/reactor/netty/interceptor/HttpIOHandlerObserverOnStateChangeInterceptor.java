@@ -52,8 +52,11 @@ public class HttpIOHandlerObserverOnStateChangeInterceptor extends AsyncContextS
     // Propagated when a connection is being fully closed
     private static final String DISCONNECTING = "[disconnecting]";
 
-    public HttpIOHandlerObserverOnStateChangeInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor) {
+    private final boolean connectPhase;
+
+    public HttpIOHandlerObserverOnStateChangeInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, boolean connectPhase) {
         super(traceContext, methodDescriptor);
+        this.connectPhase = connectPhase;
     }
 
     @Override
@@ -93,6 +96,9 @@ public class HttpIOHandlerObserverOnStateChangeInterceptor extends AsyncContextS
             if (isReady(rawState)) {
                 final String value = "READY " + rawState;
                 recorder.recordAttribute(AnnotationKey.HTTP_INTERNAL_DISPLAY, value);
+                if (connectPhase && rawState.equals(CONNECTED)) {
+                    recordConnect(recorder, target);
+                }
             } else if (isClosed(rawState)) {
                 if (target instanceof HttpCallContextAccessor) {
                     final HttpCallContext httpCallContext = ((HttpCallContextAccessor) target)._$PINPOINT$_getHttpCallContext();
@@ -109,6 +115,17 @@ public class HttpIOHandlerObserverOnStateChangeInterceptor extends AsyncContextS
         }
     }
 
+    // a new connection, a pooled one is [acquired]. reactor netty does not expose the dns, socket and tls phases separately
+    private void recordConnect(SpanEventRecorder recorder, Object target) {
+        if (target instanceof HttpCallContextAccessor) {
+            final HttpCallContext httpCallContext = ((HttpCallContextAccessor) target)._$PINPOINT$_getHttpCallContext();
+            if (httpCallContext != null) {
+                final long connectTime = httpCallContext.getConnectElapsedTime(System.currentTimeMillis());
+                recorder.recordAttribute(AnnotationKey.HTTP_CONNECT, new IntBooleanIntBooleanValue((int) connectTime, false, -1, false));
+            }
+        }
+    }
+
     @Override
     public void doInBeforeTrace(SpanEventRecorder recorder, AsyncContext asyncContext, Object target, Object[] args) {
     }
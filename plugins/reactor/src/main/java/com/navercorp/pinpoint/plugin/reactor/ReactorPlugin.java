@@ -68,6 +68,7 @@ import static com.navercorp.pinpoint.common.util.VarArgs.va;
 public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplateAware {
     private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
     private MatchableTransformTemplate transformTemplate;
+    private boolean propagateSubscribeOnly;
 
     private static final String[] PROCESSOR = {
             "reactor.core.publisher.MonoProcessor",
@@ -91,6 +92,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             return;
         }
         logger.info("{} version range=[3.1.0.RELEASE, 3.3.0.RELEASE], config:{}", this.getClass().getSimpleName(), config);
+        this.propagateSubscribeOnly = config.isPropagateSubscribeOnly();
 
         addFlux();
         addMono();
@@ -432,7 +434,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
     private void addCoreSubscriber() {
         final Matcher coreSubscriberMatcher = Matchers.newPackageBasedMatcher("reactor.core.publisher", new InterfaceInternalNameMatcherOperand("reactor.core.CoreSubscriber", true));
-        transformTemplate.transform(coreSubscriberMatcher, CoreSubscriberTransform.class);
+        transformTemplate.transform(coreSubscriberMatcher, new CoreSubscriberTransform(propagateSubscribeOnly));
     }
 
     private void addProcessor() {
@@ -472,10 +474,15 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addFluxTransform(String className) {
-        transformTemplate.transform(className, FluxTransform.class);
+        transformTemplate.transform(className, FluxTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class FluxTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public FluxTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
 
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
@@ -493,7 +500,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(FluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -506,10 +513,16 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addFluxOperatorTransform(String className) {
-        transformTemplate.transform(className, FluxOperatorTransform.class);
+        transformTemplate.transform(className, FluxOperatorTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class FluxOperatorTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public FluxOperatorTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -517,16 +530,18 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             target.addField(AsyncContextAccessor.class);
             target.addField(ReactorContextAccessor.class);
 
-            for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
-                final String[] parameterTypes = constructorMethod.getParameterTypes();
-                if (ArrayUtils.hasLength(parameterTypes)) {
-                    constructorMethod.addInterceptor(FluxOperatorConstructorInterceptor.class);
+            if (!propagateSubscribeOnly) {
+                for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
+                    final String[] parameterTypes = constructorMethod.getParameterTypes();
+                    if (ArrayUtils.hasLength(parameterTypes)) {
+                        constructorMethod.addInterceptor(FluxOperatorConstructorInterceptor.class);
+                    }
                 }
             }
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxOperatorSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(FluxOperatorSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -621,10 +636,16 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addMonoTransform(String className) {
-        transformTemplate.transform(className, MonoTransform.class);
+        transformTemplate.transform(className, MonoTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class MonoTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public MonoTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -640,7 +661,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             }
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(MonoSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(MonoSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -653,10 +674,16 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addMonoOperatorTransform(String className) {
-        transformTemplate.transform(className, MonoOperatorTransform.class);
+        transformTemplate.transform(className, MonoOperatorTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class MonoOperatorTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public MonoOperatorTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -664,15 +691,17 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             target.addField(AsyncContextAccessor.class);
             target.addField(ReactorContextAccessor.class);
 
-            for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
-                final String[] parameterTypes = constructorMethod.getParameterTypes();
-                if (ArrayUtils.hasLength(parameterTypes)) {
-                    constructorMethod.addInterceptor(MonoOperatorConstructorInterceptor.class);
+            if (!propagateSubscribeOnly) {
+                for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
+                    final String[] parameterTypes = constructorMethod.getParameterTypes();
+                    if (ArrayUtils.hasLength(parameterTypes)) {
+                        constructorMethod.addInterceptor(MonoOperatorConstructorInterceptor.class);
+                    }
                 }
             }
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(MonoOperatorSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(MonoOperatorSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -735,10 +764,16 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addParallelFluxTransform(String className) {
-        transformTemplate.transform(className, ParallelFluxTransform.class);
+        transformTemplate.transform(className, ParallelFluxTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class ParallelFluxTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public ParallelFluxTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -746,16 +781,18 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             target.addField(AsyncContextAccessor.class);
             target.addField(ReactorContextAccessor.class);
 
-            for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
-                final String[] parameterTypes = constructorMethod.getParameterTypes();
-                if (ArrayUtils.hasLength(parameterTypes)) {
-                    constructorMethod.addInterceptor(ParallelFluxConstructorInterceptor.class);
+            if (!propagateSubscribeOnly) {
+                for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
+                    final String[] parameterTypes = constructorMethod.getParameterTypes();
+                    if (ArrayUtils.hasLength(parameterTypes)) {
+                        constructorMethod.addInterceptor(ParallelFluxConstructorInterceptor.class);
+                    }
                 }
             }
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber[]");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(ParallelFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(ParallelFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             return target.toBytecode();
         }
@@ -779,10 +816,16 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
     }
 
     void addConnectableFluxTransform(String className) {
-        transformTemplate.transform(className, ConnectableFluxTransform.class);
+        transformTemplate.transform(className, ConnectableFluxTransform.class, new Object[]{propagateSubscribeOnly}, new Class[]{boolean.class});
     }
 
     public static class ConnectableFluxTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public ConnectableFluxTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -790,20 +833,22 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             target.addField(AsyncContextAccessor.class);
             target.addField(ReactorContextAccessor.class);
 
-            for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
-                final String[] parameterTypes = constructorMethod.getParameterTypes();
-                if (ArrayUtils.hasLength(parameterTypes)) {
-                    constructorMethod.addInterceptor(ConnectableFluxConstructorInterceptor.class);
+            if (!propagateSubscribeOnly) {
+                for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
+                    final String[] parameterTypes = constructorMethod.getParameterTypes();
+                    if (ArrayUtils.hasLength(parameterTypes)) {
+                        constructorMethod.addInterceptor(ConnectableFluxConstructorInterceptor.class);
+                    }
                 }
             }
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(ConnectableFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                subscribeMethod.addInterceptor(ConnectableFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
             final InstrumentMethod connectMethod = target.getDeclaredMethod("connect", "java.util.function.Consumer");
             if (connectMethod != null) {
-                connectMethod.addInterceptor(ConnectableFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY));
+                connectMethod.addInterceptor(ConnectableFluxSubscribeInterceptor.class, va(ReactorConstants.REACTOR_NETTY, propagateSubscribeOnly));
             }
 
             return target.toBytecode();
@@ -812,6 +857,12 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
     // reactor.core.publisher.MonoIgnoreThen
     public static class CoreSubscriberTransform implements TransformCallback {
+        private final boolean propagateSubscribeOnly;
+
+        public CoreSubscriberTransform(boolean propagateSubscribeOnly) {
+            this.propagateSubscribeOnly = propagateSubscribeOnly;
+        }
+
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(loader, className, classfileBuffer);
@@ -819,10 +870,12 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             target.addField(AsyncContextAccessor.class);
             target.addField(ReactorContextAccessor.class);
 
-            for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
-                final String[] parameterTypes = constructorMethod.getParameterTypes();
-                if (ArrayUtils.hasLength(parameterTypes)) {
-                    constructorMethod.addInterceptor(CoreSubscriberConstructorInterceptor.class);
+            if (!propagateSubscribeOnly) {
+                for (InstrumentMethod constructorMethod : target.getDeclaredConstructors()) {
+                    final String[] parameterTypes = constructorMethod.getParameterTypes();
+                    if (ArrayUtils.hasLength(parameterTypes)) {
+                        constructorMethod.addInterceptor(CoreSubscriberConstructorInterceptor.class);
+                    }
                 }
             }
 
@@ -30,6 +30,7 @@ public class ReactorPluginConfig {
     private final List<String> traceSubscribeErrorExcludeMessageList;
     private final boolean traceSchedule;
     private final boolean traceSchedulePeriodically;
+    private final boolean propagateSubscribeOnly;
 
     public ReactorPluginConfig(ProfilerConfig config) {
         Objects.requireNonNull(config, "config");
@@ -40,6 +41,7 @@ public class ReactorPluginConfig {
         this.traceSubscribeErrorExcludeMessageList = config.readList("profiler.reactor.trace.subscribe.error.exclude.message");
         this.traceSchedule = config.readBoolean("profiler.reactor.trace.schedule", true);
         this.traceSchedulePeriodically = config.readBoolean("profiler.reactor.trace.schedule.periodically", false);
+        this.propagateSubscribeOnly = config.readBoolean("profiler.reactor.propagate.subscribe.only", false);
     }
 
     public boolean isEnable() {
@@ -62,6 +64,13 @@ public class ReactorPluginConfig {
         return traceSchedulePeriodically;
     }
 
+    /**
+     * Skips the operator and subscriber constructors, the reactor context is carried on the subscribers of each subscription.
+     */
+    public boolean isPropagateSubscribeOnly() {
+        return propagateSubscribeOnly;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("ReactorPluginConfig{");
@@ -69,6 +78,7 @@ public class ReactorPluginConfig {
         sb.append(", traceSubscribeError=").append(traceSubscribeError);
         sb.append(", traceSubscribeErrorExcludeMessageList=").append(traceSubscribeErrorExcludeMessageList);
         sb.append(", traceSchedulePeriodically=").append(traceSchedulePeriodically);
+        sb.append(", propagateSubscribeOnly=").append(propagateSubscribeOnly);
         sb.append('}');
         return sb.toString();
     }
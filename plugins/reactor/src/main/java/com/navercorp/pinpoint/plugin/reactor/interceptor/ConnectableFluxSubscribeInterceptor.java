@@ -16,14 +16,28 @@
 
 package com.navercorp.pinpoint.plugin.reactor.interceptor;
 
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessorUtils;
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.plugin.reactor.FluxAndMonoOperatorSubscribeInterceptor;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
 public class ConnectableFluxSubscribeInterceptor extends FluxAndMonoOperatorSubscribeInterceptor {
+    private final boolean propagateSubscribeOnly;
 
-    public ConnectableFluxSubscribeInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, ServiceType serviceType) {
+    public ConnectableFluxSubscribeInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, ServiceType serviceType, boolean propagateSubscribeOnly) {
         super(traceContext, methodDescriptor, serviceType);
+        this.propagateSubscribeOnly = propagateSubscribeOnly;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext(Object target, Object[] args) {
+        if (propagateSubscribeOnly) {
+            // per subscription, the target may be subscribed again by another trace
+            ReactorSubscribeContextUtils.setReactorContextToSubscriber(target, args);
+            return AsyncContextAccessorUtils.getAsyncContext(target);
+        }
+        return super.getAsyncContext(target, args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessorUtils;
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorContextAccessorUtils;
+import com.navercorp.pinpoint.common.util.ArrayUtils;
+import reactor.core.Scannable;
+
+/**
+ * Carries the reactor context along one subscription, for the subscribe only propagation mode.
+ * <p>
+ * The operators and the subscribers are not intercepted at assembly in this mode.
+ * Nothing is written to the publishers, a publisher can be subscribed many times and by different traces.
+ * The subscriber of each subscribe call takes the reactor context of its downstream subscribers, which belong to the
+ * same subscription, or else the async context the publisher or one of its upstream publishers was created with.
+ */
+public final class ReactorSubscribeContextUtils {
+
+    // guards against a cyclic chain
+    private static final int MAX_CHAIN_DEPTH = 256;
+
+    private ReactorSubscribeContextUtils() {
+    }
+
+    /**
+     * @param args the arguments of subscribe, args[0] is a subscriber or an array of subscribers
+     */
+    public static void setReactorContextToSubscriber(final Object target, final Object[] args) {
+        if (!ArrayUtils.isArrayIndexValid(args, 0)) {
+            return;
+        }
+        final Object arg = args[0];
+        if (arg instanceof Object[]) {
+            for (Object subscriber : (Object[]) arg) {
+                setReactorContextToSubscriber(target, subscriber);
+            }
+        } else {
+            setReactorContextToSubscriber(target, arg);
+        }
+    }
+
+    static void setReactorContextToSubscriber(final Object target, final Object subscriber) {
+        if (subscriber == null) {
+            return;
+        }
+        if (ReactorContextAccessorUtils.getAsyncContext(subscriber) != null) {
+            // handed over by a downstream subscribe of the same subscription
+            return;
+        }
+        AsyncContext asyncContext = findSubscriberReactorContext(actual(subscriber));
+        if (asyncContext == null) {
+            asyncContext = findPublisherAsyncContext(target);
+        }
+        if (asyncContext != null) {
+            ReactorContextAccessorUtils.setAsyncContext(asyncContext, subscriber);
+        }
+    }
+
+    // downstream
+    static AsyncContext findSubscriberReactorContext(Object subscriber) {
+        for (int depth = 0; subscriber != null && depth < MAX_CHAIN_DEPTH; depth++) {
+            final AsyncContext asyncContext = ReactorContextAccessorUtils.getAsyncContext(subscriber);
+            if (asyncContext != null) {
+                return asyncContext;
+            }
+            subscriber = actual(subscriber);
+        }
+        return null;
+    }
+
+    // upstream, read only
+    static AsyncContext findPublisherAsyncContext(Object publisher) {
+        for (int depth = 0; publisher != null && depth < MAX_CHAIN_DEPTH; depth++) {
+            final AsyncContext asyncContext = AsyncContextAccessorUtils.getAsyncContext(publisher);
+            if (asyncContext != null) {
+                return asyncContext;
+            }
+            publisher = scan(publisher, Scannable.Attr.PARENT);
+        }
+        return null;
+    }
+
+    private static Object actual(Object subscriber) {
+        return scan(subscriber, Scannable.Attr.ACTUAL);
+    }
+
+    private static Object scan(Object object, Scannable.Attr<?> attr) {
+        if (object instanceof Scannable) {
+            return ((Scannable) object).scanUnsafe(attr);
+        }
+        return null;
+    }
+}
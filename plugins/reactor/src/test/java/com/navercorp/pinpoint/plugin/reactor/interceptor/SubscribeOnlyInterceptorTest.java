@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessor;
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorContextAccessor;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import org.junit.jupiter.api.Test;
+import reactor.core.Scannable;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class SubscribeOnlyInterceptorTest {
+    final TraceContext mockTraceContext = mock(TraceContext.class);
+    final MethodDescriptor mockMethodDescriptor = mock(MethodDescriptor.class);
+    final ServiceType mockServiceType = mock(ServiceType.class);
+
+    final MonoSubscribeInterceptor sourceInterceptor = new MonoSubscribeInterceptor(mockTraceContext, mockMethodDescriptor, mockServiceType, true);
+    final MonoOperatorSubscribeInterceptor operatorInterceptor = new MonoOperatorSubscribeInterceptor(mockTraceContext, mockMethodDescriptor, mockServiceType, true);
+
+    @Test
+    public void twoSubscriptionsToOnePublisher() {
+        final MockPublisher source = new MockPublisher(null);
+        final MockPublisher operator = new MockPublisher(source);
+
+        final AsyncContext trace1 = mock(AsyncContext.class);
+        final MockSubscriber inner1 = subscribe(operator, source, newSubscriber(trace1));
+
+        final AsyncContext trace2 = mock(AsyncContext.class);
+        final MockSubscriber inner2 = subscribe(operator, source, newSubscriber(trace2));
+
+        // each subscription keeps its own trace
+        assertSame(trace1, inner1._$PINPOINT$_getReactorContext());
+        assertSame(trace2, inner2._$PINPOINT$_getReactorContext());
+        // the reused publishers are not written
+        assertNull(operator._$PINPOINT$_getReactorContext());
+        assertNull(source._$PINPOINT$_getReactorContext());
+    }
+
+    @Test
+    public void downstreamChain() {
+        final MockPublisher source = new MockPublisher(null);
+        final AsyncContext trace = mock(AsyncContext.class);
+        // subscribers created by operators without a subscribe interceptor in between
+        final MockSubscriber subscriber = new MockSubscriber(new MockSubscriber(newSubscriber(trace)));
+
+        sourceInterceptor.getAsyncContext(source, new Object[]{subscriber});
+
+        assertSame(trace, subscriber._$PINPOINT$_getReactorContext());
+    }
+
+    @Test
+    public void publisherCreatedInTrace() {
+        final AsyncContext createdIn = mock(AsyncContext.class);
+        final MockPublisher source = new MockPublisher(null);
+        source._$PINPOINT$_setAsyncContext(createdIn);
+        final MockPublisher operator = new MockPublisher(source);
+
+        final MockSubscriber subscriber = newSubscriber(null);
+        final AsyncContext asyncContext = operatorInterceptor.getAsyncContext(operator, new Object[]{subscriber});
+
+        assertNull(asyncContext);
+        assertSame(createdIn, subscriber._$PINPOINT$_getReactorContext());
+        assertNull(operator._$PINPOINT$_getReactorContext());
+
+        // a subscribing trace wins over the trace the publisher was created in
+        final AsyncContext trace = mock(AsyncContext.class);
+        final MockSubscriber inner = subscribe(operator, source, newSubscriber(trace));
+        assertSame(trace, inner._$PINPOINT$_getReactorContext());
+        assertSame(createdIn, sourceInterceptor.getAsyncContext(source, new Object[]{inner}));
+    }
+
+    @Test
+    public void parallelSubscribers() {
+        final ParallelFluxSubscribeInterceptor interceptor = new ParallelFluxSubscribeInterceptor(mockTraceContext, mockMethodDescriptor, mockServiceType, true);
+        final MockPublisher parallel = new MockPublisher(null);
+
+        final AsyncContext trace1 = mock(AsyncContext.class);
+        final AsyncContext trace2 = mock(AsyncContext.class);
+        final MockSubscriber rail1 = new MockSubscriber(newSubscriber(trace1));
+        final MockSubscriber rail2 = new MockSubscriber(newSubscriber(trace2));
+        interceptor.getAsyncContext(parallel, new Object[]{new Object[]{rail1, rail2}});
+
+        assertSame(trace1, rail1._$PINPOINT$_getReactorContext());
+        assertSame(trace2, rail2._$PINPOINT$_getReactorContext());
+        assertNull(parallel._$PINPOINT$_getReactorContext());
+    }
+
+    // operator.subscribe(downstream) calls source.subscribe(inner), inner wraps downstream
+    private MockSubscriber subscribe(MockPublisher operator, MockPublisher source, MockSubscriber downstream) {
+        operatorInterceptor.getAsyncContext(operator, new Object[]{downstream});
+        final MockSubscriber inner = new MockSubscriber(downstream);
+        sourceInterceptor.getAsyncContext(source, new Object[]{inner});
+        return inner;
+    }
+
+    private static MockSubscriber newSubscriber(AsyncContext reactorContext) {
+        final MockSubscriber subscriber = new MockSubscriber(null);
+        subscriber._$PINPOINT$_setReactorContext(reactorContext);
+        return subscriber;
+    }
+
+    static class MockScannable implements Scannable, AsyncContextAccessor, ReactorContextAccessor {
+        private final Scannable.Attr<?> linkAttr;
+        private final Object link;
+        private AsyncContext asyncContext;
+        private AsyncContext reactorContext;
+
+        MockScannable(Scannable.Attr<?> linkAttr, Object link) {
+            this.linkAttr = linkAttr;
+            this.link = link;
+        }
+
+        @Override
+        public Object scanUnsafe(Attr key) {
+            if (key == linkAttr) {
+                return link;
+            }
+            return null;
+        }
+
+        @Override
+        public void _$PINPOINT$_setAsyncContext(AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public AsyncContext _$PINPOINT$_getAsyncContext() {
+            return asyncContext;
+        }
+
+        @Override
+        public void _$PINPOINT$_setReactorContext(AsyncContext reactorContext) {
+            this.reactorContext = reactorContext;
+        }
+
+        @Override
+        public AsyncContext _$PINPOINT$_getReactorContext() {
+            return reactorContext;
+        }
+    }
+
+    static class MockPublisher extends MockScannable {
+        MockPublisher(MockPublisher parent) {
+            super(Attr.PARENT, parent);
+        }
+    }
+
+    static class MockSubscriber extends MockScannable {
+        MockSubscriber(MockSubscriber actual) {
+            super(Attr.ACTUAL, actual);
+        }
+    }
+}
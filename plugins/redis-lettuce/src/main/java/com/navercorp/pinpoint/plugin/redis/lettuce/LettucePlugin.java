@@ -201,10 +201,11 @@ public class LettucePlugin implements ProfilerPlugin, TransformTemplateAware {
             if (getter) {
                 target.addGetter(StatefulConnectionGetter.class, "connection");
             }
+            final LettucePluginConfig config = new LettucePluginConfig(instrumentor.getProfilerConfig());
             final LettuceMethodNameFilter lettuceMethodNameFilter = new LettuceMethodNameFilter();
             for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(lettuceMethodNameFilter, MethodFilters.modifierNot(MethodFilters.SYNTHETIC)))) {
                 try {
-                    method.addScopedInterceptor(LettuceMethodInterceptor.class, LettuceConstants.REDIS_SCOPE);
+                    method.addScopedInterceptor(LettuceMethodInterceptor.class, va(config.isAggregate(), config.getAggregateSlowThreshold()), LettuceConstants.REDIS_SCOPE);
                 } catch (Exception e) {
                     final PLogger logger = PLoggerFactory.getLogger(this.getClass());
                     if (logger.isWarnEnabled()) {
@@ -22,19 +22,33 @@ import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
  */
 public class LettucePluginConfig {
     private final boolean enable;
+    private final boolean aggregate;
+    private final int aggregateSlowThreshold;
 
     public LettucePluginConfig(ProfilerConfig src) {
         this.enable = src.readBoolean("profiler.redis.lettuce.enable", true);
+        this.aggregate = src.readBoolean("profiler.redis.lettuce.aggregate", false);
+        this.aggregateSlowThreshold = src.readInt("profiler.redis.lettuce.aggregate.slow.threshold", 10);
     }
 
     public boolean isEnable() {
         return enable;
     }
 
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    public int getAggregateSlowThreshold() {
+        return aggregateSlowThreshold;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("LettucePluginConfig{");
         sb.append("enable=").append(enable);
+        sb.append(", aggregate=").append(aggregate);
+        sb.append(", aggregateSlowThreshold=").append(aggregateSlowThreshold);
         sb.append('}');
         return sb.toString();
     }
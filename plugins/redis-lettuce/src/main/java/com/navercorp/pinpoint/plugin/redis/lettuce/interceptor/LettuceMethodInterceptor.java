@@ -21,8 +21,12 @@ import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessorUtils;
 import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
+import com.navercorp.pinpoint.bootstrap.plugin.aggregation.CommandAggregation;
+import com.navercorp.pinpoint.bootstrap.plugin.aggregation.CommandAggregator;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.plugin.redis.lettuce.EndPointAccessor;
 import com.navercorp.pinpoint.plugin.redis.lettuce.LettuceConstants;
 import com.navercorp.pinpoint.plugin.redis.lettuce.StatefulConnectionGetter;
@@ -32,8 +36,37 @@ import com.navercorp.pinpoint.plugin.redis.lettuce.StatefulConnectionGetter;
  */
 public class LettuceMethodInterceptor extends SpanEventSimpleAroundInterceptorForPlugin {
 
-    public LettuceMethodInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor) {
+    private final CommandAggregator commandAggregator;
+
+    public LettuceMethodInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, boolean aggregate, int aggregateSlowThreshold) {
         super(traceContext, methodDescriptor);
+        this.commandAggregator = aggregate ? new CommandAggregator(AnnotationKey.REDIS_AGGREGATE, aggregateSlowThreshold) : null;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        if (commandAggregator == null) {
+            super.before(target, args);
+            return;
+        }
+        final Trace trace = currentTrace();
+        final CommandAggregation aggregation = trace != null ? commandAggregator.getAggregation(trace) : null;
+        super.before(target, args);
+        if (trace != null) {
+            commandAggregator.begin(trace, aggregation);
+        }
+    }
+
+    // a folded command records no async context, the completion of its future is not traced
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (commandAggregator != null) {
+            final Trace trace = currentTrace();
+            if (trace != null && commandAggregator.end(trace, getEndPoint(target), getMethodDescriptor().getMethodName(), throwable)) {
+                return;
+            }
+        }
+        super.after(target, args, result, throwable);
     }
 
     @Override
@@ -43,9 +76,8 @@ public class LettuceMethodInterceptor extends SpanEventSimpleAroundInterceptorFo
     @Override
     public void doInAfterTrace(SpanEventRecorder recorder, Object target, Object[] args, Object result,
                                Throwable throwable) {
-        final String endPoint = toEndPoint(target);
         recorder.recordApi(getMethodDescriptor());
-        recorder.recordEndPoint(endPoint != null ? endPoint : "UNKNOWN");
+        recorder.recordEndPoint(getEndPoint(target));
         recorder.recordDestinationId(LettuceConstants.REDIS_LETTUCE.getName());
         recorder.recordServiceType(LettuceConstants.REDIS_LETTUCE);
         recorder.recordException(throwable);
@@ -62,6 +94,11 @@ public class LettuceMethodInterceptor extends SpanEventSimpleAroundInterceptorFo
         }
     }
 
+    private String getEndPoint(final Object target) {
+        final String endPoint = toEndPoint(target);
+        return endPoint != null ? endPoint : "UNKNOWN";
+    }
+
     private String toEndPoint(final Object target) {
         if (!(target instanceof StatefulConnectionGetter)) {
             return null;
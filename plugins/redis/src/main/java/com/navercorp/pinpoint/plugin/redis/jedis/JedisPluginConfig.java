@@ -27,11 +27,15 @@ public class JedisPluginConfig {
     private final boolean enable;
     private final boolean pipeline;
     private final boolean io;
+    private final boolean aggregate;
+    private final int aggregateSlowThreshold;
 
     public JedisPluginConfig(ProfilerConfig src) {
         this.enable = readBoolean(src, Arrays.asList("profiler.redis.jedis.enable", "profiler.redis.enable", "profiler.redis"), true);
         this.pipeline = readBoolean(src, Arrays.asList( "profiler.redis.jedis.pipeline", "profiler.redis.pipeline"), true);
         this.io = readBoolean(src, Arrays.asList("profiler.redis.jedis.io", "profiler.redis.io"), true);
+        this.aggregate = src.readBoolean("profiler.redis.jedis.aggregate", false);
+        this.aggregateSlowThreshold = src.readInt("profiler.redis.jedis.aggregate.slow.threshold", 10);
     }
 
     private boolean readBoolean(final ProfilerConfig src, final List<String> nameList, final boolean defaultValue) {
@@ -56,12 +60,22 @@ public class JedisPluginConfig {
         return io;
     }
 
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    public int getAggregateSlowThreshold() {
+        return aggregateSlowThreshold;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("{");
         sb.append("enable=").append(enable);
         sb.append(", pipeline=").append(pipeline);
         sb.append(", io=").append(io);
+        sb.append(", aggregate=").append(aggregate);
+        sb.append(", aggregateSlowThreshold=").append(aggregateSlowThreshold);
         sb.append('}');
         return sb.toString();
     }
@@ -46,7 +46,7 @@ public final class JedisUtils {
         JedisMethodNameFilter jedisMethodNameFilter = new JedisMethodNameFilter();
         for (InstrumentMethod method : target.getDeclaredMethods(MethodFilters.chain(jedisMethodNameFilter, MethodFilters.modifierNot(MethodFilters.SYNTHETIC)))) {
             try {
-                method.addScopedInterceptor(JedisMethodInterceptor.class, va(config.isIo()), scope);
+                method.addScopedInterceptor(JedisMethodInterceptor.class, va(config.isIo(), config.isAggregate(), config.getAggregateSlowThreshold()), scope);
             } catch (Exception e) {
                 final PLogger logger = PLoggerFactory.getLogger(JedisUtils.class.getClass());
                 if (logger.isWarnEnabled()) {
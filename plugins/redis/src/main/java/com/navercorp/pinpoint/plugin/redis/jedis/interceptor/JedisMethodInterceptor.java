@@ -18,10 +18,13 @@ package com.navercorp.pinpoint.plugin.redis.jedis.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+import com.navercorp.pinpoint.bootstrap.plugin.aggregation.CommandAggregation;
+import com.navercorp.pinpoint.bootstrap.plugin.aggregation.CommandAggregator;
 import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.util.IntBooleanIntBooleanValue;
 import com.navercorp.pinpoint.plugin.redis.jedis.CommandContext;
@@ -38,12 +41,43 @@ public class JedisMethodInterceptor extends SpanEventSimpleAroundInterceptorForP
 
     private final InterceptorScope interceptorScope;
     private final boolean io;
+    private final CommandAggregator commandAggregator;
 
-    public JedisMethodInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, InterceptorScope interceptorScope, boolean io) {
+    public JedisMethodInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, InterceptorScope interceptorScope, boolean io, boolean aggregate, int aggregateSlowThreshold) {
         super(traceContext, methodDescriptor);
 
         this.interceptorScope = interceptorScope;
         this.io = io;
+        this.commandAggregator = aggregate ? new CommandAggregator(AnnotationKey.REDIS_AGGREGATE, aggregateSlowThreshold) : null;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        if (commandAggregator == null) {
+            super.before(target, args);
+            return;
+        }
+        final Trace trace = currentTrace();
+        final CommandAggregation aggregation = trace != null ? commandAggregator.getAggregation(trace) : null;
+        super.before(target, args);
+        if (trace != null) {
+            commandAggregator.begin(trace, aggregation);
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (commandAggregator != null) {
+            final Trace trace = currentTrace();
+            if (trace != null && commandAggregator.end(trace, getEndPoint(target), getMethodDescriptor().getMethodName(), throwable)) {
+                final InterceptorScopeInvocation invocation = interceptorScope.getCurrentInvocation();
+                if (invocation != null) {
+                    invocation.removeAttachment();
+                }
+                return;
+            }
+        }
+        super.after(target, args, result, throwable);
     }
 
     @Override
@@ -56,12 +90,6 @@ public class JedisMethodInterceptor extends SpanEventSimpleAroundInterceptorForP
 
     @Override
     public void doInAfterTrace(SpanEventRecorder recorder, Object target, Object[] args, Object result, Throwable throwable) {
-        String endPoint = null;
-
-        if (target instanceof EndPointAccessor) {
-            endPoint = ((EndPointAccessor) target)._$PINPOINT$_getEndPoint();
-        }
-
         final InterceptorScopeInvocation invocation = interceptorScope.getCurrentInvocation();
         final Object attachment = getAttachment(invocation);
         if (attachment instanceof CommandContext) {
@@ -75,12 +103,20 @@ public class JedisMethodInterceptor extends SpanEventSimpleAroundInterceptorForP
         }
 
         recorder.recordApi(getMethodDescriptor());
-        recorder.recordEndPoint(endPoint != null ? endPoint : "Unknown");
+        recorder.recordEndPoint(getEndPoint(target));
         recorder.recordDestinationId(JedisConstants.REDIS.getName());
         recorder.recordServiceType(JedisConstants.REDIS);
         recorder.recordException(throwable);
     }
 
+    private String getEndPoint(Object target) {
+        String endPoint = null;
+        if (target instanceof EndPointAccessor) {
+            endPoint = ((EndPointAccessor) target)._$PINPOINT$_getEndPoint();
+        }
+        return endPoint != null ? endPoint : "Unknown";
+    }
+
     private void recordIo(SpanEventRecorder recorder, CommandContext callContext) {
         if (io) {
             IntBooleanIntBooleanValue value = new IntBooleanIntBooleanValue((int) callContext.getWriteElapsedTime(), callContext.isWriteFail(), (int) callContext.getReadElapsedTime(), callContext.isReadFail());
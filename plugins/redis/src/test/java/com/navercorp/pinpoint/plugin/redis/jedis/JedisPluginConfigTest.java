@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Properties;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -37,6 +38,7 @@ public class JedisPluginConfigTest {
         assertTrue(config.isEnable());
         assertTrue(config.isPipeline());
         assertTrue(config.isIo());
+        assertFalse(config.isAggregate());
 
         properties.setProperty("profiler.redis", "false");
         properties.setProperty("profiler.redis.pipeline", "false");
@@ -61,4 +63,16 @@ public class JedisPluginConfigTest {
         assertTrue(config.isPipeline());
         assertTrue(config.isIo());
     }
+
+    @Test
+    public void aggregate() {
+        Properties properties = new Properties();
+        properties.setProperty("profiler.redis.jedis.aggregate", "true");
+        properties.setProperty("profiler.redis.jedis.aggregate.slow.threshold", "5");
+        ProfilerConfig profilerConfig = ProfilerConfigLoader.load(properties);
+        JedisPluginConfig config = new JedisPluginConfig(profilerConfig);
+
+        assertTrue(config.isAggregate());
+        assertEquals(5, config.getAggregateSlowThreshold());
+    }
 }
\ No newline at end of file
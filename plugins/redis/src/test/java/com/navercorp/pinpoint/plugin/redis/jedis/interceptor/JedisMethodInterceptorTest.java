@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.redis.jedis.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.plugin.redis.jedis.EndPointAccessor;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.AsyncContextFactory;
+import com.navercorp.pinpoint.profiler.context.CallStackFactoryV1;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.errorhandler.BypassErrorHandler;
+import com.navercorp.pinpoint.profiler.context.exception.ExceptionRecordingService;
+import com.navercorp.pinpoint.profiler.context.exception.disabled.DisabledExceptionContext;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.recorder.DefaultSpanRecorder;
+import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class JedisMethodInterceptorTest {
+
+    private final List<SpanEvent> spanEvents = new ArrayList<>();
+
+    @Test
+    public void aggregate() {
+        Trace trace = newTrace();
+        JedisMethodInterceptor interceptor = newInterceptor(trace);
+        Object target = new RedisClient("localhost:6379");
+
+        // calling frame
+        trace.traceBlockBegin();
+        // first command of the run
+        command(interceptor, target, null);
+        // command having a child event, e.g. the netty write of the command
+        command(interceptor, target, trace);
+        // folded
+        command(interceptor, target, null);
+        command(interceptor, target, null);
+        trace.traceBlockEnd();
+
+        Assertions.assertEquals(4, spanEvents.size());
+        SpanEvent child = spanEvents.get(1);
+        SpanEvent command = spanEvents.get(2);
+        // the command keeps the span event its child refers to
+        Assertions.assertEquals("localhost:6379", command.getEndPoint());
+        Assertions.assertEquals(command.getSequence() + 1, child.getSequence());
+        Assertions.assertEquals(3, child.getDepth());
+
+        SpanEvent parent = spanEvents.get(3);
+        Assertions.assertEquals(0, parent.getSequence());
+        List<String> aggregates = new ArrayList<>();
+        for (Annotation<?> annotation : parent.getAnnotations()) {
+            if (annotation.getKey() == AnnotationKey.REDIS_AGGREGATE.getCode()) {
+                aggregates.add((String) annotation.getValue());
+            }
+        }
+        Assertions.assertEquals(1, aggregates.size());
+        Assertions.assertTrue(aggregates.get(0).startsWith("endPoint=localhost:6379, count=2,"), aggregates.get(0));
+    }
+
+    private void command(JedisMethodInterceptor interceptor, Object target, Trace childTrace) {
+        interceptor.before(target, null);
+        if (childTrace != null) {
+            childTrace.traceBlockBegin();
+            childTrace.traceBlockEnd();
+        }
+        interceptor.after(target, null, null, null);
+    }
+
+    private JedisMethodInterceptor newInterceptor(Trace trace) {
+        TraceContext traceContext = mock(TraceContext.class);
+        doReturn(trace).when(traceContext).currentTraceObject();
+        MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        doReturn("get").when(methodDescriptor).getMethodName();
+        InterceptorScope interceptorScope = mock(InterceptorScope.class);
+        return new JedisMethodInterceptor(traceContext, methodDescriptor, interceptorScope, false, true, 10000);
+    }
+
+    private Trace newTrace() {
+        TraceRoot traceRoot = mock(TraceRoot.class);
+        doReturn(mock(Shared.class)).when(traceRoot).getShared();
+        StringMetaDataService stringMetaDataService = mock(StringMetaDataService.class);
+        SqlMetaDataService sqlMetaDataService = mock(SqlMetaDataService.class);
+        ExceptionRecordingService exceptionRecordingService = mock(ExceptionRecordingService.class);
+        BypassErrorHandler errorHandler = new BypassErrorHandler();
+
+        Span span = new DefaultSpanFactory().newSpan(traceRoot);
+        SpanRecorder spanRecorder = new DefaultSpanRecorder(span, stringMetaDataService, sqlMetaDataService, errorHandler, exceptionRecordingService);
+        WrappedSpanEventRecorder wrappedSpanEventRecorder = new WrappedSpanEventRecorder(traceRoot, mock(AsyncContextFactory.class),
+                stringMetaDataService, sqlMetaDataService, errorHandler, exceptionRecordingService);
+        Storage storage = new Storage() {
+            @Override
+            public void store(SpanEvent spanEvent) {
+                spanEvents.add(spanEvent);
+            }
+
+            @Override
+            public void store(Span span) {
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        return new DefaultTrace(span, new CallStackFactoryV1(64, -1, 1000).newCallStack(), storage,
+                spanRecorder, wrappedSpanEventRecorder, DisabledExceptionContext.INSTANCE);
+    }
+
+    private static class RedisClient implements EndPointAccessor {
+        private String endPoint;
+
+        private RedisClient(String endPoint) {
+            this.endPoint = endPoint;
+        }
+
+        @Override
+        public void _$PINPOINT$_setEndPoint(String endPoint) {
+            this.endPoint = endPoint;
+        }
+
+        @Override
+        public String _$PINPOINT$_getEndPoint() {
+            return endPoint;
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class ThreadConfig {
     private final boolean runnable;
     private final boolean callable;
     private final boolean supplier;
+    private final boolean queueTime;
+    private final boolean executorMetric;
 
     public ThreadConfig(ProfilerConfig config) {
         this.enable = config.readBoolean("profiler.thread.enable", true);
@@ -26,6 +28,8 @@ public class ThreadConfig {
         this.runnable = supportType(types, "Runnable");
         this.callable = supportType(types, "Callable");
         this.supplier = supportType(types, "Supplier");
+        this.queueTime = config.readBoolean("profiler.thread.queue-time.enable", false);
+        this.executorMetric = config.readBoolean("profiler.thread.executor-metric.enable", false);
     }
 
     private boolean supportType(List<String> types, String supportType) {
@@ -57,6 +61,14 @@ public class ThreadConfig {
         return supplier;
     }
 
+    public boolean isQueueTime() {
+        return queueTime;
+    }
+
+    public boolean isExecutorMetric() {
+        return executorMetric;
+    }
+
     @Override
     public String toString() {
         return "ThreadConfig{" +
@@ -65,6 +77,8 @@ public class ThreadConfig {
                 ", runnable=" + runnable +
                 ", callable=" + callable +
                 ", supplier=" + supplier +
+                ", queueTime=" + queueTime +
+                ", executorMetric=" + executorMetric +
                 '}';
     }
 }
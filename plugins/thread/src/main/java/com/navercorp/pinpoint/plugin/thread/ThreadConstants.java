@@ -9,6 +9,7 @@ import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
 public class ThreadConstants {
 
     public static final String SCOPE_NAME = "THREAD_ASYNC";
+    public static final String QUEUE_TIME_SCOPE_NAME = "THREAD_QUEUE_TIME";
 
     public static final ServiceType SERVICE_TYPE = ServiceTypeFactory.of(6001, SCOPE_NAME);
 }
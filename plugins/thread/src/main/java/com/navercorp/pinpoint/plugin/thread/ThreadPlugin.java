@@ -16,12 +16,19 @@ import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.thread.interceptor.ExecutorGetTaskInterceptor;
+import com.navercorp.pinpoint.plugin.thread.interceptor.ExecutorRejectInterceptor;
+import com.navercorp.pinpoint.plugin.thread.interceptor.ExecutorRetransformInterceptor;
+import com.navercorp.pinpoint.plugin.thread.interceptor.TaskEnqueueInterceptor;
+import com.navercorp.pinpoint.plugin.thread.interceptor.TaskStartInterceptor;
 import com.navercorp.pinpoint.plugin.thread.interceptor.ThreadCallInterceptor;
 import com.navercorp.pinpoint.plugin.thread.interceptor.ThreadConstructorInterceptor;
 
 import java.security.ProtectionDomain;
 import java.util.List;
 
+import static com.navercorp.pinpoint.common.util.VarArgs.va;
+
 /**
  * @author echo
  * <p>
@@ -85,6 +92,8 @@ public class ThreadPlugin implements ProfilerPlugin, MatchableTransformTemplateA
             if (callMethod != null) {
                 callMethod.addInterceptor(ThreadCallInterceptor.class);
             }
+            addQueueTimeInterceptor(instrumentor, target, allConstructor, callMethod);
+            addExecutorRetransformInterceptor(instrumentor, allConstructor);
             return target.toBytecode();
         }
     }
@@ -103,6 +112,8 @@ public class ThreadPlugin implements ProfilerPlugin, MatchableTransformTemplateA
             if (callMethod != null) {
                 callMethod.addInterceptor(ThreadCallInterceptor.class);
             }
+            addQueueTimeInterceptor(instrumentor, target, allConstructor, callMethod);
+            addExecutorRetransformInterceptor(instrumentor, allConstructor);
             return target.toBytecode();
         }
     }
@@ -120,6 +131,52 @@ public class ThreadPlugin implements ProfilerPlugin, MatchableTransformTemplateA
             if (callMethod != null) {
                 callMethod.addInterceptor(ThreadCallInterceptor.class);
             }
+            addQueueTimeInterceptor(instrumentor, target, allConstructor, callMethod);
+            addExecutorRetransformInterceptor(instrumentor, allConstructor);
+            return target.toBytecode();
+        }
+    }
+
+    static void addQueueTimeInterceptor(Instrumentor instrumentor, InstrumentClass target, List<InstrumentMethod> constructors, InstrumentMethod callMethod) throws InstrumentException {
+        final ThreadConfig threadConfig = new ThreadConfig(instrumentor.getProfilerConfig());
+        if (!threadConfig.isQueueTime() || callMethod == null) {
+            return;
+        }
+        target.addField(EnqueueTimeAccessor.class);
+        for (InstrumentMethod constructor : constructors) {
+            constructor.addScopedInterceptor(TaskEnqueueInterceptor.class, ThreadConstants.QUEUE_TIME_SCOPE_NAME);
+        }
+        callMethod.addInterceptor(TaskStartInterceptor.class);
+    }
+
+    static void addExecutorRetransformInterceptor(Instrumentor instrumentor, List<InstrumentMethod> constructors) throws InstrumentException {
+        final ThreadConfig threadConfig = new ThreadConfig(instrumentor.getProfilerConfig());
+        if (!threadConfig.isExecutorMetric()) {
+            return;
+        }
+        final TransformCallback executorTransform = new ThreadPoolExecutorTransform();
+        for (InstrumentMethod constructor : constructors) {
+            constructor.addInterceptor(ExecutorRetransformInterceptor.class, va(executorTransform));
+        }
+    }
+
+    /**
+     * Applied by retransforming the loaded class, so no field is added.
+     */
+    public static class ThreadPoolExecutorTransform implements TransformCallback {
+        @Override
+        public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
+            final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, protectionDomain, classfileBuffer);
+            // called by the running workers too, and checked once per worker thread
+            final InstrumentMethod getTaskMethod = target.getDeclaredMethod("getTask");
+            if (getTaskMethod != null) {
+                getTaskMethod.addInterceptor(ExecutorGetTaskInterceptor.class);
+            }
+            // called for every rejected task, before the rejection policy
+            final InstrumentMethod rejectMethod = target.getDeclaredMethod("reject", "java.lang.Runnable");
+            if (rejectMethod != null) {
+                rejectMethod.addInterceptor(ExecutorRejectInterceptor.class);
+            }
             return target.toBytecode();
         }
     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Adds the executor to the metrics of its name from the first {@code getTask()} of each worker thread.
+ * {@code getTask()} is intercepted rather than {@code runWorker()} because the workers started before
+ * {@link ThreadPoolExecutor} is retransformed keep running the old {@code runWorker()}.
+ * <p>
+ * The executors are kept in a weak identity map, since a field cannot be added to an already loaded class.
+ */
+public class ExecutorGetTaskInterceptor implements AroundInterceptor {
+
+    private static final List<ExecutorEntry> EXECUTORS = new ArrayList<>();
+
+    private final ThreadLocal<Boolean> workerAdded = new ThreadLocal<>();
+    private final CustomMetricRegistry customMetricRegistry;
+
+    public ExecutorGetTaskInterceptor(CustomMetricRegistry customMetricRegistry) {
+        this.customMetricRegistry = Objects.requireNonNull(customMetricRegistry, "customMetricRegistry");
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        // a worker thread serves a single executor
+        if (workerAdded.get() != null) {
+            return;
+        }
+        workerAdded.set(Boolean.TRUE);
+        if (!(target instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        final ThreadPoolExecutor executor = (ThreadPoolExecutor) target;
+        if (getExecutorMetrics(executor) != null) {
+            return;
+        }
+        final String executorName = ExecutorMetrics.executorName(Thread.currentThread().getName());
+        final ExecutorMetrics executorMetrics = ExecutorMetrics.get(executorName);
+        if (executorMetrics == null) {
+            return;
+        }
+        executorMetrics.add(executor, customMetricRegistry);
+        putExecutorMetrics(executor, executorMetrics);
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+    }
+
+    /**
+     * @return null if no worker of the executor has asked for a task yet
+     */
+    static ExecutorMetrics getExecutorMetrics(Object executor) {
+        synchronized (EXECUTORS) {
+            final Iterator<ExecutorEntry> iterator = EXECUTORS.iterator();
+            while (iterator.hasNext()) {
+                final ExecutorEntry entry = iterator.next();
+                final Object entryExecutor = entry.get();
+                if (entryExecutor == null) {
+                    iterator.remove();
+                } else if (entryExecutor == executor) {
+                    return entry.executorMetrics;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static void putExecutorMetrics(ThreadPoolExecutor executor, ExecutorMetrics executorMetrics) {
+        synchronized (EXECUTORS) {
+            for (ExecutorEntry entry : EXECUTORS) {
+                if (entry.get() == executor) {
+                    return;
+                }
+            }
+            EXECUTORS.add(new ExecutorEntry(executor, executorMetrics));
+        }
+    }
+
+    private static class ExecutorEntry extends WeakReference<ThreadPoolExecutor> {
+        private final ExecutorMetrics executorMetrics;
+
+        private ExecutorEntry(ThreadPoolExecutor executor, ExecutorMetrics executorMetrics) {
+            super(executor);
+            this.executorMetrics = executorMetrics;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.instrument.Instrumentor;
+import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback;
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.logging.PLogger;
+import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Retransforms {@link ThreadPoolExecutor} when the first matched task is created.
+ * The class is loaded by the JVM before the agent sets up the plugins, so a load time transform never applies to it.
+ */
+public class ExecutorRetransformInterceptor implements AroundInterceptor {
+
+    private final PLogger logger = PLoggerFactory.getLogger(this.getClass());
+
+    private final Instrumentor instrumentor;
+    private final TransformCallback transformCallback;
+
+    public ExecutorRetransformInterceptor(Instrumentor instrumentor, TransformCallback transformCallback) {
+        this.instrumentor = Objects.requireNonNull(instrumentor, "instrumentor");
+        this.transformCallback = Objects.requireNonNull(transformCallback, "transformCallback");
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        if (!ExecutorMetrics.markRetransformed()) {
+            return;
+        }
+        try {
+            instrumentor.retransform(ThreadPoolExecutor.class, transformCallback);
+            logger.info("Retransform {}", ThreadPoolExecutor.class.getName());
+        } catch (Exception e) {
+            logger.warn("Failed to retransform {}", ThreadPoolExecutor.class.getName(), e);
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.TaskQueueMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.plugin.thread.EnqueueTimeAccessor;
+
+/**
+ * Stamps the creation time of the task, which is close enough to the submission for the usual
+ * {@code executor.submit(new Task())}.
+ */
+public class TaskEnqueueInterceptor implements AroundInterceptor {
+
+    public TaskEnqueueInterceptor(CustomMetricRegistry customMetricRegistry) {
+        TaskQueueMetrics.register(customMetricRegistry);
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (throwable == null && target instanceof EnqueueTimeAccessor) {
+            ((EnqueueTimeAccessor) target)._$PINPOINT$_setEnqueueTime(System.nanoTime());
+        }
+    }
+}
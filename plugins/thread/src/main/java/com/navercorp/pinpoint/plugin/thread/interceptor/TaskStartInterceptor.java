@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.TaskQueueMetrics;
+import com.navercorp.pinpoint.plugin.thread.EnqueueTimeAccessor;
+
+/**
+ * Records the queue time when the task starts and clears the stamp when it ends,
+ * so a task that runs again (e.g. a periodic task) is counted only once.
+ */
+public class TaskStartInterceptor implements AroundInterceptor {
+
+    @Override
+    public void before(Object target, Object[] args) {
+        if (target instanceof EnqueueTimeAccessor) {
+            final long enqueueTime = ((EnqueueTimeAccessor) target)._$PINPOINT$_getEnqueueTime();
+            if (enqueueTime != 0) {
+                TaskQueueMetrics.recordStart(System.nanoTime() - enqueueTime);
+            }
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        if (target instanceof EnqueueTimeAccessor) {
+            ((EnqueueTimeAccessor) target)._$PINPOINT$_setEnqueueTime(0);
+        }
+    }
+}
@@ -5,8 +5,12 @@ import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AsyncContextSpanEventSimpleAroundInterceptor;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.plugin.thread.EnqueueTimeAccessor;
 import com.navercorp.pinpoint.plugin.thread.ThreadConstants;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author echo
  */
@@ -17,6 +21,13 @@ public class ThreadCallInterceptor extends AsyncContextSpanEventSimpleAroundInte
 
     @Override
     protected void doInBeforeTrace(SpanEventRecorder recorder, AsyncContext asyncContext, Object target, Object[] args) {
+        if (target instanceof EnqueueTimeAccessor) {
+            final long enqueueTime = ((EnqueueTimeAccessor) target)._$PINPOINT$_getEnqueueTime();
+            if (enqueueTime != 0) {
+                final long waitTime = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - enqueueTime);
+                recorder.recordAttribute(AnnotationKey.EXECUTOR_WAIT, waitTime);
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutorGetTaskInterceptorTest {
+
+    @Test
+    public void getTaskAndReject() throws InterruptedException {
+        CustomMetricRegistry registry = Mockito.mock(CustomMetricRegistry.class);
+        ExecutorGetTaskInterceptor getTaskInterceptor = new ExecutorGetTaskInterceptor(registry);
+        ExecutorRejectInterceptor rejectInterceptor = new ExecutorRejectInterceptor();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        try {
+            // rejected before a worker asked for a task
+            rejectInterceptor.before(executor, null);
+            Assertions.assertNull(ExecutorGetTaskInterceptor.getExecutorMetrics(executor));
+
+            Thread worker = new Thread(() -> {
+                getTaskInterceptor.before(executor, null);
+                getTaskInterceptor.before(executor, null);
+            }, "getTask-test-pool-1");
+            worker.start();
+            worker.join(10000);
+
+            ExecutorMetrics executorMetrics = ExecutorGetTaskInterceptor.getExecutorMetrics(executor);
+            Assertions.assertSame(ExecutorMetrics.get("getTask-test-pool"), executorMetrics);
+
+            rejectInterceptor.before(executor, null);
+
+            ArgumentCaptor<LongCounter> captor = ArgumentCaptor.forClass(LongCounter.class);
+            Mockito.verify(registry, Mockito.times(1)).register(captor.capture());
+            LongCounter rejectCount = captor.getValue();
+            Assertions.assertEquals(ExecutorMetrics.rejectCountName("getTask-test-pool"), rejectCount.getName());
+            Assertions.assertEquals(1, rejectCount.getValue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
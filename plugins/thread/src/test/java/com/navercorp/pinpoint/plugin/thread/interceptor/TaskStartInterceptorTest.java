@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.TaskQueueMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetricRegistry;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.plugin.thread.EnqueueTimeAccessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TaskStartInterceptorTest {
+
+    // the counters are registered once per JVM
+    private static final LongCounter START_COUNTER = startCounter();
+
+    @Test
+    public void startAndClear() {
+        long startCount = START_COUNTER.getValue();
+
+        TaskStartInterceptor interceptor = new TaskStartInterceptor();
+        Task task = new Task();
+        task._$PINPOINT$_setEnqueueTime(System.nanoTime());
+
+        interceptor.before(task, null);
+        interceptor.after(task, null, null, null);
+        Assertions.assertEquals(startCount + 1, START_COUNTER.getValue());
+        Assertions.assertEquals(0, task._$PINPOINT$_getEnqueueTime());
+
+        // a task run again, e.g. a periodic task, is not counted again
+        interceptor.before(task, null);
+        interceptor.after(task, null, null, null);
+        Assertions.assertEquals(startCount + 1, START_COUNTER.getValue());
+    }
+
+    @Test
+    public void clearOnException() {
+        TaskStartInterceptor interceptor = new TaskStartInterceptor();
+        Task task = new Task();
+        task._$PINPOINT$_setEnqueueTime(System.nanoTime());
+
+        interceptor.before(task, null);
+        interceptor.after(task, null, null, new RuntimeException("test"));
+        Assertions.assertEquals(0, task._$PINPOINT$_getEnqueueTime());
+    }
+
+    private static LongCounter startCounter() {
+        CustomMetricRegistry registry = Mockito.mock(CustomMetricRegistry.class);
+        TaskQueueMetrics.register(registry);
+
+        ArgumentCaptor<LongCounter> captor = ArgumentCaptor.forClass(LongCounter.class);
+        Mockito.verify(registry, Mockito.times(7)).register(captor.capture());
+        for (LongCounter counter : captor.getAllValues()) {
+            if (TaskQueueMetrics.TASK_START_COUNT.equals(counter.getName())) {
+                return counter;
+            }
+        }
+        throw new AssertionError(TaskQueueMetrics.TASK_START_COUNT + " not registered");
+    }
+
+    static class Task implements Runnable, EnqueueTimeAccessor {
+        private long enqueueTime;
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void _$PINPOINT$_setEnqueueTime(long enqueueTime) {
+            this.enqueueTime = enqueueTime;
+        }
+
+        @Override
+        public long _$PINPOINT$_getEnqueueTime() {
+            return enqueueTime;
+        }
+    }
+}
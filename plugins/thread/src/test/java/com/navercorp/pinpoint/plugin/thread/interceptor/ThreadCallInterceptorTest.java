@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.thread.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+public class ThreadCallInterceptorTest {
+
+    private final TraceContext traceContext = Mockito.mock(TraceContext.class);
+    private final MethodDescriptor methodDescriptor = Mockito.mock(MethodDescriptor.class);
+
+    @Test
+    public void executorWait() {
+        ThreadCallInterceptor interceptor = new ThreadCallInterceptor(traceContext, methodDescriptor);
+        SpanEventRecorder recorder = Mockito.mock(SpanEventRecorder.class);
+        TaskStartInterceptorTest.Task task = new TaskStartInterceptorTest.Task();
+        task._$PINPOINT$_setEnqueueTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+
+        interceptor.doInBeforeTrace(recorder, null, task, null);
+
+        Mockito.verify(recorder).recordAttribute(Mockito.eq(AnnotationKey.EXECUTOR_WAIT), Mockito.anyLong());
+    }
+
+    @Test
+    public void executorWait_notEnqueued() {
+        ThreadCallInterceptor interceptor = new ThreadCallInterceptor(traceContext, methodDescriptor);
+        SpanEventRecorder recorder = Mockito.mock(SpanEventRecorder.class);
+        TaskStartInterceptorTest.Task task = new TaskStartInterceptorTest.Task();
+
+        interceptor.doInBeforeTrace(recorder, null, task, null);
+
+        Mockito.verify(recorder, Mockito.never()).recordAttribute(Mockito.eq(AnnotationKey.EXECUTOR_WAIT), Mockito.anyLong());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Consumes gc, monitor enter and thread park events with the JFR event streaming api (java 14+).
+ */
+public class RecordingStreamJfrMonitor implements JfrMonitor {
+
+    static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    static final String JAVA_MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final JvmEventListener listener;
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    public RecordingStreamJfrMonitor(JvmEventListener listener, long thresholdMillis) {
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.threshold = Duration.ofMillis(Math.max(0, thresholdMillis));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        final RecordingStream stream = new RecordingStream();
+        stream.setMaxAge(MAX_AGE);
+        stream.setReuse(true);
+
+        stream.enable(GARBAGE_COLLECTION).withoutStackTrace();
+        stream.enable(JAVA_MONITOR_ENTER).withThreshold(threshold).withoutStackTrace();
+        stream.enable(THREAD_PARK).withThreshold(threshold).withoutStackTrace();
+
+        stream.onEvent(GARBAGE_COLLECTION, this::onGarbageCollection);
+        stream.onEvent(JAVA_MONITOR_ENTER, this::onMonitorEnter);
+        stream.onEvent(THREAD_PARK, this::onThreadPark);
+        stream.onError(th -> logger.warn("JFR event stream error. Caused:{}", th.getMessage(), th));
+
+        stream.startAsync();
+        this.recordingStream = stream;
+        logger.info("RecordingStreamJfrMonitor started. threshold:{}", threshold);
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        final Duration sumOfPauses = event.getDuration("sumOfPauses");
+        listener.onGcPause(event.getStartTime().toEpochMilli(), sumOfPauses.toNanos());
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        listener.onMonitorEnter(thread.getJavaThreadId(), event.getStartTime().toEpochMilli(), event.getDuration().toNanos());
+    }
+
+    private void onThreadPark(RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        final long threadId = thread.getJavaThreadId();
+        // most parks come from idle threads, skip them before reading the time fields
+        if (!listener.isTracedThread(threadId)) {
+            return;
+        }
+        listener.onThreadPark(threadId, event.getStartTime().toEpochMilli(), event.getDuration().toNanos());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream == null) {
+            return;
+        }
+        recordingStream.close();
+        recordingStream = null;
+        logger.info("RecordingStreamJfrMonitor stopped");
+    }
+}
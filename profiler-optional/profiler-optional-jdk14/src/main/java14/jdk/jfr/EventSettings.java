@@ -0,0 +1,23 @@
+package jdk.jfr;
+
+import java.time.Duration;
+
+/**
+ * compile stub of java 14 jdk.jfr.EventSettings, not packaged
+ */
+public abstract class EventSettings {
+
+    public EventSettings withStackTrace() {
+        throw new UnsupportedOperationException();
+    }
+
+    public EventSettings withoutStackTrace() {
+        throw new UnsupportedOperationException();
+    }
+
+    public EventSettings withThreshold(Duration duration) {
+        throw new UnsupportedOperationException();
+    }
+
+    public abstract EventSettings with(String name, String value);
+}
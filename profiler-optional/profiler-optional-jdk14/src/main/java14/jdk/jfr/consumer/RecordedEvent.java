@@ -0,0 +1,22 @@
+package jdk.jfr.consumer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * compile stub of java 11 jdk.jfr.consumer.RecordedEvent, not packaged
+ */
+public final class RecordedEvent extends RecordedObject {
+
+    public Instant getStartTime() {
+        throw new UnsupportedOperationException();
+    }
+
+    public Duration getDuration() {
+        throw new UnsupportedOperationException();
+    }
+
+    public RecordedThread getThread() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,17 @@
+package jdk.jfr.consumer;
+
+import java.time.Duration;
+
+/**
+ * compile stub of java 11 jdk.jfr.consumer.RecordedObject, not packaged
+ */
+public class RecordedObject {
+
+    public Duration getDuration(String name) {
+        throw new UnsupportedOperationException();
+    }
+
+    public RecordedThread getThread(String name) {
+        throw new UnsupportedOperationException();
+    }
+}
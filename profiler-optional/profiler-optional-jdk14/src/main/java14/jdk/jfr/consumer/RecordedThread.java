@@ -0,0 +1,11 @@
+package jdk.jfr.consumer;
+
+/**
+ * compile stub of java 11 jdk.jfr.consumer.RecordedThread, not packaged
+ */
+public final class RecordedThread extends RecordedObject {
+
+    public long getJavaThreadId() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,45 @@
+package jdk.jfr.consumer;
+
+import jdk.jfr.EventSettings;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * compile stub of java 14 jdk.jfr.consumer.RecordingStream, not packaged
+ */
+public final class RecordingStream implements AutoCloseable {
+
+    public RecordingStream() {
+        throw new UnsupportedOperationException();
+    }
+
+    public EventSettings enable(String name) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void setReuse(boolean reuse) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void onEvent(String eventName, Consumer<RecordedEvent> action) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void onError(Consumer<Throwable> action) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void startAsync() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        throw new UnsupportedOperationException();
+    }
+}
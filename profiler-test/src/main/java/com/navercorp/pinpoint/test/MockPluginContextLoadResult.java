@@ -20,6 +20,8 @@ import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcUrlParserV2;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.loader.plugins.profiler.ProfilerPluginLoader;
+import com.navercorp.pinpoint.profiler.plugin.DisableLazyPluginSetup;
+import com.navercorp.pinpoint.profiler.plugin.LazyPluginSetup;
 import com.navercorp.pinpoint.profiler.plugin.PluginContextLoadResult;
 import com.navercorp.pinpoint.profiler.plugin.PluginSetupResult;
 import com.navercorp.pinpoint.profiler.plugin.PluginsSetupResult;
@@ -87,4 +89,9 @@ public class MockPluginContextLoadResult implements PluginContextLoadResult {
         return result;
     }
 
+    @Override
+    public LazyPluginSetup getLazyPluginSetup() {
+        return DisableLazyPluginSetup.INSTANCE;
+    }
+
 }
@@ -25,6 +25,8 @@ import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollecto
 import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshot;
 import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshotBatch;
 import com.navercorp.pinpoint.profiler.monitor.metric.MetricType;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+import com.navercorp.pinpoint.profiler.scheduler.HashedWheelAgentScheduler;
 import com.navercorp.pinpoint.test.ListenableDataSender;
 import com.navercorp.pinpoint.test.Recorder;
 import com.navercorp.pinpoint.test.RecorderAdaptor;
@@ -82,11 +84,13 @@ public class AgentStatMonitorTest {
         Mockito.when(mockProfilerConfig.getProfileJvmStatBatchSendCount()).thenReturn(numCollectionsPerBatch);
 
         // When
+        AgentScheduler agentScheduler = new HashedWheelAgentScheduler();
         AgentStatMonitor monitor = new DefaultAgentStatMonitor(this.dataSender, "agentId", System.currentTimeMillis(),
-                agentStatCollector, null, null, mockProfilerConfig);
+                agentStatCollector, null, null, mockProfilerConfig, agentScheduler);
         monitor.start();
         Thread.sleep(totalTestDurationMs);
         monitor.stop();
+        agentScheduler.stop();
         // Then
         assertTrue(recorder.size() >= minNumBatchToTest);
         for (AgentStatMetricSnapshotBatch agentStatBatch : recorder) {
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.bootstrap.context.FrameCloseHandler;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
@@ -26,6 +27,7 @@ import com.navercorp.pinpoint.exception.PinpointException;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionContext;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.resource.ThreadResourceUsage;
 import com.navercorp.pinpoint.profiler.context.scope.DefaultTraceScopePool;
 import com.navercorp.pinpoint.profiler.context.storage.Storage;
 import org.apache.logging.log4j.LogManager;
@@ -56,10 +58,20 @@ public class AsyncChildTrace implements Trace {
     private final TraceRoot traceRoot;
     private final LocalAsyncId localAsyncId;
 
+    private final ThreadResourceUsage threadResourceUsage;
+
     public AsyncChildTrace(final TraceRoot traceRoot, CallStack<SpanEvent> callStack, Storage storage,
                            SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder,
                            ExceptionContext exceptionContext,
                            final LocalAsyncId localAsyncId) {
+        this(traceRoot, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, localAsyncId, ThreadResourceUsage.DISABLED);
+    }
+
+    public AsyncChildTrace(final TraceRoot traceRoot, CallStack<SpanEvent> callStack, Storage storage,
+                           SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder,
+                           ExceptionContext exceptionContext,
+                           final LocalAsyncId localAsyncId,
+                           ThreadResourceUsage threadResourceUsage) {
 
         this.traceRoot = Objects.requireNonNull(traceRoot, "traceRoot");
         this.callStack = Objects.requireNonNull(callStack, "callStack");
@@ -70,6 +82,7 @@ public class AsyncChildTrace implements Trace {
         this.exceptionContext = Objects.requireNonNull(exceptionContext, "exceptionRecordingContext");
 
         this.localAsyncId = Objects.requireNonNull(localAsyncId, "localAsyncId");
+        this.threadResourceUsage = Objects.requireNonNull(threadResourceUsage, "threadResourceUsage");
         traceBlockBegin(ASYNC_BEGIN_STACK_ID);
     }
 
@@ -120,6 +133,33 @@ public class AsyncChildTrace implements Trace {
 
     @Override
     public void traceBlockEnd(int stackId) {
+        traceBlockEnd0(stackId, true);
+    }
+
+    @Override
+    public boolean traceBlockDiscard() {
+        return traceBlockDiscard(DEFAULT_STACKID);
+    }
+
+    @Override
+    public boolean traceBlockDiscard(int stackId) {
+        if (!closed && hasChildSpanEvent(callStack.peek())) {
+            // the child events are already stored under this block
+            return false;
+        }
+        traceBlockEnd0(stackId, false);
+        return true;
+    }
+
+    private boolean hasChildSpanEvent(SpanEvent spanEvent) {
+        if (spanEvent == null || isDummySpanEvent(spanEvent)) {
+            return false;
+        }
+        // a block pushed after this one took the next sequence
+        return callStack.getSequence() != spanEvent.getSequence() + 1;
+    }
+
+    private void traceBlockEnd0(int stackId, boolean store) {
         if (closed) {
             if (logger.isWarnEnabled()) {
                 stackDump("already closed trace");
@@ -127,7 +167,7 @@ public class AsyncChildTrace implements Trace {
             return;
         }
 
-        final SpanEvent spanEvent = callStack.pop();
+        final SpanEvent spanEvent = store ? callStack.pop() : callStack.discard();
         if (spanEvent == null) {
             if (logger.isWarnEnabled()) {
                 stackDump("call stack is empty.");
@@ -149,10 +189,13 @@ public class AsyncChildTrace implements Trace {
             }
         }
 
-        if (spanEvent.isTimeRecording()) {
-            spanEvent.markAfterTime();
+        if (store) {
+            if (spanEvent.isTimeRecording()) {
+                spanEvent.markAfterTime();
+            }
+            frameClose(spanEvent);
+            logSpan(spanEvent);
         }
-        logSpan(spanEvent);
         // state restore
         final SpanEvent previous = callStack.peek();
         wrappedSpanEventRecorder(wrappedSpanEventRecorder, previous);
@@ -166,10 +209,25 @@ public class AsyncChildTrace implements Trace {
 
     @Override
     public void close() {
+        recordThreadResourceUsage();
         traceBlockEnd(ASYNC_BEGIN_STACK_ID);
         close0();
     }
 
+    // the usage of this continuation is attributed to its async begin event
+    private void recordThreadResourceUsage() {
+        if (closed) {
+            return;
+        }
+        final SpanEvent spanEvent = callStack.peek();
+        if (spanEvent == null || isDummySpanEvent(spanEvent)) {
+            return;
+        }
+        if (spanEvent.getStackId() == ASYNC_BEGIN_STACK_ID) {
+            threadResourceUsage.record(spanEvent::addAnnotation);
+        }
+    }
+
     public void close0() {
         if (closed) {
             logger.warn("Already closed {}", this);
@@ -216,6 +274,13 @@ public class AsyncChildTrace implements Trace {
         return this.getTraceId().isRoot();
     }
 
+    private void frameClose(SpanEvent spanEvent) {
+        final Object frameObject = spanEvent.getFrameObject();
+        if (frameObject instanceof FrameCloseHandler) {
+            ((FrameCloseHandler) frameObject).onFrameClose(wrappedSpanEventRecorder(wrappedSpanEventRecorder, spanEvent));
+        }
+    }
+
     private void logSpan(SpanEvent spanEvent) {
         this.storage.store(spanEvent);
     }
@@ -26,6 +26,11 @@ public interface CallStack<T> {
 
     T pop();
 
+    /**
+     * pops the top element and gives its sequence back when nothing was pushed after it
+     */
+    T discard();
+
     T peek();
 
     boolean empty();
@@ -36,6 +41,8 @@ public interface CallStack<T> {
 
     int getMaxSequence();
 
+    int getSequence();
+
     T newInstance();
 
     T disableInstance();
@@ -34,6 +34,8 @@ import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.id.TraceRootFactory;
 import com.navercorp.pinpoint.profiler.context.recorder.RecorderFactory;
 import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.resource.ThreadResourceUsage;
+import com.navercorp.pinpoint.profiler.context.resource.ThreadResourceUsageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.Storage;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.UriStatStorage;
@@ -63,6 +65,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
     private final ActiveTraceRepository activeTraceRepository;
     private final ExceptionContextFactory exceptionContextFactory;
     private final UriStatStorage uriStatStorage;
+    private final ThreadResourceUsageFactory threadResourceUsageFactory;
 
     public DefaultBaseTraceFactory(TraceRootFactory traceRootFactory,
                                    CallStackFactory<SpanEvent> callStackFactory,
@@ -72,6 +75,19 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
                                    ActiveTraceRepository activeTraceRepository,
                                    ExceptionContextFactory exceptionContextFactory,
                                    UriStatStorage uriStatStorage) {
+        this(traceRootFactory, callStackFactory, storageFactory, traceSampler, spanFactory, recorderFactory,
+                activeTraceRepository, exceptionContextFactory, uriStatStorage, ThreadResourceUsageFactory.DISABLED);
+    }
+
+    public DefaultBaseTraceFactory(TraceRootFactory traceRootFactory,
+                                   CallStackFactory<SpanEvent> callStackFactory,
+                                   StorageFactory storageFactory,
+                                   TraceSampler traceSampler,
+                                   SpanFactory spanFactory, RecorderFactory recorderFactory,
+                                   ActiveTraceRepository activeTraceRepository,
+                                   ExceptionContextFactory exceptionContextFactory,
+                                   UriStatStorage uriStatStorage,
+                                   ThreadResourceUsageFactory threadResourceUsageFactory) {
 
         this.traceRootFactory = Objects.requireNonNull(traceRootFactory, "traceRootFactory");
         this.callStackFactory = Objects.requireNonNull(callStackFactory, "callStackFactory");
@@ -83,6 +99,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
         this.exceptionContextFactory = Objects.requireNonNull(exceptionContextFactory, "exceptionContextFactory");
         this.uriStatStorage = Objects.requireNonNull(uriStatStorage, "uriStatStorage");
+        this.threadResourceUsageFactory = Objects.requireNonNull(threadResourceUsageFactory, "threadResourceUsageFactory");
 
     }
 
@@ -138,7 +155,8 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder(traceRoot);
         final ExceptionContext exceptionContext = exceptionContextFactory.newExceptionContext(traceRoot);
 
-        return new AsyncChildTrace(traceRoot, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, localAsyncId);
+        final ThreadResourceUsage threadResourceUsage = threadResourceUsageFactory.start();
+        return new AsyncChildTrace(traceRoot, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, localAsyncId, threadResourceUsage);
     }
 
     @Override
@@ -206,7 +224,8 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
 
         final ActiveTraceHandle handle = registerActiveTrace(traceRoot);
         final CloseListener closeListener = new DefaultCloseListener(traceRoot, handle, uriStatStorage);
-        return new DefaultTrace(span, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, closeListener);
+        final ThreadResourceUsage threadResourceUsage = threadResourceUsageFactory.start();
+        return new DefaultTrace(span, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, closeListener, threadResourceUsage);
     }
 
     private AsyncDefaultTrace newAsyncDefaultTrace(TraceRoot traceRoot) {
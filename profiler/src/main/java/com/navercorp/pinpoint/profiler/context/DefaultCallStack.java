@@ -39,6 +39,7 @@ public class DefaultCallStack<T> implements CallStack<T> {
     protected int overflowIndex = 0;
     protected final int maxSequence;
     protected int sequence;
+    private T lastPushed;
     protected CallStackOverflowListener overflowListener;
     protected boolean overflowed = false;
 
@@ -97,6 +98,7 @@ public class DefaultCallStack<T> implements CallStack<T> {
 
         checkExtend(index + 1);
         factory.setSequence(element, sequence++);
+        lastPushed = element;
         stack[index++] = element;
         markDepth(element, index);
         return index;
@@ -131,6 +133,21 @@ public class DefaultCallStack<T> implements CallStack<T> {
         return spanEvent;
     }
 
+    @Override
+    public T discard() {
+        if (isOverflow() && overflowIndex > 0) {
+            return pop();
+        }
+
+        final T element = pop();
+        if (element != null && element == lastPushed) {
+            // no other element took a sequence after this one
+            sequence--;
+            lastPushed = null;
+        }
+        return element;
+    }
+
     @Override
     public T peek() {
         if (index == DEFAULT_INDEX) {
@@ -167,6 +184,11 @@ public class DefaultCallStack<T> implements CallStack<T> {
         return maxSequence;
     }
 
+    @Override
+    public int getSequence() {
+        return sequence;
+    }
+
     @VisibleForTesting
     boolean isOverflow() {
         return isDepthOverflow() || isSequenceOverflow();
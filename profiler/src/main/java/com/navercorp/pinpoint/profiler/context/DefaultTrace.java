@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.bootstrap.context.FrameCloseHandler;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
@@ -24,10 +25,13 @@ import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
 import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
 import com.navercorp.pinpoint.exception.PinpointException;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionContext;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.context.resource.ThreadResourceUsage;
 import com.navercorp.pinpoint.profiler.context.scope.DefaultTraceScopePool;
 import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import com.navercorp.pinpoint.profiler.util.VirtualThreadUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -60,6 +64,8 @@ public class DefaultTrace implements Trace {
 
     private final CloseListener closeListener;
 
+    private final ThreadResourceUsage threadResourceUsage;
+
     public DefaultTrace(Span span, CallStack<SpanEvent> callStack, Storage storage,
                         SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder,
                         ExceptionContext exceptionContext) {
@@ -71,6 +77,15 @@ public class DefaultTrace implements Trace {
                         WrappedSpanEventRecorder wrappedSpanEventRecorder,
                         ExceptionContext exceptionContext,
                         CloseListener closeListener) {
+        this(span, callStack, storage, spanRecorder, wrappedSpanEventRecorder, exceptionContext, closeListener, ThreadResourceUsage.DISABLED);
+    }
+
+    public DefaultTrace(Span span, CallStack<SpanEvent> callStack, Storage storage,
+                        SpanRecorder spanRecorder,
+                        WrappedSpanEventRecorder wrappedSpanEventRecorder,
+                        ExceptionContext exceptionContext,
+                        CloseListener closeListener,
+                        ThreadResourceUsage threadResourceUsage) {
 
         this.span = Objects.requireNonNull(span, "span");
         this.callStack = Objects.requireNonNull(callStack, "callStack");
@@ -81,13 +96,18 @@ public class DefaultTrace implements Trace {
         this.exceptionContext = Objects.requireNonNull(exceptionContext, "exceptionRecordingContext");
 
         this.closeListener = closeListener;
+        this.threadResourceUsage = Objects.requireNonNull(threadResourceUsage, "threadResourceUsage");
 
         setCurrentThread();
     }
 
     private void setCurrentThread() {
-        final long threadId = Thread.currentThread().getId();
-        getTraceRoot().getShared().setThreadId(threadId);
+        final Thread thread = Thread.currentThread();
+        final Shared shared = getTraceRoot().getShared();
+        shared.setThreadId(thread.getId());
+        if (VirtualThreadUtils.isVirtual(thread)) {
+            shared.setVirtualThread(thread);
+        }
     }
 
     private TraceRoot getTraceRoot() {
@@ -136,6 +156,33 @@ public class DefaultTrace implements Trace {
 
     @Override
     public void traceBlockEnd(int stackId) {
+        traceBlockEnd0(stackId, true);
+    }
+
+    @Override
+    public boolean traceBlockDiscard() {
+        return traceBlockDiscard(DEFAULT_STACKID);
+    }
+
+    @Override
+    public boolean traceBlockDiscard(int stackId) {
+        if (!closed && hasChildSpanEvent(callStack.peek())) {
+            // the child events are already stored under this block
+            return false;
+        }
+        traceBlockEnd0(stackId, false);
+        return true;
+    }
+
+    private boolean hasChildSpanEvent(SpanEvent spanEvent) {
+        if (spanEvent == null || isDummySpanEvent(spanEvent)) {
+            return false;
+        }
+        // a block pushed after this one took the next sequence
+        return callStack.getSequence() != spanEvent.getSequence() + 1;
+    }
+
+    private void traceBlockEnd0(int stackId, boolean store) {
         if (closed) {
             if (logger.isWarnEnabled()) {
                 stackDump("already closed trace");
@@ -143,7 +190,7 @@ public class DefaultTrace implements Trace {
             return;
         }
 
-        final SpanEvent spanEvent = callStack.pop();
+        final SpanEvent spanEvent = store ? callStack.pop() : callStack.discard();
         if (spanEvent == null) {
             if (logger.isWarnEnabled()) {
                 stackDump("call stack is empty.");
@@ -165,10 +212,13 @@ public class DefaultTrace implements Trace {
             }
         }
 
-        if (spanEvent.isTimeRecording()) {
-            spanEvent.markAfterTime();
+        if (store) {
+            if (spanEvent.isTimeRecording()) {
+                spanEvent.markAfterTime();
+            }
+            frameClose(spanEvent);
+            logSpan(spanEvent);
         }
-        logSpan(spanEvent);
         // state restore
         final SpanEvent previous = callStack.peek();
         wrappedSpanEventRecorder(wrappedSpanEventRecorder, previous);
@@ -198,6 +248,11 @@ public class DefaultTrace implements Trace {
             if (span.isTimeRecording()) {
                 span.markAfterTime(afterTime);
             }
+            threadResourceUsage.record(span::addAnnotation);
+            final Object frameObject = span.getFrameObject();
+            if (frameObject instanceof FrameCloseHandler) {
+                ((FrameCloseHandler) frameObject).onFrameClose(spanRecorder);
+            }
             logSpan();
         }
 
@@ -242,6 +297,13 @@ public class DefaultTrace implements Trace {
         return this.getTraceId().isRoot();
     }
 
+    private void frameClose(SpanEvent spanEvent) {
+        final Object frameObject = spanEvent.getFrameObject();
+        if (frameObject instanceof FrameCloseHandler) {
+            ((FrameCloseHandler) frameObject).onFrameClose(wrappedSpanEventRecorder(wrappedSpanEventRecorder, spanEvent));
+        }
+    }
+
     private void logSpan(SpanEvent spanEvent) {
         this.storage.store(spanEvent);
     }
@@ -229,6 +229,13 @@ public class DefaultTraceContext implements TraceContext {
         return traceIdFactory.continueTraceId(transactionId, parentSpanId, spanId, flags);
     }
 
+    @Override
+    public TraceId createTraceId(final String agentId, final long agentStartTime, final long transactionSequence,
+                                 final long parentSpanId, final long spanId, final short flags) {
+        Objects.requireNonNull(agentId, "agentId");
+        return traceIdFactory.continueTraceId(agentId, agentStartTime, transactionSequence, parentSpanId, spanId, flags);
+    }
+
     @Override
     public ParsingResult parseSql(final String sql) {
         return this.sqlMetaDataService.wrapSqlResult(sql);
@@ -73,6 +73,17 @@ public class DisableAsyncChildTrace implements Trace {
         pop();
     }
 
+    @Override
+    public boolean traceBlockDiscard() {
+        return traceBlockDiscard(DEFAULT_STACKID);
+    }
+
+    @Override
+    public boolean traceBlockDiscard(int stackId) {
+        pop();
+        return true;
+    }
+
     private SpanEventRecorder getSpanEventRecorder() {
         return spanEventRecorder;
     }
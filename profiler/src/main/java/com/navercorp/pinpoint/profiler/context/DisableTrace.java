@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.bootstrap.context.scope.TraceScope;
 import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
 import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.scope.DefaultTraceScopePool;
+import com.navercorp.pinpoint.profiler.util.VirtualThreadUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -65,8 +66,12 @@ public class DisableTrace implements Trace {
     }
 
     private void setCurrentThread() {
-        final long threadId = Thread.currentThread().getId();
-        getShared().setThreadId(threadId);
+        final Thread thread = Thread.currentThread();
+        final Shared shared = getShared();
+        shared.setThreadId(thread.getId());
+        if (VirtualThreadUtils.isVirtual(thread)) {
+            shared.setVirtualThread(thread);
+        }
     }
 
     @Override
@@ -101,6 +106,17 @@ public class DisableTrace implements Trace {
         pop();
     }
 
+    @Override
+    public boolean traceBlockDiscard() {
+        return traceBlockDiscard(DEFAULT_STACKID);
+    }
+
+    @Override
+    public boolean traceBlockDiscard(int stackId) {
+        pop();
+        return true;
+    }
+
     private int push() {
         return this.depth++;
     }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Binder} for applications running on a large number of short-lived (virtual) threads.
+ * <p>
+ * {@link ThreadLocalBinder} creates a thread local entry for every thread that looks up the current trace.
+ * A plain {@link ThreadLocal} can not avoid that either, {@link ThreadLocal#get()} installs an entry
+ * (and the thread local map) even when there is no value.
+ * This binder keeps the bound values in a map keyed by thread instead, so a lookup on a thread without a trace
+ * allocates nothing, and the entry is removed again when the value is cleared.
+ * Threads that terminate with a value still bound are purged once the map grows past the purge threshold.
+ */
+public class LazyThreadLocalBinder<T> implements Binder<T> {
+
+    static final int DEFAULT_PURGE_THRESHOLD = 1024;
+
+    private final ConcurrentMap<Thread, Reference<T>> references = new ConcurrentHashMap<>();
+
+    private final Reference<T> unbound = new UnboundReference();
+
+    private final int purgeThreshold;
+    private volatile int nextPurgeSize;
+
+    public LazyThreadLocalBinder() {
+        this(DEFAULT_PURGE_THRESHOLD);
+    }
+
+    LazyThreadLocalBinder(int purgeThreshold) {
+        if (purgeThreshold <= 0) {
+            throw new IllegalArgumentException("purgeThreshold must be positive:" + purgeThreshold);
+        }
+        this.purgeThreshold = purgeThreshold;
+        this.nextPurgeSize = purgeThreshold;
+    }
+
+    @Override
+    public Reference<T> get() {
+        final Reference<T> reference = references.get(Thread.currentThread());
+        if (reference != null) {
+            return reference;
+        }
+        return unbound;
+    }
+
+    @Override
+    public void remove() {
+        this.references.remove(Thread.currentThread());
+    }
+
+    int size() {
+        return references.size();
+    }
+
+    private void bind(Thread thread, T value) {
+        references.put(thread, new BoundReference(thread, value));
+        if (references.size() >= nextPurgeSize) {
+            purgeTerminatedThreads();
+        }
+    }
+
+    private void purgeTerminatedThreads() {
+        references.keySet().removeIf(thread -> !thread.isAlive());
+        // keeps the purge cost amortized when most of the bound threads are alive
+        this.nextPurgeSize = Math.max(purgeThreshold, references.size() * 2);
+    }
+
+    private class UnboundReference implements Reference<T> {
+        @Override
+        public T get() {
+            return null;
+        }
+
+        @Override
+        public void set(T value) {
+            if (value == null) {
+                return;
+            }
+            bind(Thread.currentThread(), value);
+        }
+
+        @Override
+        public T clear() {
+            return null;
+        }
+    }
+
+    private class BoundReference implements Reference<T> {
+        private final Thread thread;
+        private T value;
+
+        private BoundReference(Thread thread, T value) {
+            this.thread = thread;
+            this.value = value;
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public void set(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public T clear() {
+            final T copy = this.value;
+            this.value = null;
+            references.remove(thread, this);
+            return copy;
+        }
+    }
+}
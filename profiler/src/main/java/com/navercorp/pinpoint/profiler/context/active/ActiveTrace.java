@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.active;
 
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -24,5 +26,7 @@ public interface ActiveTrace {
 
     long getId();
 
+    LocalTraceRoot getTraceRoot();
+
     ActiveTraceSnapshot snapshot();
 }
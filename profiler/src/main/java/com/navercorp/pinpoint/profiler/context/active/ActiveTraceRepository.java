@@ -29,8 +29,22 @@ public interface ActiveTraceRepository {
 
     List<ActiveTraceSnapshot> snapshot();
 
+    /**
+     * Virtual threads are included, their ids can not be resolved with ThreadMXBean.
+     */
     List<Long> getThreadIdList();
 
+    /**
+     * @param startTimeBefore traces started at or before this time are returned
+     */
+    List<LocalTraceRoot> getLongRunningTraceRootList(long startTimeBefore);
+
+    /**
+     * @return the active trace most recently started on the thread,
+     * null if none or if the repository does not index the traces by thread
+     */
+    LocalTraceRoot getActiveTraceRoot(long threadId);
+
     ActiveTraceHandle register(LocalTraceRoot traceRoot);
 
 }
@@ -26,6 +26,11 @@ public interface ActiveTraceSnapshot {
 
     long getThreadId();
 
+    /**
+     * @return the thread of the trace if it is a virtual thread, otherwise null
+     */
+    Thread getVirtualThread();
+
     boolean isSampled();
 
     String getTransactionId();
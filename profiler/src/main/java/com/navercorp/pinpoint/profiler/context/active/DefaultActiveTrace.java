@@ -42,6 +42,10 @@ public class DefaultActiveTrace implements ActiveTrace {
         return this.traceRoot.getLocalTransactionId();
     }
 
+    @Override
+    public LocalTraceRoot getTraceRoot() {
+        return traceRoot;
+    }
 
     @Override
     public ActiveTraceSnapshot snapshot() {
@@ -46,6 +46,8 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
 
     // oom safe cache
     private final ConcurrentMap<ActiveTraceHandle, ActiveTrace> activeTraceInfoMap;
+    // the trace most recently registered on each thread, null unless a monitor looks traces up by thread
+    private final ConcurrentMap<Long, ActiveTrace> threadIndex;
 
     private final ResponseTimeCollector responseTimeCollector;
 
@@ -56,27 +58,43 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
         this(responseTimeCollector, DEFAULT_MAX_ACTIVE_TRACE_SIZE);
     }
 
+    public DefaultActiveTraceRepository(ResponseTimeCollector responseTimeCollector, boolean threadIndex) {
+        this(responseTimeCollector, DEFAULT_MAX_ACTIVE_TRACE_SIZE, threadIndex);
+    }
+
     public DefaultActiveTraceRepository(ResponseTimeCollector responseTimeCollector, int maxActiveTraceSize) {
+        this(responseTimeCollector, maxActiveTraceSize, false);
+    }
+
+    /**
+     * @param threadIndex index the traces by thread for {@link #getActiveTraceRoot(long)}
+     */
+    public DefaultActiveTraceRepository(ResponseTimeCollector responseTimeCollector, int maxActiveTraceSize, boolean threadIndex) {
         this.responseTimeCollector = Objects.requireNonNull(responseTimeCollector, "responseTimeCollector");
         this.activeTraceInfoMap = createCache(maxActiveTraceSize);
+        this.threadIndex = threadIndex ? createCache(maxActiveTraceSize) : null;
     }
 
-    private ConcurrentMap<ActiveTraceHandle, ActiveTrace> createCache(int maxActiveTraceSize) {
+    private <K> ConcurrentMap<K, ActiveTrace> createCache(int maxActiveTraceSize) {
         final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
         cacheBuilder.initialCapacity(maxActiveTraceSize);
         cacheBuilder.maximumSize(maxActiveTraceSize);
 
-        final Cache<ActiveTraceHandle, ActiveTrace> localCache = cacheBuilder.build();
+        final Cache<K, ActiveTrace> localCache = cacheBuilder.build();
         return localCache.asMap();
     }
 
 
-    private void remove(ActiveTraceHandle key, long purgeTime) {
+    private void remove(DefaultActiveTraceHandle key, long purgeTime) {
         if (isDebug) {
             logger.debug("remove ActiveTrace key:{}", key);
         }
         final ActiveTrace activeTrace = this.activeTraceInfoMap.remove(key);
         if (activeTrace != null) {
+            if (this.threadIndex != null) {
+                // a newer trace of the same thread may have replaced it already
+                this.threadIndex.remove(key.threadId, activeTrace);
+            }
             final long responseTime = purgeTime - activeTrace.getStartTime();
             responseTimeCollector.add(responseTime);
         }
@@ -92,9 +110,14 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
 
         final long id = localTraceRoot.getLocalTransactionId();
 
-        final ActiveTraceHandle handle = new DefaultActiveTraceHandle(id);
+        // traces are registered on the thread that runs them, see DefaultTrace
+        final long threadId = Thread.currentThread().getId();
+        final DefaultActiveTraceHandle handle = new DefaultActiveTraceHandle(id, threadId);
 
-        this.activeTraceInfoMap.computeIfAbsent(handle, activeTraceHandle -> new DefaultActiveTrace(localTraceRoot));
+        final ActiveTrace activeTrace = this.activeTraceInfoMap.computeIfAbsent(handle, activeTraceHandle -> new DefaultActiveTrace(localTraceRoot));
+        if (this.threadIndex != null) {
+            this.threadIndex.put(threadId, activeTrace);
+        }
 
         return handle;
     }
@@ -149,6 +172,43 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
         return collectData;
     }
 
+    // @ThreadSafe
+    @Override
+    public List<LocalTraceRoot> getLongRunningTraceRootList(long startTimeBefore) {
+        if (this.activeTraceInfoMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Collection<ActiveTrace> activeTraceCollection = this.activeTraceInfoMap.values();
+        final List<LocalTraceRoot> collectData = new ArrayList<>();
+
+        for (ActiveTrace trace : activeTraceCollection) {
+            final long startTime = trace.getStartTime();
+            if (!isStarted(startTime)) {
+                continue;
+            }
+            if (startTime <= startTimeBefore) {
+                collectData.add(trace.getTraceRoot());
+            }
+        }
+        return collectData;
+    }
+
+    // @ThreadSafe
+    @Override
+    public LocalTraceRoot getActiveTraceRoot(long threadId) {
+        if (this.threadIndex == null) {
+            return null;
+        }
+        final ActiveTrace activeTrace = this.threadIndex.get(threadId);
+        if (activeTrace == null) {
+            return null;
+        }
+        if (!isStarted(activeTrace.getStartTime())) {
+            return null;
+        }
+        return activeTrace.getTraceRoot();
+    }
+
     // @ThreadSafe
     @Override
     public ActiveTraceHistogram getActiveTraceHistogram(long currentTime) {
@@ -179,9 +239,11 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
 
     private class DefaultActiveTraceHandle implements ActiveTraceHandle {
         private final long id;
+        private final long threadId;
 
-        DefaultActiveTraceHandle(long id) {
+        DefaultActiveTraceHandle(long id, long threadId) {
             this.id = id;
+            this.threadId = threadId;
         }
 
         @Override
@@ -208,6 +270,7 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
         public String toString() {
             return "DefaultActiveTraceHandle{" +
                     "id=" + id +
+                    ", threadId=" + threadId +
                     '}';
         }
     }
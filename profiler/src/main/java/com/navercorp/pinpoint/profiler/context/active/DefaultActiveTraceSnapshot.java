@@ -51,6 +51,11 @@ public class DefaultActiveTraceSnapshot implements ActiveTraceSnapshot {
         return traceRoot.getShared().getThreadId();
     }
 
+    @Override
+    public Thread getVirtualThread() {
+        return traceRoot.getShared().getVirtualThread();
+    }
+
     @Override
     public boolean isSampled() {
         if (isRemote()) {
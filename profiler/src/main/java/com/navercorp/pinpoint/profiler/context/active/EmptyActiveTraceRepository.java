@@ -47,6 +47,16 @@ public class EmptyActiveTraceRepository implements ActiveTraceRepository {
         return null;
     }
 
+    @Override
+    public List<LocalTraceRoot> getLongRunningTraceRootList(long startTimeBefore) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public LocalTraceRoot getActiveTraceRoot(long threadId) {
+        return null;
+    }
+
     @Override
     public List<ActiveTraceSnapshot> snapshot() {
         return Collections.emptyList();
@@ -43,4 +43,8 @@ public interface ContextConfig {
     long getAgentInfoSendRetryInterval();
 
     boolean isProxyHttpHeaderEnable();
+
+    boolean isTraceResourceUsage();
+
+    String getTraceBinderType();
 }
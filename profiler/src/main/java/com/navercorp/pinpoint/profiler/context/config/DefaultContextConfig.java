@@ -63,6 +63,13 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.proxy.http.header.enable}")
     private boolean proxyHttpHeaderEnable = true;
 
+    @Value("${profiler.transaction.resource.usage.enable}")
+    private boolean traceResourceUsage = false;
+
+    // threadlocal, lazy
+    @Value("${profiler.context.binder}")
+    private String traceBinderType = "threadlocal";
+
     public DefaultContextConfig() {
     }
 
@@ -131,6 +138,16 @@ public class DefaultContextConfig implements ContextConfig {
         return proxyHttpHeaderEnable;
     }
 
+    @Override
+    public boolean isTraceResourceUsage() {
+        return traceResourceUsage;
+    }
+
+    @Override
+    public String getTraceBinderType() {
+        return traceBinderType;
+    }
+
     @Override
     public String toString() {
         return "DefaultContextConfig{" +
@@ -148,6 +165,8 @@ public class DefaultContextConfig implements ContextConfig {
                 ", DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL=" + DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL +
                 ", agentInfoSendRetryInterval=" + agentInfoSendRetryInterval +
                 ", proxyHttpHeaderEnable=" + proxyHttpHeaderEnable +
+                ", traceResourceUsage=" + traceResourceUsage +
+                ", traceBinderType='" + traceBinderType + '\'' +
                 '}';
     }
 }
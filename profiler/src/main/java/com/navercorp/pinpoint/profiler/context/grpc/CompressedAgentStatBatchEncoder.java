@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.grpc;
+
+import com.navercorp.pinpoint.common.buffer.timeseries.BitWriter;
+import com.navercorp.pinpoint.common.buffer.timeseries.DeltaOfDeltaEncoder;
+import com.navercorp.pinpoint.common.buffer.timeseries.XorDoubleEncoder;
+import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshotBatch;
+import com.navercorp.pinpoint.profiler.monitor.metric.JvmGcMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.cpu.CpuLoadMetricSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Encodes the cpu load and jvm gc series of an {@link AgentStatMetricSnapshotBatch} column by column,
+ * timestamps and longs with delta-of-delta and doubles with XOR compression.
+ * Gc samples carrying detailed metrics are not encoded, they are sent as {@code PJvmGc} with their details.
+ * <pre>
+ * 8 bits   : version
+ * 32 bits  : sample count(n)
+ * n values : timestamp (delta-of-delta)
+ * n bits   : cpu load present
+ *            jvm cpu load, system cpu load of the present samples (xor)
+ * n bits   : jvm gc present (encoded)
+ * 8 bits   : gc type code, if any jvm gc is present
+ *            heap used, heap max, non heap used, non heap max, gc old count, gc old time of the present samples (delta-of-delta)
+ * </pre>
+ */
+public class CompressedAgentStatBatchEncoder {
+
+    public static final int VERSION = 1;
+
+    public byte[] encode(AgentStatMetricSnapshotBatch batch) {
+        Objects.requireNonNull(batch, "batch");
+        final List<AgentStatMetricSnapshot> agentStats = batch.getAgentStats();
+        final int size = agentStats.size();
+
+        final BitWriter writer = new BitWriter(16 + size * 16);
+        writer.writeBits(VERSION, 8);
+        writer.writeBits(size, 32);
+
+        final DeltaOfDeltaEncoder timestamp = new DeltaOfDeltaEncoder(writer);
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            timestamp.add(agentStat.getTimestamp());
+        }
+
+        writeCpuLoad(writer, agentStats);
+        writeJvmGc(writer, agentStats);
+        return writer.toByteArray();
+    }
+
+    private void writeCpuLoad(BitWriter writer, List<AgentStatMetricSnapshot> agentStats) {
+        final List<CpuLoadMetricSnapshot> cpuLoads = new ArrayList<>(agentStats.size());
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            final CpuLoadMetricSnapshot cpuLoad = agentStat.getCpuLoad();
+            writer.writeBit(cpuLoad != null);
+            if (cpuLoad != null) {
+                cpuLoads.add(cpuLoad);
+            }
+        }
+        writeDoubles(writer, cpuLoads, CpuLoadMetricSnapshot::getJvmCpuUsage);
+        writeDoubles(writer, cpuLoads, CpuLoadMetricSnapshot::getSystemCpuUsage);
+    }
+
+    static boolean isEncoded(JvmGcMetricSnapshot gc) {
+        return gc != null && gc.getJvmGcDetailed() == null;
+    }
+
+    private void writeJvmGc(BitWriter writer, List<AgentStatMetricSnapshot> agentStats) {
+        final List<JvmGcMetricSnapshot> gcs = new ArrayList<>(agentStats.size());
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            final JvmGcMetricSnapshot gc = agentStat.getGc();
+            final boolean encoded = isEncoded(gc);
+            writer.writeBit(encoded);
+            if (encoded) {
+                gcs.add(gc);
+            }
+        }
+        if (gcs.isEmpty()) {
+            return;
+        }
+        // the gc type does not change in a jvm
+        writer.writeBits(gcs.get(0).getType().getValue(), 8);
+
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmMemoryHeapUsed);
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmMemoryHeapMax);
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmMemoryNonHeapUsed);
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmMemoryNonHeapMax);
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmGcOldCount);
+        writeLongs(writer, gcs, JvmGcMetricSnapshot::getJvmGcOldTime);
+    }
+
+    private <T> void writeDoubles(BitWriter writer, List<T> values, ToDoubleFunction<T> field) {
+        final XorDoubleEncoder encoder = new XorDoubleEncoder(writer);
+        for (T value : values) {
+            encoder.add(field.applyAsDouble(value));
+        }
+    }
+
+    private <T> void writeLongs(BitWriter writer, List<T> values, ToLongFunction<T> field) {
+        final DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder(writer);
+        for (T value : values) {
+            encoder.add(field.applyAsLong(value));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
 import com.navercorp.pinpoint.common.profiler.logging.ThrottledLogger;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.common.util.IntStringValue;
 import com.navercorp.pinpoint.common.util.StringUtils;
@@ -46,16 +47,20 @@ import com.navercorp.pinpoint.profiler.context.Span;
 import com.navercorp.pinpoint.profiler.context.SpanChunk;
 import com.navercorp.pinpoint.profiler.context.SpanEvent;
 import com.navercorp.pinpoint.profiler.context.SpanType;
+import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
 import com.navercorp.pinpoint.profiler.context.compress.SpanProcessor;
 import com.navercorp.pinpoint.profiler.context.grpc.config.SpanUriGetter;
 import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.StackProfile;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JvmEventProfile;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Not thread safe
@@ -148,6 +153,18 @@ public class GrpcSpanMessageConverter implements MessageConverter<SpanType, Gene
             pSpan.addAllAnnotation(tAnnotations);
         }
 
+        final StackProfile stackProfile = shared.getStackProfile();
+        if (stackProfile != null && !stackProfile.isEmpty()) {
+            final Annotation<String> annotation = Annotations.of(AnnotationKey.STACK_PROFILE.getCode(), stackProfile.toFolded());
+            pSpan.addAnnotation(buildPAnnotation0(annotation));
+        }
+        final JvmEventProfile jvmEventProfile = shared.getJvmEventProfile();
+        if (jvmEventProfile != null) {
+            addJvmEventAnnotation(pSpan, AnnotationKey.JVM_GC_PAUSE, jvmEventProfile.getGcPauseNanos());
+            addJvmEventAnnotation(pSpan, AnnotationKey.JVM_MONITOR_ENTER, jvmEventProfile.getMonitorEnterNanos());
+            addJvmEventAnnotation(pSpan, AnnotationKey.JVM_THREAD_PARK, jvmEventProfile.getThreadParkNanos());
+        }
+
         this.spanProcessor.preProcess(span, pSpan);
         final List<SpanEvent> spanEventList = span.getSpanEventList();
         if (CollectionUtils.hasLength(spanEventList)) {
@@ -160,6 +177,14 @@ public class GrpcSpanMessageConverter implements MessageConverter<SpanType, Gene
     }
 
 
+    private void addJvmEventAnnotation(PSpan.Builder pSpan, AnnotationKey annotationKey, long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        final Annotation<Long> annotation = Annotations.of(annotationKey.getCode(), TimeUnit.NANOSECONDS.toMicros(nanos));
+        pSpan.addAnnotation(buildPAnnotation0(annotation));
+    }
+
     private PTransactionId newTransactionId(TraceId traceId) {
         if (isCompressedType(traceId)) {
             final PTransactionId.Builder builder = PTransactionId.newBuilder();
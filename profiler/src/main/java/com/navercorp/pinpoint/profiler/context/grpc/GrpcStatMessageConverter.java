@@ -17,7 +17,10 @@
 package com.navercorp.pinpoint.profiler.context.grpc;
 
 import com.google.protobuf.GeneratedMessageV3;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
+import com.navercorp.pinpoint.grpc.CompressedAgentStatPayload;
+import com.navercorp.pinpoint.grpc.DataSourceConnectionWait;
 import com.navercorp.pinpoint.grpc.trace.PActiveTrace;
 import com.navercorp.pinpoint.grpc.trace.PActiveTraceHistogram;
 import com.navercorp.pinpoint.grpc.trace.PAgentStat;
@@ -70,21 +73,36 @@ public class GrpcStatMessageConverter implements MessageConverter<MetricType, Ge
     private final MessageConverter<MetricType, PCustomMetricMessage> customMetricMessageConverter = new GrpcCustomMetricMessageConverter();
     private final MessageConverter<MetricType, PAgentUriStat> uriStatMessageConverter = new GrpcUriStatMessageConverter();
 
+    // cpu load and jvm gc of the batches are sent as a compressed payload instead of PCpuLoad and PJvmGc
+    private final CompressedAgentStatBatchEncoder compressedEncoder;
+
+    public GrpcStatMessageConverter() {
+        this(false);
+    }
+
+    public GrpcStatMessageConverter(boolean compressAgentStatBatch) {
+        this.compressedEncoder = compressAgentStatBatch ? new CompressedAgentStatBatchEncoder() : null;
+    }
 
     @Override
     public GeneratedMessageV3 toMessage(MetricType message) {
         if (message instanceof AgentStatMetricSnapshotBatch) {
             final AgentStatMetricSnapshotBatch agentStatMetricSnapshotBatch = (AgentStatMetricSnapshotBatch) message;
             final PAgentStatBatch.Builder agentStatBatchBuilder = PAgentStatBatch.newBuilder();
+            final boolean compressed = compressedEncoder != null;
             // Skip agentId, startTimestamp
             for (AgentStatMetricSnapshot agentStatMetricSnapshot : agentStatMetricSnapshotBatch.getAgentStats()) {
-                final PAgentStat agentStat = converAgentStat(agentStatMetricSnapshot);
+                final PAgentStat agentStat = converAgentStat(agentStatMetricSnapshot, compressed);
                 agentStatBatchBuilder.addAgentStat(agentStat);
             }
+            if (compressed) {
+                final byte[] payload = compressedEncoder.encode(agentStatMetricSnapshotBatch);
+                CompressedAgentStatPayload.set(agentStatBatchBuilder, payload);
+            }
             return agentStatBatchBuilder.build();
         } else if (message instanceof AgentStatMetricSnapshot) {
             final AgentStatMetricSnapshot agentStatMetricSnapshot = (AgentStatMetricSnapshot) message;
-            final PAgentStat agentStat = converAgentStat(agentStatMetricSnapshot);
+            final PAgentStat agentStat = converAgentStat(agentStatMetricSnapshot, false);
             return agentStat;
         } else if (message instanceof AgentCustomMetricSnapshotBatch) {
             final AgentCustomMetricSnapshotBatch agentCustomMetricSnapshotBatch = (AgentCustomMetricSnapshotBatch) message;
@@ -98,7 +116,7 @@ public class GrpcStatMessageConverter implements MessageConverter<MetricType, Ge
         return null;
     }
 
-    private PAgentStat converAgentStat(final AgentStatMetricSnapshot agentStatMetricSnapshot) {
+    private PAgentStat converAgentStat(final AgentStatMetricSnapshot agentStatMetricSnapshot, boolean compressed) {
         final PAgentStat.Builder agentStatBuilder = PAgentStat.newBuilder();
         agentStatBuilder.setTimestamp(agentStatMetricSnapshot.getTimestamp());
         agentStatBuilder.setCollectInterval(agentStatMetricSnapshot.getCollectInterval());
@@ -106,13 +124,13 @@ public class GrpcStatMessageConverter implements MessageConverter<MetricType, Ge
 
         // Metric
         final JvmGcMetricSnapshot jvmGcMetricSnapshot = agentStatMetricSnapshot.getGc();
-        if (jvmGcMetricSnapshot != null) {
+        if (jvmGcMetricSnapshot != null && !(compressed && CompressedAgentStatBatchEncoder.isEncoded(jvmGcMetricSnapshot))) {
             final PJvmGc jvmGc = convertJvmGc(jvmGcMetricSnapshot);
             agentStatBuilder.setGc(jvmGc);
         }
 
         final CpuLoadMetricSnapshot cpuLoadMetricSnapshot = agentStatMetricSnapshot.getCpuLoad();
-        if (cpuLoadMetricSnapshot != null) {
+        if (cpuLoadMetricSnapshot != null && !compressed) {
             final PCpuLoad cpuLoad = convertCpuLoad(cpuLoadMetricSnapshot);
             agentStatBuilder.setCpuLoad(cpuLoad);
         }
@@ -247,6 +265,11 @@ public class GrpcStatMessageConverter implements MessageConverter<MetricType, Ge
                 dataSourceBuilder.setUrl(dataSourceCollectData.getUrl());
             }
             dataSourceBuilder.setMaxConnectionSize(dataSourceCollectData.getMaxConnectionSize());
+            final ConnectionWaitSnapshot connectionWait = dataSourceCollectData.getConnectionWait();
+            if (connectionWait != null && connectionWait.getBorrowCount() != 0) {
+                DataSourceConnectionWait.set(dataSourceBuilder, connectionWait.getHistogram(), connectionWait.getTimeoutCount(),
+                        connectionWait.getTotalWaitTime(), connectionWait.getMaxWaitTime());
+            }
             dataSourceListBuilder.addDataSource(dataSourceBuilder.build());
         }
         return dataSourceListBuilder.build();
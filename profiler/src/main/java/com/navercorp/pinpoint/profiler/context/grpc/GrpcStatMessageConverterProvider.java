@@ -20,20 +20,26 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.protobuf.GeneratedMessageV3;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
 import com.navercorp.pinpoint.profiler.monitor.metric.MetricType;
 
+import java.util.Objects;
+
 /**
  * @author jaehong.kim
  */
 public class GrpcStatMessageConverterProvider implements Provider<MessageConverter<MetricType, GeneratedMessageV3>> {
 
+    private final MonitorConfig monitorConfig;
+
     @Inject
-    public GrpcStatMessageConverterProvider() {
+    public GrpcStatMessageConverterProvider(MonitorConfig monitorConfig) {
+        this.monitorConfig = Objects.requireNonNull(monitorConfig, "monitorConfig");
     }
 
 
     @Override
     public MessageConverter<MetricType, GeneratedMessageV3> get() {
-        return new GrpcStatMessageConverter();
+        return new GrpcStatMessageConverter(monitorConfig.isJvmStatCompressionEnable());
     }
 }
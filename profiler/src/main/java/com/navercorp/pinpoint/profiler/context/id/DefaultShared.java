@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.id;
 
+import com.navercorp.pinpoint.profiler.monitor.StackProfile;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JvmEventProfile;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +39,12 @@ public class DefaultShared implements Shared {
     private static final AtomicReferenceFieldUpdater<DefaultShared, String> URL_TEMPLATE_UPDATER
             = AtomicReferenceFieldUpdater.newUpdater(DefaultShared.class, String.class, "uriTemplate");
 
+    private static final AtomicReferenceFieldUpdater<DefaultShared, StackProfile> STACK_PROFILE_UPDATER
+            = AtomicReferenceFieldUpdater.newUpdater(DefaultShared.class, StackProfile.class, "stackProfile");
+
+    private static final AtomicReferenceFieldUpdater<DefaultShared, JvmEventProfile> JVM_EVENT_PROFILE_UPDATER
+            = AtomicReferenceFieldUpdater.newUpdater(DefaultShared.class, JvmEventProfile.class, "jvmEventProfile");
+
     private volatile int errorCode;
     private volatile byte loggingInfo;
 
@@ -48,10 +56,18 @@ public class DefaultShared implements Shared {
 
     private volatile long threadId;
 
+    private volatile Thread virtualThread;
+
     private volatile int statusCode;
 
     private volatile String uriTemplate = null;
 
+    @SuppressWarnings("unused")
+    private volatile StackProfile stackProfile;
+
+    @SuppressWarnings("unused")
+    private volatile JvmEventProfile jvmEventProfile;
+
     @Override
     public void maskErrorCode(int errorCode) {
 //        synchronized (this) {
@@ -118,6 +134,16 @@ public class DefaultShared implements Shared {
         return threadId;
     }
 
+    @Override
+    public void setVirtualThread(Thread virtualThread) {
+        this.virtualThread = virtualThread;
+    }
+
+    @Override
+    public Thread getVirtualThread() {
+        return virtualThread;
+    }
+
     @Override
     public void setStatusCode(int statusCode) {
         this.statusCode = statusCode;
@@ -156,4 +182,24 @@ public class DefaultShared implements Shared {
     public String getUriTemplate() {
         return uriTemplate;
     }
+
+    @Override
+    public boolean setStackProfile(StackProfile stackProfile) {
+        return STACK_PROFILE_UPDATER.compareAndSet(this, null, stackProfile);
+    }
+
+    @Override
+    public StackProfile getStackProfile() {
+        return STACK_PROFILE_UPDATER.get(this);
+    }
+
+    @Override
+    public boolean setJvmEventProfile(JvmEventProfile jvmEventProfile) {
+        return JVM_EVENT_PROFILE_UPDATER.compareAndSet(this, null, jvmEventProfile);
+    }
+
+    @Override
+    public JvmEventProfile getJvmEventProfile() {
+        return JVM_EVENT_PROFILE_UPDATER.get(this);
+    }
 }
\ No newline at end of file
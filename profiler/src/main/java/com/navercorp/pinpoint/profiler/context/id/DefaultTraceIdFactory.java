@@ -52,4 +52,11 @@ public class DefaultTraceIdFactory implements TraceIdFactory {
         final TransactionId parseId = TransactionIdUtils.parseTransactionId(transactionId);
         return new DefaultTraceId(parseId.getAgentId(), parseId.getAgentStartTime(), parseId.getTransactionSequence(), parentSpanId, spanId, flags);
     }
+
+    @Override
+    public TraceId continueTraceId(String agentId, long agentStartTime, long transactionSequence, long parentSpanId, long spanId, short flags) {
+        Objects.requireNonNull(agentId, "agentId");
+
+        return new DefaultTraceId(agentId, agentStartTime, transactionSequence, parentSpanId, spanId, flags);
+    }
 }
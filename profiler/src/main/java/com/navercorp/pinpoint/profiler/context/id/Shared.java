@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.profiler.context.id;
 
+import com.navercorp.pinpoint.profiler.monitor.StackProfile;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JvmEventProfile;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -43,6 +46,14 @@ public interface Shared {
 
     long getThreadId();
 
+    void setVirtualThread(Thread virtualThread);
+
+    /**
+     * ThreadMXBean does not report virtual threads, so the thread itself is kept to resolve its stack.
+     * @return the thread of the transaction if it is a virtual thread, otherwise null
+     */
+    Thread getVirtualThread();
+
     void setStatusCode(int statusCode);
 
     int getStatusCode();
@@ -52,4 +63,12 @@ public interface Shared {
     boolean setUriTemplate(String uriTemplate, boolean force);
 
     String getUriTemplate();
+
+    boolean setStackProfile(StackProfile stackProfile);
+
+    StackProfile getStackProfile();
+
+    boolean setJvmEventProfile(JvmEventProfile jvmEventProfile);
+
+    JvmEventProfile getJvmEventProfile();
 }
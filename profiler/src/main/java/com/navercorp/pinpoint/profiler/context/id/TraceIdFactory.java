@@ -27,4 +27,6 @@ public interface TraceIdFactory {
 
     TraceId continueTraceId(String transactionId, long parentSpanId, long spanId, short flags);
 
+    TraceId continueTraceId(String agentId, long agentStartTime, long transactionSequence, long parentSpanId, long spanId, short flags);
+
 }
@@ -46,6 +46,9 @@ import com.navercorp.pinpoint.profiler.instrument.lambda.LambdaTransformBootload
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DeadlockMonitor;
+import com.navercorp.pinpoint.profiler.monitor.StackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JfrMonitor;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -64,6 +67,8 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final ProfilerConfig profilerConfig;
 
     private final DeadlockMonitor deadlockMonitor;
+    private final StackSamplingMonitor stackSamplingMonitor;
+    private final JfrMonitor jfrMonitor;
     private final AgentInfoSender agentInfoSender;
     private final AgentStatMonitor agentStatMonitor;
 
@@ -71,6 +76,8 @@ public class DefaultApplicationContext implements ApplicationContext {
 
     private final ModuleLifeCycle rpcModuleLifeCycle;
 
+    private final AgentScheduler agentScheduler;
+
     private final AgentInformation agentInformation;
     private final ServerMetaDataRegistryService serverMetaDataRegistryService;
 
@@ -118,6 +125,8 @@ public class DefaultApplicationContext implements ApplicationContext {
         }
 
 
+        this.agentScheduler = injector.getInstance(AgentScheduler.class);
+
         this.rpcModuleLifeCycle = injector.getInstance(Key.get(ModuleLifeCycle.class, Names.named("RPC-MODULE")));
         logger.info("rpcModuleLifeCycle:{}", rpcModuleLifeCycle);
         this.rpcModuleLifeCycle.start();
@@ -129,6 +138,8 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.serverMetaDataRegistryService = injector.getInstance(ServerMetaDataRegistryService.class);
 
         this.deadlockMonitor = injector.getInstance(DeadlockMonitor.class);
+        this.stackSamplingMonitor = injector.getInstance(StackSamplingMonitor.class);
+        this.jfrMonitor = injector.getInstance(JfrMonitor.class);
         this.agentInfoSender = injector.getInstance(AgentInfoSender.class);
         this.agentStatMonitor = injector.getInstance(AgentStatMonitor.class);
     }
@@ -222,6 +233,8 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.interceptorRegistryBinder.bind();
 
         this.deadlockMonitor.start();
+        this.stackSamplingMonitor.start();
+        this.jfrMonitor.start();
         this.agentInfoSender.start();
         this.agentStatMonitor.start();
     }
@@ -230,12 +243,16 @@ public class DefaultApplicationContext implements ApplicationContext {
     public void close() {
         this.agentInfoSender.stop();
         this.agentStatMonitor.stop();
+        this.jfrMonitor.stop();
+        this.stackSamplingMonitor.stop();
         this.deadlockMonitor.stop();
 
         // Need to process stop
         if (rpcModuleLifeCycle != null) {
             this.rpcModuleLifeCycle.shutdown();
         }
+        // shared by the monitors and the rpc module
+        this.agentScheduler.stop();
 
         if (profilerConfig.getStaticResourceCleanup()) {
             this.interceptorRegistryBinder.unbind();
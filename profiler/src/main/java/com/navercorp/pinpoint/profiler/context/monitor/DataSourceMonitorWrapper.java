@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.monitor;
 
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitMonitor;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitor;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
@@ -25,7 +27,7 @@ import java.util.Objects;
 /**
  * @author Taejin Koo
  */
-public class DataSourceMonitorWrapper implements PluginMonitorWrapper, DataSourceMonitor {
+public class DataSourceMonitorWrapper implements PluginMonitorWrapper, DataSourceMonitor, ConnectionWaitMonitor {
 
     private final int id;
     private final WeakReference<DataSourceMonitor> monitorReference;
@@ -98,6 +100,15 @@ public class DataSourceMonitorWrapper implements PluginMonitorWrapper, DataSourc
         return -1;
     }
 
+    @Override
+    public ConnectionWaitSnapshot getConnectionWaitSnapshot() {
+        DataSourceMonitor dataSourceMonitor = getInstance();
+        if (dataSourceMonitor instanceof ConnectionWaitMonitor) {
+            return ((ConnectionWaitMonitor) dataSourceMonitor).getConnectionWaitSnapshot();
+        }
+        return null;
+    }
+
     @Override
     public boolean isDisabled() {
         DataSourceMonitor dataSourceMonitor = getInstance();
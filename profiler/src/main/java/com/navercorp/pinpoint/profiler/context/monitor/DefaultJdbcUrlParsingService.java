@@ -31,14 +31,14 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class DefaultJdbcUrlParsingService implements JdbcUrlParsingService {
 
-    private final JdbcUrlParserV2[] jdbcUrlParsers;
+    // grows when a plugin is set up lazily
+    private final List<JdbcUrlParserV2> jdbcUrlParsers;
 
     private final ConcurrentMap<String, DatabaseInfo> cache = new ConcurrentHashMap<>();
     private final ConcurrentMap<CacheKey, DatabaseInfo> eachServiceTypeCache = new ConcurrentHashMap<>();
 
     public DefaultJdbcUrlParsingService(List<JdbcUrlParserV2> jdbcUrlParsers) {
-        Objects.requireNonNull(jdbcUrlParsers, "jdbcUrlParserList");
-        this.jdbcUrlParsers = jdbcUrlParsers.toArray(new JdbcUrlParserV2[0]);
+        this.jdbcUrlParsers = Objects.requireNonNull(jdbcUrlParsers, "jdbcUrlParserList");
     }
 
     @Override
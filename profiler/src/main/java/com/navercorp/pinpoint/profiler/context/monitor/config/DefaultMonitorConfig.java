@@ -26,7 +26,7 @@ public class DefaultMonitorConfig implements MonitorConfig {
     @Value("${profiler.custommetric.enable}")
     private boolean customMetricEnable = false;
     @Value("${profiler.custommetric.limit.size}")
-    private int customMetricLimitSize = 10;
+    private int customMetricLimitSize = 100;
 
     @Value("${profiler.uri.stat.enable}")
     private boolean uriStatEnable = false;
@@ -42,6 +42,28 @@ public class DefaultMonitorConfig implements MonitorConfig {
     private int profileJvmStatBatchSendCount = DEFAULT_NUM_AGENT_STAT_BATCH_SEND;
     @Value("${profiler.jvm.stat.collect.detailed.metrics}")
     private boolean profilerJvmStatCollectDetailedMetrics = false;
+    @Value("${profiler.jvm.stat.compression.enable}")
+    private boolean jvmStatCompressionEnable = false;
+
+    @Value("${profiler.monitor.stacksampling.enable}")
+    private boolean stackSamplingEnable = false;
+    @Value("${profiler.monitor.stacksampling.interval}")
+    private long stackSamplingIntervalMs = 100;
+    @Value("${profiler.monitor.stacksampling.threshold}")
+    private long stackSamplingThresholdMs = 1000;
+    @Value("${profiler.monitor.stacksampling.max.depth}")
+    private int stackSamplingMaxDepth = 64;
+    @Value("${profiler.monitor.stacksampling.max.trace.size}")
+    private int stackSamplingMaxTraceSize = 32;
+    @Value("${profiler.monitor.stacksampling.max.node.size}")
+    private int stackSamplingMaxNodeSize = 512;
+    @Value("${profiler.monitor.stacksampling.max.folded.bytes}")
+    private int stackSamplingMaxFoldedBytes = 16384;
+
+    @Value("${profiler.monitor.jfr.enable}")
+    private boolean jfrMonitorEnable = false;
+    @Value("${profiler.monitor.jfr.threshold}")
+    private long jfrMonitorThresholdMs = 20;
 
     @Override
     public int getProfileJvmStatCollectIntervalMs() {
@@ -58,6 +80,11 @@ public class DefaultMonitorConfig implements MonitorConfig {
         return profilerJvmStatCollectDetailedMetrics;
     }
 
+    @Override
+    public boolean isJvmStatCompressionEnable() {
+        return jvmStatCompressionEnable;
+    }
+
     @Override
     public boolean isCustomMetricEnable() {
         return customMetricEnable;
@@ -83,6 +110,51 @@ public class DefaultMonitorConfig implements MonitorConfig {
         return completedUriStatDataLimitSize;
     }
 
+    @Override
+    public boolean isStackSamplingEnable() {
+        return stackSamplingEnable;
+    }
+
+    @Override
+    public long getStackSamplingIntervalMs() {
+        return stackSamplingIntervalMs;
+    }
+
+    @Override
+    public long getStackSamplingThresholdMs() {
+        return stackSamplingThresholdMs;
+    }
+
+    @Override
+    public int getStackSamplingMaxDepth() {
+        return stackSamplingMaxDepth;
+    }
+
+    @Override
+    public int getStackSamplingMaxTraceSize() {
+        return stackSamplingMaxTraceSize;
+    }
+
+    @Override
+    public int getStackSamplingMaxNodeSize() {
+        return stackSamplingMaxNodeSize;
+    }
+
+    @Override
+    public int getStackSamplingMaxFoldedBytes() {
+        return stackSamplingMaxFoldedBytes;
+    }
+
+    @Override
+    public boolean isJfrMonitorEnable() {
+        return jfrMonitorEnable;
+    }
+
+    @Override
+    public long getJfrMonitorThresholdMs() {
+        return jfrMonitorThresholdMs;
+    }
+
     @Override
     public String toString() {
         return "DefaultMonitorConfig{" +
@@ -93,6 +165,16 @@ public class DefaultMonitorConfig implements MonitorConfig {
                 ", profileJvmStatCollectIntervalMs=" + profileJvmStatCollectIntervalMs +
                 ", profileJvmStatBatchSendCount=" + profileJvmStatBatchSendCount +
                 ", profilerJvmStatCollectDetailedMetrics=" + profilerJvmStatCollectDetailedMetrics +
+                ", jvmStatCompressionEnable=" + jvmStatCompressionEnable +
+                ", stackSamplingEnable=" + stackSamplingEnable +
+                ", stackSamplingIntervalMs=" + stackSamplingIntervalMs +
+                ", stackSamplingThresholdMs=" + stackSamplingThresholdMs +
+                ", stackSamplingMaxDepth=" + stackSamplingMaxDepth +
+                ", stackSamplingMaxTraceSize=" + stackSamplingMaxTraceSize +
+                ", stackSamplingMaxNodeSize=" + stackSamplingMaxNodeSize +
+                ", stackSamplingMaxFoldedBytes=" + stackSamplingMaxFoldedBytes +
+                ", jfrMonitorEnable=" + jfrMonitorEnable +
+                ", jfrMonitorThresholdMs=" + jfrMonitorThresholdMs +
                 '}';
     }
 }
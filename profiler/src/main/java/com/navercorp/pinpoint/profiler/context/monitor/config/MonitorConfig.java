@@ -23,6 +23,8 @@ public interface MonitorConfig {
 
     boolean isProfilerJvmStatCollectDetailedMetrics();
 
+    boolean isJvmStatCompressionEnable();
+
     boolean isCustomMetricEnable();
 
     int getCustomMetricLimitSize();
@@ -33,4 +35,22 @@ public interface MonitorConfig {
 
     int getCompletedUriStatDataLimitSize();
 
+    boolean isStackSamplingEnable();
+
+    long getStackSamplingIntervalMs();
+
+    long getStackSamplingThresholdMs();
+
+    int getStackSamplingMaxDepth();
+
+    int getStackSamplingMaxTraceSize();
+
+    int getStackSamplingMaxNodeSize();
+
+    int getStackSamplingMaxFoldedBytes();
+
+    boolean isJfrMonitorEnable();
+
+    long getJfrMonitorThresholdMs();
+
 }
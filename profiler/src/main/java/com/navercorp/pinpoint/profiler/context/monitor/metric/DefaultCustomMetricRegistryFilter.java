@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.context.monitor.metric;
 
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetric;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,10 +33,49 @@ public class DefaultCustomMetricRegistryFilter implements CustomMetricRegistryFi
     private static final AllowedSource<LongCounter> NETTY_USED_DIRECT_MEMORY = new AllowedSource<>("custom/netty/usedDirectMemory", LongCounter.class);
     private static final AllowedSource<LongCounter> NETTY_MAX_DIRECT_MEMORY = new AllowedSource<>("custom/netty/maxDirectMemory ", LongCounter.class);
 
+    // okhttp
+    private static final AllowedSource<LongCounter> OKHTTP_CONNECTION_ACQUIRE_COUNT = new AllowedSource<>("custom/okhttp/connectionAcquireCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> OKHTTP_CONNECTION_CONNECT_COUNT = new AllowedSource<>("custom/okhttp/connectionConnectCount", LongCounter.class);
+    // per host connection counts, custom/<client>-host-<host>/
+    private static final AllowedSource<LongCounter> OKHTTP_HOST_CONNECTION_COUNT = new AllowedSource<>("custom/okhttp-host-", LongCounter.class, true);
+
+    // httpclient
+    private static final AllowedSource<LongCounter> HTTPCLIENT4_CONNECTION_ACQUIRE_COUNT = new AllowedSource<>("custom/httpclient4/connectionAcquireCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> HTTPCLIENT4_CONNECTION_CONNECT_COUNT = new AllowedSource<>("custom/httpclient4/connectionConnectCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> HTTPCLIENT5_CONNECTION_ACQUIRE_COUNT = new AllowedSource<>("custom/httpclient5/connectionAcquireCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> HTTPCLIENT5_CONNECTION_CONNECT_COUNT = new AllowedSource<>("custom/httpclient5/connectionConnectCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> HTTPCLIENT4_HOST_CONNECTION_COUNT = new AllowedSource<>("custom/httpclient4-host-", LongCounter.class, true);
+    private static final AllowedSource<LongCounter> HTTPCLIENT5_HOST_CONNECTION_COUNT = new AllowedSource<>("custom/httpclient5-host-", LongCounter.class, true);
+
+    // reactor-netty
+    private static final AllowedSource<LongCounter> REACTOR_NETTY_CONNECTION_ACQUIRE_COUNT = new AllowedSource<>("custom/reactor-netty/connectionAcquireCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> REACTOR_NETTY_CONNECTION_CONNECT_COUNT = new AllowedSource<>("custom/reactor-netty/connectionConnectCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> REACTOR_NETTY_HOST_CONNECTION_COUNT = new AllowedSource<>("custom/reactor-netty-host-", LongCounter.class, true);
+
+    // thread
+    private static final AllowedSource<LongCounter> THREAD_TASK_START_COUNT = new AllowedSource<>("custom/thread/taskStartCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_TIME = new AllowedSource<>("custom/thread/taskWaitTime", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_UNDER_1MS_COUNT = new AllowedSource<>("custom/thread/taskWaitUnder1msCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_UNDER_10MS_COUNT = new AllowedSource<>("custom/thread/taskWaitUnder10msCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_UNDER_100MS_COUNT = new AllowedSource<>("custom/thread/taskWaitUnder100msCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_UNDER_1S_COUNT = new AllowedSource<>("custom/thread/taskWaitUnder1sCount", LongCounter.class);
+    private static final AllowedSource<LongCounter> THREAD_TASK_WAIT_OVER_1S_COUNT = new AllowedSource<>("custom/thread/taskWaitOver1sCount", LongCounter.class);
+    // per executor metrics, named after the worker threads
+    private static final AllowedSource<LongGauge> THREAD_EXECUTOR_QUEUE_SIZE = new AllowedSource<>("custom/executor-", LongGauge.class, true);
+    private static final AllowedSource<LongCounter> THREAD_EXECUTOR_REJECT_COUNT = new AllowedSource<>("custom/executor-", LongCounter.class, true);
+
     private final AllowedSource<? extends CustomMetric>[] allowedSourceList;
 
     public DefaultCustomMetricRegistryFilter() {
-        this(Arrays.asList(NETTY_USED_DIRECT_MEMORY, NETTY_MAX_DIRECT_MEMORY));
+        this(Arrays.asList(NETTY_USED_DIRECT_MEMORY, NETTY_MAX_DIRECT_MEMORY,
+                OKHTTP_CONNECTION_ACQUIRE_COUNT, OKHTTP_CONNECTION_CONNECT_COUNT, OKHTTP_HOST_CONNECTION_COUNT,
+                HTTPCLIENT4_CONNECTION_ACQUIRE_COUNT, HTTPCLIENT4_CONNECTION_CONNECT_COUNT, HTTPCLIENT4_HOST_CONNECTION_COUNT,
+                HTTPCLIENT5_CONNECTION_ACQUIRE_COUNT, HTTPCLIENT5_CONNECTION_CONNECT_COUNT, HTTPCLIENT5_HOST_CONNECTION_COUNT,
+                REACTOR_NETTY_CONNECTION_ACQUIRE_COUNT, REACTOR_NETTY_CONNECTION_CONNECT_COUNT, REACTOR_NETTY_HOST_CONNECTION_COUNT,
+                THREAD_TASK_START_COUNT, THREAD_TASK_WAIT_TIME,
+                THREAD_TASK_WAIT_UNDER_1MS_COUNT, THREAD_TASK_WAIT_UNDER_10MS_COUNT, THREAD_TASK_WAIT_UNDER_100MS_COUNT,
+                THREAD_TASK_WAIT_UNDER_1S_COUNT, THREAD_TASK_WAIT_OVER_1S_COUNT,
+                THREAD_EXECUTOR_QUEUE_SIZE, THREAD_EXECUTOR_REJECT_COUNT));
     }
 
     @SuppressWarnings("unchecked")
@@ -58,7 +98,7 @@ public class DefaultCustomMetricRegistryFilter implements CustomMetricRegistryFi
 
 
     private boolean contains(AllowedSource<? extends CustomMetric> allowedSource, CustomMetric value) {
-        if (!allowedSource.getMetricName().equals(value.getName())) {
+        if (!allowedSource.matches(value.getName())) {
             return false;
         }
         if (!allowedSource.getMetricClazz().isInstance(value)) {
@@ -71,10 +111,26 @@ public class DefaultCustomMetricRegistryFilter implements CustomMetricRegistryFi
 
         private final String metricName;
         private final Class<T> metricClazz;
+        private final boolean prefix;
 
         public AllowedSource(String metricName, Class<T> metricClazz) {
+            this(metricName, metricClazz, false);
+        }
+
+        /**
+         * @param prefix allow every metric whose name starts with {@code metricName}
+         */
+        public AllowedSource(String metricName, Class<T> metricClazz, boolean prefix) {
             this.metricName = Objects.requireNonNull(metricName, "metricName");
             this.metricClazz = Objects.requireNonNull(metricClazz, "metricClazz");
+            this.prefix = prefix;
+        }
+
+        boolean matches(String name) {
+            if (prefix) {
+                return name.startsWith(metricName);
+            }
+            return metricName.equals(name);
         }
 
         public String getMetricName() {
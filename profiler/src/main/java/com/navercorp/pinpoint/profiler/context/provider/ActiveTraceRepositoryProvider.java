@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.active.DefaultActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.active.EmptyActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.module.config.TraceAgentActiveThread;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
 
 import java.util.Objects;
@@ -35,17 +36,21 @@ public class ActiveTraceRepositoryProvider implements Provider<ActiveTraceReposi
 
     private final boolean isTraceAgentActiveThread;
     private final ResponseTimeCollector responseTimeCollector;
+    private final MonitorConfig monitorConfig;
 
     @Inject
-    public ActiveTraceRepositoryProvider(@TraceAgentActiveThread boolean isTraceAgentActiveThread, ResponseTimeCollector responseTimeCollector) {
+    public ActiveTraceRepositoryProvider(@TraceAgentActiveThread boolean isTraceAgentActiveThread, ResponseTimeCollector responseTimeCollector,
+                                         MonitorConfig monitorConfig) {
         this.isTraceAgentActiveThread = isTraceAgentActiveThread;
         this.responseTimeCollector = Objects.requireNonNull(responseTimeCollector, "responseTimeCollector");
-
+        this.monitorConfig = Objects.requireNonNull(monitorConfig, "monitorConfig");
     }
 
     public ActiveTraceRepository get() {
         if (isTraceAgentActiveThread) {
-            return new DefaultActiveTraceRepository(responseTimeCollector);
+            // only the jfr monitor looks the traces up by thread
+            final boolean threadIndex = monitorConfig.isJfrMonitorEnable();
+            return new DefaultActiveTraceRepository(responseTimeCollector, threadIndex);
         }
         ActiveTraceRepository emptyActiveTraceRepository = new EmptyActiveTraceRepository(responseTimeCollector);
         return emptyActiveTraceRepository;
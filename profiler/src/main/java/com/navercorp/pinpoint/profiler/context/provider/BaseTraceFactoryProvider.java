@@ -30,6 +30,7 @@ import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionContextF
 import com.navercorp.pinpoint.profiler.context.exception.storage.ExceptionStorageFactory;
 import com.navercorp.pinpoint.profiler.context.id.TraceRootFactory;
 import com.navercorp.pinpoint.profiler.context.recorder.RecorderFactory;
+import com.navercorp.pinpoint.profiler.context.resource.ThreadResourceUsageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.UriStatStorage;
 import org.apache.logging.log4j.LogManager;
@@ -53,6 +54,7 @@ public class BaseTraceFactoryProvider implements Provider<BaseTraceFactory> {
     private final ActiveTraceRepository activeTraceRepository;
     private final ExceptionContextFactory exceptionContextFactory;
     private final UriStatStorage uriStatStorage;
+    private final ThreadResourceUsageFactory threadResourceUsageFactory;
 
     @Inject
     public BaseTraceFactoryProvider(TraceRootFactory traceRootFactory,
@@ -63,7 +65,8 @@ public class BaseTraceFactoryProvider implements Provider<BaseTraceFactory> {
                                     RecorderFactory recorderFactory,
                                     ActiveTraceRepository activeTraceRepository,
                                     UriStatStorage uriStatStorage,
-                                    ExceptionContextFactory exceptionContextFactory) {
+                                    ExceptionContextFactory exceptionContextFactory,
+                                    ThreadResourceUsageFactory threadResourceUsageFactory) {
         this.traceRootFactory = Objects.requireNonNull(traceRootFactory, "traceRootFactory");
 
         this.callStackFactory = Objects.requireNonNull(callStackFactory, "callStackFactory");
@@ -75,12 +78,13 @@ public class BaseTraceFactoryProvider implements Provider<BaseTraceFactory> {
         this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
         this.exceptionContextFactory = Objects.requireNonNull(exceptionContextFactory, "exceptionContextFactory");
         this.uriStatStorage = Objects.requireNonNull(uriStatStorage, "uriStatStorage");
+        this.threadResourceUsageFactory = Objects.requireNonNull(threadResourceUsageFactory, "threadResourceUsageFactory");
     }
 
     @Override
     public BaseTraceFactory get() {
         BaseTraceFactory baseTraceFactory = new DefaultBaseTraceFactory(traceRootFactory, callStackFactory, storageFactory, traceSampler,
-                spanFactory, recorderFactory, activeTraceRepository, exceptionContextFactory, uriStatStorage);
+                spanFactory, recorderFactory, activeTraceRepository, exceptionContextFactory, uriStatStorage, threadResourceUsageFactory);
         if (isDebugEnabled()) {
             baseTraceFactory = LoggingBaseTraceFactory.wrap(baseTraceFactory);
         }
@@ -39,6 +39,7 @@ import com.navercorp.pinpoint.profiler.instrument.transformer.LambdaClassFileRes
 import com.navercorp.pinpoint.profiler.instrument.transformer.MatchableTransformerRegistry;
 import com.navercorp.pinpoint.profiler.instrument.transformer.TransformerRegistry;
 import com.navercorp.pinpoint.profiler.plugin.ClassFileTransformerLoader;
+import com.navercorp.pinpoint.profiler.plugin.LazyPluginSetup;
 import com.navercorp.pinpoint.profiler.plugin.MatchableClassFileTransformer;
 import com.navercorp.pinpoint.profiler.plugin.PluginContextLoadResult;
 import com.navercorp.pinpoint.profiler.plugin.PluginInstrumentContext;
@@ -46,6 +47,7 @@ import com.navercorp.pinpoint.profiler.transformer.ClassFileFilter;
 import com.navercorp.pinpoint.profiler.transformer.DefaultClassFileTransformerDispatcher;
 import com.navercorp.pinpoint.profiler.transformer.DelegateTransformerRegistry;
 import com.navercorp.pinpoint.profiler.transformer.DynamicTransformerRegistry;
+import com.navercorp.pinpoint.profiler.transformer.LazyPluginTransformerRegistry;
 import com.navercorp.pinpoint.profiler.transformer.PinpointClassFilter;
 import com.navercorp.pinpoint.profiler.transformer.UnmodifiableClassFilter;
 import org.apache.logging.log4j.Logger;
@@ -108,8 +110,14 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
     }
 
     private TransformerRegistry newTransformerRegistry() {
-        final List<MatchableClassFileTransformer> matchableClassFileTransformerList = getMatchableTransformers(pluginContextLoadResult);
-        final TransformerRegistry transformerRegistry = newDefaultTransformerRegistry(matchableClassFileTransformerList);
+        final List<MatchableClassFileTransformer> matchableClassFileTransformerList = getMatchableTransformers(pluginContextLoadResult.getClassFileTransformer());
+        TransformerRegistry transformerRegistry = newDefaultTransformerRegistry(matchableClassFileTransformerList);
+
+        final LazyPluginSetup lazyPluginSetup = pluginContextLoadResult.getLazyPluginSetup();
+        if (!lazyPluginSetup.isEmpty()) {
+            transformerRegistry = new LazyPluginTransformerRegistry(transformerRegistry, lazyPluginSetup,
+                    transformers -> newDefaultTransformerRegistry(getMatchableTransformers(transformers)));
+        }
 
         final TransformerRegistry debugTransformerRegistry = newDebugTransformerRegistry();
 
@@ -147,11 +155,11 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
         return new DefaultTransformerRegistry(matchableClassFileTransformerList);
     }
 
-    private List<MatchableClassFileTransformer> getMatchableTransformers(PluginContextLoadResult pluginContexts) {
-        Objects.requireNonNull(pluginContexts, "pluginContexts");
+    private List<MatchableClassFileTransformer> getMatchableTransformers(List<ClassFileTransformer> transformers) {
+        Objects.requireNonNull(transformers, "transformers");
 
         final List<MatchableClassFileTransformer> matcherList = new ArrayList<>();
-        for (ClassFileTransformer transformer : pluginContexts.getClassFileTransformer()) {
+        for (ClassFileTransformer transformer : transformers) {
             if (transformer instanceof MatchableClassFileTransformer) {
                 final MatchableClassFileTransformer t = (MatchableClassFileTransformer) transformer;
                 if (logger.isInfoEnabled()) {
@@ -24,6 +24,9 @@ import com.navercorp.pinpoint.profiler.monitor.DeadlockMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DeadlockThreadRegistry;
 import com.navercorp.pinpoint.profiler.monitor.DefaultDeadlockMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DisabledDeadlockMonitor;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+
+import java.util.Objects;
 
 /**
  * @author Taejin Koo
@@ -33,20 +36,23 @@ public class DeadlockMonitorProvider implements Provider<DeadlockMonitor> {
     private final boolean deadlockMonitorEnable;
     private final DeadlockThreadRegistry deadlockThreadRegistry;
     private final long deadlockMonitorInterval;
+    private final AgentScheduler agentScheduler;
 
     @Inject
     public DeadlockMonitorProvider(@DeadlockMonitorEnable boolean deadlockMonitorEnable,
                                    @DeadlockMonitorInterval long deadlockMonitorInterval,
-                                   DeadlockThreadRegistry deadlockThreadRegistry) {
+                                   DeadlockThreadRegistry deadlockThreadRegistry,
+                                   AgentScheduler agentScheduler) {
         this.deadlockMonitorEnable = deadlockMonitorEnable;
         this.deadlockThreadRegistry = deadlockThreadRegistry;
         this.deadlockMonitorInterval = deadlockMonitorInterval;
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
     }
 
     @Override
     public DeadlockMonitor get() {
         if (deadlockMonitorEnable) {
-            return new DefaultDeadlockMonitor(deadlockThreadRegistry, deadlockMonitorInterval);
+            return new DefaultDeadlockMonitor(deadlockThreadRegistry, deadlockMonitorInterval, agentScheduler);
         } else {
             return new DisabledDeadlockMonitor();
         }
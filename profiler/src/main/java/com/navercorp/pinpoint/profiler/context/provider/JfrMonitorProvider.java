@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.common.util.JvmUtils;
+import com.navercorp.pinpoint.common.util.JvmVersion;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import com.navercorp.pinpoint.profiler.monitor.jfr.DefaultJvmEventListener;
+import com.navercorp.pinpoint.profiler.monitor.jfr.DisabledJfrMonitor;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JfrMonitor;
+import com.navercorp.pinpoint.profiler.monitor.jfr.JvmEventListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+
+public class JfrMonitorProvider implements Provider<JfrMonitor> {
+
+    // jdk.jfr.consumer.RecordingStream, Java14+
+    private static final String RECORDING_STREAM_JFR_MONITOR = "com.navercorp.pinpoint.profiler.monitor.jfr.RecordingStreamJfrMonitor";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final MonitorConfig monitorConfig;
+    private final ActiveTraceRepository activeTraceRepository;
+
+    @Inject
+    public JfrMonitorProvider(MonitorConfig monitorConfig,
+                              ActiveTraceRepository activeTraceRepository) {
+        this.monitorConfig = Objects.requireNonNull(monitorConfig, "monitorConfig");
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+    }
+
+    @Override
+    public JfrMonitor get() {
+        if (!monitorConfig.isJfrMonitorEnable()) {
+            return new DisabledJfrMonitor();
+        }
+        final JvmVersion jvmVersion = JvmUtils.getVersion();
+        if (!jvmVersion.onOrAfter(JvmVersion.JAVA_14)) {
+            logger.info("JfrMonitor requires java 14+, current:{}", jvmVersion);
+            return new DisabledJfrMonitor();
+        }
+
+        final JvmEventListener listener = new DefaultJvmEventListener(activeTraceRepository);
+        try {
+            @SuppressWarnings("unchecked")
+            final Class<JfrMonitor> jfrMonitorClass = (Class<JfrMonitor>) Class.forName(RECORDING_STREAM_JFR_MONITOR);
+            final Constructor<JfrMonitor> constructor = jfrMonitorClass.getConstructor(JvmEventListener.class, long.class);
+            return constructor.newInstance(listener, monitorConfig.getJfrMonitorThresholdMs());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Error creating JfrMonitor [" + RECORDING_STREAM_JFR_MONITOR + "]", e);
+        }
+        return new DisabledJfrMonitor();
+    }
+}
@@ -18,11 +18,16 @@ package com.navercorp.pinpoint.profiler.context.provider;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
-import java.util.Objects;
 import com.navercorp.pinpoint.profiler.context.module.PluginClassLoader;
+import com.navercorp.pinpoint.profiler.context.module.PluginJars;
 import com.navercorp.pinpoint.profiler.plugin.DefaultPluginContextLoadResult;
 import com.navercorp.pinpoint.profiler.plugin.PluginContextLoadResult;
+import com.navercorp.pinpoint.profiler.plugin.PluginJar;
 import com.navercorp.pinpoint.profiler.plugin.ProfilerPluginContextLoader;
+import com.navercorp.pinpoint.profiler.plugin.config.PluginLoadingConfig;
+
+import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -31,16 +36,25 @@ public class PluginContextLoadResultProvider implements Provider<PluginContextLo
 
     private final ProfilerPluginContextLoader profilerPluginContextLoader;
     private final ClassLoader pluginClassLoader;
+    private final PluginLoadingConfig pluginLoadingConfig;
+    private final List<PluginJar> pluginJars;
 
     @Inject
     public PluginContextLoadResultProvider(ProfilerPluginContextLoader profilerPluginContextLoader,
-                                           @PluginClassLoader ClassLoader pluginClassLoader) {
+                                           @PluginClassLoader ClassLoader pluginClassLoader,
+                                           PluginLoadingConfig pluginLoadingConfig,
+                                           @PluginJars List<PluginJar> pluginJars) {
         this.profilerPluginContextLoader = Objects.requireNonNull(profilerPluginContextLoader, "profilerPluginContextLoader");
         this.pluginClassLoader = Objects.requireNonNull(pluginClassLoader, "pluginClassLoader");
+        this.pluginLoadingConfig = Objects.requireNonNull(pluginLoadingConfig, "pluginLoadingConfig");
+        this.pluginJars = Objects.requireNonNull(pluginJars, "pluginJars");
     }
 
     @Override
     public PluginContextLoadResult get() {
+        if (pluginLoadingConfig.isLazyLoadingEnable()) {
+            return new DefaultPluginContextLoadResult(profilerPluginContextLoader, pluginClassLoader, pluginJars);
+        }
         return new DefaultPluginContextLoadResult(profilerPluginContextLoader, pluginClassLoader);
     }
 }
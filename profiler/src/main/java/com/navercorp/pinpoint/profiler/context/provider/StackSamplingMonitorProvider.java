@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import com.navercorp.pinpoint.profiler.monitor.DefaultStackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.DisabledStackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.monitor.StackSamplingMonitor;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+
+import java.util.Objects;
+
+public class StackSamplingMonitorProvider implements Provider<StackSamplingMonitor> {
+
+    private final MonitorConfig monitorConfig;
+    private final ActiveTraceRepository activeTraceRepository;
+    private final AgentScheduler agentScheduler;
+
+    @Inject
+    public StackSamplingMonitorProvider(MonitorConfig monitorConfig,
+                                        ActiveTraceRepository activeTraceRepository,
+                                        AgentScheduler agentScheduler) {
+        this.monitorConfig = Objects.requireNonNull(monitorConfig, "monitorConfig");
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
+    }
+
+    @Override
+    public StackSamplingMonitor get() {
+        if (monitorConfig.isStackSamplingEnable()) {
+            return new DefaultStackSamplingMonitor(activeTraceRepository, monitorConfig, agentScheduler);
+        } else {
+            return new DisabledStackSamplingMonitor();
+        }
+    }
+
+}
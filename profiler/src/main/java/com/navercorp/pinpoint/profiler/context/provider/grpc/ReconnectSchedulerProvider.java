@@ -18,32 +18,27 @@ package com.navercorp.pinpoint.profiler.context.provider.grpc;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
-import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
 
-import java.util.concurrent.Executors;
+import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class ReconnectSchedulerProvider implements Provider<ScheduledExecutorService> {
+
+    private final AgentScheduler agentScheduler;
+
     @Inject
-    public ReconnectSchedulerProvider() {
+    public ReconnectSchedulerProvider(AgentScheduler agentScheduler) {
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
     }
 
     @Override
     public ScheduledExecutorService get() {
-        final PinpointThreadFactory threadFactory = new PinpointThreadFactory("Pinpoint-reconnect-thread");
-        final ScheduledThreadPoolExecutor scheduler = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1, threadFactory);
-
-        // not recommended
-//        LoggingRejectedExecutionHandler reconnectScheduler = new LoggingRejectedExecutionHandler("ReconnectScheduler");
-//        scheduler.setRejectedExecutionHandler(reconnectScheduler);
-
-
-        ScheduledExecutorService scheduledExecutorService = Executors.unconfigurableScheduledExecutorService(scheduler);
-        return scheduledExecutorService ;
+        // reconnect and ping jobs share the agent scheduler thread
+        return agentScheduler.newScheduledExecutorService("grpc-reconnect");
     }
 
 }
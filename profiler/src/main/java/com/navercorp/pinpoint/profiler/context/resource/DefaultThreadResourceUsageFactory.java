@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.resource;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+
+/**
+ * Measures the cpu time and the heap allocation of the current thread with the ThreadMXBean.
+ * Unsupported measurements are detected once and skipped afterward.
+ */
+public class DefaultThreadResourceUsageFactory implements ThreadResourceUsageFactory {
+
+    private static final long UNSUPPORTED = -1;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ThreadMXBean threadMXBean;
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final boolean cpuTimeSupported;
+
+    public DefaultThreadResourceUsageFactory() {
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = isCpuTimeSupported(threadMXBean);
+        this.allocationMXBean = getAllocationMXBean(threadMXBean);
+        logger.info("ThreadResourceUsage cpuTime:{} allocatedBytes:{}", cpuTimeSupported, allocationMXBean != null);
+    }
+
+    private boolean isCpuTimeSupported(ThreadMXBean threadMXBean) {
+        try {
+            return threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        } catch (Throwable th) {
+            logger.info("ThreadCpuTime not supported. Caused:{}", th.getMessage());
+            return false;
+        }
+    }
+
+    private com.sun.management.ThreadMXBean getAllocationMXBean(ThreadMXBean threadMXBean) {
+        try {
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunThreadMXBean;
+                }
+            }
+        } catch (Throwable th) {
+            // com.sun.management is not available on this jvm
+            logger.info("ThreadAllocatedMemory not supported. Caused:{}", th.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    public ThreadResourceUsage start() {
+        if (!cpuTimeSupported && allocationMXBean == null) {
+            return ThreadResourceUsage.DISABLED;
+        }
+        final long threadId = Thread.currentThread().getId();
+        return new DefaultThreadResourceUsage(threadId, getCpuTime(), getAllocatedBytes(threadId));
+    }
+
+    private long getCpuTime() {
+        if (cpuTimeSupported) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+        return UNSUPPORTED;
+    }
+
+    private long getAllocatedBytes(long threadId) {
+        if (allocationMXBean != null) {
+            return allocationMXBean.getThreadAllocatedBytes(threadId);
+        }
+        return UNSUPPORTED;
+    }
+
+    private class DefaultThreadResourceUsage implements ThreadResourceUsage {
+        private final long threadId;
+        private final long startCpuTime;
+        private final long startAllocatedBytes;
+
+        private DefaultThreadResourceUsage(long threadId, long startCpuTime, long startAllocatedBytes) {
+            this.threadId = threadId;
+            this.startCpuTime = startCpuTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        @Override
+        public boolean record(Consumer<Annotation<?>> annotationConsumer) {
+            if (Thread.currentThread().getId() != threadId) {
+                // closed by another thread, the counters of this thread are meaningless
+                return false;
+            }
+            if (startCpuTime >= 0) {
+                final long cpuTime = getCpuTime();
+                if (cpuTime >= startCpuTime) {
+                    final long cpuTimeMicros = (cpuTime - startCpuTime) / 1000;
+                    annotationConsumer.accept(Annotations.of(AnnotationKey.CPU_TIME.getCode(), cpuTimeMicros));
+                }
+            }
+            if (startAllocatedBytes >= 0) {
+                final long allocatedBytes = getAllocatedBytes(threadId);
+                if (allocatedBytes >= startAllocatedBytes) {
+                    annotationConsumer.accept(Annotations.of(AnnotationKey.ALLOCATED_BYTES.getCode(), allocatedBytes - startAllocatedBytes));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "DefaultThreadResourceUsage{" +
+                    "threadId=" + threadId +
+                    ", startCpuTime=" + startCpuTime +
+                    ", startAllocatedBytes=" + startAllocatedBytes +
+                    '}';
+        }
+    }
+}
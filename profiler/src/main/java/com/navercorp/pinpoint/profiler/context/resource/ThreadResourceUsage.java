@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.resource;
+
+import com.navercorp.pinpoint.profiler.context.Annotation;
+
+import java.util.function.Consumer;
+
+/**
+ * Resources used by one thread between {@link ThreadResourceUsageFactory#start()} and {@link #record(Consumer)}.
+ */
+public interface ThreadResourceUsage {
+
+    ThreadResourceUsage DISABLED = annotationConsumer -> false;
+
+    /**
+     * Records the cpu time and allocated bytes used since start as annotations.
+     * Nothing is recorded when called from a thread other than the one that started the measurement.
+     * @return true if recorded
+     */
+    boolean record(Consumer<Annotation<?>> annotationConsumer);
+
+}
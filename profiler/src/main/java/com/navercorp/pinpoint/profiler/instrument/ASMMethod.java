@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.bootstrap.instrument.InstrumentContext;
 import com.navercorp.pinpoint.bootstrap.instrument.InstrumentException;
 import com.navercorp.pinpoint.bootstrap.instrument.InstrumentMethod;
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.annotation.RecordOnly;
 import com.navercorp.pinpoint.bootstrap.interceptor.registry.InterceptorRegistry;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
@@ -110,7 +111,7 @@ public class ASMMethod implements InstrumentMethod {
     public void addInterceptor(int interceptorId) throws InstrumentException {
         final Interceptor interceptor = InterceptorRegistry.getInterceptor(interceptorId);
         try {
-            addInterceptor0(interceptor, interceptorId);
+            addInterceptor0(interceptor, interceptorId, ASMMethodNodeAdapter.NO_GUARD);
         } catch (Exception e) {
             throw new InstrumentException("Failed to add interceptor " + interceptor.getClass().getName() + " to " + this.methodNode.getLongName(), e);
         }
@@ -121,16 +122,23 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(interceptorClass, "interceptorClass");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, interceptorScope, executionPolicy);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
-    private int addInterceptor0(Interceptor interceptor) {
+    private int addInterceptor0(Interceptor interceptor, Class<? extends Interceptor> interceptorClass) {
         final int interceptorId = this.engineComponent.addInterceptor(interceptor);
 
-        addInterceptor0(interceptor, interceptorId);
+        addInterceptor0(interceptor, interceptorId, getSampledTraceGuardId(interceptorClass));
         return interceptorId;
     }
 
+    private int getSampledTraceGuardId(Class<? extends Interceptor> interceptorClass) {
+        if (interceptorClass.isAnnotationPresent(RecordOnly.class)) {
+            return this.engineComponent.getSampledTraceGuardId();
+        }
+        return ASMMethodNodeAdapter.NO_GUARD;
+    }
+
     private Interceptor newInterceptor(Class<? extends Interceptor> interceptorClass, Object[] constructorArgs, InterceptorScope interceptorScope, ExecutionPolicy executionPolicy) {
         final ScopeFactory scopeFactory = this.engineComponent.getScopeFactory();
 
@@ -147,7 +155,7 @@ public class ASMMethod implements InstrumentMethod {
         return interceptor;
     }
 
-    private void addInterceptor0(Interceptor interceptor, int interceptorId) {
+    private void addInterceptor0(Interceptor interceptor, int interceptorId, int guardId) {
         Objects.requireNonNull(interceptor, "interceptor");
 
         final InterceptorDefinition interceptorDefinition = this.engineComponent.createInterceptorDefinition(interceptor.getClass());
@@ -170,7 +178,7 @@ public class ASMMethod implements InstrumentMethod {
 
         // add before interceptor.
         if (isBeforeInterceptor(captureType) && interceptorDefinition.getBeforeMethod() != null) {
-            this.methodNode.addBeforeInterceptor(interceptorId, interceptorDefinition, apiId);
+            this.methodNode.addBeforeInterceptor(interceptorId, interceptorDefinition, apiId, guardId);
             this.declaringClass.setModified(true);
         } else {
             if (isDebug) {
@@ -180,7 +188,7 @@ public class ASMMethod implements InstrumentMethod {
 
         // add after interface.
         if (isAfterInterceptor(captureType) && interceptorDefinition.getAfterMethod() != null) {
-            this.methodNode.addAfterInterceptor(interceptorId, interceptorDefinition, apiId);
+            this.methodNode.addAfterInterceptor(interceptorId, interceptorDefinition, apiId, guardId);
             this.declaringClass.setModified(true);
         } else {
             if (isDebug) {
@@ -202,7 +210,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(interceptorClass, "interceptorClass");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, null, null, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -211,7 +219,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(constructorArgs, "constructorArgs");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, null, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
 
@@ -222,7 +230,7 @@ public class ASMMethod implements InstrumentMethod {
 
         final InterceptorScope interceptorScope = this.pluginContext.getInterceptorScope(scopeName);
         final Interceptor interceptor = newInterceptor(interceptorClass, null, interceptorScope, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -231,7 +239,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(interceptorScope, "interceptorScope");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, null, interceptorScope, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -242,7 +250,7 @@ public class ASMMethod implements InstrumentMethod {
 
         final InterceptorScope interceptorScope = this.pluginContext.getInterceptorScope(scopeName);
         final Interceptor interceptor = newInterceptor(interceptorClass, null, interceptorScope, executionPolicy);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -252,7 +260,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(executionPolicy, "executionPolicy");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, null, interceptorScope, executionPolicy);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -263,7 +271,7 @@ public class ASMMethod implements InstrumentMethod {
 
         final InterceptorScope interceptorScope = this.pluginContext.getInterceptorScope(scopeName);
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, interceptorScope, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -273,7 +281,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(interceptorScope, "interceptorScope");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, interceptorScope, null);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -285,7 +293,7 @@ public class ASMMethod implements InstrumentMethod {
 
         final InterceptorScope interceptorScope = this.pluginContext.getInterceptorScope(scopeName);
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, interceptorScope, executionPolicy);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
     @Override
@@ -296,7 +304,7 @@ public class ASMMethod implements InstrumentMethod {
         Objects.requireNonNull(executionPolicy, "executionPolicy");
 
         final Interceptor interceptor = newInterceptor(interceptorClass, constructorArgs, interceptorScope, executionPolicy);
-        return addInterceptor0(interceptor);
+        return addInterceptor0(interceptor, interceptorClass);
     }
 
 
@@ -21,6 +21,7 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.AnnotationNode;
 import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LineNumberNode;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.tree.MethodInsnNode;
@@ -35,6 +36,8 @@ import java.util.Objects;
  */
 public class ASMMethodNodeAdapter {
 
+    public static final int NO_GUARD = -1;
+
     private final String declaringClassInternalName;
     private final MethodNode methodNode;
     private final ASMMethodVariables methodVariables;
@@ -242,27 +245,46 @@ public class ASMMethodNodeAdapter {
         }
     }
 
-    private void initInterceptorLocalVariables(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId) {
+    private void initInterceptorLocalVariables(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId, final int guardId) {
         final InsnList instructions = new InsnList();
-        if (this.methodVariables.initInterceptorLocalVariables(instructions, interceptorId, interceptorDefinition, apiId)) {
+        if (this.methodVariables.initInterceptorLocalVariables(instructions, interceptorId, interceptorDefinition, apiId, guardId)) {
             // if first time.
             this.methodNode.instructions.insertBefore(this.methodVariables.getEnterInsnNode(), instructions);
         }
     }
 
     public void addBeforeInterceptor(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId) {
-        initInterceptorLocalVariables(interceptorId, interceptorDefinition, apiId);
+        addBeforeInterceptor(interceptorId, interceptorDefinition, apiId, NO_GUARD);
+    }
+
+    /**
+     * @param guardId interceptor id of the {@link com.navercorp.pinpoint.bootstrap.interceptor.SampledTraceGuard}
+     *                skipping the interceptor on unsampled calls, or {@link #NO_GUARD}
+     */
+    public void addBeforeInterceptor(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId, final int guardId) {
+        initInterceptorLocalVariables(interceptorId, interceptorDefinition, apiId, guardId);
 
         final InsnList instructions = new InsnList();
+        final LabelNode skipLabelNode = new LabelNode();
+        this.methodVariables.jumpIfNotSampled(instructions, skipLabelNode);
         this.methodVariables.loadInterceptorLocalVariables(instructions, interceptorDefinition, false);
 
         final String description = Type.getMethodDescriptor(interceptorDefinition.getBeforeMethod());
         instructions.add(new MethodInsnNode(Opcodes.INVOKEINTERFACE, Type.getInternalName(interceptorDefinition.getInterceptorBaseClass()), "before", description, true));
+        instructions.add(skipLabelNode);
         this.methodNode.instructions.insertBefore(this.methodVariables.getEnterInsnNode(), instructions);
     }
 
     public void addAfterInterceptor(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId) {
-        initInterceptorLocalVariables(interceptorId, interceptorDefinition, apiId);
+        addAfterInterceptor(interceptorId, interceptorDefinition, apiId, NO_GUARD);
+    }
+
+    /**
+     * @param guardId interceptor id of the {@link com.navercorp.pinpoint.bootstrap.interceptor.SampledTraceGuard}
+     *                skipping the interceptor on unsampled calls, or {@link #NO_GUARD}
+     */
+    public void addAfterInterceptor(final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId, final int guardId) {
+        initInterceptorLocalVariables(interceptorId, interceptorDefinition, apiId, guardId);
 
         // add try catch block.
         final ASMTryCatch tryCatch = new ASMTryCatch(this.methodNode);
@@ -275,8 +297,12 @@ public class ASMMethodNodeAdapter {
             final int opcode = insnNode.getOpcode();
             if (this.methodVariables.isReturnCode(opcode)) {
                 final InsnList instructions = new InsnList();
+                // the result is boxed only for the interceptor
+                final LabelNode skipLabelNode = new LabelNode();
+                this.methodVariables.jumpIfNotSampled(instructions, skipLabelNode);
                 this.methodVariables.storeResultVar(instructions, opcode);
                 invokeAfterInterceptor(instructions, interceptorDefinition, false);
+                instructions.add(skipLabelNode);
                 this.methodNode.instructions.insertBefore(insnNode, instructions);
             }
             insnNode = insnNode.getNext();
@@ -285,7 +311,10 @@ public class ASMMethodNodeAdapter {
         // try catch handler.
         InsnList instructions = new InsnList();
         this.methodVariables.storeThrowableVar(instructions);
+        final LabelNode skipLabelNode = new LabelNode();
+        this.methodVariables.jumpIfNotSampled(instructions, skipLabelNode);
         invokeAfterInterceptor(instructions, interceptorDefinition, true);
+        instructions.add(skipLabelNode);
         // throw exception.
         this.methodVariables.loadInterceptorThrowVar(instructions);
         this.methodNode.instructions.insert(tryCatch.getEndLabelNode(), instructions);
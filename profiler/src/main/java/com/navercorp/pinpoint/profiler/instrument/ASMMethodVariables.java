@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.profiler.instrument;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.SampledTraceGuard;
 import com.navercorp.pinpoint.bootstrap.interceptor.registry.InterceptorRegistry;
 import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorDefinition;
 import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorType;
@@ -27,6 +28,7 @@ import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.InsnList;
 import org.objectweb.asm.tree.InsnNode;
 import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.LocalVariableNode;
@@ -35,6 +37,7 @@ import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.TypeInsnNode;
 import org.objectweb.asm.tree.VarInsnNode;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -95,6 +98,8 @@ public class ASMMethodVariables {
 
     private int resultVarIndex;
     private int throwableVarIndex;
+    // -1 if the interceptor is not guarded
+    private int sampledVarIndex = -1;
 
     public ASMMethodVariables(final String declaringClassInternalName, final MethodNode methodNode) {
         this.declaringClassInternalName = declaringClassInternalName;
@@ -209,6 +214,10 @@ public class ASMMethodVariables {
     }
 
     public boolean initInterceptorLocalVariables(final InsnList instructions, final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId) {
+        return initInterceptorLocalVariables(instructions, interceptorId, interceptorDefinition, apiId, ASMMethodNodeAdapter.NO_GUARD);
+    }
+
+    public boolean initInterceptorLocalVariables(final InsnList instructions, final int interceptorId, final InterceptorDefinition interceptorDefinition, final int apiId, final int guardId) {
         if (this.initializedInterceptorLocalVariables) {
             return false;
         }
@@ -235,20 +244,25 @@ public class ASMMethodVariables {
         initInterceptorVar(instructions, interceptorId);
 
         // initialize argument variable.
+        final InsnList argumentInstructions = new InsnList();
+        final List<Integer> argumentVarIndexes = new ArrayList<>(5);
         final InterceptorType interceptorType = interceptorDefinition.getInterceptorType();
         if (interceptorType == InterceptorType.ARRAY_ARGS) {
             // Object target, Object[] args
-            initArgsVar(instructions);
+            initArgsVar(argumentInstructions);
+            argumentVarIndexes.add(this.argsVarIndex);
         } else if (interceptorType == InterceptorType.STATIC) {
             // Object target, String declaringClassInternalName, String methodName, String parameterDescription, Object[] args
             initClassNameVar(instructions);
             initMethodNameVar(instructions);
             initParameterDescriptionVar(instructions);
-            initArgsVar(instructions);
+            initArgsVar(argumentInstructions);
+            argumentVarIndexes.add(this.argsVarIndex);
         } else if (interceptorType == InterceptorType.API_ID_AWARE) {
             // Object target, int apiId, Object[] args
             initApiIdVar(apiId, instructions);
-            initArgsVar(instructions);
+            initArgsVar(argumentInstructions);
+            argumentVarIndexes.add(this.argsVarIndex);
         } else if (interceptorType == InterceptorType.BASIC) {
             int interceptorMethodParameterCount = getInterceptorParameterCount(interceptorDefinition);
             final int methodParameterCount = this.argumentTypes.length;
@@ -256,19 +270,39 @@ public class ASMMethodVariables {
             for (int i = 1; i <= argumentCount; i++) {
                 // Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4
                 if (i == 1) {
-                    initArg0Var(instructions);
+                    initArg0Var(argumentInstructions);
+                    argumentVarIndexes.add(this.arg0VarIndex);
                 } else if (i == 2) {
-                    initArg1Var(instructions);
+                    initArg1Var(argumentInstructions);
+                    argumentVarIndexes.add(this.arg1VarIndex);
                 } else if (i == 3) {
-                    initArg2Var(instructions);
+                    initArg2Var(argumentInstructions);
+                    argumentVarIndexes.add(this.arg2VarIndex);
                 } else if (i == 4) {
-                    initArg3Var(instructions);
+                    initArg3Var(argumentInstructions);
+                    argumentVarIndexes.add(this.arg3VarIndex);
                 } else if (i == 5) {
-                    initArg4Var(instructions);
+                    initArg4Var(argumentInstructions);
+                    argumentVarIndexes.add(this.arg4VarIndex);
                 }
             }
         }
 
+        if (guardId == ASMMethodNodeAdapter.NO_GUARD) {
+            instructions.add(argumentInstructions);
+        } else {
+            initSampledVar(instructions, guardId);
+            // box the arguments only for sampled calls, the variables are assigned on both paths for the verifier.
+            for (Integer argumentVarIndex : argumentVarIndexes) {
+                loadNull(instructions);
+                storeVar(instructions, argumentVarIndex);
+            }
+            final LabelNode skipLabelNode = new LabelNode();
+            jumpIfNotSampled(instructions, skipLabelNode);
+            instructions.add(argumentInstructions);
+            instructions.add(skipLabelNode);
+        }
+
         return true;
     }
 
@@ -309,6 +343,27 @@ public class ASMMethodVariables {
         storeVar(instructions, this.throwableVarIndex);
     }
 
+    private void initSampledVar(final InsnList instructions, final int guardId) {
+        assertInitializedInterceptorLocalVariables();
+        this.sampledVarIndex = addInterceptorLocalVariable("_$PINPOINT$_sampled", "Z");
+        push(instructions, guardId);
+        instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, Type.getInternalName(InterceptorRegistry.class), "getInterceptor", "(I)" + Type.getDescriptor(Interceptor.class), false));
+        instructions.add(new TypeInsnNode(Opcodes.CHECKCAST, Type.getInternalName(SampledTraceGuard.class)));
+        instructions.add(new MethodInsnNode(Opcodes.INVOKEINTERFACE, Type.getInternalName(SampledTraceGuard.class), "isSampled", "()Z", true));
+        storeInt(instructions, this.sampledVarIndex);
+    }
+
+    /**
+     * Jumps to the given label if the interceptor is guarded and the current call is not sampled.
+     */
+    public void jumpIfNotSampled(final InsnList instructions, final LabelNode labelNode) {
+        if (this.sampledVarIndex == -1) {
+            return;
+        }
+        loadInt(instructions, this.sampledVarIndex);
+        instructions.add(new JumpInsnNode(Opcodes.IFEQ, labelNode));
+    }
+
     private void initArgsVar(final InsnList instructions) {
         assertInitializedInterceptorLocalVariables();
         this.argsVarIndex = addInterceptorLocalVariable("_$PINPOINT$_args", "[Ljava/lang/Object;");
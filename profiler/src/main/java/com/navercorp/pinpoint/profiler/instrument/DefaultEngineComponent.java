@@ -38,6 +38,8 @@ public class DefaultEngineComponent implements EngineComponent {
     private final Provider<ApiMetaDataService> apiMetaDataServiceProvider;
     private final ScopeFactory scopeFactory;
 
+    private volatile int sampledTraceGuardId = -1;
+
     public DefaultEngineComponent(ObjectBinderFactory objectBinderFactory,
                                   InterceptorRegistryBinder interceptorRegistryBinder,
                                   InterceptorDefinitionFactory interceptorDefinitionFactory,
@@ -71,6 +73,22 @@ public class DefaultEngineComponent implements EngineComponent {
         return  interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(interceptor);
     }
 
+    @Override
+    public int getSampledTraceGuardId() {
+        int guardId = this.sampledTraceGuardId;
+        if (guardId != -1) {
+            return guardId;
+        }
+        synchronized (this) {
+            guardId = this.sampledTraceGuardId;
+            if (guardId == -1) {
+                guardId = addInterceptor(objectBinderFactory.newSampledTraceGuard());
+                this.sampledTraceGuardId = guardId;
+            }
+            return guardId;
+        }
+    }
+
     @Override
     public int cacheApi(MethodDescriptor methodDescriptor) {
         ApiMetaDataService apiMetaDataService = this.apiMetaDataServiceProvider.get();
@@ -34,5 +34,10 @@ public interface EngineComponent {
 
     int addInterceptor(Interceptor interceptor);
 
+    /**
+     * @return the interceptor id of the {@link com.navercorp.pinpoint.bootstrap.interceptor.SampledTraceGuard} shared by the instrumented methods
+     */
+    int getSampledTraceGuardId();
+
     int cacheApi(MethodDescriptor methodDescriptor);
 }
@@ -16,7 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.instrument.classloading;
 
-import com.navercorp.pinpoint.common.profiler.concurrent.jsr166.ConcurrentWeakHashMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.navercorp.pinpoint.exception.PinpointException;
 import com.navercorp.pinpoint.profiler.instrument.classreading.SimpleClassMetadata;
 import com.navercorp.pinpoint.profiler.instrument.classreading.SimpleClassMetadataReader;
@@ -39,6 +40,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Defines the classes of one plugin jar in the class loaders using them.
+ * <p>
+ * The plugin jar is parsed once, on the first injection.
+ * The classes of the plugin are defined once per class loader under a lock of that class loader and plugin jar only,
+ * so concurrent class loaders never wait for each other.
+ * The defined classes are shared with the other plugins, the servlet plugins bundle the same common classes.
+ *
  * @author Woonduk Kang(emeroad)
  * @author jaehong.kim
  */
@@ -49,8 +57,12 @@ public class PlainClassLoaderHandler implements ClassInjector {
     private final JarReader pluginJarReader;
 
     // TODO remove static field
-    private static final ConcurrentMap<ClassLoader, ClassLoaderAttachment> classLoaderAttachment = new ConcurrentWeakHashMap<>();
+    // weak keys are compared by identity
+    private static final Cache<ClassLoader, ClassLoaderAttachment> classLoaderAttachment = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
 
+    private volatile Map<String, SimpleClassMetadata> classMetadataMap;
 
     private final PluginConfig pluginConfig;
 
@@ -86,7 +98,7 @@ public class PlainClassLoaderHandler implements ClassInjector {
                 return targetClassLoader.getResourceAsStream(internalName);
             }
 
-            getClassLoaderAttachment(targetClassLoader, internalName);
+            getClassLoaderAttachment(targetClassLoader, pluginConfig.getPluginJarURLExternalForm());
             final InputStream inputStream = getPluginInputStream(internalName);
             if (inputStream != null) {
                 return inputStream;
@@ -147,41 +159,27 @@ public class PlainClassLoaderHandler implements ClassInjector {
     }
 
     private ClassLoaderAttachment getClassLoaderAttachment(ClassLoader classLoader, final String pluginJarPath) {
-        final ClassLoaderAttachment attachment = getClassLoaderAttachment(classLoader);
-
-//        this order is thread safe ?
-//        final Class<?> alreadyExist = attachment.getClass(className);
-//        if (alreadyExist != null) {
-//            return alreadyExist;
-//        }
+        final ClassLoaderAttachment attachment = classLoaderAttachment.get(classLoader, key -> new ClassLoaderAttachment());
 
         final PluginLock pluginLock = attachment.getPluginLock(pluginJarPath);
-//        not recommended pluginLock.isLoaded() check
+        if (pluginLock.isLoaded()) {
+            return attachment;
+        }
         synchronized (pluginLock) {
-            if (!pluginLock.isLoaded()) {
-                pluginLock.setLoaded();
-                defineJarClass(classLoader, attachment);
+            // the defining thread may come back here while defining, e.g. for a resource of the plugin
+            if (!pluginLock.isLoaded() && !pluginLock.isDefining()) {
+                pluginLock.setDefining();
+                try {
+                    defineJarClass(classLoader, attachment);
+                } finally {
+                    // published once the classes are defined, a failed definition is not retried
+                    pluginLock.setLoaded();
+                }
             }
         }
-
         return attachment;
     }
 
-    private ClassLoaderAttachment getClassLoaderAttachment(ClassLoader classLoader) {
-
-        final ClassLoaderAttachment exist = classLoaderAttachment.get(classLoader);
-        if (exist != null) {
-            return exist;
-        }
-        final ClassLoaderAttachment newInfo = new ClassLoaderAttachment();
-        final ClassLoaderAttachment old = classLoaderAttachment.putIfAbsent(classLoader, newInfo);
-        if (old != null) {
-            return old;
-        }
-        return newInfo;
-    }
-
-
     private <T> Class<T> loadClass(ClassLoader classLoader, String className) {
         try {
             if (isDebug) {
@@ -205,10 +203,7 @@ public class PlainClassLoaderHandler implements ClassInjector {
             logger.debug("define Jar:{}", pluginConfig.getPluginJarURLExternalForm());
         }
 
-        List<FileBinary> fileBinaryList = readJar();
-
-        Map<String, SimpleClassMetadata> classEntryMap = parse(fileBinaryList);
-
+        final Map<String, SimpleClassMetadata> classEntryMap = getClassMetadataMap();
         for (Map.Entry<String, SimpleClassMetadata> entry : classEntryMap.entrySet()) {
             final SimpleClassMetadata classMetadata = entry.getValue();
             if (meetsRequirement(classMetadata.getClassName(), classLoader)) {
@@ -219,6 +214,21 @@ public class PlainClassLoaderHandler implements ClassInjector {
         }
     }
 
+    private Map<String, SimpleClassMetadata> getClassMetadataMap() {
+        Map<String, SimpleClassMetadata> classMetadataMap = this.classMetadataMap;
+        if (classMetadataMap != null) {
+            return classMetadataMap;
+        }
+        synchronized (this) {
+            classMetadataMap = this.classMetadataMap;
+            if (classMetadataMap == null) {
+                classMetadataMap = parse(readJar());
+                this.classMetadataMap = classMetadataMap;
+            }
+            return classMetadataMap;
+        }
+    }
+
     private List<FileBinary> readJar() {
         try {
             return pluginJarReader.read(ExtensionFilter.CLASS_FILTER);
@@ -353,7 +363,9 @@ public class PlainClassLoaderHandler implements ClassInjector {
 
     private static class PluginLock {
 
-        private boolean loaded = false;
+        private volatile boolean loaded = false;
+        // guarded by the lock
+        private boolean defining = false;
 
         public boolean isLoaded() {
             return this.loaded;
@@ -363,6 +375,14 @@ public class PlainClassLoaderHandler implements ClassInjector {
             this.loaded = true;
         }
 
+        public boolean isDefining() {
+            return this.defining;
+        }
+
+        public void setDefining() {
+            this.defining = true;
+        }
+
     }
 
 }
\ No newline at end of file
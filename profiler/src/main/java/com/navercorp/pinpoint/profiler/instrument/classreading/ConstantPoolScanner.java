@@ -0,0 +1,329 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.classreading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the names used for the class matching directly from the class file bytes.
+ * <p>
+ * Only the constant pool offsets are indexed, and only the constant pool entries referenced by the class header,
+ * the interfaces and the class level annotations are decoded.
+ * Unlike {@link org.objectweb.asm.ClassReader}, the class file version is not checked,
+ * so class files newer than the bundled ASM are accepted.
+ *
+ * @see ClassReaderWrapper
+ */
+public class ConstantPoolScanner {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    // constant pool tags
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_SYNTHETIC = 0x1000;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final byte[] b;
+    // offset of each constant pool entry, just after the tag
+    private final int[] constantPoolOffsets;
+    // offset of the access_flags
+    private final int header;
+
+    private final List<String> annotationInternalNames;
+    private final boolean innerClass;
+
+    public ConstantPoolScanner(final byte[] classBinary) {
+        this.b = Objects.requireNonNull(classBinary, "classBinary");
+        if (b.length < 10 || readInt(0) != MAGIC) {
+            throw new IllegalArgumentException("invalid class file");
+        }
+
+        final int constantPoolCount = readUnsignedShort(8);
+        this.constantPoolOffsets = new int[constantPoolCount];
+        int offset = 10;
+        for (int i = 1; i < constantPoolCount; i++) {
+            constantPoolOffsets[i] = offset + 1;
+            final int tag = b[offset];
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    offset += 3 + readUnsignedShort(offset + 1);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    offset += 5;
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // takes two entries
+                    offset += 9;
+                    i++;
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    offset += 3;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    offset += 4;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown constant pool tag:" + tag + " index:" + i);
+            }
+        }
+        this.header = offset;
+
+        final AttributeScanResult result = scanAttributes();
+        this.annotationInternalNames = result.annotationInternalNames;
+        this.innerClass = result.innerClass;
+    }
+
+    public int getAccess() {
+        return readUnsignedShort(header);
+    }
+
+    public String getClassInternalName() {
+        return readClass(readUnsignedShort(header + 2));
+    }
+
+    public String getSuperClassInternalName() {
+        return readClass(readUnsignedShort(header + 4));
+    }
+
+    public List<String> getInterfaceInternalNames() {
+        final int interfaceCount = readUnsignedShort(header + 6);
+        if (interfaceCount == 0) {
+            return Collections.emptyList();
+        }
+        final List<String> interfaceInternalNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceInternalNames.add(readClass(readUnsignedShort(header + 8 + i * 2)));
+        }
+        return interfaceInternalNames;
+    }
+
+    public List<String> getAnnotationInternalNames() {
+        return annotationInternalNames;
+    }
+
+    public boolean isInnerClass() {
+        return innerClass;
+    }
+
+    public boolean isInterface() {
+        return (getAccess() & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (getAccess() & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isSynthetic() {
+        return (getAccess() & ACC_SYNTHETIC) != 0;
+    }
+
+    private AttributeScanResult scanAttributes() {
+        int u = header + 8 + readUnsignedShort(header + 6) * 2;
+        // fields
+        u = skipMembers(u);
+        // methods
+        u = skipMembers(u);
+
+        boolean innerClass = false;
+        int visibleAnnotations = 0;
+        int invisibleAnnotations = 0;
+        for (int i = readUnsignedShort(u), attribute = u + 2; i > 0; --i) {
+            final int attributeName = readUnsignedShort(attribute);
+            if (utf8Equals(attributeName, "EnclosingMethod")) {
+                // local or anonymous class
+                innerClass = true;
+            } else if (utf8Equals(attributeName, "RuntimeVisibleAnnotations")) {
+                visibleAnnotations = attribute + 6;
+            } else if (utf8Equals(attributeName, "RuntimeInvisibleAnnotations")) {
+                invisibleAnnotations = attribute + 6;
+            }
+            attribute += 6 + readInt(attribute + 2);
+        }
+
+        List<String> annotationInternalNames = Collections.emptyList();
+        if (visibleAnnotations != 0 || invisibleAnnotations != 0) {
+            annotationInternalNames = new ArrayList<>();
+            if (visibleAnnotations != 0) {
+                readAnnotationInternalNames(visibleAnnotations, annotationInternalNames);
+            }
+            if (invisibleAnnotations != 0) {
+                readAnnotationInternalNames(invisibleAnnotations, annotationInternalNames);
+            }
+        }
+        return new AttributeScanResult(annotationInternalNames, innerClass);
+    }
+
+    private int skipMembers(int u) {
+        final int memberCount = readUnsignedShort(u);
+        u += 2;
+        for (int i = 0; i < memberCount; i++) {
+            // access_flags, name_index, descriptor_index
+            final int attributeCount = readUnsignedShort(u + 6);
+            u += 8;
+            for (int j = 0; j < attributeCount; j++) {
+                u += 6 + readInt(u + 2);
+            }
+        }
+        return u;
+    }
+
+    private void readAnnotationInternalNames(int offset, List<String> annotationInternalNames) {
+        int v = offset + 2;
+        for (int i = readUnsignedShort(offset); i > 0; --i) {
+            final String descriptor = readUtf8(readUnsignedShort(v));
+            if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.charAt(descriptor.length() - 1) == ';') {
+                annotationInternalNames.add(descriptor.substring(1, descriptor.length() - 1));
+            }
+            v = skipElementValuePairs(v + 2);
+        }
+    }
+
+    private int skipElementValuePairs(int v) {
+        int pairCount = readUnsignedShort(v);
+        v += 2;
+        for (; pairCount > 0; --pairCount) {
+            // element_name_index
+            v = skipElementValue(v + 2);
+        }
+        return v;
+    }
+
+    private int skipElementValue(int v) {
+        switch (b[v] & 0xFF) {
+            case 'e':
+                // enum_const_value
+                return v + 5;
+            case '@':
+                // annotation_value
+                return skipElementValuePairs(v + 3);
+            case '[':
+                // array_value
+                int valueCount = readUnsignedShort(v + 1);
+                v += 3;
+                for (; valueCount > 0; --valueCount) {
+                    v = skipElementValue(v);
+                }
+                return v;
+            default:
+                // const_value_index, class_info_index
+                return v + 3;
+        }
+    }
+
+    private String readClass(int constantPoolIndex) {
+        if (constantPoolIndex == 0) {
+            return null;
+        }
+        return readUtf8(readUnsignedShort(constantPoolOffsets[constantPoolIndex]));
+    }
+
+    private boolean utf8Equals(int constantPoolIndex, String ascii) {
+        final int offset = constantPoolOffsets[constantPoolIndex];
+        final int length = readUnsignedShort(offset);
+        if (length != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (b[offset + 2 + i] != ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // modified UTF-8
+    private String readUtf8(int constantPoolIndex) {
+        final int offset = constantPoolOffsets[constantPoolIndex];
+        final int length = readUnsignedShort(offset);
+        final char[] chars = new char[length];
+        int charLength = 0;
+        int current = offset + 2;
+        final int end = current + length;
+        while (current < end) {
+            final int c = b[current++];
+            if ((c & 0x80) == 0) {
+                chars[charLength++] = (char) (c & 0x7F);
+            } else if ((c & 0xE0) == 0xC0) {
+                chars[charLength++] = (char) (((c & 0x1F) << 6) + (b[current++] & 0x3F));
+            } else {
+                chars[charLength++] = (char) (((c & 0xF) << 12) + ((b[current++] & 0x3F) << 6) + (b[current++] & 0x3F));
+            }
+        }
+        return new String(chars, 0, charLength);
+    }
+
+    private int readUnsignedShort(int offset) {
+        return ((b[offset] & 0xFF) << 8) | (b[offset + 1] & 0xFF);
+    }
+
+    private int readInt(int offset) {
+        return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+    }
+
+    private static class AttributeScanResult {
+        private final List<String> annotationInternalNames;
+        private final boolean innerClass;
+
+        private AttributeScanResult(List<String> annotationInternalNames, boolean innerClass) {
+            this.annotationInternalNames = annotationInternalNames;
+            this.innerClass = innerClass;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConstantPoolScanner{" +
+                "access=" + getAccess() +
+                ", name=" + getClassInternalName() +
+                ", interfaces=" + getInterfaceInternalNames() +
+                ", super=" + getSuperClassInternalName() +
+                '}';
+    }
+}
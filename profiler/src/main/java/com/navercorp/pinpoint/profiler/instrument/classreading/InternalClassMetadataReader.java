@@ -15,7 +15,11 @@
  */
 package com.navercorp.pinpoint.profiler.instrument.classreading;
 
+import com.navercorp.pinpoint.common.util.IOUtils;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
 
 /**
  * @author jaehong.kim
@@ -24,23 +28,43 @@ public class InternalClassMetadataReader {
     private final InternalClassMetadata classMetadata;
 
     public static InternalClassMetadata readInternalClassMetadata(final byte[] classBinary) {
-        final ClassReaderWrapper classReader = new ClassReaderWrapper(classBinary, true);
-        final InternalClassMetadataReader internalClassMetadataReader = new InternalClassMetadataReader(classReader);
+        final ConstantPoolScanner scanner = new ConstantPoolScanner(classBinary);
+        final InternalClassMetadataReader internalClassMetadataReader = new InternalClassMetadataReader(scanner);
         return internalClassMetadataReader.getInternalClassMetadata();
     }
 
     public static InternalClassMetadata readInternalClassMetadata(final ClassLoader classLoader, final String classInternalName) throws IOException {
-        final ClassReaderWrapper classReader = new ClassReaderWrapper(classLoader, classInternalName, true);
-        final InternalClassMetadataReader internalClassMetadataReader = new InternalClassMetadataReader(classReader);
+        final ConstantPoolScanner scanner = new ConstantPoolScanner(readClassBinary(classLoader, classInternalName));
+        final InternalClassMetadataReader internalClassMetadataReader = new InternalClassMetadataReader(scanner);
         return internalClassMetadataReader.getInternalClassMetadata();
 
     }
 
-    private InternalClassMetadataReader(final ClassReaderWrapper classReader) {
-        this.classMetadata = new DefaultInternalClassMetadata(classReader.getClassInternalName(), classReader.getSuperClassInternalName(), classReader.getInterfaceInternalNames(), classReader.getAnnotationInternalNames(), classReader.isInterface(), classReader.isAnnotation(), classReader.isSynthetic(), classReader.isInnerClass());
+    private static byte[] readClassBinary(final ClassLoader classLoader, final String classInternalName) throws IOException {
+        Objects.requireNonNull(classInternalName, "classInternalName");
+
+        ClassLoader cl = classLoader;
+        if (cl == null) {
+            cl = ClassLoader.getSystemClassLoader();
+            if (cl == null) {
+                // system fail.
+                throw new IOException("system classloader is null.");
+            }
+        }
+
+        final String classPath = classInternalName.concat(".class");
+        final InputStream in = cl.getResourceAsStream(classPath);
+        if (in == null) {
+            throw new IOException("not found class. classLoader=" + cl + ", classInternalName=" + classInternalName);
+        }
+        return IOUtils.toByteArray(in);
+    }
+
+    private InternalClassMetadataReader(final ConstantPoolScanner scanner) {
+        this.classMetadata = new DefaultInternalClassMetadata(scanner.getClassInternalName(), scanner.getSuperClassInternalName(), scanner.getInterfaceInternalNames(), scanner.getAnnotationInternalNames(), scanner.isInterface(), scanner.isAnnotation(), scanner.isSynthetic(), scanner.isInnerClass());
     }
 
     public InternalClassMetadata getInternalClassMetadata() {
         return classMetadata;
     }
-}
\ No newline at end of file
+}
@@ -31,12 +31,10 @@ import org.apache.logging.log4j.Logger;
 import java.lang.instrument.ClassFileTransformer;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -52,7 +50,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     // class matcher operand.
     private final Map<String, IndexValue> classNameBasedIndex = new HashMap<>(64);
     // package matcher operand.
-    private final Map<String, Set<IndexValue>> packageNameBasedIndex;
+    private final PackageInternalNameIndex<IndexValue> packageNameBasedIndex = new PackageInternalNameIndex<>();
 
     private final TransformerMatcherExecutionPlanner executionPlanner = new TransformerMatcherExecutionPlanner();
     private final TransformerMatcher transformerMatcher;
@@ -64,9 +62,6 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         final List<MatchableClassFileTransformer> defaultTransfomerList = filterDefaultMatcher(matchableClassFileTransformerList);
         this.defaultTransformerRegistry = new DefaultTransformerRegistry(defaultTransfomerList);
 
-        // sorted by package name length.
-        this.packageNameBasedIndex = new TreeMap<>();
-
         final List<MatchableClassFileTransformer> baseTransformer = filterBaseMatcher(matchableClassFileTransformerList);
         for (MatchableClassFileTransformer transformer : baseTransformer) {
             try {
@@ -134,14 +129,13 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     }
 
     private ClassFileTransformer findPackageBasedTransformer(final ClassLoader classLoader, final String classInternalName, final ClassMetadataWrapper classMetadataWrapper) {
-        for (Map.Entry<String, Set<IndexValue>> entry : this.packageNameBasedIndex.entrySet()) {
-            final String packageInternalName = entry.getKey();
-            if (classInternalName.startsWith(packageInternalName)) {
-                for (IndexValue value : entry.getValue()) {
-                    ClassFileTransformer transformer = match(classLoader, value, classMetadataWrapper);
-                    if (transformer != null) {
-                        return transformer;
-                    }
+        // shortest package name first.
+        final List<Set<IndexValue>> indexValueSets = this.packageNameBasedIndex.find(classInternalName);
+        for (Set<IndexValue> indexValueSet : indexValueSets) {
+            for (IndexValue value : indexValueSet) {
+                ClassFileTransformer transformer = match(classLoader, value, classMetadataWrapper);
+                if (transformer != null) {
+                    return transformer;
                 }
             }
         }
@@ -214,7 +208,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
                 indexed = true;
             } else if (operand instanceof PackageInternalNameMatcherOperand) {
                 PackageInternalNameMatcherOperand packageInternalNameMatcherOperand = (PackageInternalNameMatcherOperand) operand;
-                addIndexData(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue, this.packageNameBasedIndex);
+                this.packageNameBasedIndex.put(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue);
                 indexed = true;
             } else {
                 throw new IllegalArgumentException("invalid matcher or execution planner - unknown operand. condition=" + condition + ", unknown operand=" + operand);
@@ -226,15 +220,6 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         }
     }
 
-    private void addIndexData(final String key, final IndexValue indexValue, final Map<String, Set<IndexValue>> index) {
-        Set<IndexValue> indexValueSet = index.get(key);
-        if (indexValueSet == null) {
-            indexValueSet = new HashSet<>();
-            index.put(key, indexValueSet);
-        }
-        indexValueSet.add(indexValue);
-    }
-
     static class IndexValue {
         private final MatcherOperand operand;
         private final ClassFileTransformer transformer;
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Prefix trie of package internal names.
+ * <p>
+ * Finds every registered prefix of a class internal name in a single walk over the name,
+ * so a class outside of the registered packages is rejected after reading a few characters.
+ * The index is built once and then only read, it is not thread-safe for concurrent {@link #put(String, Object)}.
+ */
+public class PackageInternalNameIndex<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    public void put(String packageInternalName, V value) {
+        Objects.requireNonNull(packageInternalName, "packageInternalName");
+        Objects.requireNonNull(value, "value");
+
+        Node<V> node = root;
+        for (int i = 0; i < packageInternalName.length(); i++) {
+            node = node.getOrAddChild(packageInternalName.charAt(i));
+        }
+        if (node.values == null) {
+            node.values = new LinkedHashSet<>();
+            size++;
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * @return the values of the registered prefixes of the given name, shortest prefix first
+     */
+    public List<Set<V>> find(String classInternalName) {
+        List<Set<V>> result = null;
+        Node<V> node = root;
+        if (node.values != null) {
+            result = addResult(null, node.values);
+        }
+        for (int i = 0; i < classInternalName.length(); i++) {
+            node = node.getChild(classInternalName.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.values != null) {
+                result = addResult(result, node.values);
+            }
+        }
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        return result;
+    }
+
+    private List<Set<V>> addResult(List<Set<V>> result, Set<V> values) {
+        if (result == null) {
+            result = new ArrayList<>(2);
+        }
+        result.add(values);
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of registered prefixes
+     */
+    public int size() {
+        return size;
+    }
+
+    private static class Node<V> {
+        private static final char[] EMPTY_KEYS = new char[0];
+
+        private char[] keys = EMPTY_KEYS;
+        @SuppressWarnings("unchecked")
+        private Node<V>[] children = new Node[0];
+        private Set<V> values;
+
+        private Node<V> getChild(char key) {
+            final char[] keys = this.keys;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<V> getOrAddChild(char key) {
+            final Node<V> child = getChild(key);
+            if (child != null) {
+                return child;
+            }
+            final Node<V> newChild = new Node<>();
+            final int length = keys.length;
+            this.keys = Arrays.copyOf(keys, length + 1);
+            this.keys[length] = key;
+            this.children = Arrays.copyOf(children, length + 1);
+            this.children[length] = newChild;
+            return newChild;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.jdbc;
 
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValue;
 import com.navercorp.pinpoint.common.util.MapUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
 
@@ -102,6 +103,34 @@ public final class BindValueUtils {
         return sb.toString();
     }
 
+    /**
+     * Same format as {@link #bindValueToString(String[], int)}, the values are converted only up to the limit.
+     */
+    public static String bindValueToString(DeferredBindValue bindValue, BindValueConverter converter, int limit) {
+        if (bindValue == null || bindValue.isEmpty()) {
+            return "";
+        }
+        final StringBuilder sb = new StringBuilder(32);
+        final int length = bindValue.getMaxIndex();
+        final int end = length - 1;
+        for (int i = 0; i < length; i++) {
+            if (sb.length() >= limit) {
+                appendLength(sb, length);
+                break;
+            }
+            final int parameterIndex = i + 1;
+            final String methodName = bindValue.getMethodName(parameterIndex);
+            if (methodName != null) {
+                final String value = converter.convert(methodName, bindValue.getArgs(parameterIndex));
+                StringUtils.appendAbbreviate(sb, StringUtils.defaultString(value, ""), limit);
+            }
+            if (i < end) {
+                sb.append(", ");
+            }
+        }
+        return sb.toString();
+    }
+
     private static void appendLength(StringBuilder sb, int length) {
         sb.append("...(");
         sb.append(length);
@@ -1,6 +1,7 @@
 package com.navercorp.pinpoint.profiler.jdbc;
 
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValue;
 
 import java.util.Map;
 import java.util.Objects;
@@ -28,6 +29,11 @@ public class DefaultBindVariableService implements BindVariableService {
         return BindValueUtils.bindValueToString(bindValueMap, limit);
     }
 
+    @Override
+    public String bindVariableToString(DeferredBindValue bindValue, int limit) {
+        return BindValueUtils.bindValueToString(bindValue, bindValueConverter, limit);
+    }
+
     @Override
     public String bindNameVariableToString(Map<String, String> bindValueMap, int limit) {
         return BindValueUtils.bindNameValueToString(bindValueMap, limit);
@@ -24,7 +24,7 @@ import org.apache.logging.log4j.LogManager;
 import java.lang.management.LockInfo;
 import java.lang.management.MonitorInfo;
 import java.lang.management.ThreadInfo;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Objects;
 
 /**
  * @author Taejin Koo
@@ -36,22 +36,14 @@ public class DeadlockMonitorTask implements Runnable {
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final DeadlockThreadRegistry deadlockThreadRegistry;
-    private final long intervalMillis;
 
-    private final AtomicBoolean stop = new AtomicBoolean(false);
-
-    public DeadlockMonitorTask(DeadlockThreadRegistry deadlockThreadRegistry, long intervalMillis) {
-        this.deadlockThreadRegistry = deadlockThreadRegistry;
-        this.intervalMillis = intervalMillis;
+    public DeadlockMonitorTask(DeadlockThreadRegistry deadlockThreadRegistry) {
+        this.deadlockThreadRegistry = Objects.requireNonNull(deadlockThreadRegistry, "deadlockThreadRegistry");
     }
 
     @Override
     public void run() {
-        while (!stop.get()) {
-            doTask();
-            waitNextTask();
-        }
-        logger.info("DeadlockMonitorTask stop completed");
+        doTask();
     }
 
     void doTask() {
@@ -158,23 +150,4 @@ public class DeadlockMonitorTask implements Runnable {
         return sb.toString();
     }
 
-    private void waitNextTask() {
-        if (!Thread.interrupted()) {
-            try {
-                Thread.sleep(intervalMillis);
-            } catch (InterruptedException ignored) {
-                // It only exhaust time to wait using interrupt.
-                // The end of the job is confirmed by using the stop field.
-            }
-        }
-    }
-
-    void stop() {
-        if (stop.compareAndSet(false, true)) {
-            logger.info("DeadlockMonitorTask stop started");
-        } else {
-            logger.info("DeadlockMonitorTask already stopped");
-        }
-    }
-
 }
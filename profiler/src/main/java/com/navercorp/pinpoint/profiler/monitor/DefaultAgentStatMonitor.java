@@ -18,7 +18,6 @@ package com.navercorp.pinpoint.profiler.monitor;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
-import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
 import com.navercorp.pinpoint.common.profiler.message.DataSender;
 import com.navercorp.pinpoint.common.profiler.message.EmptyDataSender;
 import com.navercorp.pinpoint.profiler.context.module.AgentId;
@@ -32,14 +31,14 @@ import com.navercorp.pinpoint.profiler.monitor.collector.AgentCustomMetricCollec
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshot;
 import com.navercorp.pinpoint.profiler.monitor.metric.MetricType;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+import com.navercorp.pinpoint.profiler.scheduler.ScheduledTask;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -58,9 +57,10 @@ public class DefaultAgentStatMonitor implements AgentStatMonitor {
     private final Logger logger = LogManager.getLogger(this.getClass());
     private final long collectionIntervalMs;
 
-    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1, new PinpointThreadFactory("Pinpoint-stat-monitor", true));
+    private final AgentScheduler agentScheduler;
 
     private final StatMonitorJob statMonitorJob;
+    private ScheduledTask statMonitorTask;
 
     @Inject
     public DefaultAgentStatMonitor(@StatDataSender DataSender<MetricType> dataSender,
@@ -69,11 +69,12 @@ public class DefaultAgentStatMonitor implements AgentStatMonitor {
                                    @Named("AgentStatCollector") AgentStatMetricCollector<AgentStatMetricSnapshot> agentStatCollector,
                                    CustomMetricRegistryService customMetricRegistryService,
                                    UriStatStorage uriStatStorage,
-                                   MonitorConfig monitorConfig) {
+                                   MonitorConfig monitorConfig,
+                                   AgentScheduler agentScheduler) {
         Objects.requireNonNull(dataSender, "dataSender");
         Objects.requireNonNull(agentId, "agentId");
         Objects.requireNonNull(agentStatCollector, "agentStatCollector");
-
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
 
         long collectionIntervalMs = monitorConfig.getProfileJvmStatCollectIntervalMs();
         int numCollectionsPerBatch = monitorConfig.getProfileJvmStatBatchSendCount();
@@ -126,21 +127,18 @@ public class DefaultAgentStatMonitor implements AgentStatMonitor {
 
     @Override
     public void start() {
-        executor.scheduleAtFixedRate(statMonitorJob, this.collectionIntervalMs, this.collectionIntervalMs, TimeUnit.MILLISECONDS);
+        this.statMonitorTask = agentScheduler.scheduleAtFixedRate("stat-monitor", statMonitorJob,
+                this.collectionIntervalMs, this.collectionIntervalMs, TimeUnit.MILLISECONDS);
         logger.info("AgentStat monitor started");
     }
 
     @Override
     public void stop() {
-
+        if (statMonitorTask != null) {
+            statMonitorTask.cancel();
+        }
         statMonitorJob.close();
 
-        executor.shutdown();
-        try {
-            executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
         logger.info("AgentStat monitor stopped");
     }
 
@@ -16,9 +16,14 @@
 
 package com.navercorp.pinpoint.profiler.monitor;
 
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+import com.navercorp.pinpoint.profiler.scheduler.ScheduledTask;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Taejin Koo
  */
@@ -26,22 +31,33 @@ public class DefaultDeadlockMonitor implements DeadlockMonitor {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private final DeadlockMonitorThread deadlockMonitorThread;
+    private final DeadlockMonitorTask deadlockMonitorTask;
+    private final long intervalMillis;
+    private final AgentScheduler agentScheduler;
+
+    private ScheduledTask scheduledTask;
+
+    public DefaultDeadlockMonitor(DeadlockThreadRegistry deadlockThreadRegistry, long intervalMillis, AgentScheduler agentScheduler) {
+        this.deadlockMonitorTask = new DeadlockMonitorTask(deadlockThreadRegistry);
+        this.intervalMillis = intervalMillis;
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
 
-    public DefaultDeadlockMonitor(DeadlockThreadRegistry deadlockThreadRegistry, long intervalMillis) {
-        this.deadlockMonitorThread = new DeadlockMonitorThread(deadlockThreadRegistry, intervalMillis);
+        // for preload
+        deadlockMonitorTask.doTask();
     }
 
     @Override
     public void start() {
         logger.info("DefaultDeadlockMonitor started");
-        deadlockMonitorThread.start();
+        this.scheduledTask = agentScheduler.scheduleWithFixedDelay("deadlock-monitor", deadlockMonitorTask, 0, intervalMillis, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void stop() {
         logger.info("DefaultDeadlockMonitor stopped");
-        deadlockMonitorThread.stop();
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+        }
     }
 
 }
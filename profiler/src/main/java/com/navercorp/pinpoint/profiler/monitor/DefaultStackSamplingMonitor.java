@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import com.navercorp.pinpoint.profiler.scheduler.AgentScheduler;
+import com.navercorp.pinpoint.profiler.scheduler.ScheduledTask;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultStackSamplingMonitor implements StackSamplingMonitor {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final StackSamplingMonitorTask stackSamplingMonitorTask;
+    private final AgentScheduler agentScheduler;
+
+    private ScheduledTask scheduledTask;
+
+    public DefaultStackSamplingMonitor(ActiveTraceRepository activeTraceRepository, MonitorConfig monitorConfig, AgentScheduler agentScheduler) {
+        this.stackSamplingMonitorTask = new StackSamplingMonitorTask(activeTraceRepository, monitorConfig);
+        this.agentScheduler = Objects.requireNonNull(agentScheduler, "agentScheduler");
+    }
+
+    @Override
+    public void start() {
+        logger.info("DefaultStackSamplingMonitor started");
+        final long intervalMillis = stackSamplingMonitorTask.getIntervalMillis();
+        this.scheduledTask = agentScheduler.scheduleWithFixedDelay("stack-sampling-monitor", stackSamplingMonitorTask, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        logger.info("DefaultStackSamplingMonitor stopped");
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+        }
+    }
+
+}
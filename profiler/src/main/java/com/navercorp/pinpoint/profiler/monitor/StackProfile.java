@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Call tree of the stack samples taken from one transaction.
+ * <p>
+ * Identical frames under the same parent are merged into one node, so the tree only grows with
+ * the number of distinct call paths. It is rendered in the folded stack format
+ * ({@code frame;frame;frame count} per line) understood by the usual flame graph tools.
+ * The lines with the most samples come first and the output is cut at {@code maxFoldedBytes}.
+ */
+public class StackProfile {
+
+    private final int maxNodeSize;
+    private final int maxFoldedBytes;
+
+    private final Node root = new Node(null);
+    private int nodeSize;
+    private int sampleCount;
+    private int truncatedCount;
+
+    public StackProfile(int maxNodeSize, int maxFoldedBytes) {
+        if (maxNodeSize <= 0) {
+            throw new IllegalArgumentException("maxNodeSize must be positive:" + maxNodeSize);
+        }
+        if (maxFoldedBytes <= 0) {
+            throw new IllegalArgumentException("maxFoldedBytes must be positive:" + maxFoldedBytes);
+        }
+        this.maxNodeSize = maxNodeSize;
+        this.maxFoldedBytes = maxFoldedBytes;
+    }
+
+    /**
+     * @param stackTrace innermost frame first, as returned by {@link Thread#getStackTrace()}
+     */
+    public synchronized void addSample(StackTraceElement[] stackTrace) {
+        if (stackTrace == null || stackTrace.length == 0) {
+            return;
+        }
+        Node node = root;
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            final String frame = toFrame(stackTrace[i]);
+            Node child = node.getChild(frame);
+            if (child == null) {
+                if (nodeSize >= maxNodeSize) {
+                    // the remaining frames are attributed to the deepest known frame
+                    truncatedCount++;
+                    break;
+                }
+                child = node.addChild(frame);
+                nodeSize++;
+            }
+            node = child;
+        }
+        node.selfCount++;
+        sampleCount++;
+    }
+
+    private String toFrame(StackTraceElement element) {
+        return element.getClassName() + '.' + element.getMethodName();
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    public synchronized int getTruncatedCount() {
+        return truncatedCount;
+    }
+
+    public synchronized int getNodeSize() {
+        return nodeSize;
+    }
+
+    public synchronized boolean isEmpty() {
+        return sampleCount == 0;
+    }
+
+    public synchronized String toFolded() {
+        if (root.children == null) {
+            return "";
+        }
+        final List<FoldedLine> lines = new ArrayList<>(nodeSize);
+        final StringBuilder path = new StringBuilder(256);
+        for (Node child : root.children.values()) {
+            collectFolded(child, path, lines);
+        }
+        // stable sort, lines with the same count stay in call tree order
+        lines.sort(Comparator.comparingInt(FoldedLine::getCount).reversed());
+
+        final StringBuilder buffer = new StringBuilder(Math.min(maxFoldedBytes, 64 * lines.size()));
+        int remainingBytes = maxFoldedBytes;
+        for (FoldedLine line : lines) {
+            final String text = line.toString();
+            final int bytes = text.getBytes(StandardCharsets.UTF_8).length;
+            if (bytes > remainingBytes) {
+                // the following lines have no more samples than this one
+                break;
+            }
+            buffer.append(text);
+            remainingBytes -= bytes;
+        }
+        return buffer.toString();
+    }
+
+    private void collectFolded(Node node, StringBuilder path, List<FoldedLine> lines) {
+        final int pathLength = path.length();
+        if (pathLength != 0) {
+            path.append(';');
+        }
+        path.append(node.frame);
+
+        if (node.selfCount > 0) {
+            lines.add(new FoldedLine(path.toString(), node.selfCount));
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                collectFolded(child, path, lines);
+            }
+        }
+        path.setLength(pathLength);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StackProfile{" +
+                "sampleCount=" + sampleCount +
+                ", nodeSize=" + nodeSize +
+                ", truncatedCount=" + truncatedCount +
+                '}';
+    }
+
+    private static class FoldedLine {
+        private final String path;
+        private final int count;
+
+        private FoldedLine(String path, int count) {
+            this.path = path;
+            this.count = count;
+        }
+
+        private int getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return path + ' ' + count + '\n';
+        }
+    }
+
+    private static class Node {
+        private final String frame;
+        private Map<String, Node> children;
+        private int selfCount;
+
+        private Node(String frame) {
+            this.frame = frame;
+        }
+
+        private Node getChild(String frame) {
+            if (children == null) {
+                return null;
+            }
+            return children.get(frame);
+        }
+
+        private Node addChild(String frame) {
+            if (children == null) {
+                children = new LinkedHashMap<>(4);
+            }
+            final Node child = new Node(frame);
+            children.put(frame, child);
+            return child;
+        }
+    }
+}
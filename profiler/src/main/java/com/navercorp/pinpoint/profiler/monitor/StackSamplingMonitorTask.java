@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.monitor.config.MonitorConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the stacks of the sampled transactions running longer than the threshold and folds them
+ * into the {@link StackProfile} of each transaction.
+ * <p>
+ * All threads of one tick are captured with a single ThreadMXBean call. The task runs on the shared
+ * agent scheduler at the sampling interval, and skips ticks after an expensive one so that sampling
+ * never takes more than 1% of one core.
+ */
+public class StackSamplingMonitorTask implements Runnable {
+
+    // busy time : wait time = 1 : 99
+    static final int MAX_OVERHEAD_RATIO = 99;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final ActiveTraceRepository activeTraceRepository;
+
+    private final long intervalMillis;
+    private final long thresholdMillis;
+    private final int maxDepth;
+    private final int maxTraceSize;
+    private final int maxNodeSize;
+    private final int maxFoldedBytes;
+
+    // accessed only by the scheduler thread
+    private long nextTaskNanos;
+
+    public StackSamplingMonitorTask(ActiveTraceRepository activeTraceRepository, MonitorConfig monitorConfig) {
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        Objects.requireNonNull(monitorConfig, "monitorConfig");
+        this.intervalMillis = Math.max(1, monitorConfig.getStackSamplingIntervalMs());
+        this.thresholdMillis = Math.max(0, monitorConfig.getStackSamplingThresholdMs());
+        this.maxDepth = monitorConfig.getStackSamplingMaxDepth();
+        this.maxTraceSize = Math.max(1, monitorConfig.getStackSamplingMaxTraceSize());
+        this.maxNodeSize = Math.max(1, monitorConfig.getStackSamplingMaxNodeSize());
+        this.maxFoldedBytes = Math.max(1, monitorConfig.getStackSamplingMaxFoldedBytes());
+        this.nextTaskNanos = System.nanoTime();
+    }
+
+    @Override
+    public void run() {
+        final long startNanos = System.nanoTime();
+        if (startNanos - nextTaskNanos < 0) {
+            // the budget of the previous tick is not spent yet
+            return;
+        }
+        try {
+            doTask(System.currentTimeMillis());
+        } catch (Throwable th) {
+            logger.warn("StackSamplingMonitorTask error. Caused:{}", th.getMessage(), th);
+        }
+        final long endNanos = System.nanoTime();
+        // the scheduler already waits one interval before the next run
+        final long extraWaitMillis = nextWaitMillis(endNanos - startNanos) - intervalMillis;
+        this.nextTaskNanos = endNanos + TimeUnit.MILLISECONDS.toNanos(extraWaitMillis);
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    long nextWaitMillis(long elapsedNanos) {
+        final long budgetMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos * MAX_OVERHEAD_RATIO);
+        return Math.max(intervalMillis, budgetMillis);
+    }
+
+    int doTask(long currentTime) {
+        final List<LocalTraceRoot> traceRoots = activeTraceRepository.getLongRunningTraceRootList(currentTime - thresholdMillis);
+        if (CollectionUtils.isEmpty(traceRoots)) {
+            return 0;
+        }
+
+        final List<LocalTraceRoot> candidates = new ArrayList<>(traceRoots.size());
+        for (LocalTraceRoot traceRoot : traceRoots) {
+            // only sampled transactions are sent to the collector
+            if (!(traceRoot instanceof TraceRoot)) {
+                continue;
+            }
+            if (traceRoot.getShared().getThreadId() == 0) {
+                continue;
+            }
+            candidates.add(traceRoot);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        if (candidates.size() > maxTraceSize) {
+            // the longest running transactions first, instead of the iteration order of the repository
+            candidates.sort(Comparator.comparingLong(LocalTraceRoot::getTraceStartTime));
+        }
+
+        final int count = Math.min(candidates.size(), maxTraceSize);
+        final Shared[] targets = new Shared[count];
+        final long[] threadIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            final Shared shared = candidates.get(i).getShared();
+            targets[i] = shared;
+            threadIds[i] = shared.getThreadId();
+        }
+
+        final ThreadInfo[] threadInfos = ThreadMXBeanUtils.findThread(threadIds, maxDepth);
+        int sampled = 0;
+        for (int i = 0; i < count; i++) {
+            final StackTraceElement[] stackTrace = getStackTrace(targets[i], threadInfos[i]);
+            // thread terminated
+            if (stackTrace == null) {
+                continue;
+            }
+            final StackProfile stackProfile = getStackProfile(targets[i]);
+            stackProfile.addSample(stackTrace);
+            sampled++;
+        }
+        if (isDebug) {
+            logger.debug("stack sampled:{}/{}", sampled, traceRoots.size());
+        }
+        return sampled;
+    }
+
+    private StackTraceElement[] getStackTrace(Shared shared, ThreadInfo threadInfo) {
+        if (threadInfo != null) {
+            return threadInfo.getStackTrace();
+        }
+        // ThreadMXBean does not report virtual threads
+        final Thread virtualThread = shared.getVirtualThread();
+        if (virtualThread == null || !virtualThread.isAlive()) {
+            return null;
+        }
+        final StackTraceElement[] stackTrace = virtualThread.getStackTrace();
+        if (maxDepth <= 0 || stackTrace.length <= maxDepth) {
+            return stackTrace;
+        }
+        final StackTraceElement[] copy = new StackTraceElement[maxDepth];
+        System.arraycopy(stackTrace, 0, copy, 0, maxDepth);
+        return copy;
+    }
+
+    private StackProfile getStackProfile(Shared shared) {
+        final StackProfile stackProfile = shared.getStackProfile();
+        if (stackProfile != null) {
+            return stackProfile;
+        }
+        shared.setStackProfile(new StackProfile(maxNodeSize, maxFoldedBytes));
+        return shared.getStackProfile();
+    }
+
+}
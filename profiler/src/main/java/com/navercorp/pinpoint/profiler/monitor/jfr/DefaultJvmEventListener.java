@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.jfr;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Attributes the JFR events to the active transactions they overlapped.
+ * The totals reach the collector with the spans of the sampled transactions.
+ * <p>
+ * A gc pause stops every thread, so it is added to all the transactions started before the pause.
+ * Monitor enter and thread park events are added to the transaction running on the thread of the event,
+ * found with the thread index of the {@link ActiveTraceRepository}.
+ * <p>
+ * Parks of threads without a sampled transaction are dropped,
+ * idle pool threads waiting for work park all the time and would bury the parks that delay transactions.
+ */
+public class DefaultJvmEventListener implements JvmEventListener {
+
+    private final ActiveTraceRepository activeTraceRepository;
+
+    public DefaultJvmEventListener(ActiveTraceRepository activeTraceRepository) {
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+    }
+
+    @Override
+    public void onGcPause(long startTime, long pauseNanos) {
+        final List<LocalTraceRoot> traceRoots = activeTraceRepository.getLongRunningTraceRootList(startTime);
+        for (LocalTraceRoot traceRoot : traceRoots) {
+            if (traceRoot instanceof TraceRoot) {
+                getJvmEventProfile(traceRoot.getShared()).addGcPause(pauseNanos);
+            }
+        }
+    }
+
+    @Override
+    public void onMonitorEnter(long threadId, long startTime, long durationNanos) {
+        final Shared shared = findShared(threadId, startTime);
+        if (shared != null) {
+            getJvmEventProfile(shared).addMonitorEnter(durationNanos);
+        }
+    }
+
+    @Override
+    public void onThreadPark(long threadId, long startTime, long durationNanos) {
+        final Shared shared = findShared(threadId, startTime);
+        if (shared == null) {
+            // idle park
+            return;
+        }
+        getJvmEventProfile(shared).addThreadPark(durationNanos);
+    }
+
+    @Override
+    public boolean isTracedThread(long threadId) {
+        return activeTraceRepository.getActiveTraceRoot(threadId) instanceof TraceRoot;
+    }
+
+    private Shared findShared(long threadId, long startTime) {
+        final LocalTraceRoot traceRoot = activeTraceRepository.getActiveTraceRoot(threadId);
+        // only sampled transactions are sent to the collector
+        if (!(traceRoot instanceof TraceRoot)) {
+            return null;
+        }
+        // the event started before the transaction
+        if (startTime < traceRoot.getTraceStartTime()) {
+            return null;
+        }
+        return traceRoot.getShared();
+    }
+
+    private JvmEventProfile getJvmEventProfile(Shared shared) {
+        final JvmEventProfile jvmEventProfile = shared.getJvmEventProfile();
+        if (jvmEventProfile != null) {
+            return jvmEventProfile;
+        }
+        shared.setJvmEventProfile(new JvmEventProfile());
+        return shared.getJvmEventProfile();
+    }
+}
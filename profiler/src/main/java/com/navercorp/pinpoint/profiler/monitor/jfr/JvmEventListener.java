@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.monitor.jfr;
+
+/**
+ * Receives the JFR events consumed by the optional JfrMonitor implementation.
+ * All callbacks are invoked from the single event streaming thread.
+ */
+public interface JvmEventListener {
+
+    /**
+     * @param startTime  start of the collection in milliseconds
+     * @param pauseNanos sum of the stop the world pauses of the collection
+     */
+    void onGcPause(long startTime, long pauseNanos);
+
+    void onMonitorEnter(long threadId, long startTime, long durationNanos);
+
+    /**
+     * Only called for the threads accepted by {@link #isTracedThread(long)}.
+     */
+    void onThreadPark(long threadId, long startTime, long durationNanos);
+
+    /**
+     * Lets the event source drop the events of threads without a sampled transaction before reading their fields.
+     */
+    boolean isTracedThread(long threadId);
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.monitor.jfr;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM events that overlapped one transaction.
+ */
+public class JvmEventProfile {
+
+    private final AtomicLong gcPauseNanos = new AtomicLong();
+    private final AtomicLong monitorEnterNanos = new AtomicLong();
+    private final AtomicLong threadParkNanos = new AtomicLong();
+
+    public void addGcPause(long nanos) {
+        gcPauseNanos.addAndGet(nanos);
+    }
+
+    public void addMonitorEnter(long nanos) {
+        monitorEnterNanos.addAndGet(nanos);
+    }
+
+    public void addThreadPark(long nanos) {
+        threadParkNanos.addAndGet(nanos);
+    }
+
+    public long getGcPauseNanos() {
+        return gcPauseNanos.get();
+    }
+
+    public long getMonitorEnterNanos() {
+        return monitorEnterNanos.get();
+    }
+
+    public long getThreadParkNanos() {
+        return threadParkNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "JvmEventProfile{" +
+                "gcPauseNanos=" + gcPauseNanos +
+                ", monitorEnterNanos=" + monitorEnterNanos +
+                ", threadParkNanos=" + threadParkNanos +
+                '}';
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.monitor.metric.datasource;
 
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ConnectionWaitSnapshot;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -26,6 +28,7 @@ public class DataSource {
     private String url; // optional
     private int activeConnectionSize; // optional
     private int maxConnectionSize; // optional
+    private ConnectionWaitSnapshot connectionWait; // optional
 
 
     public DataSource(int id) {
@@ -76,4 +79,12 @@ public class DataSource {
     public void setMaxConnectionSize(int maxConnectionSize) {
         this.maxConnectionSize = maxConnectionSize;
     }
+
+    public ConnectionWaitSnapshot getConnectionWait() {
+        return connectionWait;
+    }
+
+    public void setConnectionWait(ConnectionWaitSnapshot connectionWait) {
+        this.connectionWait = connectionWait;
+    }
 }
@@ -83,6 +83,8 @@ public class DefaultDataSourceMetric implements DataSourceMetric {
         }
 
         dataSource.setMaxConnectionSize(dataSourceMonitor.getMaxConnectionSize());
+        // this field is optional, null if the pool does not record the borrows
+        dataSource.setConnectionWait(dataSourceMonitor.getConnectionWaitSnapshot());
 
         return dataSource;
     }
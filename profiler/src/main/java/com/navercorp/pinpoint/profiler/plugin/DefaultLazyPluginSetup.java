@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcUrlParserV2;
+import com.navercorp.pinpoint.profiler.util.JavaAssistUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Neither the classes nor the instances of a lazy plugin exist until one of its trigger classes is loaded.
+ * <p>
+ * A lazy plugin has its own {@link com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginGlobalContext},
+ * so it does not take part in the application type detection,
+ * and the classes loaded before the trigger class are not transformed.
+ */
+public class DefaultLazyPluginSetup implements LazyPluginSetup {
+
+    private static final Logger logger = LogManager.getLogger(DefaultLazyPluginSetup.class);
+
+    private final ProfilerPluginContextLoader profilerPluginContextLoader;
+    private final ClassLoader pluginClassLoader;
+    private final List<JdbcUrlParserV2> jdbcUrlParserList;
+
+    // trigger class internal name -> plugin jar
+    private final ConcurrentMap<String, LazyPluginJar> triggers = new ConcurrentHashMap<>();
+
+    public DefaultLazyPluginSetup(ProfilerPluginContextLoader profilerPluginContextLoader, ClassLoader pluginClassLoader,
+                                  List<PluginJar> lazyPluginJars, List<JdbcUrlParserV2> jdbcUrlParserList) {
+        this.profilerPluginContextLoader = Objects.requireNonNull(profilerPluginContextLoader, "profilerPluginContextLoader");
+        this.pluginClassLoader = Objects.requireNonNull(pluginClassLoader, "pluginClassLoader");
+        Objects.requireNonNull(lazyPluginJars, "lazyPluginJars");
+        this.jdbcUrlParserList = Objects.requireNonNull(jdbcUrlParserList, "jdbcUrlParserList");
+
+        for (PluginJar pluginJar : lazyPluginJars) {
+            final LazyPluginJar lazyPluginJar = new LazyPluginJar(pluginJar);
+            for (String triggerClass : pluginJar.getPluginTriggerClasses()) {
+                triggers.put(JavaAssistUtils.javaNameToJvmName(triggerClass), lazyPluginJar);
+            }
+            logger.info("Lazy plugin:{} triggerClasses:{}", pluginJar.getPluginId(), pluginJar.getPluginTriggerClasses());
+        }
+    }
+
+    @Override
+    public boolean isTrigger(String classInternalName) {
+        if (classInternalName == null) {
+            return false;
+        }
+        return triggers.containsKey(classInternalName);
+    }
+
+    @Override
+    public void setup(String classInternalName, Consumer<List<ClassFileTransformer>> transformerListener) {
+        Objects.requireNonNull(transformerListener, "transformerListener");
+        if (classInternalName == null) {
+            return;
+        }
+        final LazyPluginJar lazyPluginJar = triggers.get(classInternalName);
+        if (lazyPluginJar == null) {
+            return;
+        }
+        // locked per jar, the setup of one jar does not hold up the class loading of the others
+        synchronized (lazyPluginJar) {
+            // a class loaded by the setup of its own plugin comes back here
+            if (lazyPluginJar.setup) {
+                return;
+            }
+            lazyPluginJar.setup = true;
+            try {
+                final PluginJar pluginJar = lazyPluginJar.pluginJar;
+                logger.info("Lazy plugin:{} setup, triggered by {}", pluginJar.getPluginId(), classInternalName);
+
+                final List<ProfilerPlugin> profilerPlugins = newProfilerPlugins(pluginClassLoader, pluginJar);
+                final PluginsSetupResult pluginsSetupResult = profilerPluginContextLoader.load(profilerPlugins);
+
+                final List<ClassFileTransformer> transformerList = new ArrayList<>();
+                for (PluginSetupResult pluginSetupResult : pluginsSetupResult.getPluginSetupResults()) {
+                    transformerList.addAll(pluginSetupResult.getClassTransformerList());
+                    jdbcUrlParserList.addAll(pluginSetupResult.getJdbcUrlParserList());
+                }
+                if (!transformerList.isEmpty()) {
+                    transformerListener.accept(transformerList);
+                }
+            } finally {
+                for (String triggerClass : lazyPluginJar.pluginJar.getPluginTriggerClasses()) {
+                    triggers.remove(JavaAssistUtils.javaNameToJvmName(triggerClass), lazyPluginJar);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return triggers.isEmpty();
+    }
+
+    static List<ProfilerPlugin> newProfilerPlugins(ClassLoader pluginClassLoader, PluginJar pluginJar) {
+        final List<String> classNames = pluginJar.getProfilerPluginClassNames();
+        final List<ProfilerPlugin> profilerPlugins = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                final Class<?> pluginClass = Class.forName(className, true, pluginClassLoader);
+                profilerPlugins.add((ProfilerPlugin) pluginClass.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                logger.warn("ProfilerPlugin:{} create fail, jar:{}", className, pluginJar.getURL(), e);
+            }
+        }
+        return profilerPlugins;
+    }
+
+    private static class LazyPluginJar {
+        private final PluginJar pluginJar;
+        private boolean setup;
+
+        private LazyPluginJar(PluginJar pluginJar) {
+            this.pluginJar = Objects.requireNonNull(pluginJar, "pluginJar");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultLazyPluginSetup{" +
+                "triggers=" + triggers.keySet() +
+                '}';
+    }
+}
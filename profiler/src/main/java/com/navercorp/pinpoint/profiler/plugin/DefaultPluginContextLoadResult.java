@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcUrlParserV2;
 import java.lang.instrument.ClassFileTransformer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -32,6 +33,9 @@ import java.util.List;
 public class DefaultPluginContextLoadResult implements PluginContextLoadResult {
 
     private final PluginsSetupResult pluginsSetupResult;
+    // lazily set up plugins add their parsers
+    private final List<JdbcUrlParserV2> jdbcUrlParserList;
+    private final LazyPluginSetup lazyPluginSetup;
 
     public DefaultPluginContextLoadResult(ProfilerPluginContextLoader profilerPluginContextLoader, ClassLoader pluginClassLoader) {
         Objects.requireNonNull(profilerPluginContextLoader, "profilerPluginConfigurer");
@@ -39,6 +43,39 @@ public class DefaultPluginContextLoadResult implements PluginContextLoadResult {
         ProfilerPluginLoader profilerPluginLoader = new ProfilerPluginLoader();
         List<ProfilerPlugin> profilerPlugins = profilerPluginLoader.load(pluginClassLoader);
         this.pluginsSetupResult = profilerPluginContextLoader.load(profilerPlugins);
+        this.jdbcUrlParserList = newJdbcUrlParserList(pluginsSetupResult);
+        this.lazyPluginSetup = DisableLazyPluginSetup.INSTANCE;
+    }
+
+    /**
+     * Sets up the plugin jars without {@link PluginJar#PINPOINT_PLUGIN_TRIGGER_CLASSES} now, and the others on the first load of a trigger class.
+     */
+    public DefaultPluginContextLoadResult(ProfilerPluginContextLoader profilerPluginContextLoader, ClassLoader pluginClassLoader, List<PluginJar> pluginJars) {
+        Objects.requireNonNull(profilerPluginContextLoader, "profilerPluginConfigurer");
+        Objects.requireNonNull(pluginClassLoader, "pluginClassLoader");
+        Objects.requireNonNull(pluginJars, "pluginJars");
+
+        List<ProfilerPlugin> profilerPlugins = new ArrayList<>();
+        List<PluginJar> lazyPluginJars = new ArrayList<>();
+        for (PluginJar pluginJar : pluginJars) {
+            if (pluginJar.getPluginTriggerClasses().isEmpty()) {
+                profilerPlugins.addAll(DefaultLazyPluginSetup.newProfilerPlugins(pluginClassLoader, pluginJar));
+            } else {
+                lazyPluginJars.add(pluginJar);
+            }
+        }
+        this.pluginsSetupResult = profilerPluginContextLoader.load(profilerPlugins);
+        this.jdbcUrlParserList = newJdbcUrlParserList(pluginsSetupResult);
+        this.lazyPluginSetup = new DefaultLazyPluginSetup(profilerPluginContextLoader, pluginClassLoader, lazyPluginJars, jdbcUrlParserList);
+    }
+
+    private static List<JdbcUrlParserV2> newJdbcUrlParserList(PluginsSetupResult pluginsSetupResult) {
+        final List<JdbcUrlParserV2> result = new ArrayList<>();
+        for (PluginSetupResult context : pluginsSetupResult.getPluginSetupResults()) {
+            List<JdbcUrlParserV2> jdbcUrlParserList = context.getJdbcUrlParserList();
+            result.addAll(jdbcUrlParserList);
+        }
+        return new CopyOnWriteArrayList<>(result);
     }
 
     @Override
@@ -59,14 +96,12 @@ public class DefaultPluginContextLoadResult implements PluginContextLoadResult {
 
     @Override
     public List<JdbcUrlParserV2> getJdbcUrlParserList() {
-        final List<JdbcUrlParserV2> result = new ArrayList<>();
-
-        for (PluginSetupResult context : pluginsSetupResult.getPluginSetupResults()) {
-            List<JdbcUrlParserV2> jdbcUrlParserList = context.getJdbcUrlParserList();
-            result.addAll(jdbcUrlParserList);
-        }
+        return jdbcUrlParserList;
+    }
 
-        return result;
+    @Override
+    public LazyPluginSetup getLazyPluginSetup() {
+        return lazyPluginSetup;
     }
 
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.plugin;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plugin jars set up on the first load of one of their {@link PluginJar#PINPOINT_PLUGIN_TRIGGER_CLASSES}.
+ */
+public interface LazyPluginSetup {
+
+    boolean isTrigger(String classInternalName);
+
+    /**
+     * Sets up the plugin jar of the given trigger class, once.
+     * Only the callers for the same jar wait for each other, and they return after the transformers of the jar have been
+     * handed to the listener.
+     */
+    void setup(String classInternalName, Consumer<List<ClassFileTransformer>> transformerListener);
+
+    boolean isEmpty();
+}
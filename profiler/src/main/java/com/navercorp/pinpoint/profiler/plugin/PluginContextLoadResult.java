@@ -33,4 +33,6 @@ public interface PluginContextLoadResult {
 
     List<JdbcUrlParserV2> getJdbcUrlParserList();
 
+    LazyPluginSetup getLazyPluginSetup();
+
 }
@@ -16,12 +16,20 @@
 
 package com.navercorp.pinpoint.profiler.plugin;
 
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
+
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 /**
@@ -34,6 +42,9 @@ public class PluginJar {
     public static final String PINPOINT_PLUGIN_COMPILER_VERSION = "Pinpoint-Plugin-Compiler-Version";
     public static final String DEFAULT_PINPOINT_PLUGIN_PACKAGE_NAME = "com.navercorp.pinpoint.plugin";
     public static final String PINPOINT_PLUGIN_PACKAGE_CLASS_REQUIREMENTS = "Pinpoint-Plugin-Package-Class-Requirements";
+    public static final String PINPOINT_PLUGIN_TRIGGER_CLASSES = "Pinpoint-Plugin-Trigger-Classes";
+
+    private static final String PROFILER_PLUGIN_SERVICE = "META-INF/services/" + ProfilerPlugin.class.getName();
 
     private final URL url;
     private final JarFile jarFile;
@@ -106,6 +117,37 @@ public class PluginJar {
         return manifest.getPluginPackageRequirements();
     }
 
+    public List<String> getPluginTriggerClasses() {
+        return manifest.getPluginTriggerClasses();
+    }
+
+    /**
+     * @return the {@link ProfilerPlugin} implementations listed in the service provider file of this jar, without loading them
+     */
+    public List<String> getProfilerPluginClassNames() {
+        final JarEntry entry = jarFile.getJarEntry(PROFILER_PLUGIN_SERVICE);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        final List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                if (comment != -1) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new PluginException(jarFile.getName() + " " + PROFILER_PLUGIN_SERVICE + " read error", e);
+        }
+        return classNames;
+    }
+
     @Override
     public String toString() {
         return "PluginJar{" +
@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.profiler.util.JarFileUtils;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.jar.Attributes;
@@ -32,12 +33,19 @@ public class PluginManifest {
     private final String pluginCompilerVersion;
     private final List<String> pluginPackages;
     private final List<String> pluginPackageRequirements;
+    private final List<String> pluginTriggerClasses;
 
     public PluginManifest(String pluginId, String pluginCompilerVersion, List<String> pluginPackages, List<String> pluginPackageRequirements) {
+        this(pluginId, pluginCompilerVersion, pluginPackages, pluginPackageRequirements, Collections.<String>emptyList());
+    }
+
+    public PluginManifest(String pluginId, String pluginCompilerVersion, List<String> pluginPackages, List<String> pluginPackageRequirements,
+                          List<String> pluginTriggerClasses) {
         this.pluginId = pluginId;
         this.pluginCompilerVersion = pluginCompilerVersion;
         this.pluginPackages = pluginPackages;
         this.pluginPackageRequirements = pluginPackageRequirements;
+        this.pluginTriggerClasses = Objects.requireNonNull(pluginTriggerClasses, "pluginTriggerClasses");
     }
 
     public static PluginManifest of(JarFile jarFile) {
@@ -56,7 +64,10 @@ public class PluginManifest {
         String pluginPackageRequirements = JarFileUtils.getValue(mainAttributes, PluginJar.PINPOINT_PLUGIN_PACKAGE_CLASS_REQUIREMENTS, null);
         List<String> pluginPackageRequirementList = StringUtils.tokenizeToStringList(pluginPackageRequirements, ",");
 
-        return new PluginManifest(pluginId, pluginCompilerVersion, pluginPackageList, pluginPackageRequirementList);
+        String pluginTriggerClasses = JarFileUtils.getValue(mainAttributes, PluginJar.PINPOINT_PLUGIN_TRIGGER_CLASSES, null);
+        List<String> pluginTriggerClassList = StringUtils.tokenizeToStringList(pluginTriggerClasses, ",");
+
+        return new PluginManifest(pluginId, pluginCompilerVersion, pluginPackageList, pluginPackageRequirementList, pluginTriggerClassList);
     }
 
     private static Manifest getManifest(JarFile jarFile) {
@@ -83,12 +94,17 @@ public class PluginManifest {
         return pluginPackageRequirements;
     }
 
+    public List<String> getPluginTriggerClasses() {
+        return pluginTriggerClasses;
+    }
+
     @Override
     public String toString() {
         return "PluginManifest{" +
                 "pluginId='" + pluginId + '\'' +
                 ", pluginCompilerVersion='" + pluginCompilerVersion + '\'' +
                 ", pluginPackages=" + pluginPackages +
+                ", pluginTriggerClasses=" + pluginTriggerClasses +
                 '}';
     }
 }
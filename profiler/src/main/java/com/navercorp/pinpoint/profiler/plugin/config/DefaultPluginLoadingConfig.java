@@ -32,6 +32,9 @@ public class DefaultPluginLoadingConfig implements PluginLoadingConfig {
 
     private List<String> importPluginIds = Collections.emptyList();
 
+    @Value("${profiler.plugin.lazy.loading.enable}")
+    private boolean lazyLoadingEnable = false;
+
     public DefaultPluginLoadingConfig() {
     }
 
@@ -65,12 +68,18 @@ public class DefaultPluginLoadingConfig implements PluginLoadingConfig {
         this.importPluginIds = StringUtils.tokenizeToStringList(importPluginIds, ARTIFACT_SEPARATOR);
     }
 
+    @Override
+    public boolean isLazyLoadingEnable() {
+        return lazyLoadingEnable;
+    }
+
     @Override
     public String toString() {
         return "DefaultPluginLoadingConfig{" +
                 "pluginLoadOrder=" + pluginLoadOrder +
                 ", disabledPlugins=" + disabledPlugins +
                 ", importPluginIds=" + importPluginIds +
+                ", lazyLoadingEnable=" + lazyLoadingEnable +
                 '}';
     }
 }
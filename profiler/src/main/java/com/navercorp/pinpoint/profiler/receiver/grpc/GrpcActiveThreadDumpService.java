@@ -33,12 +33,10 @@ import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.ThreadDumpMetricS
 import com.navercorp.pinpoint.profiler.receiver.service.ActiveThreadDumpCoreService;
 import com.navercorp.pinpoint.profiler.receiver.service.ThreadDump;
 import com.navercorp.pinpoint.profiler.receiver.service.ThreadDumpRequest;
-import com.navercorp.pinpoint.profiler.util.ThreadDumpUtils;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
-import java.lang.management.ThreadInfo;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -102,8 +100,7 @@ public class GrpcActiveThreadDumpService implements ProfilerGrpcCommandService {
     }
 
     private PActiveThreadDump createActiveThreadDump(ThreadDump threadDump) {
-        final ThreadInfo threadInfo = threadDump.getThreadInfo();
-        ThreadDumpMetricSnapshot threadDumpMetricSnapshot = ThreadDumpUtils.createThreadDump(threadInfo);
+        ThreadDumpMetricSnapshot threadDumpMetricSnapshot = threadDump.getThreadDumpMetricSnapshot();
         PThreadDump pThreadDump = grpcThreadDumpMessageConverter.toMessage(threadDumpMetricSnapshot);
 
         final ActiveTraceSnapshot activeTraceInfo = threadDump.getActiveTraceSnapshot();
@@ -28,13 +28,13 @@ import com.navercorp.pinpoint.grpc.trace.ProfilerCommandServiceGrpc;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
 import com.navercorp.pinpoint.profiler.context.grpc.GrpcThreadStateMessageConverter;
+import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.ThreadDumpMetricSnapshot;
 import com.navercorp.pinpoint.profiler.receiver.service.ActiveThreadDumpCoreService;
 import com.navercorp.pinpoint.profiler.receiver.service.ThreadDump;
 import com.navercorp.pinpoint.profiler.receiver.service.ThreadDumpRequest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.management.ThreadInfo;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -100,9 +100,9 @@ public class GrpcActiveThreadLightDumpService implements ProfilerGrpcCommandServ
 
     private PActiveThreadLightDump createActiveThreadDump(ThreadDump threadDump) {
         final ActiveTraceSnapshot activeTraceInfo = threadDump.getActiveTraceSnapshot();
-        final ThreadInfo threadInfo = threadDump.getThreadInfo();
+        final ThreadDumpMetricSnapshot threadDumpMetricSnapshot = threadDump.getThreadDumpMetricSnapshot();
 
-        PThreadLightDump pThreadLightDump = createPThreadLightDump(threadInfo);
+        PThreadLightDump pThreadLightDump = createPThreadLightDump(threadDumpMetricSnapshot);
 
         PActiveThreadLightDump.Builder builder = PActiveThreadLightDump.newBuilder();
         builder.setStartTime(activeTraceInfo.getStartTime());
@@ -117,11 +117,11 @@ public class GrpcActiveThreadLightDumpService implements ProfilerGrpcCommandServ
         return builder.build();
     }
 
-    private PThreadLightDump createPThreadLightDump(ThreadInfo threadInfo) {
+    private PThreadLightDump createPThreadLightDump(ThreadDumpMetricSnapshot threadDumpMetricSnapshot) {
         PThreadLightDump.Builder builder = PThreadLightDump.newBuilder();
-        builder.setThreadName(threadInfo.getThreadName());
-        builder.setThreadId(threadInfo.getThreadId());
-        builder.setThreadState(grpcThreadStateMessageConverter.toMessage(threadInfo.getThreadState()));
+        builder.setThreadName(threadDumpMetricSnapshot.getThreadName());
+        builder.setThreadId(threadDumpMetricSnapshot.getThreadId());
+        builder.setThreadState(grpcThreadStateMessageConverter.toMessage(threadDumpMetricSnapshot.getThreadState()));
         return builder.build();
     }
 
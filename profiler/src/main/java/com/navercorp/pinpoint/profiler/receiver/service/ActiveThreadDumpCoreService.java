@@ -20,6 +20,8 @@ import java.util.Objects;
 import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.ThreadDumpMetricSnapshot;
+import com.navercorp.pinpoint.profiler.util.ThreadDumpUtils;
 
 
 import java.lang.management.ThreadInfo;
@@ -34,6 +36,9 @@ public class ActiveThreadDumpCoreService {
 
     private final ActiveTraceRepository activeTraceRepository;
 
+    // same as the ThreadMXBeanUtils default
+    private static final int VIRTUAL_THREAD_STACK_TRACE_MAX_DEPTH = 32;
+
     private final Comparator<ThreadDump> reverseOrder =  ThreadDumpComparator.INSTANCE.reversed();
 
     public ActiveThreadDumpCoreService(ActiveTraceRepository activeTraceRepository) {
@@ -83,21 +88,19 @@ public class ActiveThreadDumpCoreService {
             final long localTransactionId = activeTraceInfo.getLocalTransactionId();
             if (request.findLocalTransactionId(localTransactionId)) {
 
-                final long threadId = activeTraceInfo.getThreadId();
-                final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-                if (threadInfo != null) {
-                    return newThreadDump(activeTraceInfo, threadInfo);
+                final ThreadDumpMetricSnapshot threadDump = getThreadDump(activeTraceInfo, request.getStackTrace());
+                if (threadDump != null) {
+                    return newThreadDump(activeTraceInfo, threadDump);
                 }
             }
         }
 
         if (request.isEnableThreadNameFilter()) {
             // native call
-            final long threadId = activeTraceInfo.getThreadId();
-            final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-            if (threadInfo != null) {
-                if (request.findThreadName(threadInfo.getThreadName())) {
-                    return newThreadDump(activeTraceInfo, threadInfo);
+            final ThreadDumpMetricSnapshot threadDump = getThreadDump(activeTraceInfo, request.getStackTrace());
+            if (threadDump != null) {
+                if (request.findThreadName(threadDump.getThreadName())) {
+                    return newThreadDump(activeTraceInfo, threadDump);
                 }
             }
         }
@@ -113,9 +116,9 @@ public class ActiveThreadDumpCoreService {
             if (!isTraceThread(threadId)) {
                 continue;
             }
-            final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-            if (threadInfo != null) {
-                ThreadDump threadDump = newThreadDump(activeTraceInfo, threadInfo);
+            final ThreadDumpMetricSnapshot threadDumpMetricSnapshot = getThreadDump(activeTraceInfo, request.getStackTrace());
+            if (threadDumpMetricSnapshot != null) {
+                ThreadDump threadDump = newThreadDump(activeTraceInfo, threadDumpMetricSnapshot);
                 activeThreadDumpList.add(threadDump);
             }
         }
@@ -132,6 +135,24 @@ public class ActiveThreadDumpCoreService {
 
 
 
+    private ThreadDumpMetricSnapshot getThreadDump(ActiveTraceSnapshot activeTraceInfo, StackTrace dumpType) {
+        // ThreadMXBean does not report virtual threads
+        final Thread virtualThread = activeTraceInfo.getVirtualThread();
+        if (virtualThread != null) {
+            if (StackTrace.DUMP == dumpType) {
+                return ThreadDumpUtils.createVirtualThreadDump(virtualThread, VIRTUAL_THREAD_STACK_TRACE_MAX_DEPTH);
+            } else {
+                return ThreadDumpUtils.createVirtualThreadDump(virtualThread, 0);
+            }
+        }
+
+        final ThreadInfo threadInfo = getThreadInfo(activeTraceInfo.getThreadId(), dumpType);
+        if (threadInfo == null) {
+            return null;
+        }
+        return ThreadDumpUtils.createThreadDump(threadInfo);
+    }
+
     private ThreadInfo getThreadInfo(long threadId, StackTrace dumpType) {
         if (threadId == -1) {
             return null;
@@ -144,7 +165,7 @@ public class ActiveThreadDumpCoreService {
         }
     }
 
-    private ThreadDump newThreadDump(ActiveTraceSnapshot activeTraceInfo, ThreadInfo threadInfo) {
-        return new ThreadDump(activeTraceInfo, threadInfo);
+    private ThreadDump newThreadDump(ActiveTraceSnapshot activeTraceInfo, ThreadDumpMetricSnapshot threadDumpMetricSnapshot) {
+        return new ThreadDump(activeTraceInfo, threadDumpMetricSnapshot);
     }
 }
@@ -18,8 +18,7 @@ package com.navercorp.pinpoint.profiler.receiver.service;
 
 import java.util.Objects;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
-
-import java.lang.management.ThreadInfo;
+import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.ThreadDumpMetricSnapshot;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -27,18 +26,18 @@ import java.lang.management.ThreadInfo;
 public class ThreadDump {
 
     private final ActiveTraceSnapshot activeTraceSnapshot;
-    private final ThreadInfo threadInfo;
+    private final ThreadDumpMetricSnapshot threadDumpMetricSnapshot;
 
-    public ThreadDump(ActiveTraceSnapshot activeTraceSnapshot, ThreadInfo threadInfo) {
+    public ThreadDump(ActiveTraceSnapshot activeTraceSnapshot, ThreadDumpMetricSnapshot threadDumpMetricSnapshot) {
         this.activeTraceSnapshot = Objects.requireNonNull(activeTraceSnapshot, "activeTraceSnapshot");
-        this.threadInfo = Objects.requireNonNull(threadInfo, "threadInfo");
+        this.threadDumpMetricSnapshot = Objects.requireNonNull(threadDumpMetricSnapshot, "threadDumpMetricSnapshot");
     }
 
     public ActiveTraceSnapshot getActiveTraceSnapshot() {
         return activeTraceSnapshot;
     }
 
-    public ThreadInfo getThreadInfo() {
-        return threadInfo;
+    public ThreadDumpMetricSnapshot getThreadDumpMetricSnapshot() {
+        return threadDumpMetricSnapshot;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared scheduler for the periodic jobs and timeouts of the agent.
+ * <p>
+ * Every task runs on the single scheduler thread, so tasks must be short and must not block.
+ * Tasks are grouped by name for the {@link SchedulerTaskMetric}.
+ */
+public interface AgentScheduler {
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the scheduler is stopped
+     */
+    ScheduledTask schedule(String name, Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the scheduler is stopped
+     */
+    ScheduledTask scheduleAtFixedRate(String name, Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the scheduler is stopped
+     */
+    ScheduledTask scheduleWithFixedDelay(String name, Runnable task, long initialDelay, long delay, TimeUnit unit);
+
+    /**
+     * Returns a {@link ScheduledExecutorService} backed by this scheduler.
+     * Shutting down the returned executor only cancels the tasks submitted through it.
+     */
+    ScheduledExecutorService newScheduledExecutorService(String name);
+
+    Collection<SchedulerTaskMetric> getTaskMetrics();
+
+    void stop();
+
+}
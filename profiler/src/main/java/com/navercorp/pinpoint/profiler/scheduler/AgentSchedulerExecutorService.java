@@ -0,0 +1,270 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ScheduledExecutorService} view of an {@link AgentScheduler}.
+ * <p>
+ * Lets the components written against {@link ScheduledExecutorService} share the scheduler thread.
+ * {@link #shutdown()} cancels the tasks submitted through this view and leaves the scheduler running.
+ * Like {@link java.util.concurrent.ScheduledThreadPoolExecutor}, a periodic task that throws is not run again.
+ */
+public class AgentSchedulerExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final String name;
+    private final AgentScheduler scheduler;
+
+    private final Set<SchedulerFutureTask<?>> tasks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final Object terminationLock = new Object();
+
+    private volatile boolean shutdown;
+
+    public AgentSchedulerExecutorService(String name, AgentScheduler scheduler) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        final SchedulerFutureTask<Void> task = new SchedulerFutureTask<>(Executors.<Void>callable(command, null), false);
+        return register(task, delay, 0, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable, "callable");
+        final SchedulerFutureTask<V> task = new SchedulerFutureTask<>(callable, false);
+        return register(task, delay, 0, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0: " + period);
+        }
+        final SchedulerFutureTask<Void> task = new SchedulerFutureTask<>(Executors.<Void>callable(command, null), true);
+        return register(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        final SchedulerFutureTask<Void> task = new SchedulerFutureTask<>(Executors.<Void>callable(command, null), true);
+        return register(task, initialDelay, -delay, unit);
+    }
+
+    private <V> SchedulerFutureTask<V> register(SchedulerFutureTask<V> task, long delay, long period, TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (shutdown) {
+            throw new RejectedExecutionException(name + " already shutdown");
+        }
+        tasks.add(task);
+
+        final ScheduledTask scheduledTask;
+        try {
+            if (period == 0) {
+                scheduledTask = scheduler.schedule(name, task, delay, unit);
+            } else if (period > 0) {
+                scheduledTask = scheduler.scheduleAtFixedRate(name, task, delay, period, unit);
+            } else {
+                scheduledTask = scheduler.scheduleWithFixedDelay(name, task, delay, -period, unit);
+            }
+        } catch (RuntimeException e) {
+            remove(task);
+            throw e;
+        }
+        task.setScheduledTask(scheduledTask);
+
+        if (shutdown) {
+            // raced with shutdown()
+            task.cancel(false);
+            throw new RejectedExecutionException(name + " already shutdown");
+        }
+        return task;
+    }
+
+    private void remove(SchedulerFutureTask<?> task) {
+        tasks.remove(task);
+        signalIfTerminated();
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (terminationLock) {
+                terminationLock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        for (SchedulerFutureTask<?> task : tasks) {
+            task.cancel(false);
+        }
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        final List<Runnable> cancelled = new ArrayList<>();
+        for (SchedulerFutureTask<?> task : tasks) {
+            if (task.cancel(false)) {
+                cancelled.add(task);
+            }
+        }
+        signalIfTerminated();
+        return cancelled;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty() && runningTasks.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        final long deadline = System.nanoTime() + remainingNanos;
+        synchronized (terminationLock) {
+            while (!isTerminated()) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AgentSchedulerExecutorService{" +
+                "name='" + name + '\'' +
+                ", tasks=" + tasks.size() +
+                ", shutdown=" + shutdown +
+                '}';
+    }
+
+    private class SchedulerFutureTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private final boolean periodic;
+        private volatile ScheduledTask scheduledTask;
+
+        private SchedulerFutureTask(Callable<V> callable, boolean periodic) {
+            super(callable);
+            this.periodic = periodic;
+        }
+
+        private void setScheduledTask(ScheduledTask scheduledTask) {
+            this.scheduledTask = scheduledTask;
+            if (isDone()) {
+                // completed or cancelled before the handle was published
+                scheduledTask.cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            runningTasks.incrementAndGet();
+            try {
+                if (!periodic) {
+                    super.run();
+                    remove(this);
+                } else if (!runAndReset()) {
+                    cancelScheduledTask();
+                    remove(this);
+                }
+            } finally {
+                runningTasks.decrementAndGet();
+                signalIfTerminated();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            cancelScheduledTask();
+            remove(this);
+            return cancelled;
+        }
+
+        private void cancelScheduledTask() {
+            final ScheduledTask scheduledTask = this.scheduledTask;
+            if (scheduledTask != null) {
+                scheduledTask.cancel();
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodic;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            final ScheduledTask scheduledTask = this.scheduledTask;
+            if (scheduledTask == null) {
+                return 0;
+            }
+            return scheduledTask.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
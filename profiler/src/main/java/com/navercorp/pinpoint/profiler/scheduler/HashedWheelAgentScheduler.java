@@ -0,0 +1,489 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AgentScheduler} based on a hashed timing wheel driven by a single daemon thread.
+ * <p>
+ * The thread is started by the first scheduled task. It does not tick at a fixed rate, it sleeps until the tick of the
+ * nearest deadline and runs every task that became due in that tick, so tasks with close deadlines share one wakeup
+ * and an idle scheduler does not wake up at all.
+ * Deadlines are rounded up to the tick, a task never runs earlier than requested.
+ */
+public class HashedWheelAgentScheduler implements AgentScheduler {
+
+    public static final String THREAD_NAME = "Pinpoint-scheduler";
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    // sleepUntil markers
+    private static final long AWAKE = Long.MIN_VALUE;
+    private static final long IDLE = Long.MAX_VALUE;
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final Comparator<WheelTask> DEADLINE_ORDER = new Comparator<WheelTask>() {
+        @Override
+        public int compare(WheelTask o1, WheelTask o2) {
+            return Long.signum(o1.deadlineNanos - o2.deadlineNanos);
+        }
+    };
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final long tickNanos;
+    private final List<WheelTask>[] wheel;
+    private final int mask;
+
+    private final Queue<WheelTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<String, SchedulerTaskMetric> taskMetrics = new ConcurrentHashMap<>();
+
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final Thread workerThread;
+
+    private final AtomicLong wakeupCount = new AtomicLong();
+
+    private final long startTime;
+    private volatile long sleepUntil = AWAKE;
+
+    // accessed by the worker thread only
+    private long lastTick;
+
+    public HashedWheelAgentScheduler() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public HashedWheelAgentScheduler(long tickDuration, TimeUnit unit, int wheelSize) {
+        Objects.requireNonNull(unit, "unit");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of 2: " + wheelSize);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.startTime = System.nanoTime();
+
+        final PinpointThreadFactory threadFactory = new PinpointThreadFactory(THREAD_NAME, true);
+        this.workerThread = threadFactory.newThread(new Worker());
+    }
+
+    @Override
+    public ScheduledTask schedule(String name, Runnable task, long delay, TimeUnit unit) {
+        return newTask(name, task, delay, 0, unit);
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(String name, Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0: " + period);
+        }
+        return newTask(name, task, initialDelay, unit.toNanos(period), unit);
+    }
+
+    @Override
+    public ScheduledTask scheduleWithFixedDelay(String name, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        return newTask(name, task, initialDelay, -unit.toNanos(delay), unit);
+    }
+
+    private ScheduledTask newTask(String name, Runnable runnable, long delay, long periodNanos, TimeUnit unit) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(runnable, "runnable");
+        Objects.requireNonNull(unit, "unit");
+
+        start();
+
+        final SchedulerTaskMetric metric = getTaskMetric(name);
+        final long deadlineNanos = System.nanoTime() + Math.max(0, unit.toNanos(delay));
+        final WheelTask task = new WheelTask(name, runnable, deadlineNanos, periodNanos, metric);
+        pendingTasks.offer(task);
+
+        if (state.get() == STATE_STOPPED) {
+            task.cancel();
+            throw new RejectedExecutionException("AgentScheduler already stopped");
+        }
+        wakeupIfSleepingPast(deadlineNanos);
+        return task;
+    }
+
+    private SchedulerTaskMetric getTaskMetric(String name) {
+        final SchedulerTaskMetric metric = taskMetrics.get(name);
+        if (metric != null) {
+            return metric;
+        }
+        final SchedulerTaskMetric newMetric = new SchedulerTaskMetric(name);
+        final SchedulerTaskMetric before = taskMetrics.putIfAbsent(name, newMetric);
+        if (before != null) {
+            return before;
+        }
+        return newMetric;
+    }
+
+    private void start() {
+        final int currentState = state.get();
+        if (currentState == STATE_STARTED) {
+            return;
+        }
+        if (currentState == STATE_STOPPED) {
+            throw new RejectedExecutionException("AgentScheduler already stopped");
+        }
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            workerThread.start();
+            logger.info("{} started. tick:{}ns wheelSize:{}", this.getClass().getSimpleName(), tickNanos, wheel.length);
+        }
+    }
+
+    private void wakeupIfSleepingPast(long deadlineNanos) {
+        final long sleepUntil = this.sleepUntil;
+        if (sleepUntil == AWAKE) {
+            // the worker checks the pending tasks before sleeping
+            return;
+        }
+        if (sleepUntil == IDLE || tickTime(ceilTick(deadlineNanos)) - sleepUntil < 0) {
+            LockSupport.unpark(workerThread);
+        }
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledExecutorService(String name) {
+        return new AgentSchedulerExecutorService(name, this);
+    }
+
+    @Override
+    public Collection<SchedulerTaskMetric> getTaskMetrics() {
+        return Collections.unmodifiableCollection(taskMetrics.values());
+    }
+
+    /**
+     * @return how many times the scheduler thread woke up from sleep
+     */
+    public long getWakeupCount() {
+        return wakeupCount.get();
+    }
+
+    @VisibleForTesting
+    Thread getWorkerThread() {
+        return workerThread;
+    }
+
+    @Override
+    public void stop() {
+        final int before = state.getAndSet(STATE_STOPPED);
+        if (before != STATE_STARTED) {
+            return;
+        }
+        LockSupport.unpark(workerThread);
+        try {
+            workerThread.join(3000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SchedulerTaskMetric taskMetric : taskMetrics.values()) {
+            logger.info("{}", taskMetric);
+        }
+        logger.info("{} stopped", this.getClass().getSimpleName());
+    }
+
+    private long ceilTick(long deadlineNanos) {
+        final long elapsed = deadlineNanos - startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private long tickTime(long tick) {
+        return startTime + tick * tickNanos;
+    }
+
+    private long floorTick(long nanos) {
+        final long elapsed = nanos - startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return elapsed / tickNanos;
+    }
+
+    private class Worker implements Runnable {
+
+        private final List<WheelTask> expiredTasks = new ArrayList<>();
+
+        @Override
+        public void run() {
+            while (state.get() == STATE_STARTED) {
+                transferPendingTasks();
+
+                final long currentTick = floorTick(System.nanoTime());
+                expireTasks(currentTick);
+                runExpiredTasks();
+
+                final long nextTick = nextDeadlineTick(currentTick);
+                sleep(nextTick);
+            }
+            clear();
+        }
+
+        private void transferPendingTasks() {
+            WheelTask task;
+            while ((task = pendingTasks.poll()) != null) {
+                if (!task.isCancelled()) {
+                    addToWheel(task);
+                }
+            }
+        }
+
+        private void addToWheel(WheelTask task) {
+            // a deadline that already passed is run by the next expiration
+            task.deadlineTick = Math.max(ceilTick(task.deadlineNanos), lastTick + 1);
+            wheel[(int) (task.deadlineTick & mask)].add(task);
+        }
+
+        private void expireTasks(long currentTick) {
+            final long ticks = currentTick - lastTick;
+            if (ticks <= 0) {
+                return;
+            }
+            final long bucketCount = Math.min(ticks, wheel.length);
+            for (long tick = lastTick + 1; tick <= lastTick + bucketCount; tick++) {
+                expireBucket(wheel[(int) (tick & mask)], currentTick);
+            }
+            lastTick = currentTick;
+        }
+
+        private void expireBucket(List<WheelTask> bucket, long currentTick) {
+            for (int i = bucket.size() - 1; i >= 0; i--) {
+                final WheelTask task = bucket.get(i);
+                if (task.isCancelled()) {
+                    removeAt(bucket, i);
+                } else if (task.deadlineTick <= currentTick) {
+                    removeAt(bucket, i);
+                    expiredTasks.add(task);
+                }
+            }
+        }
+
+        private void removeAt(List<WheelTask> bucket, int index) {
+            final int last = bucket.size() - 1;
+            if (index != last) {
+                bucket.set(index, bucket.get(last));
+            }
+            bucket.remove(last);
+        }
+
+        private void runExpiredTasks() {
+            if (expiredTasks.isEmpty()) {
+                return;
+            }
+            if (expiredTasks.size() > 1) {
+                Collections.sort(expiredTasks, DEADLINE_ORDER);
+            }
+            for (WheelTask task : expiredTasks) {
+                runTask(task);
+            }
+            expiredTasks.clear();
+        }
+
+        private void runTask(WheelTask task) {
+            if (task.isCancelled()) {
+                return;
+            }
+            final long startNanos = System.nanoTime();
+            boolean error = false;
+            try {
+                task.runnable.run();
+            } catch (Throwable th) {
+                error = true;
+                logger.warn("{} task error. Caused:{}", task.name, th.getMessage(), th);
+            }
+            final long endNanos = System.nanoTime();
+            task.metric.record(endNanos - startNanos, startNanos - task.deadlineNanos, error);
+
+            if (task.isPeriodic()) {
+                if (task.periodNanos > 0) {
+                    task.deadlineNanos += task.periodNanos;
+                } else {
+                    task.deadlineNanos = endNanos - task.periodNanos;
+                }
+                if (!task.isCancelled()) {
+                    addToWheel(task);
+                }
+            } else {
+                task.done();
+            }
+        }
+
+        /**
+         * Walks the buckets following the current tick. The first bucket holding a task of its own tick is the
+         * nearest deadline, otherwise every task belongs to a later round and the smallest deadline wins.
+         */
+        private long nextDeadlineTick(long currentTick) {
+            long min = NO_DEADLINE;
+            for (long tick = currentTick + 1; tick <= currentTick + wheel.length; tick++) {
+                final List<WheelTask> bucket = wheel[(int) (tick & mask)];
+                for (int i = bucket.size() - 1; i >= 0; i--) {
+                    final WheelTask task = bucket.get(i);
+                    if (task.isCancelled()) {
+                        removeAt(bucket, i);
+                        continue;
+                    }
+                    if (task.deadlineTick == tick) {
+                        return tick;
+                    }
+                    min = Math.min(min, task.deadlineTick);
+                }
+            }
+            return min;
+        }
+
+        private void sleep(long nextTick) {
+            if (nextTick == NO_DEADLINE) {
+                sleepUntil = IDLE;
+                if (pendingTasks.isEmpty() && state.get() == STATE_STARTED) {
+                    LockSupport.park(this);
+                    wakeupCount.incrementAndGet();
+                }
+            } else {
+                final long wakeupTime = tickTime(nextTick);
+                sleepUntil = wakeupTime;
+                final long sleepNanos = wakeupTime - System.nanoTime();
+                if (sleepNanos > 0 && pendingTasks.isEmpty() && state.get() == STATE_STARTED) {
+                    LockSupport.parkNanos(this, sleepNanos);
+                    wakeupCount.incrementAndGet();
+                }
+            }
+            sleepUntil = AWAKE;
+        }
+
+        private void clear() {
+            for (List<WheelTask> bucket : wheel) {
+                for (WheelTask task : bucket) {
+                    task.cancel();
+                }
+                bucket.clear();
+            }
+            WheelTask task;
+            while ((task = pendingTasks.poll()) != null) {
+                task.cancel();
+            }
+        }
+    }
+
+    private static class WheelTask implements ScheduledTask {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int DONE = 2;
+
+        private final String name;
+        private final Runnable runnable;
+        // 0: one-shot, positive: fixed rate, negative: fixed delay
+        private final long periodNanos;
+        private final SchedulerTaskMetric metric;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private volatile long deadlineNanos;
+        // accessed by the worker thread only
+        private long deadlineTick;
+
+        private WheelTask(String name, Runnable runnable, long deadlineNanos, long periodNanos, SchedulerTaskMetric metric) {
+            this.name = name;
+            this.runnable = runnable;
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+            this.metric = metric;
+        }
+
+        private boolean isPeriodic() {
+            return periodNanos != 0;
+        }
+
+        private void done() {
+            state.compareAndSet(WAITING, DONE);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state.get() != WAITING;
+        }
+
+        @Override
+        public String toString() {
+            return "WheelTask{" +
+                    "name='" + name + '\'' +
+                    ", periodNanos=" + periodNanos +
+                    ", state=" + state +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle of a task registered to the {@link AgentScheduler}.
+ */
+public interface ScheduledTask {
+
+    String getName();
+
+    /**
+     * @return the remaining delay until the next execution
+     */
+    long getDelay(TimeUnit unit);
+
+    /**
+     * Prevents further executions. An execution already in progress is not interrupted.
+     *
+     * @return false if the task was already cancelled or completed
+     */
+    boolean cancel();
+
+    boolean isCancelled();
+
+    /**
+     * @return true if the task was cancelled or a one-shot task has run
+     */
+    boolean isDone();
+
+}
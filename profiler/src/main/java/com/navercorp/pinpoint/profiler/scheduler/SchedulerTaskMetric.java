@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import java.util.Objects;
+
+/**
+ * Execution statistics of the tasks sharing a name.
+ * Only the scheduler thread updates the values.
+ */
+public class SchedulerTaskMetric {
+
+    private final String name;
+
+    private volatile long runCount;
+    private volatile long errorCount;
+    private volatile long totalRunTimeNanos;
+    private volatile long maxRunTimeNanos;
+    private volatile long maxDelayNanos;
+
+    public SchedulerTaskMetric(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    void record(long runTimeNanos, long delayNanos, boolean error) {
+        this.runCount++;
+        if (error) {
+            this.errorCount++;
+        }
+        this.totalRunTimeNanos += runTimeNanos;
+        if (runTimeNanos > maxRunTimeNanos) {
+            this.maxRunTimeNanos = runTimeNanos;
+        }
+        if (delayNanos > maxDelayNanos) {
+            this.maxDelayNanos = delayNanos;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRunCount() {
+        return runCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTotalRunTimeNanos() {
+        return totalRunTimeNanos;
+    }
+
+    public long getMaxRunTimeNanos() {
+        return maxRunTimeNanos;
+    }
+
+    /**
+     * @return the largest gap between the scheduled time and the actual start of an execution
+     */
+    public long getMaxDelayNanos() {
+        return maxDelayNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerTaskMetric{" +
+                "name='" + name + '\'' +
+                ", runCount=" + runCount +
+                ", errorCount=" + errorCount +
+                ", totalRunTimeNanos=" + totalRunTimeNanos +
+                ", maxRunTimeNanos=" + maxRunTimeNanos +
+                ", maxDelayNanos=" + maxDelayNanos +
+                '}';
+    }
+}
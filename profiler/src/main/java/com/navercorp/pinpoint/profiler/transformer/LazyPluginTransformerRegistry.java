@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.transformer;
+
+import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadata;
+import com.navercorp.pinpoint.profiler.instrument.transformer.TransformerRegistry;
+import com.navercorp.pinpoint.profiler.plugin.LazyPluginSetup;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Sets up a lazy plugin before looking up the transformer of its trigger class, so the trigger class itself is transformed.
+ */
+public class LazyPluginTransformerRegistry implements TransformerRegistry {
+
+    private final TransformerRegistry transformerRegistry;
+    private final LazyPluginSetup lazyPluginSetup;
+    private final Function<List<ClassFileTransformer>, TransformerRegistry> registryFactory;
+
+    private final List<TransformerRegistry> lazyTransformerRegistries = new CopyOnWriteArrayList<>();
+
+    public LazyPluginTransformerRegistry(TransformerRegistry transformerRegistry, LazyPluginSetup lazyPluginSetup,
+                                         Function<List<ClassFileTransformer>, TransformerRegistry> registryFactory) {
+        this.transformerRegistry = Objects.requireNonNull(transformerRegistry, "transformerRegistry");
+        this.lazyPluginSetup = Objects.requireNonNull(lazyPluginSetup, "lazyPluginSetup");
+        this.registryFactory = Objects.requireNonNull(registryFactory, "registryFactory");
+    }
+
+    @Override
+    public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer) {
+        setupLazyPlugin(classInternalName);
+
+        final ClassFileTransformer transformer = this.transformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer);
+        if (transformer != null) {
+            return transformer;
+        }
+        for (TransformerRegistry lazyTransformerRegistry : lazyTransformerRegistries) {
+            final ClassFileTransformer lazyTransformer = lazyTransformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer);
+            if (lazyTransformer != null) {
+                return lazyTransformer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer, InternalClassMetadata classMetadata) {
+        setupLazyPlugin(classInternalName);
+
+        final ClassFileTransformer transformer = this.transformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer, classMetadata);
+        if (transformer != null) {
+            return transformer;
+        }
+        for (TransformerRegistry lazyTransformerRegistry : lazyTransformerRegistries) {
+            final ClassFileTransformer lazyTransformer = lazyTransformerRegistry.findTransformer(classLoader, classInternalName, classFileBuffer, classMetadata);
+            if (lazyTransformer != null) {
+                return lazyTransformer;
+            }
+        }
+        return null;
+    }
+
+    private void setupLazyPlugin(String classInternalName) {
+        if (!lazyPluginSetup.isTrigger(classInternalName)) {
+            return;
+        }
+        // another trigger class of the same plugin waits until the transformers are registered
+        lazyPluginSetup.setup(classInternalName, this::addTransformers);
+    }
+
+    private void addTransformers(List<ClassFileTransformer> transformers) {
+        lazyTransformerRegistries.add(registryFactory.apply(transformers));
+    }
+
+    public int getLazyTransformerRegistrySize() {
+        return lazyTransformerRegistries.size();
+    }
+}
@@ -62,6 +62,27 @@ public class ThreadDumpUtils {
         return threadDump;
     }
 
+    /**
+     * ThreadMXBean does not report virtual threads, the state and the stack are taken from the thread itself.
+     * Lock and contention information is not available.
+     */
+    public static ThreadDumpMetricSnapshot createVirtualThreadDump(Thread thread, int stackTraceMaxDepth) {
+        Objects.requireNonNull(thread, "thread");
+        final ThreadDumpMetricSnapshot threadDump = new ThreadDumpMetricSnapshot();
+        threadDump.setThreadName(thread.getName());
+        threadDump.setThreadId(thread.getId());
+        threadDump.setThreadState(thread.getState());
+        threadDump.setLockOwnerId(-1);
+        if (stackTraceMaxDepth > 0) {
+            final StackTraceElement[] stackTraceElements = thread.getStackTrace();
+            final int depth = Math.min(stackTraceElements.length, stackTraceMaxDepth);
+            for (int i = 0; i < depth; i++) {
+                threadDump.addStackTrace(stackTraceElements[i].toString());
+            }
+        }
+        return threadDump;
+    }
+
     public static ThreadDumpMetricSnapshot createTThreadDump(long threadId) {
         final ThreadInfo threadInfo = ThreadMXBeanUtils.getThreadInfo(threadId);
         if (threadInfo == null) {
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -193,4 +194,28 @@ public abstract class CallStackTest {
             assertTrue(callStack.isOverflow());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void discard_overMaxSequence() {
+        final int maxDepth = 4;
+        final int maxSequence = maxDepth * 2;
+
+        DefaultCallStack<SpanEvent> callStack = (DefaultCallStack<SpanEvent>) newCallStack(maxDepth, maxSequence);
+        SpanEvent parent = getSpanEvent();
+        callStack.push(parent);
+
+        for (int i = 0; i < maxSequence * 2; i++) {
+            callStack.push(getSpanEvent());
+            assertFalse(callStack.isDisable(callStack.discard()));
+        }
+        assertEquals(1, callStack.getSequence());
+        assertFalse(callStack.isOverflow());
+
+        // a popped child keeps its sequence
+        callStack.push(getSpanEvent());
+        callStack.pop();
+        assertEquals(2, callStack.getSequence());
+        assertSame(parent, callStack.discard());
+        assertEquals(2, callStack.getSequence());
+    }
+}
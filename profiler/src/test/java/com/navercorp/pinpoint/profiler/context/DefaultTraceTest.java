@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.bootstrap.context.AttributeRecorder;
+import com.navercorp.pinpoint.bootstrap.context.FrameCloseHandler;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
@@ -37,10 +39,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -146,20 +152,103 @@ public class DefaultTraceTest {
         trace.close();
     }
 
+    @Test
+    public void discard() {
+        Storage storage = mock(Storage.class);
+        Trace trace = newTrace(64, storage);
+        SpanEventRecorder recorder1 = trace.traceBlockBegin();
+        recorder1.attachFrameObject("1");
+        trace.traceBlockBegin();
+        Assertions.assertTrue(trace.traceBlockDiscard());
+        // access the previous SpanEvent
+        Assertions.assertEquals(recorder1.getFrameObject(), "1");
+        trace.traceBlockEnd();
+        trace.close();
+
+        verify(storage, times(1)).store(any(SpanEvent.class));
+        verify(storage, times(1)).store(any(Span.class));
+    }
+
+    @Test
+    public void discard_childSpanEvent() {
+        Storage storage = mock(Storage.class);
+        Trace trace = newTrace(64, storage);
+        trace.traceBlockBegin();
+        trace.traceBlockBegin();
+        // child stored under the block
+        trace.traceBlockBegin();
+        trace.traceBlockEnd();
+        Assertions.assertFalse(trace.traceBlockDiscard());
+        trace.traceBlockEnd();
+        trace.traceBlockBegin();
+        Assertions.assertTrue(trace.traceBlockDiscard());
+        trace.traceBlockEnd();
+        trace.close();
+
+        verify(storage, times(3)).store(any(SpanEvent.class));
+    }
+
+    @Test
+    public void discard_overMaxSequence() {
+        Storage storage = mock(Storage.class);
+        final int maxSequence = 10;
+        Trace trace = newTrace(64, maxSequence, storage);
+        trace.traceBlockBegin();
+        for (int i = 0; i < maxSequence * 2; i++) {
+            trace.traceBlockBegin();
+            Assertions.assertTrue(trace.traceBlockDiscard());
+        }
+        trace.traceBlockBegin();
+        trace.traceBlockEnd();
+        trace.traceBlockEnd();
+        trace.close();
+
+        ArgumentCaptor<SpanEvent> captor = ArgumentCaptor.forClass(SpanEvent.class);
+        verify(storage, times(2)).store(captor.capture());
+        Assertions.assertEquals(1, captor.getAllValues().get(0).getSequence());
+        Assertions.assertEquals(0, captor.getAllValues().get(1).getSequence());
+    }
+
+    @Test
+    public void frameCloseHandler() {
+        Trace trace = newTrace();
+        FrameCloseHandler spanHandler = mock(FrameCloseHandler.class);
+        trace.getSpanRecorder().attachFrameObject(spanHandler);
+
+        FrameCloseHandler spanEventHandler = mock(FrameCloseHandler.class);
+        SpanEventRecorder recorder = trace.traceBlockBegin();
+        recorder.attachFrameObject(spanEventHandler);
+        FrameCloseHandler discardHandler = mock(FrameCloseHandler.class);
+        trace.traceBlockBegin().attachFrameObject(discardHandler);
+        trace.traceBlockDiscard();
+        trace.traceBlockEnd();
+        trace.close();
+
+        verify(spanEventHandler, times(1)).onFrameClose(any(AttributeRecorder.class));
+        verify(spanHandler, times(1)).onFrameClose(any(AttributeRecorder.class));
+        verify(discardHandler, times(0)).onFrameClose(any(AttributeRecorder.class));
+    }
+
     private Trace newTrace() {
         return newTrace(64);
     }
 
     private Trace newTrace(final int maxCallStackDepth) {
+        return newTrace(maxCallStackDepth, mock(Storage.class));
+    }
+
+    private Trace newTrace(final int maxCallStackDepth, Storage storage) {
+        return newTrace(maxCallStackDepth, -1, storage);
+    }
+
+    private Trace newTrace(final int maxCallStackDepth, final int maxSequence, Storage storage) {
         when(traceRoot.getShared()).thenReturn(shared);
 
-        CallStackFactory<SpanEvent> callStackFactory = new CallStackFactoryV1(maxCallStackDepth, -1, 1000);
+        CallStackFactory<SpanEvent> callStackFactory = new CallStackFactoryV1(maxCallStackDepth, maxSequence, 1000);
         CallStack<SpanEvent> callStack = callStackFactory.newCallStack();
 
         SpanFactory spanFactory = new DefaultSpanFactory();
 
-        Storage storage = mock(Storage.class);
-
         final Span span = spanFactory.newSpan(traceRoot);
 
         final SpanRecorder spanRecorder = new DefaultSpanRecorder(span, stringMetaDataService, sqlMetaDataService, errorHandler, exceptionRecordingService);
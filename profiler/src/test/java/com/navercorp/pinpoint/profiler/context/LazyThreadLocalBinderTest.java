@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.Mockito.mock;
+
+public class LazyThreadLocalBinderTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Test
+    public void unbound() {
+        Binder<Trace> binder = new LazyThreadLocalBinder<>();
+
+        Reference<Trace> reference = binder.get();
+        Assertions.assertNull(reference.get());
+        Assertions.assertNull(reference.clear());
+        Assertions.assertSame(reference, binder.get());
+    }
+
+    @Test
+    public void bind() {
+        Binder<Trace> binder = new LazyThreadLocalBinder<>();
+        Trace trace = mock(Trace.class);
+
+        binder.get().set(trace);
+        Assertions.assertSame(trace, binder.get().get());
+
+        Assertions.assertSame(trace, binder.get().clear());
+        Assertions.assertNull(binder.get().get());
+    }
+
+    @Test
+    public void bind_otherThread() throws Exception {
+        Binder<Trace> binder = new LazyThreadLocalBinder<>();
+        Trace trace = mock(Trace.class);
+        binder.get().set(trace);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Trace> future = executor.submit(() -> binder.get().get());
+            Assertions.assertNull(future.get());
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertSame(trace, binder.get().clear());
+    }
+
+    @Test
+    public void remove() {
+        Binder<Trace> binder = new LazyThreadLocalBinder<>();
+        binder.get().set(mock(Trace.class));
+
+        binder.remove();
+        Assertions.assertNull(binder.get().get());
+    }
+
+    @Test
+    public void purgeTerminatedThreads() throws Exception {
+        LazyThreadLocalBinder<Trace> binder = new LazyThreadLocalBinder<>(4);
+        Trace trace = mock(Trace.class);
+        for (int i = 0; i < 3; i++) {
+            // terminates without clearing the binding
+            Thread thread = new Thread(() -> binder.get().set(trace));
+            thread.start();
+            thread.join();
+        }
+        Assertions.assertEquals(3, binder.size());
+
+        binder.get().set(trace);
+        Assertions.assertEquals(1, binder.size());
+        Assertions.assertSame(trace, binder.get().clear());
+        Assertions.assertEquals(0, binder.size());
+    }
+
+    @Test
+    public void lookup_allocation() throws Exception {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        long threadLocal = 0;
+        long lazy = 0;
+        for (int round = 0; round < 5; round++) {
+            threadLocal = lookupAllocatedBytes(allocationMXBean, new ThreadLocalBinder<>());
+            lazy = lookupAllocatedBytes(allocationMXBean, new LazyThreadLocalBinder<>());
+        }
+        logger.debug("allocated bytes of the lookups on an untraced thread ThreadLocalBinder:{} LazyThreadLocalBinder:{}", threadLocal, lazy);
+        // getThreadAllocatedBytes itself allocates on some jdks(e.g. 8), so compare the binders instead of expecting 0
+        Assertions.assertTrue(lazy < threadLocal, "lazy:" + lazy + " threadLocal:" + threadLocal);
+    }
+
+    private long lookupAllocatedBytes(com.sun.management.ThreadMXBean allocationMXBean, Binder<Trace> binder) throws Exception {
+        final long[] allocated = new long[1];
+        // a new thread, the thread local map of an old one may already hold the entry
+        final Thread thread = new Thread(() -> {
+            final long threadId = Thread.currentThread().getId();
+            final long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10; i++) {
+                binder.get().get();
+            }
+            allocated[0] = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+        });
+        thread.start();
+        thread.join();
+        return allocated[0];
+    }
+}
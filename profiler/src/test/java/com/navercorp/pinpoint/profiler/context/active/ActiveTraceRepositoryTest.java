@@ -29,9 +29,11 @@ import com.navercorp.pinpoint.profiler.context.MockTraceContextFactory;
 import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
 import com.navercorp.pinpoint.profiler.context.id.DefaultTransactionCounter;
 import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
 import com.navercorp.pinpoint.profiler.context.id.TransactionCounter;
 import com.navercorp.pinpoint.profiler.context.module.DefaultApplicationContext;
 import com.navercorp.pinpoint.profiler.context.provider.sampler.SamplerConfig;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
 import com.navercorp.pinpoint.profiler.sampler.CountingSamplerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +52,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * @author HyunGil Jeong
@@ -87,6 +91,48 @@ public class ActiveTraceRepositoryTest {
         }
     }
 
+    @Test
+    public void getActiveTraceRoot() {
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(Mockito.mock(ResponseTimeCollector.class), true);
+        final long threadId = Thread.currentThread().getId();
+
+        LocalTraceRoot first = newTraceRoot(1);
+        ActiveTraceHandle firstHandle = repository.register(first);
+        assertSame(first, repository.getActiveTraceRoot(threadId));
+
+        LocalTraceRoot second = newTraceRoot(2);
+        ActiveTraceHandle secondHandle = repository.register(second);
+        assertSame(second, repository.getActiveTraceRoot(threadId));
+
+        // the newer trace of the thread stays indexed
+        firstHandle.purge(System.currentTimeMillis());
+        assertSame(second, repository.getActiveTraceRoot(threadId));
+
+        secondHandle.purge(System.currentTimeMillis());
+        assertNull(repository.getActiveTraceRoot(threadId));
+        assertNull(repository.getActiveTraceRoot(threadId + 1));
+    }
+
+    @Test
+    public void getActiveTraceRoot_noThreadIndex() {
+        ActiveTraceRepository repository = new DefaultActiveTraceRepository(Mockito.mock(ResponseTimeCollector.class), false);
+        final long threadId = Thread.currentThread().getId();
+
+        ActiveTraceHandle handle = repository.register(newTraceRoot(1));
+        assertNull(repository.getActiveTraceRoot(threadId));
+        assertEquals(1, repository.getLongRunningTraceRootList(Long.MAX_VALUE).size());
+
+        handle.purge(System.currentTimeMillis());
+        assertEquals(0, repository.getLongRunningTraceRootList(Long.MAX_VALUE).size());
+    }
+
+    private LocalTraceRoot newTraceRoot(long localTransactionId) {
+        LocalTraceRoot traceRoot = Mockito.mock(LocalTraceRoot.class);
+        Mockito.when(traceRoot.getLocalTransactionId()).thenReturn(localTransactionId);
+        Mockito.when(traceRoot.getTraceStartTime()).thenReturn(System.currentTimeMillis());
+        return traceRoot;
+    }
+
     @Test
     public void verifyActiveTraceCollectionAndTransactionCount() throws Exception {
         // Given
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.grpc;
+
+import com.navercorp.pinpoint.common.buffer.timeseries.BitReader;
+import com.navercorp.pinpoint.common.buffer.timeseries.DeltaOfDeltaDecoder;
+import com.navercorp.pinpoint.common.buffer.timeseries.XorDoubleDecoder;
+import com.navercorp.pinpoint.grpc.CompressedAgentStatPayload;
+import com.navercorp.pinpoint.grpc.trace.PAgentStat;
+import com.navercorp.pinpoint.grpc.trace.PAgentStatBatch;
+import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.AgentStatMetricSnapshotBatch;
+import com.navercorp.pinpoint.profiler.monitor.metric.JvmGcDetailedMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.JvmGcMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.cpu.CpuLoadMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.gc.JvmGcType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CompressedAgentStatBatchEncoderTest {
+
+    private static final long COLLECT_INTERVAL = 5000;
+    private static final int NUM_COLLECTIONS_PER_BATCH = 6;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Random random = new Random();
+
+    @Test
+    public void encode() {
+        final AgentStatMetricSnapshotBatch batch = newBatch(NUM_COLLECTIONS_PER_BATCH);
+        batch.getAgentStats().get(2).setCpuLoad(null);
+        batch.getAgentStats().get(4).setGc(null);
+
+        final byte[] payload = new CompressedAgentStatBatchEncoder().encode(batch);
+
+        final List<AgentStatMetricSnapshot> agentStats = batch.getAgentStats();
+        final BitReader reader = new BitReader(payload);
+        Assertions.assertEquals(CompressedAgentStatBatchEncoder.VERSION, reader.readBits(8));
+        Assertions.assertEquals(agentStats.size(), reader.readBits(32));
+
+        final DeltaOfDeltaDecoder timestamp = new DeltaOfDeltaDecoder(reader);
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            Assertions.assertEquals(agentStat.getTimestamp(), timestamp.next());
+        }
+
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            Assertions.assertEquals(agentStat.getCpuLoad() != null, reader.readBit());
+        }
+        final XorDoubleDecoder jvmCpuLoad = new XorDoubleDecoder(reader);
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            if (agentStat.getCpuLoad() != null) {
+                Assertions.assertEquals(agentStat.getCpuLoad().getJvmCpuUsage(), jvmCpuLoad.next());
+            }
+        }
+        final XorDoubleDecoder systemCpuLoad = new XorDoubleDecoder(reader);
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            if (agentStat.getCpuLoad() != null) {
+                Assertions.assertEquals(agentStat.getCpuLoad().getSystemCpuUsage(), systemCpuLoad.next());
+            }
+        }
+
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            Assertions.assertEquals(agentStat.getGc() != null, reader.readBit());
+        }
+        Assertions.assertEquals(JvmGcType.G1.getValue(), reader.readBits(8));
+        final DeltaOfDeltaDecoder heapUsed = new DeltaOfDeltaDecoder(reader);
+        for (AgentStatMetricSnapshot agentStat : agentStats) {
+            if (agentStat.getGc() != null) {
+                Assertions.assertEquals(agentStat.getGc().getJvmMemoryHeapUsed(), heapUsed.next());
+            }
+        }
+    }
+
+    @Test
+    public void convert_compressed() {
+        final AgentStatMetricSnapshotBatch batch = newBatch(NUM_COLLECTIONS_PER_BATCH);
+        // gc samples with detailed metrics stay in PJvmGc
+        batch.getAgentStats().get(1).getGc().setJvmGcDetailed(new JvmGcDetailedMetricSnapshot());
+
+        final PAgentStatBatch message = (PAgentStatBatch) new GrpcStatMessageConverter(true).toMessage(batch);
+
+        Assertions.assertEquals(NUM_COLLECTIONS_PER_BATCH, message.getAgentStatCount());
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            final PAgentStat agentStat = message.getAgentStat(i);
+            Assertions.assertEquals(batch.getAgentStats().get(i).getTimestamp(), agentStat.getTimestamp());
+            Assertions.assertFalse(agentStat.hasCpuLoad());
+            Assertions.assertEquals(i == 1, agentStat.hasGc());
+        }
+        final byte[] payload = CompressedAgentStatPayload.get(message);
+        Assertions.assertArrayEquals(new CompressedAgentStatBatchEncoder().encode(batch), payload);
+
+        final BitReader reader = new BitReader(payload);
+        reader.readBits(8);
+        reader.readBits(32);
+        final DeltaOfDeltaDecoder timestamp = new DeltaOfDeltaDecoder(reader);
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            timestamp.next();
+        }
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            Assertions.assertTrue(reader.readBit());
+        }
+        final XorDoubleDecoder jvmCpuLoad = new XorDoubleDecoder(reader);
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            jvmCpuLoad.next();
+        }
+        final XorDoubleDecoder systemCpuLoad = new XorDoubleDecoder(reader);
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            systemCpuLoad.next();
+        }
+        for (int i = 0; i < NUM_COLLECTIONS_PER_BATCH; i++) {
+            Assertions.assertEquals(i != 1, reader.readBit());
+        }
+    }
+
+    @Test
+    public void convert_uncompressed() {
+        final AgentStatMetricSnapshotBatch batch = newBatch(NUM_COLLECTIONS_PER_BATCH);
+
+        final PAgentStatBatch message = (PAgentStatBatch) new GrpcStatMessageConverter().toMessage(batch);
+
+        Assertions.assertNull(CompressedAgentStatPayload.get(message));
+        Assertions.assertTrue(message.getAgentStat(0).hasCpuLoad());
+        Assertions.assertTrue(message.getAgentStat(0).hasGc());
+    }
+
+    @Test
+    public void messageSize() throws Exception {
+        final GrpcStatMessageConverter converter = new GrpcStatMessageConverter(false);
+        final GrpcStatMessageConverter compressedConverter = new GrpcStatMessageConverter(true);
+
+        int protobufSize = 0;
+        int compressedSize = 0;
+        for (int i = 0; i < 100; i++) {
+            final AgentStatMetricSnapshotBatch batch = newBatch(NUM_COLLECTIONS_PER_BATCH);
+            // the serialized messages as sent on the wire, including the payload field and the remaining PAgentStat fields
+            protobufSize += converter.toMessage(batch).toByteArray().length;
+            final byte[] compressed = compressedConverter.toMessage(batch).toByteArray();
+            compressedSize += compressed.length;
+
+            Assertions.assertNotNull(CompressedAgentStatPayload.get(PAgentStatBatch.parseFrom(compressed)));
+        }
+        logger.debug("cpuLoad, jvmGc PAgentStatBatch size protobuf:{} compressed:{} ratio:{}",
+                protobufSize, compressedSize, (double) compressedSize / protobufSize);
+        Assertions.assertTrue(compressedSize < protobufSize * 0.7, "protobuf:" + protobufSize + " compressed:" + compressedSize);
+    }
+
+    private AgentStatMetricSnapshotBatch newBatch(int size) {
+        final long startTime = System.currentTimeMillis();
+        long heapUsed = 512 * 1024 * 1024L;
+        long gcOldCount = 10;
+        long gcOldTime = 1200;
+
+        final List<AgentStatMetricSnapshot> agentStats = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final AgentStatMetricSnapshot agentStat = new AgentStatMetricSnapshot();
+            // collection time jitters a few milliseconds
+            agentStat.setTimestamp(startTime + i * COLLECT_INTERVAL + random.nextInt(3));
+            agentStat.setCollectInterval(COLLECT_INTERVAL);
+
+            final double jvmCpuUsage = Math.round(random.nextDouble() * 1000) / 1000.0;
+            agentStat.setCpuLoad(new CpuLoadMetricSnapshot(jvmCpuUsage, Math.min(1.0, jvmCpuUsage + 0.1)));
+
+            heapUsed += random.nextInt(16 * 1024 * 1024);
+            if (random.nextInt(3) == 0) {
+                gcOldCount++;
+                gcOldTime += random.nextInt(100);
+            }
+            final JvmGcMetricSnapshot gc = new JvmGcMetricSnapshot();
+            gc.setType(JvmGcType.G1);
+            gc.setJvmMemoryHeapUsed(heapUsed);
+            gc.setJvmMemoryHeapMax(2048 * 1024 * 1024L);
+            gc.setJvmMemoryNonHeapUsed(128 * 1024 * 1024L + random.nextInt(1024 * 1024));
+            gc.setJvmMemoryNonHeapMax(-1);
+            gc.setJvmGcOldCount(gcOldCount);
+            gc.setJvmGcOldTime(gcOldTime);
+            agentStat.setGc(gc);
+
+            agentStats.add(agentStat);
+        }
+
+        final AgentStatMetricSnapshotBatch batch = new AgentStatMetricSnapshotBatch();
+        batch.setAgentId("agentId");
+        batch.setStartTimestamp(startTime);
+        batch.setAgentStats(agentStats);
+        return batch;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.context.monitor.metric;
 
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.CustomMetric;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.DoubleGauge;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.IntCounter;
@@ -27,6 +28,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -232,6 +237,48 @@ public class CustomMetricRegistryServiceTest {
         Assertions.assertNull(customMetric);
     }
 
+    @Test
+    public void executorMetricTest() throws InterruptedException {
+        CustomMetricRegistryService customMetricRegistryService = new DefaultCustomMetricRegistryService(10, new DefaultCustomMetricRegistryFilter());
+        ExecutorMetrics executorMetrics = ExecutorMetrics.get("registry-test-pool");
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(release);
+            });
+            Assertions.assertTrue(running.await(10, TimeUnit.SECONDS));
+            executor.execute(() -> {});
+            executor.execute(() -> {});
+
+            executorMetrics.add(executor, new CustomMetricRegistryAdaptor(customMetricRegistryService));
+            executorMetrics.recordReject();
+
+            Map<String, CustomMetricWrapper> customMetricMap = customMetricRegistryService.getCustomMetricMap();
+            assertThat(customMetricMap).hasSize(2);
+
+            LongGaugeWrapper queueSize = (LongGaugeWrapper) customMetricMap.get("custom/executor-registry-test-pool/queueSize");
+            Assertions.assertEquals(2, queueSize.getValue());
+
+            LongCounterWrapper rejectCount = (LongCounterWrapper) customMetricMap.get("custom/executor-registry-test-pool/rejectCount");
+            Assertions.assertEquals(1, rejectCount.getValue());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 
     private CustomMetric createAndAddFixedValueMetric(CustomMetricRegistryService customMetricRegistryService, final String metricName, final Number fixedValue, Class clazz) {
         CustomMetric fixedValueMetric = createFixedValueMetric(metricName, fixedValue, clazz);
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.monitor.metric;
+
+import com.navercorp.pinpoint.bootstrap.plugin.http.HttpConnectionMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.ExecutorMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.TaskQueueMetrics;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongAdderCounter;
+import com.navercorp.pinpoint.bootstrap.plugin.monitor.metric.LongGauge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DefaultCustomMetricRegistryFilterTest {
+
+    private final CustomMetricRegistryFilter filter = new DefaultCustomMetricRegistryFilter();
+
+    @Test
+    public void filter() {
+        Assertions.assertEquals(CustomMetricRegistryFilter.NOT_FILTERED, filter.filter(new LongAdderCounter(TaskQueueMetrics.TASK_START_COUNT)));
+        Assertions.assertEquals(CustomMetricRegistryFilter.FILTERED, filter.filter(new LongAdderCounter("custom/thread/unknown")));
+        Assertions.assertEquals(CustomMetricRegistryFilter.FILTERED, filter.filter(longGauge(TaskQueueMetrics.TASK_START_COUNT)));
+    }
+
+    @Test
+    public void filter_prefix() {
+        Assertions.assertEquals(CustomMetricRegistryFilter.NOT_FILTERED, filter.filter(longGauge(ExecutorMetrics.queueSizeName("pool-1-thread"))));
+        Assertions.assertEquals(CustomMetricRegistryFilter.NOT_FILTERED, filter.filter(new LongAdderCounter(ExecutorMetrics.rejectCountName("pool-1-thread"))));
+        Assertions.assertEquals(CustomMetricRegistryFilter.FILTERED, filter.filter(longGauge("custom/executor/queueSize")));
+    }
+
+    @Test
+    public void filter_httpConnection() {
+        Assertions.assertEquals(CustomMetricRegistryFilter.NOT_FILTERED, filter.filter(new LongAdderCounter(HttpConnectionMetrics.acquireCountName("reactor-netty"))));
+        Assertions.assertEquals(CustomMetricRegistryFilter.NOT_FILTERED, filter.filter(new LongAdderCounter("custom/okhttp-host-a.example.com_443/connectionAcquireCount")));
+        Assertions.assertEquals(CustomMetricRegistryFilter.FILTERED, filter.filter(longGauge("custom/okhttp-host-a.example.com_443/connectionAcquireCount")));
+    }
+
+    private static LongGauge longGauge(String name) {
+        return new LongGauge() {
+            @Override
+            public long getValue() {
+                return 0;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
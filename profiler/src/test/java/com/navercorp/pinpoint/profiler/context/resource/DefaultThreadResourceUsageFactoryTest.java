@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.resource;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DefaultThreadResourceUsageFactoryTest {
+
+    @Test
+    public void record() {
+        ThreadResourceUsageFactory factory = new DefaultThreadResourceUsageFactory();
+        ThreadResourceUsage usage = factory.start();
+
+        byte[] garbage = new byte[1024 * 64];
+        Assertions.assertNotNull(garbage);
+
+        List<Annotation<?>> annotations = new ArrayList<>();
+        Assertions.assertTrue(usage.record(annotations::add));
+
+        for (Annotation<?> annotation : annotations) {
+            final int key = annotation.getKey();
+            Assertions.assertTrue(key == AnnotationKey.CPU_TIME.getCode() || key == AnnotationKey.ALLOCATED_BYTES.getCode());
+            Assertions.assertTrue((Long) annotation.getValue() >= 0);
+        }
+    }
+
+    @Test
+    public void record_otherThread() throws InterruptedException {
+        ThreadResourceUsageFactory factory = new DefaultThreadResourceUsageFactory();
+        ThreadResourceUsage usage = factory.start();
+
+        List<Annotation<?>> annotations = new ArrayList<>();
+        AtomicBoolean recorded = new AtomicBoolean(true);
+        Thread thread = new Thread(() -> recorded.set(usage.record(annotations::add)));
+        thread.start();
+        thread.join();
+
+        Assertions.assertFalse(recorded.get());
+        Assertions.assertTrue(annotations.isEmpty());
+    }
+
+    @Test
+    public void disabled() {
+        ThreadResourceUsage usage = ThreadResourceUsageFactory.DISABLED.start();
+
+        List<Annotation<?>> annotations = new ArrayList<>();
+        Assertions.assertFalse(usage.record(annotations::add));
+        Assertions.assertTrue(annotations.isEmpty());
+    }
+}
@@ -17,6 +17,7 @@ package com.navercorp.pinpoint.profiler.instrument;
 
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandler;
+import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
 import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorDefinition;
 import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorDefinitionFactory;
 import com.navercorp.pinpoint.profiler.instrument.mock.ApiIdAwareInterceptor;
@@ -24,11 +25,15 @@ import com.navercorp.pinpoint.profiler.instrument.mock.ArgsArrayInterceptor;
 import com.navercorp.pinpoint.profiler.instrument.mock.BaseEnum;
 import com.navercorp.pinpoint.profiler.instrument.mock.BasicInterceptor;
 import com.navercorp.pinpoint.profiler.instrument.mock.ExceptionInterceptor;
+import com.navercorp.pinpoint.profiler.instrument.mock.SampledTraceGuardMock;
 import com.navercorp.pinpoint.profiler.instrument.mock.StaticInterceptor;
 import com.navercorp.pinpoint.profiler.interceptor.factory.ExceptionHandlerFactory;
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.util.TestInterceptorRegistryBinder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -36,8 +41,14 @@ import org.junit.jupiter.api.Test;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.MethodNode;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
@@ -45,7 +56,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -57,6 +70,9 @@ public class ASMMethodNodeAdapterAddInterceptorTest {
 
     private ExceptionHandlerFactory exceptionHandlerFactory = new ExceptionHandlerFactory(false);
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+    private int guardId = ASMMethodNodeAdapter.NO_GUARD;
+
     @BeforeAll
     public static void beforeClass() {
         interceptorRegistryBinder.bind();
@@ -72,6 +88,12 @@ public class ASMMethodNodeAdapterAddInterceptorTest {
         this.classLoader = ASMClassNodeLoader.getClassLoader();
     }
 
+    @AfterEach
+    public void after() {
+        this.guardId = ASMMethodNodeAdapter.NO_GUARD;
+        SampledTraceGuardMock.sampled = true;
+    }
+
     @Test
     public void addArgsArrayInterceptor() throws Exception {
         int interceptorId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new ArgsArrayInterceptor());
@@ -96,6 +118,90 @@ public class ASMMethodNodeAdapterAddInterceptorTest {
         addInterceptor(interceptorId, BasicInterceptor.class);
     }
 
+    @Test
+    public void addGuardedInterceptor_sampled() throws Exception {
+        this.guardId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new SampledTraceGuardMock());
+        SampledTraceGuardMock.sampled = true;
+
+        final Interceptor[] interceptors = {new ArgsArrayInterceptor(), new StaticInterceptor(), new ApiIdAwareInterceptor(), new BasicInterceptor()};
+        for (Interceptor interceptor : interceptors) {
+            this.classLoader = ASMClassNodeLoader.getClassLoader();
+            int interceptorId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(interceptor);
+            addInterceptor(interceptorId, interceptor.getClass());
+        }
+    }
+
+    @Test
+    public void addGuardedInterceptor_notSampled() throws Exception {
+        this.guardId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new SampledTraceGuardMock());
+        SampledTraceGuardMock.sampled = false;
+
+        final int interceptorId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new ArgsArrayInterceptor());
+        final Class<?> argsClass = addInterceptor(interceptorId, "com.navercorp.pinpoint.profiler.instrument.mock.ArgsClass", ArgsArrayInterceptor.class);
+        final Object argsInstance = argsClass.getConstructor().newInstance();
+        ArgsArrayInterceptor.clear();
+        argsClass.getMethod("argInt3", int.class, int.class, int.class).invoke(argsInstance, 1, 2, 3);
+        assertFalse(ArgsArrayInterceptor.before);
+        assertFalse(ArgsArrayInterceptor.after);
+
+        Class<?> clazz = addInterceptor(interceptorId, "com.navercorp.pinpoint.profiler.instrument.mock.ReturnClass", ArgsArrayInterceptor.class);
+        Object instance = clazz.getConstructor().newInstance();
+        assertEquals(1, clazz.getMethod("returnInt").invoke(instance));
+        assertFalse(ArgsArrayInterceptor.after);
+
+        clazz = addInterceptor(interceptorId, "com.navercorp.pinpoint.profiler.instrument.mock.ExceptionClass", ArgsArrayInterceptor.class);
+        instance = clazz.getConstructor().newInstance();
+        try {
+            clazz.getMethod("runtime").invoke(instance);
+            fail("runtime exception expected");
+        } catch (InvocationTargetException expected) {
+            assertFalse(ArgsArrayInterceptor.after);
+        }
+
+        // the same class calls the interceptor once the call is sampled
+        SampledTraceGuardMock.sampled = true;
+        ArgsArrayInterceptor.clear();
+        argsClass.getMethod("argInt3", int.class, int.class, int.class).invoke(argsInstance, 1, 2, 3);
+        assertTrue(ArgsArrayInterceptor.before);
+        assertTrue(ArgsArrayInterceptor.after);
+        assertArrayEquals(new Object[]{1, 2, 3}, ArgsArrayInterceptor.afterArgs);
+    }
+
+    @Test
+    public void addGuardedInterceptor_allocation() throws Throwable {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        this.guardId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new SampledTraceGuardMock());
+        final int interceptorId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new ArgsArrayInterceptor());
+        final Class<?> clazz = addInterceptor(interceptorId, "com.navercorp.pinpoint.profiler.instrument.mock.ArgsClass", ArgsArrayInterceptor.class);
+        final Object instance = clazz.getConstructor().newInstance();
+        final MethodHandle argInt3 = MethodHandles.publicLookup().findVirtual(clazz, "argInt3", MethodType.methodType(void.class, int.class, int.class, int.class))
+                .bindTo(instance);
+
+        final int calls = 100000;
+        final long[] allocatedBytes = new long[2];
+        final boolean[] sampled = {true, false};
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < sampled.length; i++) {
+                SampledTraceGuardMock.sampled = sampled[i];
+                final long start = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                for (int call = 0; call < calls; call++) {
+                    argInt3.invoke(1000, 2000, call);
+                }
+                allocatedBytes[i] = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - start;
+            }
+        }
+        logger.debug("allocated bytes per call sampled:{} notSampled:{}", allocatedBytes[0] / calls, allocatedBytes[1] / calls);
+        assertTrue(allocatedBytes[1] < allocatedBytes[0]);
+    }
+
     @Disabled
     @Test
     public void addExceptionInterceptor() throws Exception {
@@ -499,8 +605,8 @@ public class ASMMethodNodeAdapterAddInterceptorTest {
                         if (methodNodeAdapter.isAbstract() || methodNodeAdapter.isNative()) {
                             continue;
                         }
-                        methodNodeAdapter.addBeforeInterceptor(interceptorId, interceptorDefinition, 99);
-                        methodNodeAdapter.addAfterInterceptor(interceptorId, interceptorDefinition, 99);
+                        methodNodeAdapter.addBeforeInterceptor(interceptorId, interceptorDefinition, 99, guardId);
+                        methodNodeAdapter.addAfterInterceptor(interceptorId, interceptorDefinition, 99, guardId);
                     }
                 }
             });
@@ -16,12 +16,27 @@
 
 package com.navercorp.pinpoint.profiler.instrument.classloading;
 
+import com.navercorp.pinpoint.common.util.CodeSourceUtils;
 import com.navercorp.pinpoint.profiler.plugin.ClassNameFilter;
 import com.navercorp.pinpoint.profiler.plugin.JarPlugin;
 import com.navercorp.pinpoint.profiler.plugin.PluginConfig;
+import com.navercorp.pinpoint.profiler.plugin.PluginJar;
+import com.navercorp.pinpoint.profiler.plugin.PluginPackageClassRequirementFilter;
+import com.navercorp.pinpoint.profiler.plugin.PluginPackageFilter;
+import org.apache.commons.lang3.CharUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarFile;
 
 import static org.mockito.Mockito.mock;
@@ -51,6 +66,81 @@ public class PlainClassLoaderHandlerTest {
 //
 //    }
 
+    @Test
+    public void injectClass_concurrentClassLoaders() throws Exception {
+        final String className = CharUtils.class.getName();
+        final ClassInjector injector = new PlainClassLoaderHandler(newJarPluginConfig());
+
+        final int threads = 8;
+        final int classLoaders = 64;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>(classLoaders);
+            for (int i = 0; i < classLoaders; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        final ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+                        start.await();
+                        final Class<?> clazz = injector.injectClass(classLoader, className);
+
+                        Assertions.assertEquals(className, clazz.getName());
+                        Assertions.assertSame(classLoader, clazz.getClassLoader());
+                        Assertions.assertSame(clazz, injector.injectClass(classLoader, className));
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void injectClass_concurrentThreads() throws Exception {
+        final String className = CharUtils.class.getName();
+        final ClassInjector injector = new PlainClassLoaderHandler(newJarPluginConfig());
+        final ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Class<?>>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        start.await();
+                        // must not return before the defining thread is done
+                        return injector.injectClass(classLoader, className);
+                    }
+                }));
+            }
+            start.countDown();
+            final Class<?> clazz = futures.get(0).get();
+            Assertions.assertSame(classLoader, clazz.getClassLoader());
+            for (Future<Class<?>> future : futures) {
+                Assertions.assertSame(clazz, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PluginConfig newJarPluginConfig() {
+        final URL location = CodeSourceUtils.getCodeLocation(CharUtils.class);
+        final PluginJar pluginJar = PluginJar.fromFilePath(location.getFile());
+        final JarPlugin<?> plugin = new JarPlugin<>(pluginJar, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        final PluginPackageFilter pluginPackageFilter = new PluginPackageFilter(Collections.singletonList(CharUtils.class.getPackage().getName()));
+        return new PluginConfig(plugin, pluginPackageFilter, new PluginPackageClassRequirementFilter(Collections.emptyList()));
+    }
+
     private PluginConfig newPluginConfig() {
         JarPlugin plugin = mock(JarPlugin.class);
         JarFile jarFile = mock(JarFile.class);
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.classreading;
+
+import com.google.inject.Injector;
+import com.navercorp.pinpoint.common.util.ClassLoaderUtils;
+import com.navercorp.pinpoint.common.util.IOUtils;
+import com.navercorp.pinpoint.profiler.util.BytecodeUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+
+import javax.annotation.Resource;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+public class ConstantPoolScannerTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Test
+    public void sameAsClassReaderWrapper() {
+        final Class<?>[] classes = {
+                String.class, Object.class, Integer.class, Thread.State.class, Runnable.class, Deprecated.class,
+                AnnotationMock.class, InnerClassMock.class, MetaAnnotation.class, ElementType.class
+        };
+        for (Class<?> clazz : classes) {
+            assertSame(getClassFile(clazz.getName()));
+        }
+        for (int i = 1; i <= 3; i++) {
+            assertSame(getClassFile(InnerClassMock.class.getName() + "$" + i));
+        }
+    }
+
+    @Test
+    public void annotation() {
+        final ConstantPoolScanner scanner = new ConstantPoolScanner(getClassFile(AnnotationMock.class.getName()));
+        Assertions.assertEquals(3, scanner.getAnnotationInternalNames().size());
+        Assertions.assertTrue(scanner.getAnnotationInternalNames().contains("java/lang/Deprecated"));
+        Assertions.assertTrue(scanner.getAnnotationInternalNames().contains("javax/annotation/Resource"));
+        Assertions.assertTrue(scanner.getAnnotationInternalNames().contains(MetaAnnotation.class.getName().replace('.', '/')));
+
+        final ConstantPoolScanner annotationScanner = new ConstantPoolScanner(getClassFile(MetaAnnotation.class.getName()));
+        Assertions.assertTrue(annotationScanner.isAnnotation());
+        Assertions.assertTrue(annotationScanner.isInterface());
+    }
+
+    @Test
+    public void invalidClassFile() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConstantPoolScanner(new byte[16]));
+    }
+
+    @Test
+    public void sameAsClassReaderWrapper_jar() throws Exception {
+        // asm and guice, large enough to hit every constant pool entry type
+        for (Class<?> jarClass : new Class<?>[]{ClassReader.class, Injector.class}) {
+            final List<byte[]> classFiles = readJar(jarClass);
+            if (classFiles.isEmpty()) {
+                continue;
+            }
+            for (byte[] classFile : classFiles) {
+                assertSame(classFile);
+            }
+
+            for (int i = 0; i < 3; i++) {
+                final long classReaderWrapper = measure(() -> {
+                    for (byte[] classFile : classFiles) {
+                        new ClassReaderWrapper(classFile, true).getInterfaceInternalNames();
+                    }
+                    return null;
+                });
+                final long scanner = measure(() -> {
+                    for (byte[] classFile : classFiles) {
+                        new ConstantPoolScanner(classFile).getInterfaceInternalNames();
+                    }
+                    return null;
+                });
+                logger.debug("{} classes:{} ClassReaderWrapper:{}us ConstantPoolScanner:{}us",
+                        jarClass.getSimpleName(), classFiles.size(), classReaderWrapper / 1000, scanner / 1000);
+            }
+        }
+    }
+
+    private long measure(Callable<Void> job) throws Exception {
+        final long start = System.nanoTime();
+        job.call();
+        return System.nanoTime() - start;
+    }
+
+    private void assertSame(byte[] classFile) {
+        final ClassReaderWrapper expected = new ClassReaderWrapper(classFile, true);
+        final ConstantPoolScanner actual = new ConstantPoolScanner(classFile);
+
+        final String name = expected.getClassInternalName();
+        Assertions.assertEquals(name, actual.getClassInternalName());
+        Assertions.assertEquals(expected.getSuperClassInternalName(), actual.getSuperClassInternalName(), name);
+        Assertions.assertEquals(expected.getInterfaceInternalNames(), actual.getInterfaceInternalNames(), name);
+        Assertions.assertEquals(expected.getAnnotationInternalNames(), actual.getAnnotationInternalNames(), name);
+        Assertions.assertEquals(expected.getAccess(), actual.getAccess(), name);
+        Assertions.assertEquals(expected.isInnerClass(), actual.isInnerClass(), name);
+        Assertions.assertEquals(expected.isInterface(), actual.isInterface(), name);
+        Assertions.assertEquals(expected.isAnnotation(), actual.isAnnotation(), name);
+        Assertions.assertEquals(expected.isSynthetic(), actual.isSynthetic(), name);
+    }
+
+    private byte[] getClassFile(String className) {
+        return BytecodeUtils.getClassFile(ClassLoaderUtils.getDefaultClassLoader(), className);
+    }
+
+    private List<byte[]> readJar(Class<?> jarClass) throws Exception {
+        final List<byte[]> classFiles = new ArrayList<>();
+        final URL location = jarClass.getProtectionDomain().getCodeSource().getLocation();
+        final File file = new File(location.toURI());
+        if (!file.isFile()) {
+            return classFiles;
+        }
+        try (JarFile jarFile = new JarFile(file)) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.getName().endsWith(".class") || entry.getName().contains("module-info")) {
+                    continue;
+                }
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    classFiles.add(IOUtils.toByteArray(in));
+                }
+            }
+        }
+        return classFiles;
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @Target(ElementType.TYPE)
+    @interface MetaAnnotation {
+        String[] value() default {};
+
+        Deprecated nested() default @Deprecated;
+
+        ElementType type() default ElementType.TYPE;
+    }
+
+    @Deprecated
+    @Resource(name = "mock", type = String.class)
+    @MetaAnnotation(value = {"a", "b"}, type = ElementType.FIELD)
+    static class AnnotationMock {
+    }
+
+    static class InnerClassMock implements Runnable {
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+
+        InnerClassMock() {
+            Runnable runnable = new Runnable() {
+                @Override
+                public void run() {
+                }
+            };
+        }
+
+        @Override
+        public void run() {
+            Runnable runnable = new Runnable() {
+                @Override
+                public void run() {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class PackageInternalNameIndexTest {
+
+    @Test
+    public void find_shortestPrefixFirst() {
+        PackageInternalNameIndex<String> index = new PackageInternalNameIndex<>();
+        index.put("com/navercorp/pinpoint/profiler/plugin", "plugin");
+        index.put("com/navercorp/pinpoint", "pinpoint");
+        index.put("com/navercorp/pinpoint", "pinpoint2");
+        index.put("org/springframework", "spring");
+
+        Assertions.assertEquals(3, index.size());
+        index.put("com/navercorp/pinpoint/profiler/sender", "sender");
+        Assertions.assertEquals(4, index.size());
+
+        List<Set<String>> result = index.find("com/navercorp/pinpoint/profiler/plugin/Foo");
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals(Arrays.asList("pinpoint", "pinpoint2"), Arrays.asList(result.get(0).toArray()));
+        Assertions.assertEquals(Collections.singleton("plugin"), result.get(1));
+    }
+
+    @Test
+    public void find_noMatch() {
+        PackageInternalNameIndex<String> index = new PackageInternalNameIndex<>();
+        Assertions.assertTrue(index.isEmpty());
+        Assertions.assertTrue(index.find("java/lang/String").isEmpty());
+
+        index.put("com/navercorp/pinpoint/profiler", "profiler");
+        Assertions.assertFalse(index.isEmpty());
+        Assertions.assertTrue(index.find("java/lang/String").isEmpty());
+        Assertions.assertTrue(index.find("com/navercorp/pinpoint").isEmpty());
+    }
+}
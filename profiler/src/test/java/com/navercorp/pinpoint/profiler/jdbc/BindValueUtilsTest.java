@@ -17,14 +17,23 @@
 
 package com.navercorp.pinpoint.profiler.jdbc;
 
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DeferredBindValue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.HashMap;
 import java.util.Map;
 
 public class BindValueUtilsTest {
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final BindValueConverter converter = BindValueConverter.defaultBindValueConverter();
+
     @Test
     public void testBindValueToString() {
         String[] bindValue = {"a", "b"};
@@ -161,5 +170,86 @@ public class BindValueUtilsTest {
         Assertions.assertEquals("1, , 3", bindValueToString);
     }
 
-
-}
\ No newline at end of file
+    @Test
+    public void testDeferredBindValueToString() {
+        DeferredBindValue bindValue = new DeferredBindValue();
+        bindValue.set(1, "setInt", new Object[]{1, 10});
+        bindValue.set(2, "setString", new Object[]{2, "abc"});
+        // skip 3
+        bindValue.set(4, "setNull", new Object[]{4, 0});
+        bindValue.set(0, "setInt", new Object[]{0, 0});
+
+        Assertions.assertEquals(4, bindValue.getMaxIndex());
+        Assertions.assertEquals("10, abc, , null", BindValueUtils.bindValueToString(bindValue, converter, 100));
+        Assertions.assertEquals("1...(2), ...(4)", BindValueUtils.bindValueToString(bindValue, converter, 1));
+    }
+
+    @Test
+    public void testDeferredBindValueToString_sameAsMap() {
+        DeferredBindValue bindValue = new DeferredBindValue();
+        Map<Integer, String> bindValueMap = new HashMap<>();
+        for (int i = 1; i <= 100; i++) {
+            Object[] args = {i, "value" + i};
+            bindValue.set(i, "setString", args);
+            bindValueMap.put(i, converter.convert("setString", args));
+        }
+        for (int limit : new int[]{0, 10, 100, 1024, Integer.MAX_VALUE}) {
+            Assertions.assertEquals(BindValueUtils.bindValueToString(bindValueMap, limit), BindValueUtils.bindValueToString(bindValue, converter, limit));
+        }
+    }
+
+    @Test
+    public void testDeferredBindValue_clear() {
+        DeferredBindValue bindValue = new DeferredBindValue();
+        bindValue.set(20, "setInt", new Object[]{20, 1});
+        bindValue.clear();
+        Assertions.assertTrue(bindValue.isEmpty());
+        Assertions.assertEquals("", BindValueUtils.bindValueToString(bindValue, converter, 100));
+
+        bindValue.set(2, "setInt", new Object[]{2, 1});
+        Assertions.assertNull(bindValue.getMethodName(1));
+        Assertions.assertEquals(", 1", BindValueUtils.bindValueToString(bindValue, converter, 100));
+    }
+
+    @Test
+    public void testDeferredBindValue_allocation() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        // one batch of 1000 parameters, the args are allocated by the instrumented method in both cases
+        final int parameters = 1000;
+        final Object[][] args = new Object[parameters][];
+        for (int i = 0; i < parameters; i++) {
+            args[i] = new Object[]{i + 1, "value" + i};
+        }
+        final long threadId = Thread.currentThread().getId();
+        final DeferredBindValue bindValue = new DeferredBindValue();
+        long eager = 0;
+        long deferred = 0;
+        for (int round = 0; round < 5; round++) {
+            long start = allocationMXBean.getThreadAllocatedBytes(threadId);
+            final Map<Integer, String> bindValueMap = new HashMap<>();
+            for (int i = 0; i < parameters; i++) {
+                bindValueMap.put(i + 1, converter.convert("setString", args[i]));
+            }
+            BindValueUtils.bindValueToString(bindValueMap, 1024);
+            eager = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+
+            start = allocationMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < parameters; i++) {
+                bindValue.set(i + 1, "setString", args[i]);
+            }
+            BindValueUtils.bindValueToString(bindValue, converter, 1024);
+            bindValue.clear();
+            deferred = allocationMXBean.getThreadAllocatedBytes(threadId) - start;
+        }
+        logger.debug("allocated bytes per batch of {} parameters eager:{} deferred:{}", parameters, eager, deferred);
+        Assertions.assertTrue(deferred < eager);
+    }
+}
@@ -51,12 +51,12 @@ public class DeadlockMonitorJobTest {
 
         DeadlockThreadRegistry registry = new DeadlockThreadRegistry();
 
-        DeadlockMonitorThread deadlockMonitorThread = new DeadlockMonitorThread(registry, 3000);
-        deadlockMonitorThread.start();
+        DeadlockMonitorTask deadlockMonitorTask = new DeadlockMonitorTask(registry);
 
         System.out.println(registry);
 
         while (true) {
+            deadlockMonitorTask.run();
             Set<Long> deadlockedThreadIdSet = registry.getDeadlockedThreadIdSet();
             if (CollectionUtils.hasLength(deadlockedThreadIdSet)) {
                 System.out.println(deadlockedThreadIdSet);
@@ -64,9 +64,6 @@ public class DeadlockMonitorJobTest {
             }
         }
 
-        deadlockMonitorThread.stop();
-
-        Thread.sleep(5000);
     }
 
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StackProfileTest {
+
+    @Test
+    public void fold() {
+        StackProfile profile = new StackProfile(100, 1024);
+        profile.addSample(stack("Dao.query", "Service.call", "Controller.handle"));
+        profile.addSample(stack("Dao.query", "Service.call", "Controller.handle"));
+        profile.addSample(stack("Service.call", "Controller.handle"));
+        profile.addSample(stack("Cache.get", "Controller.handle"));
+
+        Assertions.assertEquals(4, profile.getSampleCount());
+        Assertions.assertEquals(4, profile.getNodeSize());
+        Assertions.assertEquals("Controller.handle;Service.call;Dao.query 2\n" +
+                "Controller.handle;Service.call 1\n" +
+                "Controller.handle;Cache.get 1\n", profile.toFolded());
+    }
+
+    @Test
+    public void maxNodeSize() {
+        StackProfile profile = new StackProfile(2, 1024);
+        profile.addSample(stack("Dao.query", "Service.call", "Controller.handle"));
+
+        Assertions.assertEquals(2, profile.getNodeSize());
+        Assertions.assertEquals(1, profile.getTruncatedCount());
+        Assertions.assertEquals("Controller.handle;Service.call 1\n", profile.toFolded());
+    }
+
+    @Test
+    public void maxFoldedBytes_keepMostSampled() {
+        final String hot = "Controller.handle;Service.call;Dao.query 3\n";
+        StackProfile profile = new StackProfile(100, hot.length() + 10);
+        profile.addSample(stack("Cache.get", "Controller.handle"));
+        for (int i = 0; i < 3; i++) {
+            profile.addSample(stack("Dao.query", "Service.call", "Controller.handle"));
+        }
+
+        Assertions.assertEquals(hot, profile.toFolded());
+    }
+
+    @Test
+    public void maxFoldedBytes_budget() {
+        StackProfile profile = new StackProfile(1000, 256);
+        for (int i = 0; i < 100; i++) {
+            profile.addSample(stack("Dao.query" + i, "Service.call", "Controller.handle"));
+        }
+
+        final String folded = profile.toFolded();
+        Assertions.assertTrue(folded.length() <= 256, folded);
+        Assertions.assertTrue(folded.endsWith("\n"), folded);
+    }
+
+    @Test
+    public void empty() {
+        StackProfile profile = new StackProfile(10, 1024);
+        profile.addSample(new StackTraceElement[0]);
+
+        Assertions.assertTrue(profile.isEmpty());
+        Assertions.assertEquals("", profile.toFolded());
+    }
+
+    private StackTraceElement[] stack(String... frames) {
+        StackTraceElement[] elements = new StackTraceElement[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            final int index = frames[i].lastIndexOf('.');
+            elements[i] = new StackTraceElement(frames[i].substring(0, index), frames[i].substring(index + 1), null, -1);
+        }
+        return elements;
+    }
+}
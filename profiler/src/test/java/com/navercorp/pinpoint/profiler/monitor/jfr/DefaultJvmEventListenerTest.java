@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.jfr;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.id.DefaultShared;
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DefaultJvmEventListenerTest {
+
+    private static final long START_TIME = System.currentTimeMillis();
+
+    @Test
+    public void gcPause() {
+        Shared shared1 = newShared(1);
+        Shared shared2 = newShared(2);
+        JvmEventListener listener = newListener(Arrays.asList(newTraceRoot(shared1), newTraceRoot(shared2)));
+
+        listener.onGcPause(System.currentTimeMillis(), 1000);
+
+        Assertions.assertEquals(1000, shared1.getJvmEventProfile().getGcPauseNanos());
+        Assertions.assertEquals(1000, shared2.getJvmEventProfile().getGcPauseNanos());
+    }
+
+    @Test
+    public void threadEvent() {
+        Shared shared1 = newShared(1);
+        Shared shared2 = newShared(2);
+        JvmEventListener listener = newListener(Arrays.asList(newTraceRoot(shared1), newTraceRoot(shared2)));
+
+        Assertions.assertTrue(listener.isTracedThread(2));
+        listener.onMonitorEnter(2, System.currentTimeMillis(), 300);
+        listener.onThreadPark(2, System.currentTimeMillis(), 500);
+
+        Assertions.assertNull(shared1.getJvmEventProfile());
+        Assertions.assertEquals(300, shared2.getJvmEventProfile().getMonitorEnterNanos());
+        Assertions.assertEquals(500, shared2.getJvmEventProfile().getThreadParkNanos());
+    }
+
+    @Test
+    public void idlePark() {
+        Shared shared = newShared(1);
+        JvmEventListener listener = newListener(Arrays.asList(newTraceRoot(shared)));
+
+        Assertions.assertFalse(listener.isTracedThread(3));
+        listener.onThreadPark(3, System.currentTimeMillis(), 500);
+        // parked before the transaction started
+        listener.onThreadPark(1, START_TIME - 1, 500);
+
+        Assertions.assertNull(shared.getJvmEventProfile());
+
+        listener.onThreadPark(1, System.currentTimeMillis(), 500);
+        Assertions.assertEquals(500, shared.getJvmEventProfile().getThreadParkNanos());
+    }
+
+    @Test
+    public void unsampled() {
+        Shared shared = newShared(1);
+        LocalTraceRoot localTraceRoot = mock(LocalTraceRoot.class);
+        when(localTraceRoot.getShared()).thenReturn(shared);
+        JvmEventListener listener = newListener(Arrays.asList(localTraceRoot));
+
+        listener.onGcPause(System.currentTimeMillis(), 1000);
+        Assertions.assertFalse(listener.isTracedThread(1));
+        listener.onThreadPark(1, System.currentTimeMillis(), 500);
+
+        Assertions.assertNull(shared.getJvmEventProfile());
+    }
+
+    private JvmEventListener newListener(List<LocalTraceRoot> traceRoots) {
+        ActiveTraceRepository activeTraceRepository = mock(ActiveTraceRepository.class);
+        when(activeTraceRepository.getLongRunningTraceRootList(anyLong())).thenReturn(traceRoots);
+        for (LocalTraceRoot traceRoot : traceRoots) {
+            final long threadId = traceRoot.getShared().getThreadId();
+            when(activeTraceRepository.getActiveTraceRoot(threadId)).thenReturn(traceRoot);
+        }
+        return new DefaultJvmEventListener(activeTraceRepository);
+    }
+
+    private Shared newShared(long threadId) {
+        Shared shared = new DefaultShared();
+        shared.setThreadId(threadId);
+        return shared;
+    }
+
+    private TraceRoot newTraceRoot(Shared shared) {
+        TraceRoot traceRoot = mock(TraceRoot.class);
+        when(traceRoot.getShared()).thenReturn(shared);
+        when(traceRoot.getTraceStartTime()).thenReturn(START_TIME);
+        return traceRoot;
+    }
+}
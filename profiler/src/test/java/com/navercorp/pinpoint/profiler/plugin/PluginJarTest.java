@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+public class PluginJarTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void triggerClasses() throws Exception {
+        Path jar = newPluginJar("com.test.Driver, com.test.DataSource", "# comment\ncom.test.FirstPlugin\n\ncom.test.SecondPlugin # comment\n");
+
+        PluginJar pluginJar = PluginJar.fromFilePath(jar.toString());
+        Assertions.assertEquals(Arrays.asList("com.test.Driver", "com.test.DataSource"), pluginJar.getPluginTriggerClasses());
+        Assertions.assertEquals(Arrays.asList("com.test.FirstPlugin", "com.test.SecondPlugin"), pluginJar.getProfilerPluginClassNames());
+        pluginJar.getJarFile().close();
+    }
+
+    @Test
+    public void triggerClasses_notDeclared() throws Exception {
+        Path jar = newPluginJar(null, null);
+
+        PluginJar pluginJar = PluginJar.fromFilePath(jar.toString());
+        Assertions.assertTrue(pluginJar.getPluginTriggerClasses().isEmpty());
+        Assertions.assertTrue(pluginJar.getProfilerPluginClassNames().isEmpty());
+        pluginJar.getJarFile().close();
+    }
+
+    private Path newPluginJar(String triggerClasses, String services) throws Exception {
+        Manifest manifest = new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.putValue(PluginJar.PINPOINT_PLUGIN_ID, "test");
+        if (triggerClasses != null) {
+            attributes.putValue(PluginJar.PINPOINT_PLUGIN_TRIGGER_CLASSES, triggerClasses);
+        }
+
+        Path jar = tempDir.resolve("test-plugin.jar");
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out, manifest)) {
+            if (services != null) {
+                jarOut.putNextEntry(new JarEntry("META-INF/services/" + ProfilerPlugin.class.getName()));
+                jarOut.write(services.getBytes(StandardCharsets.UTF_8));
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.scheduler;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HashedWheelAgentSchedulerTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private HashedWheelAgentScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new HashedWheelAgentScheduler(10, TimeUnit.MILLISECONDS, 64);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void schedule_notEarly() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final long[] executed = new long[1];
+        scheduler.schedule("once", () -> {
+            executed[0] = System.nanoTime();
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(executed[0] - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void schedule_beyondWheelRound() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        // 64 buckets * 10ms, the deadline is in the next round of the wheel
+        scheduler.schedule("nextRound", latch::countDown, 900, TimeUnit.MILLISECONDS);
+
+        Assertions.assertFalse(latch.await(800, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledTask task = scheduler.scheduleAtFixedRate("cancel", counter::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(task.cancel());
+        Assertions.assertFalse(task.cancel());
+        Assertions.assertTrue(task.isCancelled());
+        Assertions.assertTrue(task.isDone());
+
+        Thread.sleep(100);
+        Assertions.assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void periodic_error() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(4);
+        scheduler.scheduleWithFixedDelay("error", () -> {
+            latch.countDown();
+            throw new RuntimeException("test");
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        final SchedulerTaskMetric metric = getTaskMetric("error");
+        Assertions.assertTrue(metric.getRunCount() >= 3);
+        Assertions.assertTrue(metric.getErrorCount() >= 3);
+    }
+
+    @Test
+    public void singleThread() throws Exception {
+        final int before = countSchedulerThreads();
+
+        // stat monitor, deadlock monitor, reconnect, ping ...
+        final int taskCount = 50;
+        final CountDownLatch latch = new CountDownLatch(taskCount * 3);
+        for (int i = 0; i < taskCount; i++) {
+            scheduler.scheduleAtFixedRate("task-" + i, latch::countDown, i % 10, 20, TimeUnit.MILLISECONDS);
+        }
+        final ScheduledExecutorService executor1 = scheduler.newScheduledExecutorService("executor-1");
+        final ScheduledExecutorService executor2 = scheduler.newScheduledExecutorService("executor-2");
+        final CountDownLatch executorLatch = new CountDownLatch(2);
+        executor1.schedule(executorLatch::countDown, 10, TimeUnit.MILLISECONDS);
+        executor2.schedule(executorLatch::countDown, 10, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(executorLatch.await(5, TimeUnit.SECONDS));
+
+        final int after = countSchedulerThreads();
+        logger.debug("scheduler threads before:{} after:{}", before, after);
+        Assertions.assertEquals(1, after - before);
+
+        for (int i = 0; i < taskCount; i++) {
+            Assertions.assertTrue(getTaskMetric("task-" + i).getRunCount() > 0);
+        }
+    }
+
+    @Test
+    public void idle_noWakeup() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(5);
+        final ScheduledTask[] task = new ScheduledTask[1];
+        final CountDownLatch scheduled = new CountDownLatch(1);
+        task[0] = scheduler.scheduleAtFixedRate("idle", () -> {
+            awaitUninterruptibly(scheduled);
+            latch.countDown();
+            if (latch.getCount() == 0) {
+                // cancelled by the worker itself, the task is not put back on the wheel
+                task[0].cancel();
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        scheduled.countDown();
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // an idle worker parks without a timeout, only a new task wakes it up
+        final Thread worker = scheduler.getWorkerThread();
+        Assertions.assertTrue(awaitState(worker, Thread.State.WAITING), "state:" + worker.getState());
+        final long wakeupCount = scheduler.getWakeupCount();
+        Assertions.assertEquals(Thread.State.WAITING, worker.getState());
+
+        final CountDownLatch next = new CountDownLatch(1);
+        scheduler.schedule("next", next::countDown, 0, TimeUnit.MILLISECONDS);
+        Assertions.assertTrue(next.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(scheduler.getWakeupCount() > wakeupCount);
+    }
+
+    @Test
+    public void coalesceWakeup() throws Exception {
+        final int taskCount = 100;
+        final CountDownLatch latch = new CountDownLatch(taskCount);
+
+        // hold the worker in a task while the others are scheduled, so the schedule calls race no tick boundary
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        scheduler.schedule("blocker", () -> {
+            blocking.countDown();
+            awaitUninterruptibly(release);
+        }, 0, TimeUnit.MILLISECONDS);
+        Assertions.assertTrue(blocking.await(5, TimeUnit.SECONDS));
+
+        final long wakeupCount = scheduler.getWakeupCount();
+        for (int i = 0; i < taskCount; i++) {
+            scheduler.schedule("coalesce", latch::countDown, 0, TimeUnit.MILLISECONDS);
+        }
+        release.countDown();
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // every task lands in the next tick and runs after a single wakeup
+        final long wakeups = scheduler.getWakeupCount() - wakeupCount;
+        logger.debug("tasks:{} wakeups:{}", taskCount, wakeups);
+        Assertions.assertTrue(wakeups <= 1, "wakeups:" + wakeups);
+    }
+
+    @Test
+    public void executorService_shutdown() throws Exception {
+        final ScheduledExecutorService executor = scheduler.newScheduledExecutorService("shutdown");
+        final ScheduledExecutorService other = scheduler.newScheduledExecutorService("other");
+
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future = executor.scheduleAtFixedRate(counter::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        final CountDownLatch otherLatch = new CountDownLatch(1);
+        other.schedule(otherLatch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(executor.isTerminated());
+        Assertions.assertTrue(future.isCancelled());
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> executor.schedule(counter::incrementAndGet, 0, TimeUnit.MILLISECONDS));
+
+        // other views keep running
+        Assertions.assertTrue(otherLatch.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(other.isShutdown());
+    }
+
+    @Test
+    public void executorService_periodicError() throws Exception {
+        final ScheduledExecutorService executor = scheduler.newScheduledExecutorService("periodicError");
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+            counter.incrementAndGet();
+            throw new RuntimeException("test");
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        Assertions.assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        Assertions.assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void stop() {
+        final ScheduledTask task = scheduler.schedule("stop", () -> { }, 1, TimeUnit.HOURS);
+        scheduler.stop();
+
+        Assertions.assertTrue(task.isCancelled());
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> scheduler.schedule("stop", () -> { }, 0, TimeUnit.MILLISECONDS));
+    }
+
+    private SchedulerTaskMetric getTaskMetric(String name) {
+        for (SchedulerTaskMetric metric : scheduler.getTaskMetrics()) {
+            if (metric.getName().equals(name)) {
+                return metric;
+            }
+        }
+        throw new AssertionError("metric not found " + name);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    private int countSchedulerThreads() {
+        final List<Thread> threads = new ArrayList<>(Thread.getAllStackTraces().keySet());
+        int count = 0;
+        for (Thread thread : threads) {
+            if (thread.getName().startsWith(HashedWheelAgentScheduler.THREAD_NAME)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.transformer;
+
+import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadata;
+import com.navercorp.pinpoint.profiler.instrument.transformer.TransformerRegistry;
+import com.navercorp.pinpoint.profiler.plugin.LazyPluginSetup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class LazyPluginTransformerRegistryTest {
+
+    private static final String TRIGGER = "com/test/Driver";
+    private static final String TARGET = "com/test/Connection";
+
+    private final ClassFileTransformer transformer = newTransformer();
+
+    @Test
+    public void findTransformer_trigger() {
+        final MockLazyPluginSetup lazyPluginSetup = new MockLazyPluginSetup();
+        final LazyPluginTransformerRegistry registry = new LazyPluginTransformerRegistry(new MockTransformerRegistry(Collections.<String>emptySet()), lazyPluginSetup,
+                transformers -> new MockTransformerRegistry(new HashSet<>(Arrays.asList(TRIGGER, TARGET))));
+
+        Assertions.assertNull(registry.findTransformer(null, TARGET, null));
+        Assertions.assertEquals(0, lazyPluginSetup.setupCount);
+
+        // the trigger class itself is transformed
+        Assertions.assertSame(transformer, registry.findTransformer(null, TRIGGER, null));
+        Assertions.assertSame(transformer, registry.findTransformer(null, TARGET, null));
+        Assertions.assertNull(registry.findTransformer(null, "com/test/Other", null));
+
+        Assertions.assertSame(transformer, registry.findTransformer(null, TRIGGER, null));
+        Assertions.assertEquals(1, lazyPluginSetup.setupCount);
+        Assertions.assertEquals(1, registry.getLazyTransformerRegistrySize());
+    }
+
+    @Test
+    public void findTransformer_eagerFirst() {
+        final ClassFileTransformer eager = newTransformer();
+        final TransformerRegistry eagerRegistry = new MockTransformerRegistry(Collections.singleton(TRIGGER)) {
+            @Override
+            public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer) {
+                return super.findTransformer(classLoader, classInternalName, classFileBuffer) != null ? eager : null;
+            }
+        };
+        final LazyPluginTransformerRegistry registry = new LazyPluginTransformerRegistry(eagerRegistry, new MockLazyPluginSetup(),
+                transformers -> new MockTransformerRegistry(Collections.singleton(TRIGGER)));
+
+        Assertions.assertSame(eager, registry.findTransformer(null, TRIGGER, null));
+    }
+
+    @Test
+    public void findTransformer_setupNotLocked() throws Exception {
+        final CountDownLatch setupStarted = new CountDownLatch(1);
+        final CountDownLatch setupRelease = new CountDownLatch(1);
+        final MockLazyPluginSetup lazyPluginSetup = new MockLazyPluginSetup() {
+            @Override
+            public void setup(String classInternalName, Consumer<List<ClassFileTransformer>> transformerListener) {
+                setupStarted.countDown();
+                try {
+                    setupRelease.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.setup(classInternalName, transformerListener);
+            }
+        };
+        final LazyPluginTransformerRegistry registry = new LazyPluginTransformerRegistry(new MockTransformerRegistry(Collections.singleton(TARGET)), lazyPluginSetup,
+                transformers -> new MockTransformerRegistry(Collections.singleton(TRIGGER)));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ClassFileTransformer> trigger = executor.submit(() -> registry.findTransformer(null, TRIGGER, null));
+            Assertions.assertTrue(setupStarted.await(5, TimeUnit.SECONDS));
+
+            // the lookup of other classes does not wait for the plugin setup
+            Assertions.assertSame(transformer, registry.findTransformer(null, TARGET, null));
+            Assertions.assertFalse(trigger.isDone());
+
+            setupRelease.countDown();
+            Assertions.assertSame(transformer, trigger.get(5, TimeUnit.SECONDS));
+        } finally {
+            setupRelease.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static ClassFileTransformer newTransformer() {
+        return new ClassFileTransformer() {
+            @Override
+            public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                                    ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+                return null;
+            }
+        };
+    }
+
+    private class MockTransformerRegistry implements TransformerRegistry {
+        private final Set<String> targets;
+
+        private MockTransformerRegistry(Set<String> targets) {
+            this.targets = targets;
+        }
+
+        @Override
+        public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer) {
+            return targets.contains(classInternalName) ? transformer : null;
+        }
+
+        @Override
+        public ClassFileTransformer findTransformer(ClassLoader classLoader, String classInternalName, byte[] classFileBuffer, InternalClassMetadata classMetadata) {
+            return findTransformer(classLoader, classInternalName, classFileBuffer);
+        }
+    }
+
+    private class MockLazyPluginSetup implements LazyPluginSetup {
+        private int setupCount;
+
+        @Override
+        public boolean isTrigger(String classInternalName) {
+            return setupCount == 0 && TRIGGER.equals(classInternalName);
+        }
+
+        @Override
+        public void setup(String classInternalName, Consumer<List<ClassFileTransformer>> transformerListener) {
+            if (!isTrigger(classInternalName)) {
+                return;
+            }
+            setupCount++;
+            transformerListener.accept(Collections.singletonList(transformer));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return setupCount != 0;
+        }
+    }
+}
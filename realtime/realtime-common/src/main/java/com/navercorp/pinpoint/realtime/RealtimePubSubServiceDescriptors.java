@@ -38,4 +38,6 @@ public class RealtimePubSubServiceDescriptors {
     public static final PubSubMonoServiceDescriptor<Echo, Echo> ECHO =
             PubSubServiceDescriptor.mono("echo", Echo.class, Echo.class);
 
+    public static final String AGENT_LIFECYCLE_CHANNEL = "agent-lifecycle";
+
 }
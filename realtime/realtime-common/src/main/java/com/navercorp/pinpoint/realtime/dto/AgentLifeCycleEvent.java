@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.realtime.dto;
+
+import java.util.Objects;
+
+/**
+ * Broadcast by collectors whenever an agent life cycle state is recorded.
+ */
+public class AgentLifeCycleEvent {
+
+    private final String applicationName;
+    private final String agentId;
+    private final long startTimestamp;
+    private final long eventTimestamp;
+    private final String state;
+
+    public AgentLifeCycleEvent(String applicationName, String agentId, long startTimestamp, long eventTimestamp, String state) {
+        this.applicationName = Objects.requireNonNull(applicationName, "applicationName");
+        this.agentId = Objects.requireNonNull(agentId, "agentId");
+        this.startTimestamp = startTimestamp;
+        this.eventTimestamp = eventTimestamp;
+        this.state = state;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public long getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "AgentLifeCycleEvent{" +
+                "applicationName='" + applicationName + '\'' +
+                ", agentId='" + agentId + '\'' +
+                ", startTimestamp=" + startTimestamp +
+                ", eventTimestamp=" + eventTimestamp +
+                ", state='" + state + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.redis.pubsub;
+
+import com.navercorp.pinpoint.pubsub.PubChannel;
+import com.navercorp.pinpoint.pubsub.PubSubChannelFactory;
+import com.navercorp.pinpoint.pubsub.SubChannel;
+import com.navercorp.pinpoint.serde.GsonDeserializer;
+import com.navercorp.pinpoint.serde.GsonSerializer;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Objects;
+
+class RedisPubSubChannelFactory implements PubSubChannelFactory {
+
+    private static final String CHANNEL_PREFIX = "broadcast:";
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    RedisPubSubChannelFactory(
+            ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        this.reactiveRedisTemplate = Objects.requireNonNull(reactiveRedisTemplate, "reactiveRedisTemplate");
+        this.redisMessageListenerContainer = Objects.requireNonNull(redisMessageListenerContainer, "redisMessageListenerContainer");
+    }
+
+    @Override
+    public <T> PubChannel<T> getPubChannel(String channelName, Class<T> contentClass) {
+        Objects.requireNonNull(channelName, "channelName");
+        return new RedisPubChannel<>(
+                this.reactiveRedisTemplate,
+                new GsonSerializer<>(contentClass),
+                CHANNEL_PREFIX + channelName
+        );
+    }
+
+    @Override
+    public <T> SubChannel<T> getSubChannel(String channelName, Class<T> contentClass) {
+        Objects.requireNonNull(channelName, "channelName");
+        return new RedisSubChannel<>(
+                this.redisMessageListenerContainer,
+                new GsonDeserializer<>(contentClass),
+                ChannelTopic.of(CHANNEL_PREFIX + channelName)
+        );
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package com.navercorp.pinpoint.redis.pubsub;
 
+import com.navercorp.pinpoint.pubsub.PubSubChannelFactory;
 import com.navercorp.pinpoint.pubsub.endpoint.IdentifierFactory;
 import com.navercorp.pinpoint.pubsub.endpoint.PubSubClientFactory;
 import com.navercorp.pinpoint.pubsub.endpoint.PubSubClientOptions;
@@ -91,4 +92,12 @@ public class RedisPubSubConfig {
         return new RedisPubSubServerFactory(reactiveRedisTemplate, redisMessageListenerContainer);
     }
 
+    @Bean("redisPubSubChannelFactory")
+    PubSubChannelFactory redisPubSubChannelFactory(
+            ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        return new RedisPubSubChannelFactory(reactiveRedisTemplate, redisMessageListenerContainer);
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.web.applicationmap.histogram;
 
+import com.navercorp.pinpoint.common.server.histogram.ResponseTimeSketch;
 import com.navercorp.pinpoint.common.trace.HistogramSchema;
 import com.navercorp.pinpoint.common.trace.HistogramSlot;
 import com.navercorp.pinpoint.common.trace.ServiceType;
@@ -53,6 +54,9 @@ public class Histogram implements StatisticsHistogram {
 
     private long pingCount; // for internal
 
+    // @Nullable
+    private ResponseTimeSketch responseTimeSketch;
+
     public Histogram(ServiceType serviceType) {
         Objects.requireNonNull(serviceType, "serviceType");
         this.schema = serviceType.getHistogramSchema();
@@ -138,6 +142,17 @@ public class Histogram implements StatisticsHistogram {
         }
     }
 
+    public void addSketchCount(final int bucketIndex, final long count) {
+        getOrCreateResponseTimeSketch().addBucket(bucketIndex, count);
+    }
+
+    private ResponseTimeSketch getOrCreateResponseTimeSketch() {
+        if (this.responseTimeSketch == null) {
+            this.responseTimeSketch = new ResponseTimeSketch();
+        }
+        return this.responseTimeSketch;
+    }
+
     private void updateMaxElapsed(long elapsedTime) {
         this.maxElapsed = Math.max(this.maxElapsed, elapsedTime);
     }
@@ -212,6 +227,11 @@ public class Histogram implements StatisticsHistogram {
         return totalCount > 0 ? sumElapsed / totalCount : 0L;
     }
 
+    @Override
+    public ResponseTimeSketch getResponseTimeSketch() {
+        return responseTimeSketch;
+    }
+
     public long getCount(SlotType slotType) {
         Objects.requireNonNull(slotType, "slotType");
 
@@ -264,6 +284,9 @@ public class Histogram implements StatisticsHistogram {
         this.sumElapsed += histogram.getSumElapsed();
         updateMaxElapsed(histogram.getMaxElapsed());
         this.pingCount += histogram.getPingCount();
+        if (histogram.responseTimeSketch != null) {
+            getOrCreateResponseTimeSketch().merge(histogram.responseTimeSketch);
+        }
     }
 
     @Override
@@ -298,6 +321,7 @@ public class Histogram implements StatisticsHistogram {
         sb.append(", verySlowErrorCount=").append(verySlowErrorCount);
         sb.append(", sumElapsed=").append(sumElapsed);
         sb.append(", maxElapsed=").append(maxElapsed);
+        sb.append(", responseTimeSketch=").append(responseTimeSketch);
         sb.append('}');
         return sb.toString();
     }
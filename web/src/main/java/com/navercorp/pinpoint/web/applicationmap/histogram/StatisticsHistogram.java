@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.web.applicationmap.histogram;
 
+import com.navercorp.pinpoint.common.server.histogram.ResponseTimeSketch;
+
 public interface StatisticsHistogram {
 
     long getTotalCount();
@@ -10,4 +12,7 @@ public interface StatisticsHistogram {
 
     long getAvgElapsed();
 
+    // @Nullable
+    ResponseTimeSketch getResponseTimeSketch();
+
 }
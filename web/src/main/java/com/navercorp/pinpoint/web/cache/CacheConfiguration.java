@@ -33,6 +33,10 @@ public class CacheConfiguration extends CachingConfigurerSupport {
 
     public static final String API_METADATA_CACHE_NAME = "apiMetaData";
     public static final String APPLICATION_LIST_CACHE_NAME = "applicationNameList";
+    public static final String AGENT_ID_LIST_CACHE_NAME = "agentIdList";
+    public static final String AGENT_INFO_CACHE_NAME = "agentInfo";
+    public static final String AGENT_STATUS_CACHE_NAME = "agentStatus";
+    public static final String ACTIVE_AGENT_CACHE_NAME = "activeAgent";
 
     @Bean
     @Primary
@@ -65,4 +69,44 @@ public class CacheConfiguration extends CachingConfigurerSupport {
         return caffeineCacheManager;
     }
 
+    @Bean
+    public CacheManager agentIdList() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(AGENT_ID_LIST_CACHE_NAME);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(60, TimeUnit.SECONDS)
+                .initialCapacity(100)
+                .maximumSize(10000));
+        return caffeineCacheManager;
+    }
+
+    @Bean
+    public CacheManager agentInfo() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(AGENT_INFO_CACHE_NAME);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(600, TimeUnit.SECONDS)
+                .initialCapacity(1000)
+                .maximumSize(100000));
+        return caffeineCacheManager;
+    }
+
+    @Bean
+    public CacheManager agentStatus() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(AGENT_STATUS_CACHE_NAME);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(10, TimeUnit.SECONDS)
+                .initialCapacity(1000)
+                .maximumSize(100000));
+        return caffeineCacheManager;
+    }
+
+    @Bean
+    public CacheManager activeAgent() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(ACTIVE_AGENT_CACHE_NAME);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(60, TimeUnit.SECONDS)
+                .initialCapacity(1000)
+                .maximumSize(100000));
+        return caffeineCacheManager;
+    }
+
 }
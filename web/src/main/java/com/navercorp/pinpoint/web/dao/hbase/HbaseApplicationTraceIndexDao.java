@@ -116,6 +116,7 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         }
         logger.debug("scanTraceIndex {}", range);
         Scan scan = createScan(applicationName, range, scanBackward);
+        applyPartitionLimit(scan, limit);
 
         LastRowAccessor lastRowAccessor = new LastRowAccessor();
         TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
@@ -210,6 +211,19 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return scan;
     }
 
+    /**
+     * Each row holds at least one transaction, so a single partition never has to return more than {@code limit} rows
+     * for the merged result to reach {@code limit}.
+     * Only for scans whose RowMapper does not filter out cells.
+     */
+    private void applyPartitionLimit(Scan scan, int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        scan.setLimit(limit);
+        scan.setCaching(Math.min(this.scanCacheSize, limit));
+    }
+
     @Override
     public LimitedScanResult<List<Dot>> scanTraceScatterData(String applicationName, Range range, int limit, boolean scanBackward) {
         Objects.requireNonNull(applicationName, "applicationName");
@@ -221,10 +235,11 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         LastRowAccessor lastRowAccessor = new LastRowAccessor();
 
         Scan scan = createScan(applicationName, range, scanBackward);
+        applyPartitionLimit(scan, limit);
 
         TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
         List<List<Dot>> listList = hbaseOperations2.findParallel(applicationTraceIndexTableName, scan,
-                traceIdRowKeyDistributor, limit, this.traceIndexScatterMapper, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+                traceIdRowKeyDistributor, limit, this.traceIndexScatterMapper, lastRowAccessor, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
         List<Dot> dots = ListListUtils.toList(listList);
 
         final long lastTime = getLastTime(range, limit, lastRowAccessor, dots);
@@ -241,6 +256,7 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         final Range range = Range.newUncheckedRange(dragArea.getXLow(), dragArea.getXHigh());
         logger.debug("scanTraceIndex range:{}", range);
         final Scan scan = newFuzzyScanner(applicationName, dragArea, range);
+        applyPartitionLimit(scan, limit);
 
 
         // TODO
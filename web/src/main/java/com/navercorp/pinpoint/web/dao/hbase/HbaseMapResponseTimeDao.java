@@ -32,6 +32,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -50,6 +51,7 @@ public class HbaseMapResponseTimeDao implements MapResponseDao {
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private static final HbaseColumnFamily.SelfStatMap DESCRIPTOR = HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER;
+    private static final HbaseColumnFamily.SelfStatMap SKETCH_DESCRIPTOR = HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_SKETCH;
 
     private int scanCacheSize = 40;
 
@@ -62,16 +64,20 @@ public class HbaseMapResponseTimeDao implements MapResponseDao {
 
     private final RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    private final boolean enableSketch;
+
     public HbaseMapResponseTimeDao(HbaseOperations2 hbaseOperations2,
                                    TableNameProvider tableNameProvider,
                                    @Qualifier("responseTimeMapper") RowMapper<ResponseTime> responseTimeMapper,
                                    RangeFactory rangeFactory,
-                                   @Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix) {
+                                   @Qualifier("statisticsSelfRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix,
+                                   @Value("${web.servermap.response-time.sketch.enable:false}") boolean enableSketch) {
         this.hbaseOperations2 = Objects.requireNonNull(hbaseOperations2, "hbaseOperations2");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.responseTimeMapper = Objects.requireNonNull(responseTimeMapper, "responseTimeMapper");
         this.rangeFactory = Objects.requireNonNull(rangeFactory, "rangeFactory");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix");
+        this.enableSketch = enableSketch;
     }
 
 
@@ -84,6 +90,9 @@ public class HbaseMapResponseTimeDao implements MapResponseDao {
         }
 
         Scan scan = createScan(application, range, DESCRIPTOR.getName());
+        if (enableSketch) {
+            scan.addFamily(SKETCH_DESCRIPTOR.getName());
+        }
 
         TableName mapStatisticsSelfTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
         List<ResponseTime> responseTimeList = hbaseOperations2.findParallel(mapStatisticsSelfTableName, scan, rowKeyDistributorByHashPrefix, responseTimeMapper, MAP_STATISTICS_SELF_VER2_NUM_PARTITIONS);
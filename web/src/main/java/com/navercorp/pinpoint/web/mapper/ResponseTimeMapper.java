@@ -69,6 +69,9 @@ public class ResponseTimeMapper implements RowMapper<ResponseTime> {
             if (CellUtil.matchingFamily(cell, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_COUNTER.getName())) {
                 recordColumn(responseTime, cell);
             }
+            if (CellUtil.matchingFamily(cell, HbaseColumnFamily.MAP_STATISTICS_SELF_VER2_SKETCH.getName())) {
+                recordSketchColumn(responseTime, cell);
+            }
 
             if (logger.isTraceEnabled()) {
                 String columnFamily = Bytes.toString(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength());
@@ -90,6 +93,17 @@ public class ResponseTimeMapper implements RowMapper<ResponseTime> {
         responseTime.addResponseTime(agentId, slotNumber, count);
     }
 
+    void recordSketchColumn(ResponseTime responseTime, Cell cell) {
+
+        final byte[] qArray = cell.getQualifierArray();
+        final int qOffset = cell.getQualifierOffset();
+        short bucketIndex = Bytes.toShort(qArray, qOffset);
+
+        String agentId = Bytes.toString(qArray, qOffset + BytesUtils.SHORT_BYTE_LENGTH, cell.getQualifierLength() - BytesUtils.SHORT_BYTE_LENGTH);
+        long count = CellUtils.valueToLong(cell);
+        responseTime.addSketchCount(agentId, bucketIndex, count);
+    }
+
     private ResponseTime createResponseTime(byte[] rowKey) {
         final Buffer row = new FixedBuffer(rowKey);
         String applicationName = row.read2PrefixedString();
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.web.realtime;
+
+import com.navercorp.pinpoint.pubsub.SubChannel;
+import com.navercorp.pinpoint.pubsub.SubConsumer;
+import com.navercorp.pinpoint.pubsub.Subscription;
+import com.navercorp.pinpoint.realtime.dto.AgentLifeCycleEvent;
+import com.navercorp.pinpoint.web.service.AgentInfoCacheService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Objects;
+
+/**
+ * Evicts agent info cache entries when a collector broadcasts an agent life cycle event.
+ */
+public class AgentInfoCacheEvictor implements SubConsumer<AgentLifeCycleEvent> {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final SubChannel<AgentLifeCycleEvent> channel;
+    private final AgentInfoCacheService agentInfoCacheService;
+
+    private Subscription subscription;
+
+    public AgentInfoCacheEvictor(SubChannel<AgentLifeCycleEvent> channel, AgentInfoCacheService agentInfoCacheService) {
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.agentInfoCacheService = Objects.requireNonNull(agentInfoCacheService, "agentInfoCacheService");
+    }
+
+    @PostConstruct
+    public void start() {
+        this.subscription = this.channel.subscribe(this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.subscription != null) {
+            this.channel.unsubscribe(this.subscription);
+            this.subscription = null;
+        }
+    }
+
+    @Override
+    public boolean consume(AgentLifeCycleEvent event) {
+        if (event == null) {
+            return false;
+        }
+        logger.debug("agent life cycle event received. {}", event);
+        this.agentInfoCacheService.evict(event.getApplicationName(), event.getAgentId(), event.getStartTimestamp());
+        return true;
+    }
+
+}
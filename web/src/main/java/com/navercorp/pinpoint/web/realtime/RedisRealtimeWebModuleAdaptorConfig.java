@@ -16,6 +16,9 @@
 package com.navercorp.pinpoint.web.realtime;
 
 import com.navercorp.pinpoint.common.task.TimerTaskDecoratorFactory;
+import com.navercorp.pinpoint.pubsub.PubSubChannelFactory;
+import com.navercorp.pinpoint.realtime.RealtimePubSubServiceDescriptors;
+import com.navercorp.pinpoint.realtime.dto.AgentLifeCycleEvent;
 import com.navercorp.pinpoint.web.realtime.activethread.count.dao.ActiveThreadCountDao;
 import com.navercorp.pinpoint.web.realtime.activethread.count.service.ActiveThreadCountService;
 import com.navercorp.pinpoint.web.realtime.activethread.count.service.ActiveThreadCountServiceImpl;
@@ -25,6 +28,7 @@ import com.navercorp.pinpoint.web.realtime.activethread.dump.RedisActiveThreadDu
 import com.navercorp.pinpoint.web.realtime.echo.RedisEchoService;
 import com.navercorp.pinpoint.web.realtime.service.AgentLookupService;
 import com.navercorp.pinpoint.web.service.ActiveThreadDumpService;
+import com.navercorp.pinpoint.web.service.AgentInfoCacheService;
 import com.navercorp.pinpoint.web.service.AgentInfoService;
 import com.navercorp.pinpoint.web.service.EchoService;
 import com.navercorp.pinpoint.web.websocket.PinpointWebSocketHandler;
@@ -92,6 +96,17 @@ public class RedisRealtimeWebModuleAdaptorConfig {
         return new RedisActiveThreadDumpServiceAdaptor(delegate);
     }
 
+    @Bean
+    AgentInfoCacheEvictor agentInfoCacheEvictor(
+            PubSubChannelFactory channelFactory,
+            AgentInfoCacheService agentInfoCacheService
+    ) {
+        return new AgentInfoCacheEvictor(
+                channelFactory.getSubChannel(RealtimePubSubServiceDescriptors.AGENT_LIFECYCLE_CHANNEL, AgentLifeCycleEvent.class),
+                agentInfoCacheService
+        );
+    }
+
     @Bean
     EchoService redisEchoService(RedisEchoService delegate) {
         return new RedisEchoServiceAdaptor(delegate);
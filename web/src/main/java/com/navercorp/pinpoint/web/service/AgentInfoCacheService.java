@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.agent.AgentInfo;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatus;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatusQuery;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+/**
+ * In-memory snapshot of the agent ids of each application, agent infos, agent status and agent activity.
+ * Entries expire by TTL and are evicted early when a collector reports an agent life cycle event.
+ */
+public interface AgentInfoCacheService {
+
+    List<Application> selectAllApplicationNames();
+
+    List<String> selectAgentIds(String applicationName);
+
+    AgentInfo getAgentInfo(String agentId, long agentStartTime, int deltaTimeInMilliSeconds);
+
+    Optional<AgentStatus> getAgentStatus(String agentId, long agentStartTime, long timestamp);
+
+    List<Optional<AgentStatus>> getAgentStatus(AgentStatusQuery query);
+
+    boolean isActiveAgent(String agentId, Range range, BiPredicate<String, Range> activeAgentChecker);
+
+    void evict(String applicationName, String agentId, long agentStartTime);
+
+}
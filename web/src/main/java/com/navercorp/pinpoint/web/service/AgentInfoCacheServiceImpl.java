@@ -0,0 +1,339 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.bo.SimpleAgentKey;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.cache.CacheConfiguration;
+import com.navercorp.pinpoint.web.dao.AgentInfoDao;
+import com.navercorp.pinpoint.web.dao.AgentLifeCycleDao;
+import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
+import com.navercorp.pinpoint.web.view.TagApplications;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.agent.AgentInfo;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatus;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatusQuery;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+@Service
+public class AgentInfoCacheServiceImpl implements AgentInfoCacheService {
+
+    private static final long ACTIVE_AGENT_RANGE_UNIT = TimeUnit.MINUTES.toMillis(1);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ApplicationIndexDao applicationIndexDao;
+
+    private final AgentInfoDao agentInfoDao;
+
+    private final AgentLifeCycleDao agentLifeCycleDao;
+
+    private final CacheService cacheService;
+
+    private final Cache agentIdListCache;
+
+    private final Cache agentInfoCache;
+
+    private final Cache agentStatusCache;
+
+    private final Cache activeAgentCache;
+
+    public AgentInfoCacheServiceImpl(ApplicationIndexDao applicationIndexDao,
+                                     AgentInfoDao agentInfoDao,
+                                     AgentLifeCycleDao agentLifeCycleDao,
+                                     CacheService cacheService,
+                                     @Qualifier(CacheConfiguration.AGENT_ID_LIST_CACHE_NAME) CacheManager agentIdListCacheManager,
+                                     @Qualifier(CacheConfiguration.AGENT_INFO_CACHE_NAME) CacheManager agentInfoCacheManager,
+                                     @Qualifier(CacheConfiguration.AGENT_STATUS_CACHE_NAME) CacheManager agentStatusCacheManager,
+                                     @Qualifier(CacheConfiguration.ACTIVE_AGENT_CACHE_NAME) CacheManager activeAgentCacheManager) {
+        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
+        this.agentInfoDao = Objects.requireNonNull(agentInfoDao, "agentInfoDao");
+        this.agentLifeCycleDao = Objects.requireNonNull(agentLifeCycleDao, "agentLifeCycleDao");
+        this.cacheService = Objects.requireNonNull(cacheService, "cacheService");
+        this.agentIdListCache = getCache(agentIdListCacheManager, CacheConfiguration.AGENT_ID_LIST_CACHE_NAME);
+        this.agentInfoCache = getCache(agentInfoCacheManager, CacheConfiguration.AGENT_INFO_CACHE_NAME);
+        this.agentStatusCache = getCache(agentStatusCacheManager, CacheConfiguration.AGENT_STATUS_CACHE_NAME);
+        this.activeAgentCache = getCache(activeAgentCacheManager, CacheConfiguration.ACTIVE_AGENT_CACHE_NAME);
+    }
+
+    private static Cache getCache(CacheManager cacheManager, String cacheName) {
+        Objects.requireNonNull(cacheManager, cacheName);
+        return Objects.requireNonNull(cacheManager.getCache(cacheName), cacheName);
+    }
+
+    /**
+     * Reuses the application list kept for the /applications API instead of caching it a second time.
+     */
+    @Override
+    public List<Application> selectAllApplicationNames() {
+        final TagApplications tagApplications = this.cacheService.get(CacheService.DEFAULT_KEY);
+        if (tagApplications != null) {
+            return tagApplications.getApplicationList();
+        }
+        return this.applicationIndexDao.selectAllApplicationNames();
+    }
+
+    @Override
+    public List<String> selectAgentIds(String applicationName) {
+        Objects.requireNonNull(applicationName, "applicationName");
+
+        return this.agentIdListCache.get(applicationName, () -> applicationIndexDao.selectAgentIds(applicationName));
+    }
+
+    @Override
+    public AgentInfo getAgentInfo(String agentId, long agentStartTime, int deltaTimeInMilliSeconds) {
+        Objects.requireNonNull(agentId, "agentId");
+
+        // misses are not cached as the row of a newly started agent may not have been written yet.
+        final AgentInfoKey key = new AgentInfoKey(agentId, agentStartTime, deltaTimeInMilliSeconds);
+        final AgentInfo cached = this.agentInfoCache.get(key, AgentInfo.class);
+        if (cached != null) {
+            return cached;
+        }
+        final AgentInfo agentInfo = this.agentInfoDao.getAgentInfo(agentId, agentStartTime, deltaTimeInMilliSeconds);
+        if (agentInfo != null) {
+            this.agentInfoCache.put(key, agentInfo);
+        }
+        return agentInfo;
+    }
+
+    /**
+     * The status is the last life cycle state at {@code timestamp}.
+     * A status read at time T stays valid for any later timestamp until the next life cycle event,
+     * so only queries at or after the time of the cached read are served from the cache.
+     */
+    @Override
+    public Optional<AgentStatus> getAgentStatus(String agentId, long agentStartTime, long timestamp) {
+        Objects.requireNonNull(agentId, "agentId");
+
+        final AgentIdStartTimeKey key = new AgentIdStartTimeKey(agentId, agentStartTime);
+        final CachedAgentStatus cached = getCachedAgentStatus(key, timestamp);
+        if (cached != null) {
+            return cached.status;
+        }
+        final long queryTime = System.currentTimeMillis();
+        final Optional<AgentStatus> status = this.agentLifeCycleDao.getAgentStatus(agentId, agentStartTime, timestamp);
+        putAgentStatus(key, status, timestamp, queryTime);
+        return status;
+    }
+
+    @Override
+    public List<Optional<AgentStatus>> getAgentStatus(AgentStatusQuery query) {
+        Objects.requireNonNull(query, "query");
+
+        final long timestamp = query.getQueryTimestamp();
+        final List<SimpleAgentKey> agentKeys = query.getAgentKeys();
+        final List<Optional<AgentStatus>> result = new ArrayList<>(agentKeys.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        final AgentStatusQuery.Builder missQuery = AgentStatusQuery.newBuilder();
+        for (SimpleAgentKey agentKey : agentKeys) {
+            final CachedAgentStatus cached = agentKey == null ? null : getCachedAgentStatus(toKey(agentKey), timestamp);
+            if (cached != null) {
+                result.add(cached.status);
+            } else {
+                result.add(null);
+                missIndexes.add(result.size() - 1);
+                missQuery.addAgentKey(agentKey);
+            }
+        }
+        if (missIndexes.isEmpty()) {
+            return result;
+        }
+
+        final long queryTime = System.currentTimeMillis();
+        final List<Optional<AgentStatus>> missStatus = this.agentLifeCycleDao.getAgentStatus(missQuery.build(Instant.ofEpochMilli(timestamp)));
+        for (int i = 0; i < missIndexes.size(); i++) {
+            final int index = missIndexes.get(i);
+            final Optional<AgentStatus> status = missStatus.get(i);
+            result.set(index, status);
+            final SimpleAgentKey agentKey = agentKeys.get(index);
+            if (agentKey != null) {
+                putAgentStatus(toKey(agentKey), status, timestamp, queryTime);
+            }
+        }
+        return result;
+    }
+
+    private AgentIdStartTimeKey toKey(SimpleAgentKey agentKey) {
+        return new AgentIdStartTimeKey(agentKey.getAgentId(), agentKey.getAgentStartTime());
+    }
+
+    private CachedAgentStatus getCachedAgentStatus(AgentIdStartTimeKey key, long timestamp) {
+        final CachedAgentStatus cached = this.agentStatusCache.get(key, CachedAgentStatus.class);
+        if (cached != null && cached.queryTime <= timestamp) {
+            return cached;
+        }
+        return null;
+    }
+
+    private void putAgentStatus(AgentIdStartTimeKey key, Optional<AgentStatus> status, long timestamp, long queryTime) {
+        // only a read of the present state can answer later queries
+        if (timestamp >= queryTime) {
+            this.agentStatusCache.put(key, new CachedAgentStatus(status, queryTime));
+        }
+    }
+
+    /**
+     * The range is truncated to the minute so that queries relative to the current time share the entry,
+     * which may be up to a minute off at the range boundaries.
+     */
+    @Override
+    public boolean isActiveAgent(String agentId, Range range, BiPredicate<String, Range> activeAgentChecker) {
+        Objects.requireNonNull(agentId, "agentId");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(activeAgentChecker, "activeAgentChecker");
+
+        final ActiveAgentKey key = new ActiveAgentKey(agentId, range.getFrom() / ACTIVE_AGENT_RANGE_UNIT, range.getTo() / ACTIVE_AGENT_RANGE_UNIT);
+        final Boolean cached = this.activeAgentCache.get(key, Boolean.class);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean active = activeAgentChecker.test(agentId, range);
+        this.activeAgentCache.put(key, active);
+        return active;
+    }
+
+    @Override
+    public void evict(String applicationName, String agentId, long agentStartTime) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(agentId, "agentId");
+
+        logger.debug("evict applicationName:{} agentId:{} agentStartTime:{}", applicationName, agentId, agentStartTime);
+        this.agentIdListCache.evict(applicationName);
+        this.agentStatusCache.evict(new AgentIdStartTimeKey(agentId, agentStartTime));
+        // agent info and activity are keyed by time ranges that may cover the new agent start
+        evictAgentId(this.agentInfoCache, agentId);
+        evictAgentId(this.activeAgentCache, agentId);
+
+        final TagApplications tagApplications = this.cacheService.get(CacheService.DEFAULT_KEY);
+        if (tagApplications != null && !containsApplicationName(tagApplications.getApplicationList(), applicationName)) {
+            this.cacheService.remove(CacheService.DEFAULT_KEY);
+        }
+    }
+
+    private void evictAgentId(Cache cache, String agentId) {
+        final Object nativeCache = cache.getNativeCache();
+        final Map<?, ?> map;
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            map = ((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeCache).asMap();
+        } else if (nativeCache instanceof Map) {
+            map = (Map<?, ?>) nativeCache;
+        } else {
+            cache.clear();
+            return;
+        }
+        map.keySet().removeIf(key -> key instanceof AgentIdKey && agentId.equals(((AgentIdKey) key).getAgentId()));
+    }
+
+    private boolean containsApplicationName(List<Application> applications, String applicationName) {
+        for (Application application : applications) {
+            if (applicationName.equals(application.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface AgentIdKey {
+        String getAgentId();
+    }
+
+    private static final class AgentInfoKey implements AgentIdKey {
+        private final String agentId;
+        private final long agentStartTime;
+        private final int deltaTimeInMilliSeconds;
+
+        private AgentInfoKey(String agentId, long agentStartTime, int deltaTimeInMilliSeconds) {
+            this.agentId = agentId;
+            this.agentStartTime = agentStartTime;
+            this.deltaTimeInMilliSeconds = deltaTimeInMilliSeconds;
+        }
+
+        @Override
+        public String getAgentId() {
+            return agentId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            AgentInfoKey that = (AgentInfoKey) o;
+            return agentStartTime == that.agentStartTime && deltaTimeInMilliSeconds == that.deltaTimeInMilliSeconds && agentId.equals(that.agentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(agentId, agentStartTime, deltaTimeInMilliSeconds);
+        }
+    }
+
+    private static final class ActiveAgentKey implements AgentIdKey {
+        private final String agentId;
+        private final long from;
+        private final long to;
+
+        private ActiveAgentKey(String agentId, long from, long to) {
+            this.agentId = agentId;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String getAgentId() {
+            return agentId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ActiveAgentKey that = (ActiveAgentKey) o;
+            return from == that.from && to == that.to && agentId.equals(that.agentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(agentId, from, to);
+        }
+    }
+
+    private static final class CachedAgentStatus {
+        private final Optional<AgentStatus> status;
+        private final long queryTime;
+
+        private CachedAgentStatus(Optional<AgentStatus> status, long queryTime) {
+            this.status = status;
+            this.queryTime = queryTime;
+        }
+    }
+
+}
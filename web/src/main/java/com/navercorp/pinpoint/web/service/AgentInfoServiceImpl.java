@@ -23,7 +23,6 @@ import com.navercorp.pinpoint.common.server.util.AgentLifeCycleState;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.dao.AgentInfoDao;
 import com.navercorp.pinpoint.web.dao.AgentLifeCycleDao;
-import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.dao.stat.AgentStatDao;
 import com.navercorp.pinpoint.web.filter.agent.AgentEventFilter;
 import com.navercorp.pinpoint.web.hyperlink.HyperLinkFactory;
@@ -80,7 +79,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
 
     private final AgentWarningStatService agentWarningStatService;
 
-    private final ApplicationIndexDao applicationIndexDao;
+    private final AgentInfoCacheService agentInfoCacheService;
 
     private final AgentInfoDao agentInfoDao;
 
@@ -90,14 +89,14 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     private final HyperLinkFactory hyperLinkFactory;
 
     public AgentInfoServiceImpl(AgentEventService agentEventService,
-                                AgentWarningStatService agentWarningStatService, ApplicationIndexDao applicationIndexDao,
+                                AgentWarningStatService agentWarningStatService, AgentInfoCacheService agentInfoCacheService,
                                 AgentInfoDao agentInfoDao,
                                 AgentLifeCycleDao agentLifeCycleDao,
                                 AgentStatDao<JvmGcBo> jvmGcDao,
                                 HyperLinkFactory hyperLinkFactory) {
         this.agentEventService = Objects.requireNonNull(agentEventService, "agentEventService");
         this.agentWarningStatService = Objects.requireNonNull(agentWarningStatService, "agentWarningStatService");
-        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
+        this.agentInfoCacheService = Objects.requireNonNull(agentInfoCacheService, "agentInfoCacheService");
         this.agentInfoDao = Objects.requireNonNull(agentInfoDao, "agentInfoDao");
         this.agentLifeCycleDao = Objects.requireNonNull(agentLifeCycleDao, "agentLifeCycleDao");
         this.jvmGcDao = Objects.requireNonNull(jvmGcDao, "jvmGcDao");
@@ -109,7 +108,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     public AgentsMapByApplication<AgentAndStatus> getAllAgentsList(AgentStatusFilter filter, Range range) {
         Objects.requireNonNull(filter, "filter");
 
-        List<Application> applications = applicationIndexDao.selectAllApplicationNames();
+        List<Application> applications = agentInfoCacheService.selectAllApplicationNames();
         List<AgentAndStatus> agents = new ArrayList<>();
         for (Application application : applications) {
             agents.addAll(getAgentsByApplicationName(application.getName(), range.getTo()));
@@ -125,7 +124,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     public AgentsMapByApplication<DetailedAgentInfo> getAllAgentsStatisticsList(AgentStatusFilter filter, Range range) {
         Objects.requireNonNull(filter, "filter");
 
-        List<Application> applications = applicationIndexDao.selectAllApplicationNames();
+        List<Application> applications = agentInfoCacheService.selectAllApplicationNames();
         List<DetailedAgentAndStatus> agents = new ArrayList<>();
         for (Application application : applications) {
             agents.addAll(getDetailedAgentsByApplicationName(application.getName(), range.getTo()));
@@ -180,7 +179,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     }
 
     private ApplicationAgentHostList getApplicationAgentHostList0(int offset, int limit, int durationDays) {
-        List<String> applicationNameList = getApplicationNameList(applicationIndexDao.selectAllApplicationNames());
+        List<String> applicationNameList = getApplicationNameList(agentInfoCacheService.selectAllApplicationNames());
         if (offset > applicationNameList.size()) {
             ApplicationAgentHostList.Builder builder = newBuilder(offset, offset, applicationNameList.size());
             return builder.build();
@@ -207,7 +206,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     }
 
     private List<String> getAgentIdList(String applicationName, int durationDays) {
-        List<String> agentIds = this.applicationIndexDao.selectAgentIds(applicationName);
+        List<String> agentIds = this.agentInfoCacheService.selectAgentIds(applicationName);
         if (CollectionUtils.isEmpty(agentIds)) {
             return Collections.emptyList();
         }
@@ -258,7 +257,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         List<AgentAndStatus> result = new ArrayList<>(agentInfos.size());
 
         AgentStatusQuery query = AgentStatusQuery.buildQuery(agentInfos, Instant.ofEpochMilli(timestamp));
-        List<Optional<AgentStatus>> agentStatus = this.agentLifeCycleDao.getAgentStatus(query);
+        List<Optional<AgentStatus>> agentStatus = this.agentInfoCacheService.getAgentStatus(query);
         for (int i = 0; i < agentStatus.size(); i++) {
             Optional<AgentStatus> status = agentStatus.get(i);
             AgentInfo agentInfo = agentInfos.get(i);
@@ -281,7 +280,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
             throw new IllegalArgumentException("timestamp must not be less than 0");
         }
 
-        List<String> agentIds = this.applicationIndexDao.selectAgentIds(applicationName);
+        List<String> agentIds = this.agentInfoCacheService.selectAgentIds(applicationName);
         List<AgentInfo> agentInfos = this.agentInfoDao.getSimpleAgentInfos(agentIds, timestamp);
 
         return agentInfos.stream()
@@ -296,7 +295,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         List<DetailedAgentAndStatus> result = new ArrayList<>(agentInfos.size());
 
         AgentStatusQuery query = AgentStatusQuery.buildGenericQuery(agentInfos, DetailedAgentInfo::getAgentInfo, Instant.ofEpochMilli(timestamp));
-        List<Optional<AgentStatus>> agentStatus = this.agentLifeCycleDao.getAgentStatus(query);
+        List<Optional<AgentStatus>> agentStatus = this.agentInfoCacheService.getAgentStatus(query);
 
         for (int i = 0; i < agentStatus.size(); i++) {
             Optional<AgentStatus> status = agentStatus.get(i);
@@ -313,7 +312,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
             throw new IllegalArgumentException("timestamp must not be less than 0");
         }
 
-        List<String> agentIds = this.applicationIndexDao.selectAgentIds(applicationName);
+        List<String> agentIds = this.agentInfoCacheService.selectAgentIds(applicationName);
         List<DetailedAgentInfo> agentInfos = this.agentInfoDao.getDetailedAgentInfos(agentIds, timestamp, false, true);
 
         return agentInfos.stream()
@@ -350,7 +349,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
             return null;
         }
 
-        Optional<AgentStatus> agentStatus = this.agentLifeCycleDao.getAgentStatus(agentInfo.getAgentId(), agentInfo.getStartTimestamp(), timestamp);
+        Optional<AgentStatus> agentStatus = this.agentInfoCacheService.getAgentStatus(agentInfo.getAgentId(), agentInfo.getStartTimestamp(), timestamp);
         return new AgentAndStatus(agentInfo, agentStatus.orElse(null));
     }
 
@@ -367,7 +366,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         }
         AgentInfo agentInfo = detailedAgentInfo.getAgentInfo();
 
-        Optional<AgentStatus> agentStatus = this.agentLifeCycleDao.getAgentStatus(agentInfo.getAgentId(), agentInfo.getStartTimestamp(), timestamp);
+        Optional<AgentStatus> agentStatus = this.agentInfoCacheService.getAgentStatus(agentInfo.getAgentId(), agentInfo.getStartTimestamp(), timestamp);
         return new DetailedAgentAndStatus(detailedAgentInfo, agentStatus.orElse(null));
 
     }
@@ -385,7 +384,7 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     public AgentInfo getAgentInfoWithoutStatus(String agentId, long agentStartTime, int deltaTimeInMilliSeconds) {
         Objects.requireNonNull(agentId, "agentId");
 
-        return this.agentInfoDao.getAgentInfo(agentId, agentStartTime, deltaTimeInMilliSeconds);
+        return this.agentInfoCacheService.getAgentInfo(agentId, agentStartTime, deltaTimeInMilliSeconds);
     }
 
     @Override
@@ -404,13 +403,17 @@ public class AgentInfoServiceImpl implements AgentInfoService {
         if (query.getQueryTimestamp() < 0) {
             throw new IllegalArgumentException("timestamp must not be less than 0");
         }
-        return this.agentLifeCycleDao.getAgentStatus(query);
+        return this.agentInfoCacheService.getAgentStatus(query);
     }
 
     @Override
     public boolean isActiveAgent(String agentId, Range range) {
         Objects.requireNonNull(agentId, "agentId");
 
+        return this.agentInfoCacheService.isActiveAgent(agentId, range, this::isActiveAgent0);
+    }
+
+    private boolean isActiveAgent0(String agentId, Range range) {
         boolean dataExists = this.jvmGcDao.agentStatExists(agentId, range);
         if (dataExists) {
             return true;
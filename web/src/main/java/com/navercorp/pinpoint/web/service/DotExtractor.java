@@ -56,6 +56,15 @@ public class DotExtractor {
         logger.trace("Application:{} Dot:{}", application, dot);
     }
 
+    public void addDotExtractor(DotExtractor dotExtractor) {
+        Objects.requireNonNull(dotExtractor, "dotExtractor");
+
+        for (Map.Entry<Application, List<Dot>> entry : dotExtractor.dotMap.entrySet()) {
+            final List<Dot> dotList = getDotList(entry.getKey());
+            dotList.addAll(entry.getValue());
+        }
+    }
+
     public Dot newDot(SpanBo span) {
         Objects.requireNonNull(span, "span");
 
@@ -16,7 +16,6 @@
 
 package com.navercorp.pinpoint.web.service;
 
-import com.navercorp.pinpoint.common.hbase.bo.ColumnGetCount;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.util.time.Range;
@@ -42,8 +41,10 @@ import com.navercorp.pinpoint.web.service.map.FilteredMap;
 import com.navercorp.pinpoint.web.service.map.FilteredMapBuilder;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
@@ -55,6 +56,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author netspider
@@ -80,6 +87,12 @@ public class FilteredMapServiceImpl implements FilteredMapService {
 
     private final ApplicationMapBuilderFactory applicationMapBuilderFactory;
 
+    private final Executor executor;
+
+    private final int partitionSize;
+
+    private final int partitionConcurrency;
+
     private static final Object V = new Object();
 
     @Value("${web.servermap.build.timeout:600000}")
@@ -91,7 +104,10 @@ public class FilteredMapServiceImpl implements FilteredMapService {
                                   ApplicationFactory applicationFactory,
                                   ServerInstanceDatasourceService serverInstanceDatasourceService,
                                   Optional<ServerMapDataFilter> serverMapDataFilter,
-                                  ApplicationMapBuilderFactory applicationMapBuilderFactory) {
+                                  ApplicationMapBuilderFactory applicationMapBuilderFactory,
+                                  @Qualifier("filteredMapBuildExecutor") Executor executor,
+                                  @Value("${web.servermap.filtered.partition.size:500}") int partitionSize,
+                                  @Value("${web.servermap.filtered.partition.concurrency:8}") int partitionConcurrency) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -99,6 +115,15 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         this.serverInstanceDatasourceService = Objects.requireNonNull(serverInstanceDatasourceService, "serverInstanceDatasourceService");
         this.serverMapDataFilter = Objects.requireNonNull(serverMapDataFilter, "serverMapDataFilter").orElse(null);
         this.applicationMapBuilderFactory = Objects.requireNonNull(applicationMapBuilderFactory, "applicationMapBuilderFactory");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("partitionSize must be greater than 0. partitionSize=" + partitionSize);
+        }
+        this.partitionSize = partitionSize;
+        if (partitionConcurrency <= 0) {
+            throw new IllegalArgumentException("partitionConcurrency must be greater than 0. partitionConcurrency=" + partitionConcurrency);
+        }
+        this.partitionConcurrency = partitionConcurrency;
     }
 
     @Override
@@ -118,22 +143,8 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         return this.applicationTraceIndexDao.scanTraceIndex(applicationName, range, limit, backwardDirection);
     }
 
-    private List<List<SpanBo>> filterList2(List<List<SpanBo>> transactionList, Filter<List<SpanBo>> filter) {
-        final List<List<SpanBo>> filteredResult = new ArrayList<>();
-        for (List<SpanBo> transaction : transactionList) {
-            if (filter.include(transaction)) {
-                filteredResult.add(transaction);
-            }
-        }
-        return filteredResult;
-    }
-
     public ApplicationMap selectApplicationMap(FilteredMapServiceOption option) {
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMap filteredMap = selectFilteredMap(option);
 
         ApplicationMap map = createMap(option, filteredMap);
         return map;
@@ -143,11 +154,7 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         StopWatch watch = new StopWatch();
         watch.start();
 
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMap filteredMap = selectFilteredMap(option);
 
         ApplicationMap map = createMap(option, filteredMap);
 
@@ -165,11 +172,7 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         StopWatch watch = new StopWatch();
         watch.start();
 
-        final List<List<SpanBo>> filterList = selectFilteredSpan(option.getTransactionIdList(), option.getFilter(), option.getColumnGetCount());
-        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
-        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
-        filteredMapBuilder.addTransactions(filterList);
-        FilteredMap filteredMap = filteredMapBuilder.build();
+        final FilteredMap filteredMap = selectFilteredMap(option);
 
         ApplicationMap map = createMap(option, filteredMap);
 
@@ -182,15 +185,76 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         return applicationMapWithScatterDataV3;
     }
 
-    private List<List<SpanBo>> selectFilteredSpan(List<TransactionId> transactionIdList, Filter<List<SpanBo>> filter, ColumnGetCount columnGetCount) {
+    private FilteredMap selectFilteredMap(FilteredMapServiceOption option) {
         // filters out recursive calls by looking at each objects
         // do not filter here if we change to a tree-based collision check in the future.
-        final List<TransactionId> recursiveFilterList = recursiveCallFilter(transactionIdList);
+        final List<TransactionId> recursiveFilterList = recursiveCallFilter(option.getTransactionIdList());
+
+        // each partition is fetched, filtered and folded into its own builder so that
+        // only the spans of in-flight partitions are held in memory at once.
+        final List<List<TransactionId>> partitionList = ListUtils.partition(recursiveFilterList, partitionSize);
+        final long deadline = buildTimeoutMillis > 0 ? System.currentTimeMillis() + buildTimeoutMillis : Long.MAX_VALUE;
+        final AtomicBoolean stopSign = new AtomicBoolean();
+        final List<CompletableFuture<FilteredMapBuilder>> futures = new ArrayList<>(partitionList.size());
+        try {
+            // bounds the partitions in the executor queue
+            final Semaphore inFlight = new Semaphore(partitionConcurrency);
+            for (List<TransactionId> partition : partitionList) {
+                if (!inFlight.tryAcquire(remainingMillis(deadline), TimeUnit.MILLISECONDS)) {
+                    throw new TimeoutException();
+                }
+                final CompletableFuture<FilteredMapBuilder> future = CompletableFuture.supplyAsync(() -> buildPartition(option, partition, stopSign), executor);
+                future.whenComplete((builder, throwable) -> inFlight.release());
+                futures.add(future);
+            }
+            final CompletableFuture<Void> allOf = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            allOf.get(remainingMillis(deadline), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            stopSign.set(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while selecting filtered map", e);
+        } catch (TimeoutException e) {
+            stopSign.set(true);
+            throw new RuntimeException("an error occurred while selecting filtered map build timed out. timeout=" + buildTimeoutMillis + "ms", e);
+        } catch (Exception e) { // ExecutionException, RejectedExecutionException
+            stopSign.set(true);
+            throw new RuntimeException("an error occurred while selecting filtered map", e);
+        }
+
+        final FilteredMapBuilder filteredMapBuilder = newFilteredMapBuilder(option);
+        for (CompletableFuture<FilteredMapBuilder> future : futures) {
+            filteredMapBuilder.merge(future.join());
+        }
+        return filteredMapBuilder.build();
+    }
 
-        // FIXME might be better to simply traverse the List<Span> and create a process chain for execution
-        final List<List<SpanBo>> originalList = this.traceDao.selectAllSpans(recursiveFilterList, columnGetCount);
+    private long remainingMillis(long deadline) {
+        if (deadline == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    private FilteredMapBuilder buildPartition(FilteredMapServiceOption option, List<TransactionId> transactionIdList, AtomicBoolean stopSign) {
+        final FilteredMapBuilder filteredMapBuilder = newFilteredMapBuilder(option);
+        if (stopSign.get()) { // Stop
+            return filteredMapBuilder;
+        }
 
-        return filterList2(originalList, filter);
+        final Filter<List<SpanBo>> filter = option.getFilter();
+        final List<List<SpanBo>> transactionList = this.traceDao.selectAllSpans(transactionIdList, option.getColumnGetCount());
+        for (List<SpanBo> transaction : transactionList) {
+            if (filter.include(transaction)) {
+                filteredMapBuilder.addTransaction(transaction);
+            }
+        }
+        return filteredMapBuilder;
+    }
+
+    private FilteredMapBuilder newFilteredMapBuilder(FilteredMapServiceOption option) {
+        FilteredMapBuilder filteredMapBuilder = new FilteredMapBuilder(applicationFactory, registry, option.getOriginalRange(), option.getVersion());
+        filteredMapBuilder.serverMapDataFilter(serverMapDataFilter);
+        return filteredMapBuilder;
     }
 
     private ApplicationMap createMap(FilteredMapServiceOption option, FilteredMap filteredMap) {
@@ -46,6 +46,7 @@ import org.apache.logging.log4j.LogManager;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -78,6 +79,9 @@ public class FilteredMapBuilder {
 
     private final Map<String, Application> applicationHashMap = new HashMap<>();
 
+    // rpc calls without an acceptor span, resolved against the aliases of all transactions in build()
+    private final List<UnresolvedRpc> unresolvedRpcList = new ArrayList<>();
+
     public FilteredMapBuilder(ApplicationFactory applicationFactory, ServiceTypeRegistryService registry, Range range, int version) {
         this.applicationFactory = Objects.requireNonNull(applicationFactory, "applicationFactory");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -291,42 +295,73 @@ public class FilteredMapBuilder {
             return;
         }
 
-        String dest = StringUtils.defaultString(spanEvent.getDestinationId(), "Unknown");
+        final String dest = StringUtils.defaultString(spanEvent.getDestinationId(), "Unknown");
+
+        // FIXME
+        final long spanEventTimeStamp = timeWindow.refineTimestamp(span.getStartTime() + spanEvent.getStartElapsed());
+        // endPoint may be null
+        final String destinationAgentId = StringUtils.defaultString(spanEvent.getEndPoint());
 
         // convert to Unknown if destServiceType is a rpc client and there is no acceptor.
         // acceptor exists if there is a span with spanId identical to the current spanEvent's next spanId.
         // logic for checking acceptor
         if (destServiceType.isRpcClient()) {
             if (!transactionSpanMap.containsKey(spanEvent.getNextSpanId())) {
-
-                Application replacedApplication = applicationHashMap.get(spanEvent.getDestinationId());
-                if (replacedApplication == null) {
-                    destServiceType = ServiceType.UNKNOWN;
-                } else {
-                    //replace with alias instead of Unkown when exists
-                    logger.debug("replace with alias {}", replacedApplication.getServiceType());
-                    destServiceType = replacedApplication.getServiceType();
-                    dest = replacedApplication.getName();
-                }
+                // the alias may be learned from a span added later or from another partition, so it is resolved in build()
+                unresolvedRpcList.add(new UnresolvedRpc(srcApplication, span.getAgentId(), spanEvent.getDestinationId(), dest,
+                        destinationAgentId, spanEventTimeStamp, spanEvent.hasException(), spanEvent.getEndElapsed()));
+                return;
             }
         }
 
-
         final Application destApplication = this.applicationFactory.createApplication(dest, destServiceType);
-
         final short slotTime = getHistogramSlotTime(spanEvent, destServiceType);
-
-        // FIXME
-        final long spanEventTimeStamp = timeWindow.refineTimestamp(span.getStartTime() + spanEvent.getStartElapsed());
         if (logger.isTraceEnabled()) {
             logger.trace("spanEvent  src:{} {} -> dest:{} {}", srcApplication, span.getAgentId(), destApplication, spanEvent.getEndPoint());
         }
-        // endPoint may be null
-        final String destinationAgentId = StringUtils.defaultString(spanEvent.getEndPoint());
         sourceLinkDataMap.addLinkData(srcApplication, span.getAgentId(), destApplication, destinationAgentId, spanEventTimeStamp, slotTime, 1);
     }
 
+    private void addUnresolvedRpc(LinkDataMap sourceLinkDataMap, UnresolvedRpc rpc) {
+        ServiceType destServiceType = ServiceType.UNKNOWN;
+        String dest = rpc.dest;
+        final Application replacedApplication = applicationHashMap.get(rpc.destinationId);
+        if (replacedApplication != null) {
+            //replace with alias instead of Unkown when exists
+            logger.debug("replace with alias {}", replacedApplication.getServiceType());
+            destServiceType = replacedApplication.getServiceType();
+            dest = replacedApplication.getName();
+        }
+
+        final Application destApplication = this.applicationFactory.createApplication(dest, destServiceType);
+        final short slotTime = getHistogramSlotTime(rpc.hasException, rpc.endElapsed, destServiceType);
+        sourceLinkDataMap.addLinkData(rpc.srcApplication, rpc.srcAgentId, destApplication, rpc.destinationAgentId, rpc.timestamp, slotTime, 1);
+    }
+
+    /**
+     * merges the partial result of another builder built over the same range.
+     * used to combine per-partition builders of a parallel filtered map scan.
+     */
+    public FilteredMapBuilder merge(FilteredMapBuilder other) {
+        Objects.requireNonNull(other, "other");
+
+        this.linkDataDuplexMap.addLinkDataDuplexMap(other.linkDataDuplexMap);
+        this.responseHistogramsBuilder.merge(other.responseHistogramsBuilder);
+        this.dotExtractor.addDotExtractor(other.dotExtractor);
+        for (Map.Entry<String, Application> entry : other.applicationHashMap.entrySet()) {
+            this.applicationHashMap.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        this.unresolvedRpcList.addAll(other.unresolvedRpcList);
+        return this;
+    }
+
     public FilteredMap build() {
+        final LinkDataMap sourceLinkDataMap = linkDataDuplexMap.getSourceLinkDataMap();
+        for (UnresolvedRpc rpc : unresolvedRpcList) {
+            addUnresolvedRpc(sourceLinkDataMap, rpc);
+        }
+        unresolvedRpcList.clear();
+
         ResponseHistograms responseHistograms = responseHistogramsBuilder.build();
         return new FilteredMap(linkDataDuplexMap, responseHistograms, dotExtractor);
     }
@@ -345,4 +380,28 @@ public class FilteredMapBuilder {
         final HistogramSlot histogramSlot = schema.findHistogramSlot(elapsedTime, hasException);
         return histogramSlot.getSlotTime();
     }
+
+    private static class UnresolvedRpc {
+        private final Application srcApplication;
+        private final String srcAgentId;
+        // @Nullable
+        private final String destinationId;
+        private final String dest;
+        private final String destinationAgentId;
+        private final long timestamp;
+        private final boolean hasException;
+        private final int endElapsed;
+
+        private UnresolvedRpc(Application srcApplication, String srcAgentId, String destinationId, String dest,
+                              String destinationAgentId, long timestamp, boolean hasException, int endElapsed) {
+            this.srcApplication = srcApplication;
+            this.srcAgentId = srcAgentId;
+            this.destinationId = destinationId;
+            this.dest = dest;
+            this.destinationAgentId = destinationAgentId;
+            this.timestamp = timestamp;
+            this.hasException = hasException;
+            this.endElapsed = endElapsed;
+        }
+    }
 }
@@ -26,6 +26,17 @@ public class ResponseTimeStatisticsSerializer extends JsonSerializer<ResponseTim
         jgen.writeFieldName(ResponseTimeStatics.MAX_ELAPSED_TIME);
         jgen.writeNumber(responseTimeStatics.getMaxTime());
 
+        if (responseTimeStatics.isPercentileAvailable()) {
+            jgen.writeFieldName(ResponseTimeStatics.P50_ELAPSED_TIME);
+            jgen.writeNumber(responseTimeStatics.getP50Time());
+
+            jgen.writeFieldName(ResponseTimeStatics.P95_ELAPSED_TIME);
+            jgen.writeNumber(responseTimeStatics.getP95Time());
+
+            jgen.writeFieldName(ResponseTimeStatics.P99_ELAPSED_TIME);
+            jgen.writeNumber(responseTimeStatics.getP99Time());
+        }
+
         jgen.writeEndObject();
     }
 
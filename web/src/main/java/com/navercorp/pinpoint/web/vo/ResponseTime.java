@@ -72,6 +72,11 @@ public class ResponseTime {
         histogram.addCallCount(slotNumber, count);
     }
 
+    public void addSketchCount(String agentId, short bucketIndex, long count) {
+        Histogram histogram = getHistogram(agentId);
+        histogram.addSketchCount(bucketIndex, count);
+    }
+
 
     public void addResponseTime(String agentId, Histogram copyHistogram) {
         Objects.requireNonNull(copyHistogram, "copyHistogram");
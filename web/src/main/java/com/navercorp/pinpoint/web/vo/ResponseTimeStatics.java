@@ -1,6 +1,7 @@
 package com.navercorp.pinpoint.web.vo;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.navercorp.pinpoint.common.server.histogram.ResponseTimeSketch;
 import com.navercorp.pinpoint.web.applicationmap.histogram.StatisticsHistogram;
 import com.navercorp.pinpoint.web.view.ResponseTimeStatisticsSerializer;
 
@@ -19,6 +20,12 @@ public class ResponseTimeStatics {
 
     public static final String MAX_ELAPSED_TIME = "Max";
 
+    public static final String P50_ELAPSED_TIME = "P50";
+
+    public static final String P95_ELAPSED_TIME = "P95";
+
+    public static final String P99_ELAPSED_TIME = "P99";
+
     private long totalCount;
 
     private long sumTime;
@@ -27,6 +34,14 @@ public class ResponseTimeStatics {
 
     private long maxTime;
 
+    private boolean percentileAvailable;
+
+    private long p50Time;
+
+    private long p95Time;
+
+    private long p99Time;
+
     public ResponseTimeStatics() {
     }
 
@@ -46,6 +61,14 @@ public class ResponseTimeStatics {
         responseTimeStatics.setSumTime(histogram.getSumElapsed());
         responseTimeStatics.setAvgTime(histogram.getAvgElapsed());
         responseTimeStatics.setMaxTime(histogram.getMaxElapsed());
+
+        final ResponseTimeSketch sketch = histogram.getResponseTimeSketch();
+        if (sketch != null && !sketch.isEmpty()) {
+            responseTimeStatics.setPercentileAvailable(true);
+            responseTimeStatics.setP50Time(sketch.getQuantile(0.50));
+            responseTimeStatics.setP95Time(sketch.getQuantile(0.95));
+            responseTimeStatics.setP99Time(sketch.getQuantile(0.99));
+        }
         return responseTimeStatics;
     }
 
@@ -81,6 +104,38 @@ public class ResponseTimeStatics {
         this.maxTime = maxTime;
     }
 
+    public boolean isPercentileAvailable() {
+        return percentileAvailable;
+    }
+
+    public void setPercentileAvailable(boolean percentileAvailable) {
+        this.percentileAvailable = percentileAvailable;
+    }
+
+    public long getP50Time() {
+        return p50Time;
+    }
+
+    public void setP50Time(long p50Time) {
+        this.p50Time = p50Time;
+    }
+
+    public long getP95Time() {
+        return p95Time;
+    }
+
+    public void setP95Time(long p95Time) {
+        this.p95Time = p95Time;
+    }
+
+    public long getP99Time() {
+        return p99Time;
+    }
+
+    public void setP99Time(long p99Time) {
+        this.p99Time = p99Time;
+    }
+
     @Override
     public String toString() {
         return "ResponseTimeStatics{" +
@@ -88,6 +143,10 @@ public class ResponseTimeStatics {
                 ", sumTime=" + sumTime +
                 ", avgTime=" + avgTime +
                 ", maxTime=" + maxTime +
+                ", percentileAvailable=" + percentileAvailable +
+                ", p50Time=" + p50Time +
+                ", p95Time=" + p95Time +
+                ", p99Time=" + p99Time +
                 '}';
     }
 }
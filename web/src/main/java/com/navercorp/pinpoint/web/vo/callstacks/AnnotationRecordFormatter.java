@@ -70,6 +70,11 @@ public class AnnotationRecordFormatter {
                 final IntBooleanIntBooleanValue value = (IntBooleanIntBooleanValue) annotationBo.getValue();
                 return buildHttpIoArguments(value);
             }
+        } else if (annotationKey.getCode() == AnnotationKey.HTTP_CONNECT.getCode()) {
+            if (annotationBo.getValue() instanceof IntBooleanIntBooleanValue) {
+                final IntBooleanIntBooleanValue value = (IntBooleanIntBooleanValue) annotationBo.getValue();
+                return buildHttpConnectArguments(value);
+            }
         }
         // TODO complext-type formatting
         final Object value = annotationBo.getValue();
@@ -262,4 +267,20 @@ public class AnnotationRecordFormatter {
         }
         return sb.toString();
     }
+
+    private String buildHttpConnectArguments(final IntBooleanIntBooleanValue value) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("connect: ").append(value.getIntValue1()).append("ms");
+        if (value.isBooleanValue1()) {
+            sb.append("(FAILED)");
+        }
+        // -1 : plain connection
+        if (value.getIntValue2() != -1) {
+            sb.append(", tls: ").append(value.getIntValue2()).append("ms");
+            if (value.isBooleanValue2()) {
+                sb.append("(FAILED)");
+            }
+        }
+        return sb.toString();
+    }
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.ALIAS;
 import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.INCLUDE_DESTINATION_ID;
 import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.QUEUE;
 import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.RECORD_STATISTICS;
@@ -57,6 +58,8 @@ public class TestTraceUtils {
     public static final String CACHE_TYPE_NAME = "CACHE";
     public static final short MESSAGE_QUEUE_TYPE_CODE = 8310;
     public static final String MESSAGE_QUEUE_TYPE_NAME = "MESSAGE_QUEUE";
+    public static final short ALIAS_TYPE_CODE = 5050;
+    public static final String ALIAS_TYPE_NAME = "ALIAS";
 
     public static ServiceTypeRegistryService mockServiceTypeRegistryService() {
 
@@ -69,6 +72,7 @@ public class TestTraceUtils {
         mockFactory.addServiceTypeMock(BACKEND_TYPE_CODE, BACKEND_TYPE_NAME, TERMINAL, INCLUDE_DESTINATION_ID, RECORD_STATISTICS);
         mockFactory.addServiceTypeMock(CACHE_TYPE_CODE, CACHE_TYPE_NAME, TERMINAL, INCLUDE_DESTINATION_ID, RECORD_STATISTICS);
         mockFactory.addServiceTypeMock(MESSAGE_QUEUE_TYPE_CODE, MESSAGE_QUEUE_TYPE_NAME, QUEUE, RECORD_STATISTICS);
+        mockFactory.addServiceTypeMock(ALIAS_TYPE_CODE, ALIAS_TYPE_NAME, ALIAS);
 
         return mockFactory.createMockServiceTypeRegistryService();
     }
@@ -245,6 +249,12 @@ public class TestTraceUtils {
         }
     }
 
+    public static class AliasSpanEventBuilder extends SpanEventBuilder {
+        public AliasSpanEventBuilder(String destinationId, String endPoint, int startElapsed, int endElapsed) {
+            super(ALIAS_TYPE_CODE, destinationId, endPoint, startElapsed, endElapsed);
+        }
+    }
+
     public static <K> AssertionMatcher<Map<K, ?>> hasKey(K key) {
         return new AssertionMatcher<>() {
             @Override
@@ -37,6 +37,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
@@ -49,7 +50,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HbaseApplicationTraceIndexDaoTest {
@@ -109,6 +112,21 @@ public class HbaseApplicationTraceIndexDaoTest {
 
     }
 
+    @Test
+    public void scanTraceIndexPartitionLimitTest() {
+        when(this.hbaseOperations2.findParallel(any(TableName.class), any(Scan.class), any(AbstractRowKeyDistributor.class),
+                anyInt(), any(RowMapper.class), any(LimitEventHandler.class), anyInt())).thenReturn(List.of());
+
+        this.applicationTraceIndexDao.scanTraceIndex("app", Range.between(1000L, 5000L), 20, false);
+
+        ArgumentCaptor<Scan> scanCaptor = ArgumentCaptor.forClass(Scan.class);
+        verify(this.hbaseOperations2).findParallel(any(TableName.class), scanCaptor.capture(), any(AbstractRowKeyDistributor.class),
+                eq(20), any(RowMapper.class), any(LimitEventHandler.class), anyInt());
+        Scan scan = scanCaptor.getValue();
+        Assertions.assertEquals(20, scan.getLimit());
+        Assertions.assertEquals(20, scan.getCaching());
+    }
+
     @Test
     public void scanTraceScatterDataExceptionTest() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -137,7 +155,7 @@ public class HbaseApplicationTraceIndexDaoTest {
     public void scanTraceScatterDataTest() {
         List<List<Dot>> scatterDotList = createScatterDotList();
         when(this.hbaseOperations2.findParallel(any(TableName.class), any(Scan.class), any(AbstractRowKeyDistributor.class),
-                anyInt(), any(RowMapper.class), anyInt())).thenReturn(scatterDotList);
+                anyInt(), any(RowMapper.class), any(LimitEventHandler.class), anyInt())).thenReturn(scatterDotList);
         Range range = Range.between(1000L, 5000L);
         LimitedScanResult<List<Dot>> scanResult
                 = this.applicationTraceIndexDao.scanTraceScatterData("app", range, 10, false);
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.web.mapper;
 
 import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.histogram.ResponseTimeSketch;
 import com.navercorp.pinpoint.common.trace.HistogramSlot;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
@@ -62,4 +63,26 @@ public class ResponseTimeMapperTest {
                 .extracting(Histogram::getFastCount, Histogram::getNormalCount, Histogram::getSlowCount)
                 .containsExactly(1L, 0L, 0L);
     }
+
+    @Test
+    public void testResponseTimeSketchMapperTest() {
+
+        Buffer buffer = new AutomaticBuffer();
+        short bucketIndex = (short) ResponseTimeSketch.bucketIndex(1000);
+        buffer.putShort(bucketIndex);
+        buffer.putBytes(Bytes.toBytes("agent"));
+        byte[] bufferArray = buffer.getBuffer();
+        byte[] valueArray = Bytes.toBytes(3L);
+
+        Cell mockCell = CellUtil.createCell(HConstants.EMPTY_BYTE_ARRAY, HConstants.EMPTY_BYTE_ARRAY, bufferArray, HConstants.LATEST_TIMESTAMP, KeyValue.Type.Maximum.getCode(), valueArray);
+
+        ResponseTimeMapper responseTimeMapper = new ResponseTimeMapper(mock(ServiceTypeRegistryService.class), mock(RowKeyDistributorByHashPrefix.class));
+        ResponseTime responseTime = new ResponseTime("applicationName", ServiceType.STAND_ALONE, System.currentTimeMillis());
+        responseTimeMapper.recordSketchColumn(responseTime, mockCell);
+
+        ResponseTimeSketch sketch = responseTime.findHistogram("agent").getResponseTimeSketch();
+
+        assertThat(sketch.getTotalCount()).isEqualTo(3L);
+        assertThat(sketch.getQuantile(0.99)).isBetween(980L, 1020L);
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.cache.CacheConfiguration;
+import com.navercorp.pinpoint.web.dao.AgentInfoDao;
+import com.navercorp.pinpoint.web.dao.AgentLifeCycleDao;
+import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
+import com.navercorp.pinpoint.web.view.TagApplications;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.agent.AgentInfo;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatus;
+import com.navercorp.pinpoint.web.vo.agent.AgentStatusQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AgentInfoCacheServiceImplTest {
+
+    final String APPLICATION_NAME = "TEST_APP";
+    final String AGENT_ID = "TEST_AGENT_ID";
+    final long AGENT_START_TIME = 1000;
+
+    @Mock
+    ApplicationIndexDao applicationIndexDao;
+
+    @Mock
+    AgentInfoDao agentInfoDao;
+
+    @Mock
+    AgentLifeCycleDao agentLifeCycleDao;
+
+    @Mock
+    CacheService cacheService;
+
+    AgentInfoCacheService agentInfoCacheService;
+
+    @BeforeEach
+    public void setUp() {
+        agentInfoCacheService = new AgentInfoCacheServiceImpl(applicationIndexDao, agentInfoDao, agentLifeCycleDao, cacheService,
+                new ConcurrentMapCacheManager(CacheConfiguration.AGENT_ID_LIST_CACHE_NAME),
+                new ConcurrentMapCacheManager(CacheConfiguration.AGENT_INFO_CACHE_NAME),
+                new ConcurrentMapCacheManager(CacheConfiguration.AGENT_STATUS_CACHE_NAME),
+                new ConcurrentMapCacheManager(CacheConfiguration.ACTIVE_AGENT_CACHE_NAME));
+    }
+
+    @Test
+    public void selectAgentIds() {
+        when(applicationIndexDao.selectAgentIds(APPLICATION_NAME)).thenReturn(List.of(AGENT_ID));
+
+        assertThat(agentInfoCacheService.selectAgentIds(APPLICATION_NAME)).containsExactly(AGENT_ID);
+        assertThat(agentInfoCacheService.selectAgentIds(APPLICATION_NAME)).containsExactly(AGENT_ID);
+        verify(applicationIndexDao, times(1)).selectAgentIds(APPLICATION_NAME);
+
+        agentInfoCacheService.evict(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME);
+        agentInfoCacheService.selectAgentIds(APPLICATION_NAME);
+        verify(applicationIndexDao, times(2)).selectAgentIds(APPLICATION_NAME);
+    }
+
+    @Test
+    public void selectAllApplicationNames_reuseApplicationListCache() {
+        List<Application> applications = List.of(mock(Application.class));
+        when(cacheService.get(CacheService.DEFAULT_KEY)).thenReturn(new TagApplications("tag", applications));
+
+        assertThat(agentInfoCacheService.selectAllApplicationNames()).isSameAs(applications);
+        verify(applicationIndexDao, never()).selectAllApplicationNames();
+    }
+
+    @Test
+    public void getAgentInfo() {
+        AgentInfo agentInfo = mock(AgentInfo.class);
+        when(agentInfoDao.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).thenReturn(agentInfo);
+
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).isSameAs(agentInfo);
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).isSameAs(agentInfo);
+        verify(agentInfoDao, times(1)).getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000);
+
+        agentInfoCacheService.evict(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME + 100);
+        agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000);
+        verify(agentInfoDao, times(2)).getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000);
+    }
+
+    @Test
+    public void getAgentInfo_deltaTimeIsPartOfTheKey() {
+        AgentInfo agentInfo = mock(AgentInfo.class);
+        when(agentInfoDao.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).thenReturn(agentInfo);
+        when(agentInfoDao.getAgentInfo(AGENT_ID, AGENT_START_TIME, 0)).thenReturn(null);
+
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).isSameAs(agentInfo);
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 0)).isNull();
+        verify(agentInfoDao, times(1)).getAgentInfo(AGENT_ID, AGENT_START_TIME, 0);
+    }
+
+    @Test
+    public void getAgentInfo_miss_not_cached() {
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).isNull();
+        assertThat(agentInfoCacheService.getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000)).isNull();
+        verify(agentInfoDao, times(2)).getAgentInfo(AGENT_ID, AGENT_START_TIME, 1000);
+    }
+
+    @Test
+    public void getAgentStatus_presentStateIsCached() {
+        Optional<AgentStatus> status = Optional.of(mock(AgentStatus.class));
+        when(agentLifeCycleDao.getAgentStatus(any(String.class), any(Long.class), any(Long.class))).thenReturn(status);
+
+        final long now = System.currentTimeMillis() + 1000;
+        assertThat(agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, now)).isSameAs(status);
+        assertThat(agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, now + 1000)).isSameAs(status);
+        verify(agentLifeCycleDao, times(1)).getAgentStatus(any(String.class), any(Long.class), any(Long.class));
+
+        // a query of the past can not be answered by a later read
+        agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, AGENT_START_TIME + 1);
+        verify(agentLifeCycleDao, times(2)).getAgentStatus(any(String.class), any(Long.class), any(Long.class));
+
+        agentInfoCacheService.evict(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME);
+        agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, now + 2000);
+        verify(agentLifeCycleDao, times(3)).getAgentStatus(any(String.class), any(Long.class), any(Long.class));
+    }
+
+    @Test
+    public void getAgentStatus_pastStateIsNotCached() {
+        Optional<AgentStatus> status = Optional.of(mock(AgentStatus.class));
+        when(agentLifeCycleDao.getAgentStatus(AGENT_ID, AGENT_START_TIME, AGENT_START_TIME + 1)).thenReturn(status);
+
+        agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, AGENT_START_TIME + 1);
+        agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, AGENT_START_TIME + 1);
+        verify(agentLifeCycleDao, times(2)).getAgentStatus(AGENT_ID, AGENT_START_TIME, AGENT_START_TIME + 1);
+    }
+
+    @Test
+    public void getAgentStatus_query_onlyMissesAreRead() {
+        final String otherAgentId = "OTHER_AGENT_ID";
+        final long now = System.currentTimeMillis() + 1000;
+        Optional<AgentStatus> status = Optional.of(mock(AgentStatus.class));
+        Optional<AgentStatus> otherStatus = Optional.of(mock(AgentStatus.class));
+        when(agentLifeCycleDao.getAgentStatus(AGENT_ID, AGENT_START_TIME, now)).thenReturn(status);
+        when(agentLifeCycleDao.getAgentStatus(any(AgentStatusQuery.class))).thenAnswer(invocation -> {
+            AgentStatusQuery query = invocation.getArgument(0);
+            assertThat(query.getAgentKeys()).hasSize(1);
+            assertThat(query.getAgentKeys().get(0).getAgentId()).isEqualTo(otherAgentId);
+            return List.of(otherStatus);
+        });
+        agentInfoCacheService.getAgentStatus(AGENT_ID, AGENT_START_TIME, now);
+
+        AgentStatusQuery.Builder builder = AgentStatusQuery.newBuilder();
+        builder.addAgentKey(AGENT_ID, AGENT_START_TIME);
+        builder.addAgentKey(otherAgentId, AGENT_START_TIME);
+        List<Optional<AgentStatus>> result = agentInfoCacheService.getAgentStatus(builder.build(Instant.ofEpochMilli(now)));
+
+        assertThat(result).containsExactly(status, otherStatus);
+    }
+
+    @Test
+    public void isActiveAgent() {
+        final AtomicInteger count = new AtomicInteger();
+        final BiPredicate<String, Range> checker = (agentId, range) -> count.incrementAndGet() > 0;
+        final Range range = Range.between(60_000, 120_000);
+
+        assertThat(agentInfoCacheService.isActiveAgent(AGENT_ID, range, checker)).isTrue();
+        assertThat(agentInfoCacheService.isActiveAgent(AGENT_ID, Range.between(60_001, 120_001), checker)).isTrue();
+        assertThat(count).hasValue(1);
+
+        agentInfoCacheService.isActiveAgent(AGENT_ID, Range.between(0, 120_000), checker);
+        assertThat(count).hasValue(2);
+
+        agentInfoCacheService.evict(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME);
+        agentInfoCacheService.isActiveAgent(AGENT_ID, range, checker);
+        assertThat(count).hasValue(3);
+    }
+
+}
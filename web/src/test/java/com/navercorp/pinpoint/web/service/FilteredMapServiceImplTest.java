@@ -58,7 +58,6 @@ import org.mockito.quality.Strictness;
 import org.springframework.util.CollectionUtils;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -140,7 +139,7 @@ public class FilteredMapServiceImplTest {
                 });
 
         filteredMapService = new FilteredMapServiceImpl(traceDao, applicationTraceIndexDao,
-                registry, applicationFactory, serverInstanceDatasourceService, Optional.empty(), applicationMapBuilderFactory);
+                registry, applicationFactory, serverInstanceDatasourceService, Optional.empty(), applicationMapBuilderFactory, executor, 500, 8);
 
     }
 
@@ -204,7 +203,7 @@ public class FilteredMapServiceImplTest {
         when(traceDao.selectAllSpans(anyList(), isNull())).thenReturn(List.of(List.of(rootSpan, appASpan)));
 
         // When
-        final FilteredMapServiceOption option = new FilteredMapServiceOption.Builder(Collections.emptyList(), originalRange, 1, 1, Filter.acceptAllFilter(), 0).build();
+        final FilteredMapServiceOption option = new FilteredMapServiceOption.Builder(List.of(rootSpan.getTransactionId()), originalRange, 1, 1, Filter.acceptAllFilter(), 0).build();
         ApplicationMap applicationMap = filteredMapService.selectApplicationMapWithScatterData(option);
 
         // Then
@@ -144,6 +144,88 @@ public class FilteredMapBuilderTest {
         assertThat(appAResponseTimes).hasSize(1);
     }
 
+    @Test
+    public void merge() {
+        // Given
+        final Range range = Range.between(1, 200000);
+        final FilteredMapBuilder builder1 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        final FilteredMapBuilder builder2 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+
+        SpanBo span1 = new TestTraceUtils.SpanBuilder("ROOT_APP", "root-agent")
+                .spanId(RANDOM.nextLong())
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        SpanBo span2 = new TestTraceUtils.SpanBuilder("ROOT_APP", "root-agent")
+                .spanId(RANDOM.nextLong())
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+
+        // When
+        builder1.addTransaction(List.of(span1));
+        builder2.addTransaction(List.of(span2));
+        FilteredMap filteredMap = builder1.merge(builder2).build();
+
+        // Then
+        LinkDataMap targetLinkDataMap = filteredMap.getLinkDataDuplexMap().getTargetLinkDataMap();
+        LinkKey linkKey = LinkKey.of("ROOT_APP", registry.findServiceType(TestTraceUtils.USER_TYPE_CODE),
+                "ROOT_APP", registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE));
+        Assertions.assertNotNull(targetLinkDataMap.getLinkData(linkKey));
+
+        Application rootApplication = new Application("ROOT_APP", registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE));
+        List<ResponseTime> rootAppResponseTimes = filteredMap.getResponseHistograms().getResponseTimeList(rootApplication);
+        assertThat(rootAppResponseTimes).hasSize(1);
+        assertThat(rootAppResponseTimes.get(0).getApplicationResponseHistogram().getTotalCount()).isEqualTo(2);
+
+        assertThat(filteredMap.getApplicationScatterScanResult(1, 200000)).hasSize(1);
+    }
+
+    /**
+     * ROOT_APP -> www.foo.com/bar whose acceptor is only known as an alias from a span of another partition
+     */
+    @Test
+    public void merge_aliasFromOtherPartition() {
+        // Given
+        final Range range = Range.between(1, 200000);
+        final FilteredMapBuilder builder1 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+        final FilteredMapBuilder builder2 = new FilteredMapBuilder(applicationFactory, registry, range, VERSION);
+
+        SpanBo rootSpan = new TestTraceUtils.SpanBuilder("ROOT_APP", "root-agent")
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        SpanEventBo rpcSpanEvent = new TestTraceUtils.RpcSpanEventBuilder("www.foo.com/bar", 10, 190)
+                .nextSpanId(RANDOM.nextLong())
+                .build();
+        rootSpan.addSpanEvent(rpcSpanEvent);
+
+        SpanBo appASpan = new TestTraceUtils.SpanBuilder("APP_A", "app-a")
+                .startTime(1000L)
+                .collectorAcceptTime(1210L)
+                .elapsed(200)
+                .build();
+        SpanEventBo aliasSpanEvent = new TestTraceUtils.AliasSpanEventBuilder("ALIAS_APP", "www.foo.com/bar", 10, 190).build();
+        appASpan.addSpanEvent(aliasSpanEvent);
+
+        // When
+        builder1.addTransaction(List.of(rootSpan));
+        builder2.addTransaction(List.of(appASpan));
+        FilteredMap filteredMap = builder1.merge(builder2).build();
+
+        // Then
+        LinkDataMap sourceLinkDataMap = filteredMap.getLinkDataDuplexMap().getSourceLinkDataMap();
+        assertSourceLinkData(sourceLinkDataMap,
+                "ROOT_APP", registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE),
+                "ALIAS_APP", registry.findServiceType(TestTraceUtils.ALIAS_TYPE_CODE));
+        LinkKey unknownLinkKey = LinkKey.of("ROOT_APP", registry.findServiceType(TestTraceUtils.TEST_STAND_ALONE_TYPE_CODE),
+                "www.foo.com/bar", ServiceType.UNKNOWN);
+        Assertions.assertNull(sourceLinkDataMap.getLinkData(unknownLinkKey));
+    }
+
     private void assertSourceLinkData(LinkDataMap sourceLinkDataMap, String fromApplicationName, ServiceType fromServiceType, String toApplicationName, ServiceType toServiceType) {
         LinkKey linkKey = LinkKey.of(fromApplicationName, fromServiceType, toApplicationName, toServiceType);
         LinkData sourceLinkData = sourceLinkDataMap.getLinkData(linkKey);